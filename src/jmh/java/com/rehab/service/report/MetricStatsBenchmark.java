@@ -0,0 +1,230 @@
+package com.rehab.service.report;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.rehab.domain.entity.DailySummary;
+import com.rehab.domain.entity.UserMetricBucket;
+import com.rehab.dto.report.ProgressReportResponse;
+
+/**
+ * 리포트 지표 집계 벤치마크
+ * 이전 리포트가 DailySummary 목록에 지표마다 박싱 게터 스트림을 따로 돌리던 방식(multiPass)과
+ * 일별 버킷을 한 번 훑는 MetricStats(singlePass)를 같은 데이터로 7일(주간), 30일(진행률), 365일에서 비교한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class MetricStatsBenchmark {
+
+	@Param({"7", "30", "365"})
+	int days;
+
+	private List<DailySummary> summaries;
+	private List<UserMetricBucket> buckets;
+
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		Random random = new Random(42);
+		LocalDate start = LocalDate.of(2026, 1, 1);
+		summaries = new ArrayList<>(days);
+		buckets = new ArrayList<>(days);
+		for (int i = 0; i < days; i++) {
+			LocalDate date = start.plusDays(i);
+			Integer exerciseRate = random.nextInt(4) == 0 ? null : random.nextInt(101);
+			Integer medicationRate = random.nextInt(4) == 0 ? null : random.nextInt(101);
+			Integer painScore = random.nextInt(3) == 0 ? null : random.nextInt(11);
+			int durationSec = random.nextInt(3600);
+
+			summaries.add(DailySummary.builder()
+				.date(date.atStartOfDay())
+				.exerciseCompletionRate(exerciseRate)
+				.medicationCompletionRate(medicationRate)
+				.avgPainScore(painScore)
+				.totalDurationSec(durationSec)
+				.build());
+			buckets.add(bucket(date, exerciseRate, durationSec, medicationRate, painScore));
+		}
+	}
+
+	/**
+	 * 이전 진행률 리포트: DailySummary에 지표/일별 데이터마다 스트림 한 번씩
+	 */
+	@Benchmark
+	public void progressMultiPass(Blackhole blackhole) {
+		double avgExerciseRate = summaries.stream()
+			.filter(s -> s.getExerciseCompletionRate() != null)
+			.mapToInt(DailySummary::getExerciseCompletionRate)
+			.average()
+			.orElse(0.0);
+		long totalDuration = summaries.stream()
+			.filter(s -> s.getTotalDurationSec() != null)
+			.mapToInt(DailySummary::getTotalDurationSec)
+			.sum();
+		List<ProgressReportResponse.DailyExerciseData> exerciseDaily = summaries.stream()
+			.map(s -> ProgressReportResponse.DailyExerciseData.builder()
+				.date(s.getDate())
+				.completionRate(s.getExerciseCompletionRate() != null ? s.getExerciseCompletionRate() : 0)
+				.durationSec(s.getTotalDurationSec() != null ? s.getTotalDurationSec() : 0)
+				.build())
+			.collect(Collectors.toList());
+
+		double avgMedicationRate = summaries.stream()
+			.filter(s -> s.getMedicationCompletionRate() != null)
+			.mapToInt(DailySummary::getMedicationCompletionRate)
+			.average()
+			.orElse(0.0);
+		List<ProgressReportResponse.DailyMedicationData> medicationDaily = summaries.stream()
+			.map(s -> ProgressReportResponse.DailyMedicationData.builder()
+				.date(s.getDate())
+				.completionRate(s.getMedicationCompletionRate() != null ? s.getMedicationCompletionRate() : 0)
+				.build())
+			.collect(Collectors.toList());
+
+		double avgPain = summaries.stream()
+			.filter(s -> s.getAvgPainScore() != null)
+			.mapToInt(DailySummary::getAvgPainScore)
+			.average()
+			.orElse(0.0);
+		List<ProgressReportResponse.DailyPainData> painDaily = summaries.stream()
+			.filter(s -> s.getAvgPainScore() != null)
+			.map(s -> ProgressReportResponse.DailyPainData.builder()
+				.date(s.getDate())
+				.avgPain(s.getAvgPainScore())
+				.build())
+			.collect(Collectors.toList());
+
+		blackhole.consume((int) Math.round(avgExerciseRate));
+		blackhole.consume(totalDuration);
+		blackhole.consume(exerciseDaily);
+		blackhole.consume((int) Math.round(avgMedicationRate));
+		blackhole.consume(medicationDaily);
+		blackhole.consume((int) Math.round(avgPain));
+		blackhole.consume(painDaily);
+	}
+
+	/**
+	 * 현재 진행률 리포트: 버킷 한 번 순회로 MetricStats와 일별 데이터를 함께 만듦 (ReportServiceImpl.aggregate)
+	 */
+	@Benchmark
+	public void progressSinglePass(Blackhole blackhole) {
+		MetricStats stats = new MetricStats();
+		List<ProgressReportResponse.DailyExerciseData> exerciseDaily = new ArrayList<>(buckets.size());
+		List<ProgressReportResponse.DailyMedicationData> medicationDaily = new ArrayList<>(buckets.size());
+		List<ProgressReportResponse.DailyPainData> painDaily = new ArrayList<>(buckets.size());
+		for (UserMetricBucket bucket : buckets) {
+			LocalDateTime date = bucket.getBucketDate().atStartOfDay();
+
+			stats.add(bucket);
+
+			exerciseDaily.add(ProgressReportResponse.DailyExerciseData.builder()
+				.date(date)
+				.completionRate(bucket.getExerciseRateSum())
+				.durationSec(bucket.getDurationSecSum())
+				.build());
+			medicationDaily.add(ProgressReportResponse.DailyMedicationData.builder()
+				.date(date)
+				.completionRate(bucket.getMedicationRateSum())
+				.build());
+			if (bucket.getPainScoreCount() > 0) {
+				painDaily.add(ProgressReportResponse.DailyPainData.builder()
+					.date(date)
+					.avgPain(bucket.getPainScoreSum() / bucket.getPainScoreCount())
+					.build());
+			}
+		}
+
+		blackhole.consume(stats.exerciseRate.average());
+		blackhole.consume(stats.durationSec.sum);
+		blackhole.consume(exerciseDaily);
+		blackhole.consume(stats.medicationRate.average());
+		blackhole.consume(medicationDaily);
+		blackhole.consume(stats.painScore.average());
+		blackhole.consume(painDaily);
+	}
+
+	/**
+	 * 이전 주간 리포트: 하이라이트와 metrics가 활동일/평균 완료율을 각각 다시 스트림으로 계산
+	 */
+	@Benchmark
+	public void weeklyMultiPass(Blackhole blackhole) {
+		long activeDays = summaries.stream()
+			.filter(DailySummary::meetsStreakCriteria)
+			.count();
+		double highlightExerciseRate = summaries.stream()
+			.filter(s -> s.getExerciseCompletionRate() != null)
+			.mapToInt(DailySummary::getExerciseCompletionRate)
+			.average()
+			.orElse(0.0);
+
+		long totalExercises = summaries.size();
+		double avgCompletionRate = summaries.stream()
+			.filter(s -> s.getExerciseCompletionRate() != null)
+			.mapToInt(DailySummary::getExerciseCompletionRate)
+			.average()
+			.orElse(0.0);
+
+		blackhole.consume(activeDays);
+		blackhole.consume(highlightExerciseRate);
+		blackhole.consume(totalExercises);
+		blackhole.consume((int) Math.round(avgCompletionRate));
+	}
+
+	/**
+	 * 현재 주간 리포트: MetricStats 한 번 순회 (WeeklyReportCalculator.calculate)
+	 */
+	@Benchmark
+	public void weeklySinglePass(Blackhole blackhole) {
+		MetricStats stats = MetricStats.of(buckets);
+
+		blackhole.consume(stats.activeDays);
+		blackhole.consume(stats.exerciseRate.mean());
+		blackhole.consume(stats.days);
+		blackhole.consume(stats.exerciseRate.average());
+	}
+
+	/**
+	 * 같은 하루를 일별 버킷으로 (요약 한 건 = 값이 있으면 합계 값/건수 1)
+	 * 엔티티에 공개 생성자가 없어 리플렉션으로 채운다 (벤치마크 준비 단계에서만)
+	 */
+	private static UserMetricBucket bucket(LocalDate date, Integer exerciseRate, int durationSec,
+		Integer medicationRate, Integer painScore) throws ReflectiveOperationException {
+		Constructor<UserMetricBucket> constructor = UserMetricBucket.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		UserMetricBucket bucket = constructor.newInstance();
+		set(bucket, "userId", 1L);
+		set(bucket, "bucketDate", date);
+		set(bucket, "exerciseRateSum", exerciseRate == null ? 0 : exerciseRate);
+		set(bucket, "exerciseRateCount", exerciseRate == null ? 0 : 1);
+		set(bucket, "durationSecSum", durationSec);
+		set(bucket, "medicationRateSum", medicationRate == null ? 0 : medicationRate);
+		set(bucket, "medicationRateCount", medicationRate == null ? 0 : 1);
+		set(bucket, "painScoreSum", painScore == null ? 0 : painScore);
+		set(bucket, "painScoreCount", painScore == null ? 0 : 1);
+		set(bucket, "updatedAt", LocalDateTime.of(2026, 1, 1, 0, 0));
+		return bucket;
+	}
+
+	private static void set(UserMetricBucket bucket, String name, Object value) throws ReflectiveOperationException {
+		Field field = UserMetricBucket.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(bucket, value);
+	}
+}
@@ -67,10 +67,15 @@ public enum ErrorStatus implements BaseErrorCode {
 	// 일일 요약
 	DAILY_SUMMARY_NOT_FOUND(HttpStatus.NOT_FOUND, "SUMMARY_001", "일일 요약을 찾을 수 없습니다."),
 
+	// Streak
+	STREAK_LEADERBOARD_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "STREAK_001", "리더보드를 일시적으로 사용할 수 없습니다."),
+
 	AI_INFERENCE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "AI_001", "AI 추론에 실패했습니다."),
 	AI_SERVER_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "AI_002", "AI 서버를 사용할 수 없습니다."),
+	AI_INFERENCE_LOG_NOT_FOUND(HttpStatus.NOT_FOUND, "AI_003", "AI 추론 로그를 찾을 수 없습니다."),
 
 	INVALID_STATUS(HttpStatus.BAD_REQUEST, "PLAN4001", "유효하지 않은 상태 값입니다."),
+	INVALID_JSON_FORMAT(HttpStatus.BAD_REQUEST, "PLAN4002", "JSON 형식이 올바르지 않습니다."),
 	MEDICATION_NOT_FOUND(HttpStatus.NOT_FOUND, "MEDICATION404", "복약 정보를 찾을 수 없습니다."),
 	DIET_NOT_FOUND(HttpStatus.NOT_FOUND, "DIET404", "식단 정보를 찾을 수 없습니다."),
 	DIET_PLAN_ITEM_NOT_FOUND(HttpStatus.NOT_FOUND, "DIET_PLAN_ITEM404", "식단 플랜 항목을 찾을 수 없습니다."),
@@ -69,6 +69,15 @@ public class ExceptionAdvice extends ResponseEntityExceptionHandler {
 		return handleExceptionInternal(generalException, errorReasonHttpStatus, null, request);
 	}
 
+	@ExceptionHandler(value = MissingEntityException.class)
+	public ResponseEntity<Object> onMissingEntity(MissingEntityException e, HttpServletRequest request) {
+		ErrorReasonDTO reason = e.getErrorReasonHttpStatus();
+		ApiResponse<Object> body = ApiResponse.onFailure(reason.getCode(), reason.getMessage(),
+			Map.of("missingIds", e.getMissingIds()));
+
+		return super.handleExceptionInternal(e, body, null, reason.getHttpStatus(), new ServletWebRequest(request));
+	}
+
 	private ResponseEntity<Object> handleExceptionInternal(Exception e, ErrorReasonDTO reason,
 		HttpHeaders headers, HttpServletRequest request) {
 
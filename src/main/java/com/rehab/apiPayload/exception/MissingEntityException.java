@@ -0,0 +1,22 @@
+package com.rehab.apiPayload.exception;
+
+import java.util.List;
+
+import com.rehab.apiPayload.code.BaseErrorCode;
+
+import lombok.Getter;
+
+/**
+ * 일괄 조회에서 찾지 못한 엔티티가 있을 때의 예외
+ * 응답 result에 누락된 ID 전체를 담는다.
+ */
+@Getter
+public class MissingEntityException extends GeneralException {
+
+	private final List<Long> missingIds;
+
+	public MissingEntityException(BaseErrorCode code, List<Long> missingIds) {
+		super(code);
+		this.missingIds = missingIds;
+	}
+}
@@ -0,0 +1,86 @@
+package com.rehab.common.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 크기 제한 LRU 캐시 (선택적으로 쓰기 후 만료 시간 적용)
+ * 접근 순서 LinkedHashMap을 동기화해서 쓰므로 항목 수가 수만 개 이하인 로컬 캐시 용도로 사용한다.
+ */
+public class LruCache<K, V> {
+
+	private final int maxSize;
+	private final long expireAfterWriteMillis;
+	private final LinkedHashMap<K, Entry<V>> map;
+	private final LongAdder evictionCount = new LongAdder();
+
+	/**
+	 * @param maxSize 최대 항목 수
+	 * @param expireAfterWriteMillis 쓰기 후 만료 시간 (0 이하면 만료 없음)
+	 */
+	public LruCache(int maxSize, long expireAfterWriteMillis) {
+		this.maxSize = maxSize;
+		this.expireAfterWriteMillis = expireAfterWriteMillis;
+		this.map = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				if (size() > LruCache.this.maxSize) {
+					evictionCount.increment();
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	public synchronized V get(K key) {
+		Entry<V> entry = map.get(key);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.isExpired()) {
+			map.remove(key);
+			return null;
+		}
+		return entry.value;
+	}
+
+	public synchronized void put(K key, V value) {
+		long expiresAt = expireAfterWriteMillis > 0 ? System.currentTimeMillis() + expireAfterWriteMillis : 0;
+		map.put(key, new Entry<>(value, expiresAt));
+	}
+
+	public synchronized void invalidate(K key) {
+		map.remove(key);
+	}
+
+	public synchronized void clear() {
+		map.clear();
+	}
+
+	public synchronized int size() {
+		return map.size();
+	}
+
+	/**
+	 * 크기 초과로 밀려난 항목 수 (누적)
+	 */
+	public long evictionCount() {
+		return evictionCount.sum();
+	}
+
+	private static class Entry<V> {
+		final V value;
+		final long expiresAt;
+
+		Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+		boolean isExpired() {
+			return expiresAt > 0 && System.currentTimeMillis() > expiresAt;
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.rehab.common.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * JSON 원문 압축/해시 유틸 (스냅샷 저장용)
+ * 원문 UTF-8 바이트를 deflate로 압축하고, 중복 제거 키로 원문의 SHA-256 16진 문자열을 쓴다.
+ */
+public final class CompressedJson {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private CompressedJson() {
+	}
+
+	/**
+	 * 원문 SHA-256 (64자 16진 문자열)
+	 */
+	public static String hash(String json) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(json.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+		}
+	}
+
+	public static byte[] compress(String json) {
+		byte[] input = json.getBytes(StandardCharsets.UTF_8);
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+			ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(input.length / 4, 64));
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!deflater.finished()) {
+				output.write(buffer, 0, deflater.deflate(buffer));
+			}
+			return output.toByteArray();
+		} finally {
+			deflater.end();
+		}
+	}
+
+	public static String decompress(byte[] compressed) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			ByteArrayOutputStream output = new ByteArrayOutputStream(compressed.length * 4);
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!inflater.finished()) {
+				int length = inflater.inflate(buffer);
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalArgumentException("압축된 JSON이 손상되었습니다");
+				}
+				output.write(buffer, 0, length);
+			}
+			return output.toString(StandardCharsets.UTF_8);
+		} catch (DataFormatException e) {
+			throw new IllegalArgumentException("압축된 JSON이 손상되었습니다", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * 압축된 바이트 스트림을 원문 UTF-8 바이트 스트림으로 (문자열로 만들지 않고 그대로 복사할 때)
+	 */
+	public static InputStream decompressing(InputStream compressed) {
+		return new InflaterInputStream(compressed);
+	}
+}
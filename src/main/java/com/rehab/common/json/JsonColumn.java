@@ -0,0 +1,147 @@
+package com.rehab.common.json;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * JSON 컬럼 값 (원문 문자열 + 처음 사용할 때 한 번만 파싱한 JsonNode)
+ * 엔티티 로드 시 JsonColumnConverter가 원문만 감싸 두고, node()를 처음 호출할 때 파싱해 재사용한다.
+ * 응답 직렬화는 파싱 없이 원문을 그대로 쓴다. (DB JSON 컬럼에서 온 값이라 유효한 JSON이 보장됨)
+ * 요청 등 외부에서 온 문자열은 of(String) 대신 parse(String)로 검증해서 만든다.
+ * 불변 값이므로 node()가 돌려준 JsonNode를 수정하면 안 된다.
+ */
+@Slf4j
+@Schema(type = "object", description = "JSON 데이터")
+@JsonSerialize(using = JsonColumn.RawSerializer.class)
+public final class JsonColumn {
+
+	private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+	/**
+	 * 파싱 실패 표시 (실패한 원문을 매번 다시 파싱하지 않도록)
+	 */
+	private static final JsonNode PARSE_FAILED = OBJECT_MAPPER.missingNode();
+
+	private final String raw;
+	private volatile JsonNode node;
+
+	private JsonColumn(String raw, JsonNode node) {
+		this.raw = raw;
+		this.node = node;
+	}
+
+	/**
+	 * 원문으로 생성 (null이면 null)
+	 */
+	public static JsonColumn of(String raw) {
+		return raw != null ? new JsonColumn(raw, null) : null;
+	}
+
+	/**
+	 * 외부 입력 문자열을 파싱해서 생성 (null이나 공백이면 null)
+	 * 원문 대신 파싱한 노드를 다시 직렬화한 문자열을 저장하므로, 뒤에 붙은 잘못된 내용은 응답에 섞이지 않는다.
+	 *
+	 * @throws IllegalArgumentException 유효한 JSON이 아닌 경우
+	 */
+	public static JsonColumn parse(String raw) {
+		if (raw == null || raw.isBlank()) {
+			return null;
+		}
+		try {
+			return of(OBJECT_MAPPER.readTree(raw));
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("유효한 JSON이 아닙니다.", e);
+		}
+	}
+
+	/**
+	 * 이미 파싱된 노드로 생성 (요청 바인딩 등)
+	 */
+	@JsonCreator
+	public static JsonColumn of(JsonNode node) {
+		if (node == null || node.isNull() || node.isMissingNode()) {
+			return null;
+		}
+		return new JsonColumn(node.toString(), node);
+	}
+
+	/**
+	 * null 허용 원문 조회
+	 */
+	public static String rawOf(JsonColumn column) {
+		return column != null ? column.raw : null;
+	}
+
+	public String raw() {
+		return raw;
+	}
+
+	/**
+	 * 파싱된 노드 (처음 한 번만 파싱, 빈 문자열이나 파싱 실패면 null)
+	 */
+	public JsonNode node() {
+		JsonNode parsed = node;
+		if (parsed == null) {
+			parsed = parse(raw);
+			node = parsed;
+		}
+		return parsed == PARSE_FAILED ? null : parsed;
+	}
+
+	private static JsonNode parse(String raw) {
+		if (raw.isEmpty()) {
+			return PARSE_FAILED;
+		}
+		try {
+			return OBJECT_MAPPER.readTree(raw);
+		} catch (JsonProcessingException e) {
+			log.error("JSON 파싱 실패: {}", raw, e);
+			return PARSE_FAILED;
+		}
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		return this == o || (o instanceof JsonColumn other && raw.equals(other.raw));
+	}
+
+	@Override
+	public int hashCode() {
+		return raw.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return raw;
+	}
+
+	/**
+	 * 원문 그대로 출력하는 직렬화기
+	 */
+	static class RawSerializer extends StdSerializer<JsonColumn> {
+
+		RawSerializer() {
+			super(JsonColumn.class);
+		}
+
+		@Override
+		public void serialize(JsonColumn value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+			if (value.raw.isEmpty()) {
+				gen.writeNull();
+				return;
+			}
+			gen.writeRawValue(value.raw);
+		}
+	}
+}
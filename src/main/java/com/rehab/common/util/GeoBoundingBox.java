@@ -0,0 +1,39 @@
+package com.rehab.common.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 중심 좌표와 반경(km)을 감싸는 위/경도 사각 범위
+ * 반경 검색 전에 후보를 좁히는 용도이며, 날짜변경선/극지방은 고려하지 않는다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class GeoBoundingBox {
+
+	/**
+	 * 지구 반지름 (ExerciseFacility.calculateDistance의 Haversine 거리와 같은 값)
+	 */
+	public static final double EARTH_RADIUS_KM = 6371;
+
+	private final double minLatitude;
+	private final double maxLatitude;
+	private final double minLongitude;
+	private final double maxLongitude;
+
+	public static GeoBoundingBox of(double latitude, double longitude, double radiusKm) {
+		// 같은 구면 모델에서 반경 원에 외접하는 범위 (위도 폭은 중심각, 경도 폭은 원이 가장 넓게 걸치는 값)
+		double angle = radiusKm / EARTH_RADIUS_KM;
+		double latDelta = Math.toDegrees(angle);
+		// 고위도에서 경도 폭이 무한히 커지지 않도록 cos 값 하한 적용
+		double cosLat = Math.max(Math.cos(Math.toRadians(latitude)), 0.01);
+		double lngDelta = Math.sin(angle) >= cosLat ? 180 : Math.toDegrees(Math.asin(Math.sin(angle) / cosLat));
+
+		return new GeoBoundingBox(
+			latitude - latDelta,
+			latitude + latDelta,
+			longitude - lngDelta,
+			longitude + lngDelta);
+	}
+}
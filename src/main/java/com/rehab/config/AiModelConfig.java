@@ -1,18 +1,36 @@
 package com.rehab.config;
 
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.reactor.IOReactorConfig;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * AI 모델 서버 통신 설정
  * 학과 서버에 배포된 허깅페이스 모델 엔드포인트와 통신
+ * 기본(pooled)은 keep-alive 커넥션 풀을 재사용하고, simple 모드는 요청마다 새 연결을 연다.
  */
+@Slf4j
 @Configuration
 public class AiModelConfig {
 
+	private static final String CLIENT_MODE_SIMPLE = "simple";
+
 	@Value("${ai-model.base-url}")
 	private String aiModelBaseUrl;
 
@@ -22,15 +40,86 @@ public class AiModelConfig {
 	@Value("${ai-model.read-timeout:30000}")
 	private int readTimeout;
 
+	@Value("${ai-model.client:pooled}")
+	private String clientMode;
+
+	@Value("${ai-model.pool.max-total:100}")
+	private int poolMaxTotal;
+
+	@Value("${ai-model.pool.max-per-route:50}")
+	private int poolMaxPerRoute;
+
+	@Value("${ai-model.pool.idle-timeout-ms:30000}")
+	private long poolIdleTimeoutMs;
+
+	@Value("${ai-model.pool.validate-after-inactivity-ms:2000}")
+	private long validateAfterInactivityMs;
+
+	@Value("${ai-model.async.io-threads:2}")
+	private int asyncIoThreads;
+
 	@Bean
 	public RestTemplate aiModelRestTemplate() {
-		SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-		factory.setConnectTimeout(connectTimeout);  // 연결 타임아웃: 5초
-		factory.setReadTimeout(readTimeout);        // 읽기 타임아웃: 30초
-		return new RestTemplate(factory);
+		if (CLIENT_MODE_SIMPLE.equalsIgnoreCase(clientMode)) {
+			SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+			factory.setConnectTimeout(connectTimeout);  // 연결 타임아웃: 5초
+			factory.setReadTimeout(readTimeout);        // 읽기 타임아웃: 30초
+			return new RestTemplate(factory);
+		}
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(poolMaxTotal)
+				.setMaxConnPerRoute(poolMaxPerRoute)
+				.setDefaultConnectionConfig(connectionConfig())
+				.build())
+			.setDefaultRequestConfig(requestConfig())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofMilliseconds(poolIdleTimeoutMs))
+			.build();
+
+		log.info("AI 모델 클라이언트 커넥션 풀 - maxTotal: {}, maxPerRoute: {}", poolMaxTotal, poolMaxPerRoute);
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+	}
+
+	/**
+	 * 비동기 호출용 클라이언트 (응답 대기 중 스레드를 점유하지 않는 NIO 커넥션 풀)
+	 */
+	@Bean
+	public CloseableHttpAsyncClient aiModelAsyncClient() {
+		CloseableHttpAsyncClient asyncClient = HttpAsyncClients.custom()
+			.setConnectionManager(PoolingAsyncClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(poolMaxTotal)
+				.setMaxConnPerRoute(poolMaxPerRoute)
+				.setDefaultConnectionConfig(connectionConfig())
+				.build())
+			.setDefaultRequestConfig(requestConfig())
+			.setIOReactorConfig(IOReactorConfig.custom()
+				.setIoThreadCount(asyncIoThreads)
+				.build())
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofMilliseconds(poolIdleTimeoutMs))
+			.build();
+		asyncClient.start();
+		return asyncClient;
 	}
 
 	public String getAiModelBaseUrl() {
 		return aiModelBaseUrl;
 	}
+
+	private ConnectionConfig connectionConfig() {
+		return ConnectionConfig.custom()
+			.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout))
+			.setSocketTimeout(Timeout.ofMilliseconds(readTimeout))
+			.setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+			.build();
+	}
+
+	private RequestConfig requestConfig() {
+		return RequestConfig.custom()
+			.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectTimeout))  // 풀에서 연결을 기다리는 최대 시간
+			.setResponseTimeout(Timeout.ofMilliseconds(readTimeout))
+			.build();
+	}
 }
@@ -1,9 +1,9 @@
 package com.rehab.config;
 
 
-import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.oauth.CustomOAuth2UserService;
 import com.rehab.oauth.OAuth2LoginSuccessHandler;
+import com.rehab.security.jwt.AuthenticatedUserCache;
 import com.rehab.security.jwt.JwtAuthenticationFilter;
 import com.rehab.security.jwt.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -27,7 +27,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final UserRepository userRepository;
+	private final AuthenticatedUserCache authenticatedUserCache;
 	private final CustomOAuth2UserService customOAuth2UserService;
 	private final OAuth2LoginSuccessHandler oAuth2LoginSuccessHandler;
 
@@ -83,7 +83,7 @@ public class SecurityConfig {
 			.logout(logout -> logout.disable());
 
 		http.addFilterBefore(
-			new JwtAuthenticationFilter(jwtTokenProvider, userRepository),
+			new JwtAuthenticationFilter(jwtTokenProvider, authenticatedUserCache),
 			UsernamePasswordAuthenticationFilter.class
 		);
 
@@ -1,16 +1,27 @@
 package com.rehab.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
 import org.springframework.web.filter.ForwardedHeaderFilter;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 public class WebConfig {
 
+	/**
+	 * 비동기 요청(CompletableFuture 반환) 타임아웃
+	 * 지정하지 않으면 컨테이너 기본값(30초)이 AI 모델 읽기 타임아웃과 같아 모델 응답 직전에 끊길 수 있다.
+	 */
+	@Value("${spring.mvc.async.request-timeout:60s}")
+	private Duration asyncRequestTimeout;
+
 	@Bean
 	public WebMvcConfigurer corsConfigurer() {
 		return new WebMvcConfigurer() {
@@ -30,6 +41,16 @@ public class WebConfig {
 		};
 	}
 
+	@Bean
+	public WebMvcConfigurer asyncSupportConfigurer() {
+		return new WebMvcConfigurer() {
+			@Override
+			public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+				configurer.setDefaultTimeout(asyncRequestTimeout.toMillis());
+			}
+		};
+	}
+
 	@Bean
 	public FilterRegistrationBean<ForwardedHeaderFilter> forwardedHeaderFilter() {
 		FilterRegistrationBean<ForwardedHeaderFilter> bean = new FilterRegistrationBean<>();
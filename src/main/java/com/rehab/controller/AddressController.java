@@ -1,9 +1,9 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.address.AddressRequest;
 import com.rehab.dto.address.AddressResponse;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.address.AddressService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -32,11 +32,11 @@ public class AddressController {
 	@GetMapping
 	@Operation(summary = "주소 조회", description = "사용자의 등록된 주소를 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<AddressResponse> getAddress(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		log.info("API 호출: 주소 조회 - userId: {}", user.getUserId());
+		log.info("API 호출: 주소 조회 - userId: {}", user.userId());
 
-		AddressResponse response = addressService.getUserAddress(user.getUserId());
+		AddressResponse response = addressService.getUserAddress(user.userId());
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -46,12 +46,12 @@ public class AddressController {
 	@PostMapping
 	@Operation(summary = "주소 등록", description = "사용자의 주소를 등록합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<AddressResponse> createAddress(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody AddressRequest request
 	) {
-		log.info("API 호출: 주소 등록 - userId: {}", user.getUserId());
+		log.info("API 호출: 주소 등록 - userId: {}", user.userId());
 
-		AddressResponse response = addressService.createAddress(user.getUserId(), request);
+		AddressResponse response = addressService.createAddress(user.userId(), request);
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -61,12 +61,12 @@ public class AddressController {
 	@PutMapping
 	@Operation(summary = "주소 수정", description = "사용자의 주소를 수정합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<AddressResponse> updateAddress(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody AddressRequest request
 	) {
-		log.info("API 호출: 주소 수정 - userId: {}", user.getUserId());
+		log.info("API 호출: 주소 수정 - userId: {}", user.userId());
 
-		AddressResponse response = addressService.updateAddress(user.getUserId(), request);
+		AddressResponse response = addressService.updateAddress(user.userId(), request);
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -76,11 +76,11 @@ public class AddressController {
 	@DeleteMapping
 	@Operation(summary = "주소 삭제", description = "사용자의 주소를 삭제합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<Void> deleteAddress(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		log.info("API 호출: 주소 삭제 - userId: {}", user.getUserId());
+		log.info("API 호출: 주소 삭제 - userId: {}", user.userId());
 
-		addressService.deleteAddress(user.getUserId());
+		addressService.deleteAddress(user.userId());
 		return ApiResponse.onSuccess(null);
 	}
 
@@ -90,11 +90,11 @@ public class AddressController {
 	@GetMapping("/exists")
 	@Operation(summary = "주소 존재 여부 확인", description = "사용자의 주소 등록 여부를 확인합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<Boolean> hasAddress(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		log.info("API 호출: 주소 존재 여부 확인 - userId: {}", user.getUserId());
+		log.info("API 호출: 주소 존재 여부 확인 - userId: {}", user.userId());
 
-		boolean exists = addressService.hasAddress(user.getUserId());
+		boolean exists = addressService.hasAddress(user.userId());
 		return ApiResponse.onSuccess(exists);
 	}
 }
@@ -1,12 +1,12 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.ai.AiInferenceLogResponse;
 import com.rehab.dto.ai.AiRecommendationRequest;
 import com.rehab.dto.ai.AiRecommendationResponse;
 import com.rehab.dto.ai.RecoveryPredictionRequest;
 import com.rehab.dto.ai.RecoveryPredictionResponse;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.ai.AiServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,8 +15,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.CompletableFuture;
 
 /**
  * AI 추천 컨트롤러
@@ -40,13 +45,13 @@ public class AiController {
 		description = "사용자의 현재 상태를 기반으로 AI가 적합한 운동을 추천합니다. 인증된 사용자 정보를 자동으로 추출합니다."
 	)
 	public ApiResponse<AiRecommendationResponse> recommendExercises(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Valid @RequestBody AiRecommendationRequest request
 	) {
 		log.info("API 호출: AI 운동 추천 - userId: {}, painLevel: {}",
-			user.getUserId(), request.getContext().getCurrentPainLevel());
+			user.userId(), request.getContext().getCurrentPainLevel());
 
-		AiRecommendationResponse response = aiServiceImpl.recommendExercises(user.getUserId(), request);
+		AiRecommendationResponse response = aiServiceImpl.recommendExercises(user.userId(), request);
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -59,33 +64,93 @@ public class AiController {
 		description = "사용자의 현재 상태와 순응도를 기반으로 회복 경과를 예측합니다. 인증된 사용자 정보를 자동으로 추출합니다."
 	)
 	public ApiResponse<RecoveryPredictionResponse> predictRecovery(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Valid @RequestBody RecoveryPredictionRequest request
 	) {
 		log.info("API 호출: AI 회복 예측 - userId: {}, painLevel: {}, adherence: {}",
-			user.getUserId(), request.getCurrentPainLevel(), request.getRecentAdherence());
+			user.userId(), request.getCurrentPainLevel(), request.getRecentAdherence());
 
-		RecoveryPredictionResponse response = aiServiceImpl.predictRecovery(user.getUserId(), request);
+		RecoveryPredictionResponse response = aiServiceImpl.predictRecovery(user.userId(), request);
 		return ApiResponse.onSuccess(response);
 	}
 
+	/**
+	 * 8.1 운동 추천 요청 (비동기)
+	 */
+	@PostMapping("/recommendations/async")
+	@Operation(
+		summary = "AI 운동 추천 (비동기)",
+		description = "운동 추천과 같지만 모델 응답을 기다리는 동안 서버 요청 스레드를 점유하지 않습니다."
+	)
+	public CompletableFuture<ApiResponse<AiRecommendationResponse>> recommendExercisesAsync(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Valid @RequestBody AiRecommendationRequest request
+	) {
+		log.info("API 호출: AI 운동 추천 (비동기) - userId: {}, painLevel: {}",
+			user.userId(), request.getContext().getCurrentPainLevel());
+
+		return aiServiceImpl.recommendExercisesAsync(user.userId(), request)
+			.thenApply(ApiResponse::onSuccess);
+	}
+
+	/**
+	 * 8.2 회복 예측 요청 (비동기)
+	 */
+	@PostMapping("/predictions/recovery/async")
+	@Operation(
+		summary = "AI 회복 예측 (비동기)",
+		description = "회복 예측과 같지만 모델 응답을 기다리는 동안 서버 요청 스레드를 점유하지 않습니다."
+	)
+	public CompletableFuture<ApiResponse<RecoveryPredictionResponse>> predictRecoveryAsync(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Valid @RequestBody RecoveryPredictionRequest request
+	) {
+		log.info("API 호출: AI 회복 예측 (비동기) - userId: {}, painLevel: {}, adherence: {}",
+			user.userId(), request.getCurrentPainLevel(), request.getRecentAdherence());
+
+		return aiServiceImpl.predictRecoveryAsync(user.userId(), request)
+			.thenApply(ApiResponse::onSuccess);
+	}
+
 	/**
 	 * 8.3 AI 추론 로그 조회
 	 */
 	@GetMapping("/inference-logs")
 	@Operation(
 		summary = "AI 추론 로그 조회",
-		description = "사용자의 AI 추론 이력을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다."
+		description = "사용자의 AI 추론 이력을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다. "
+			+ "summary=true면 스냅샷 없이 요약 필드(모델, 지연 시간, 참조 수, 스냅샷 크기)만 반환합니다."
 	)
 	public ApiResponse<AiInferenceLogResponse> getInferenceLogs(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "모델 키 (선택)") @RequestParam(required = false) String modelKey,
-		@Parameter(description = "조회 개수 (기본값: 20)") @RequestParam(required = false) Integer limit
+		@Parameter(description = "조회 개수 (기본값: 20)") @RequestParam(required = false) Integer limit,
+		@Parameter(description = "요약 조회 여부 (기본값: false)") @RequestParam(defaultValue = "false") boolean summary
 	) {
-		log.info("API 호출: AI 추론 로그 조회 - userId: {}, modelKey: {}, limit: {}",
-			user.getUserId(), modelKey, limit);
+		log.info("API 호출: AI 추론 로그 조회 - userId: {}, modelKey: {}, limit: {}, summary: {}",
+			user.userId(), modelKey, limit, summary);
 
-		AiInferenceLogResponse response = aiServiceImpl.getInferenceLogs(user.getUserId(), modelKey, limit);
+		AiInferenceLogResponse response = aiServiceImpl.getInferenceLogs(user.userId(), modelKey, limit, summary);
 		return ApiResponse.onSuccess(response);
 	}
+
+	/**
+	 * 8.4 AI 추론 로그 상세 조회
+	 */
+	@GetMapping(value = "/inference-logs/{logId}", produces = MediaType.APPLICATION_JSON_VALUE)
+	@Operation(
+		summary = "AI 추론 로그 상세 조회",
+		description = "추론 로그 한 건을 입력/출력 스냅샷 원문과 함께 조회합니다. 스냅샷은 저장된 JSON을 그대로 스트리밍합니다."
+	)
+	public ResponseEntity<StreamingResponseBody> getInferenceLog(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "AI 추론 로그 ID") @PathVariable Long logId
+	) {
+		log.info("API 호출: AI 추론 로그 상세 조회 - userId: {}, logId: {}", user.userId(), logId);
+
+		StreamingResponseBody body = aiServiceImpl.streamInferenceLog(user.userId(), logId);
+		return ResponseEntity.ok()
+			.contentType(MediaType.APPLICATION_JSON)
+			.body(body);
+	}
 }
@@ -0,0 +1,148 @@
+package com.rehab.controller;
+
+import com.rehab.domain.entity.enums.Difficulty;
+import com.rehab.domain.entity.enums.EvidenceLevel;
+import com.rehab.dto.ai.AiBatchRequest;
+import com.rehab.dto.ai.AiBatchResponse;
+import com.rehab.dto.ai.AiRecommendationRequest;
+import com.rehab.dto.ai.AiRecommendationResponse;
+import com.rehab.dto.ai.RecoveryPredictionRequest;
+import com.rehab.dto.ai.RecoveryPredictionResponse;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 로컬 AI 모델 서버 스텁 (ai-stub 프로필 전용)
+ * 학과 서버 없이 단건/배치 호출을 시험할 수 있도록 모델 서버와 같은 경로와 응답 형식을 흉내 낸다.
+ * ai-model.base-url을 http://localhost:8080/api/stub/ai-model 로 지정해서 사용한다.
+ * 응답 지연은 요청당 고정 지연 + 항목당 지연으로 흉내 내므로, 배치로 보낼수록 항목당 비용이 줄어든다.
+ */
+@Slf4j
+@Hidden
+@Profile("ai-stub")
+@RestController
+@RequestMapping("/api/stub/ai-model/api/v1")
+public class AiModelStubController {
+
+	private static final String MODEL_VERSION = "1.0.0";
+
+	@Value("${ai-stub.request-latency-ms:200}")
+	private long requestLatencyMs;
+
+	@Value("${ai-stub.item-latency-ms:10}")
+	private long itemLatencyMs;
+
+	@PostMapping("/recommendations")
+	public AiRecommendationResponse recommend(@RequestBody AiRecommendationRequest request) {
+		simulateLatency(1);
+		return recommendationOf(request);
+	}
+
+	@PostMapping("/recommendations/batch")
+	public AiBatchResponse<AiRecommendationResponse> recommendBatch(
+		@RequestBody AiBatchRequest<AiRecommendationRequest> request
+	) {
+		log.info("AI 스텁 배치 추천 - size: {}", request.getItems().size());
+		simulateLatency(request.getItems().size());
+		return new AiBatchResponse<>(request.getItems().stream()
+			.map(this::recommendationOf)
+			.toList());
+	}
+
+	@PostMapping("/predictions/recovery")
+	public RecoveryPredictionResponse predictRecovery(@RequestBody RecoveryPredictionRequest request) {
+		simulateLatency(1);
+		return predictionOf(request);
+	}
+
+	@PostMapping("/predictions/recovery/batch")
+	public AiBatchResponse<RecoveryPredictionResponse> predictRecoveryBatch(
+		@RequestBody AiBatchRequest<RecoveryPredictionRequest> request
+	) {
+		log.info("AI 스텁 배치 회복 예측 - size: {}", request.getItems().size());
+		simulateLatency(request.getItems().size());
+		return new AiBatchResponse<>(request.getItems().stream()
+			.map(this::predictionOf)
+			.toList());
+	}
+
+	// === Private Helper Methods ===
+
+	private AiRecommendationResponse recommendationOf(AiRecommendationRequest request) {
+		AiRecommendationRequest.RecommendationContext context = request.getContext();
+		int painLevel = context.getCurrentPainLevel() != null ? context.getCurrentPainLevel() : 5;
+		String bodyPart = context.getTargetArea() != null ? context.getTargetArea() : "FULL_BODY";
+		Difficulty difficulty = painLevel >= 6 ? Difficulty.BEGINNER : Difficulty.INTERMEDIATE;
+
+		List<AiRecommendationResponse.RecommendedExercise> exercises = List.of(1L, 2L, 3L).stream()
+			.map(exerciseId -> AiRecommendationResponse.RecommendedExercise.builder()
+				.exerciseId(exerciseId)
+				.title("스텁 운동 " + exerciseId)
+				.bodyPart(bodyPart)
+				.difficulty(difficulty)
+				.reason("통증 수준 " + painLevel + "에 맞춘 스텁 추천입니다")
+				.expectedBenefit("스텁 응답")
+				.doseSuggestion(AiRecommendationResponse.DoseSuggestion.builder()
+					.sets(painLevel >= 6 ? 2 : 3)
+					.reps(10)
+					.restSeconds(30)
+					.holdSeconds(5)
+					.build())
+				.evidenceLevel(EvidenceLevel.C)
+				.knowledgeReferences(List.of())
+				.build())
+			.toList();
+
+		return AiRecommendationResponse.builder()
+			.recommendations(exercises)
+			.modelInfo(AiRecommendationResponse.ModelInfo.builder()
+				.modelKey("rehab-recommender-v0")
+				.modelVer(MODEL_VERSION)
+				.build())
+			.build();
+	}
+
+	private RecoveryPredictionResponse predictionOf(RecoveryPredictionRequest request) {
+		double painLevel = request.getCurrentPainLevel() != null ? request.getCurrentPainLevel() : 5;
+		double adherence = request.getRecentAdherence() != null ? request.getRecentAdherence() : 50;
+		double improvement = adherence / 100.0;
+
+		return RecoveryPredictionResponse.builder()
+			.prediction(RecoveryPredictionResponse.Prediction.builder()
+				.expectedPainLevel7d(Math.max(painLevel - improvement, 1.0))
+				.expectedPainLevel14d(Math.max(painLevel - improvement * 2, 1.0))
+				.recoveryProbability(Math.round(adherence * 0.9 * 10) / 10.0)
+				.estimatedDaysToTarget((int) Math.ceil(painLevel / Math.max(improvement, 0.1) * 3))
+				.build())
+			.factors(List.of(RecoveryPredictionResponse.Factor.builder()
+				.factor("ADHERENCE")
+				.impact(adherence >= 70 ? "HIGH" : "MEDIUM")
+				.description("스텁 응답")
+				.build()))
+			.modelInfo(RecoveryPredictionResponse.ModelInfo.builder()
+				.modelKey("recovery-predictor-v0")
+				.modelVer(MODEL_VERSION)
+				.build())
+			.build();
+	}
+
+	private void simulateLatency(int items) {
+		long latencyMs = requestLatencyMs + itemLatencyMs * items;
+		if (latencyMs <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(latencyMs);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -1,8 +1,8 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.dailySummary.DailySummaryResponse;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.dailySummary.DailySummaryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,13 +35,13 @@ public class DailySummaryController {
 	@GetMapping
 	@Operation(summary = "일일 요약 조회", description = "특정 날짜의 운동/복약 완료율 및 통증 요약을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<DailySummaryResponse> getDailySummary(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-01")
 		@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
 	) {
-		log.info("API 호출: 일일 요약 조회 - userId: {}, date: {}", user.getUserId(), date);
+		log.info("API 호출: 일일 요약 조회 - userId: {}, date: {}", user.userId(), date);
 
-		DailySummaryResponse response = dailySummaryService.getDailySummary(user.getUserId(), date);
+		DailySummaryResponse response = dailySummaryService.getDailySummary(user.userId(), date);
 		return ApiResponse.onSuccess(response);
 	}
 }
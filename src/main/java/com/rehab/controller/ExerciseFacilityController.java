@@ -1,14 +1,14 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.domain.entity.enums.FacilityType;
 import com.rehab.dto.exercise.facility.AddFavoriteRequest;
 import com.rehab.dto.exercise.facility.FacilityDetailResponse;
 import com.rehab.dto.exercise.facility.FacilityFavoriteResponse;
 import com.rehab.dto.exercise.facility.FacilityListResponse;
-import com.rehab.dto.exercise.facility.FacilitySearchResponse;
+import com.rehab.dto.exercise.facility.FacilitySearchPageResponse;
 import com.rehab.dto.exercise.facility.UpdateFavoriteMemoRequest;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.exercise.ExerciseFacilityService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -33,6 +33,8 @@ import java.util.List;
 @SecurityRequirement(name = "bearerAuth")
 public class ExerciseFacilityController {
 
+	private static final double MAX_RADIUS_KM = 50.0;
+
 	private final ExerciseFacilityService facilityService;
 
 	/**
@@ -40,19 +42,25 @@ public class ExerciseFacilityController {
 	 */
 	@GetMapping("/nearby")
 	@Operation(summary = "주변 시설 검색", description = "사용자 주소 기준 반경 내 운동 시설을 검색합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
-	public ApiResponse<List<FacilitySearchResponse>> searchNearbyFacilities(
-		@AuthenticationPrincipal User user,
-		@Parameter(description = "검색 반경 (km)", example = "5.0")
+	public ApiResponse<FacilitySearchPageResponse> searchNearbyFacilities(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "검색 반경 (km, 최대: 50)", example = "5.0")
 		@RequestParam(value = "radius", defaultValue = "5.0") Double radiusKm,
 
 		@Parameter(description = "시설 유형 필터 (복수 선택 가능)")
-		@RequestParam(value = "types", required = false) List<FacilityType> facilityTypes
+		@RequestParam(value = "types", required = false) List<FacilityType> facilityTypes,
+
+		@Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+		@RequestParam(value = "size", defaultValue = "20") Integer size,
+
+		@Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+		@RequestParam(value = "cursor", required = false) String cursor
 	) {
-		log.info("API 호출: 주변 시설 검색 - userId: {}, radius: {}km, types: {}",
-			user.getUserId(), radiusKm, facilityTypes);
+		log.info("API 호출: 주변 시설 검색 - userId: {}, radius: {}km, types: {}, size: {}",
+			user.userId(), radiusKm, facilityTypes, size);
 
-		List<FacilitySearchResponse> results =
-			facilityService.searchNearbyFacilities(user.getUserId(), radiusKm, facilityTypes);
+		FacilitySearchPageResponse results = facilityService.searchNearbyFacilities(
+			user.userId(), limitRadius(radiusKm), facilityTypes, limitPageSize(size), cursor);
 
 		return ApiResponse.onSuccess(results);
 	}
@@ -62,15 +70,21 @@ public class ExerciseFacilityController {
 	 */
 	@GetMapping("/nearby/rehab")
 	@Operation(summary = "재활 적합 시설 검색", description = "재활에 적합한 시설만 검색합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
-	public ApiResponse<List<FacilitySearchResponse>> searchRehabFacilities(
-		@AuthenticationPrincipal User user,
-		@Parameter(description = "검색 반경 (km)", example = "10.0")
-		@RequestParam(value = "radius", defaultValue = "10.0") Double radiusKm
+	public ApiResponse<FacilitySearchPageResponse> searchRehabFacilities(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "검색 반경 (km, 최대: 50)", example = "10.0")
+		@RequestParam(value = "radius", defaultValue = "10.0") Double radiusKm,
+
+		@Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+		@RequestParam(value = "size", defaultValue = "20") Integer size,
+
+		@Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+		@RequestParam(value = "cursor", required = false) String cursor
 	) {
-		log.info("API 호출: 재활 시설 검색 - userId: {}, radius: {}km", user.getUserId(), radiusKm);
+		log.info("API 호출: 재활 시설 검색 - userId: {}, radius: {}km, size: {}", user.userId(), radiusKm, size);
 
-		List<FacilitySearchResponse> results =
-			facilityService.searchRehabSuitableFacilities(user.getUserId(), radiusKm);
+		FacilitySearchPageResponse results = facilityService.searchRehabSuitableFacilities(
+			user.userId(), limitRadius(radiusKm), limitPageSize(size), cursor);
 
 		return ApiResponse.onSuccess(results);
 	}
@@ -80,15 +94,21 @@ public class ExerciseFacilityController {
 	 */
 	@GetMapping("/nearby/public")
 	@Operation(summary = "공공 시설 검색", description = "무료/저렴한 공공 시설만 검색합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
-	public ApiResponse<List<FacilitySearchResponse>> searchPublicFacilities(
-		@AuthenticationPrincipal User user,
-		@Parameter(description = "검색 반경 (km)", example = "5.0")
-		@RequestParam(value = "radius", defaultValue = "5.0") Double radiusKm
+	public ApiResponse<FacilitySearchPageResponse> searchPublicFacilities(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "검색 반경 (km, 최대: 50)", example = "5.0")
+		@RequestParam(value = "radius", defaultValue = "5.0") Double radiusKm,
+
+		@Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+		@RequestParam(value = "size", defaultValue = "20") Integer size,
+
+		@Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+		@RequestParam(value = "cursor", required = false) String cursor
 	) {
-		log.info("API 호출: 공공 시설 검색 - userId: {}, radius: {}km", user.getUserId(), radiusKm);
+		log.info("API 호출: 공공 시설 검색 - userId: {}, radius: {}km, size: {}", user.userId(), radiusKm, size);
 
-		List<FacilitySearchResponse> results =
-			facilityService.searchPublicFacilities(user.getUserId(), radiusKm);
+		FacilitySearchPageResponse results = facilityService.searchPublicFacilities(
+			user.userId(), limitRadius(radiusKm), limitPageSize(size), cursor);
 
 		return ApiResponse.onSuccess(results);
 	}
@@ -99,13 +119,13 @@ public class ExerciseFacilityController {
 	@GetMapping("/{facilityId}")
 	@Operation(summary = "시설 상세 조회", description = "특정 시설의 상세 정보를 조회합니다. 인증된 사용자 정보를 자동으로 추출하여 즐겨찾기 여부를 확인합니다.")
 	public ApiResponse<FacilityDetailResponse> getFacilityDetail(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "시설 ID", required = true)
 		@PathVariable Long facilityId
 	) {
-		log.info("API 호출: 시설 상세 조회 - facilityId: {}, userId: {}", facilityId, user.getUserId());
+		log.info("API 호출: 시설 상세 조회 - facilityId: {}, userId: {}", facilityId, user.userId());
 
-		FacilityDetailResponse result = facilityService.getFacilityDetail(facilityId, user.getUserId());
+		FacilityDetailResponse result = facilityService.getFacilityDetail(facilityId, user.userId());
 
 		return ApiResponse.onSuccess(result);
 	}
@@ -115,19 +135,25 @@ public class ExerciseFacilityController {
 	 */
 	@GetMapping("/by-type/{facilityType}")
 	@Operation(summary = "시설 유형별 검색", description = "특정 유형의 시설만 검색합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
-	public ApiResponse<List<FacilitySearchResponse>> searchByType(
-		@AuthenticationPrincipal User user,
+	public ApiResponse<FacilitySearchPageResponse> searchByType(
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "시설 유형", required = true)
 		@PathVariable FacilityType facilityType,
 
-		@Parameter(description = "검색 반경 (km)", example = "5.0")
-		@RequestParam(value = "radius", defaultValue = "5.0") Double radiusKm
+		@Parameter(description = "검색 반경 (km, 최대: 50)", example = "5.0")
+		@RequestParam(value = "radius", defaultValue = "5.0") Double radiusKm,
+
+		@Parameter(description = "페이지 크기 (기본값: 20, 최대: 100)", example = "20")
+		@RequestParam(value = "size", defaultValue = "20") Integer size,
+
+		@Parameter(description = "다음 페이지 커서 (이전 응답의 nextCursor)")
+		@RequestParam(value = "cursor", required = false) String cursor
 	) {
-		log.info("API 호출: 시설 유형별 검색 - userId: {}, type: {}, radius: {}km",
-			user.getUserId(), facilityType, radiusKm);
+		log.info("API 호출: 시설 유형별 검색 - userId: {}, type: {}, radius: {}km, size: {}",
+			user.userId(), facilityType, radiusKm, size);
 
-		List<FacilitySearchResponse> results =
-			facilityService.searchByType(user.getUserId(), facilityType, radiusKm);
+		FacilitySearchPageResponse results = facilityService.searchByType(
+			user.userId(), facilityType, limitRadius(radiusKm), limitPageSize(size), cursor);
 
 		return ApiResponse.onSuccess(results);
 	}
@@ -158,13 +184,13 @@ public class ExerciseFacilityController {
 	@PostMapping("/favorites")
 	@Operation(summary = "즐겨찾기 추가", description = "시설을 즐겨찾기에 추가합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<Void> addFavorite(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody AddFavoriteRequest request
 	) {
 		log.info("API 호출: 즐겨찾기 추가 - userId: {}, facilityId: {}",
-			user.getUserId(), request.getFacilityId());
+			user.userId(), request.getFacilityId());
 
-		facilityService.addFavorite(user.getUserId(), request.getFacilityId(), request.getMemo());
+		facilityService.addFavorite(user.userId(), request.getFacilityId(), request.getMemo());
 
 		return ApiResponse.onSuccess(null);
 	}
@@ -175,11 +201,11 @@ public class ExerciseFacilityController {
 	@GetMapping("/favorites")
 	@Operation(summary = "즐겨찾기 목록 조회", description = "사용자의 즐겨찾기 시설 목록을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<List<FacilityFavoriteResponse>> getFavorites(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		log.info("API 호출: 즐겨찾기 목록 조회 - userId: {}", user.getUserId());
+		log.info("API 호출: 즐겨찾기 목록 조회 - userId: {}", user.userId());
 
-		List<FacilityFavoriteResponse> results = facilityService.getFavorites(user.getUserId());
+		List<FacilityFavoriteResponse> results = facilityService.getFavorites(user.userId());
 
 		return ApiResponse.onSuccess(results);
 	}
@@ -190,13 +216,13 @@ public class ExerciseFacilityController {
 	@DeleteMapping("/favorites/{favoriteId}")
 	@Operation(summary = "즐겨찾기 삭제", description = "즐겨찾기에서 시설을 삭제합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<Void> removeFavorite(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "즐겨찾기 ID", required = true)
 		@PathVariable Long favoriteId
 	) {
-		log.info("API 호출: 즐겨찾기 삭제 - userId: {}, favoriteId: {}", user.getUserId(), favoriteId);
+		log.info("API 호출: 즐겨찾기 삭제 - userId: {}, favoriteId: {}", user.userId(), favoriteId);
 
-		facilityService.removeFavorite(user.getUserId(), favoriteId);
+		facilityService.removeFavorite(user.userId(), favoriteId);
 
 		return ApiResponse.onSuccess(null);
 	}
@@ -207,16 +233,16 @@ public class ExerciseFacilityController {
 	@PatchMapping("/favorites/{favoriteId}/memo")
 	@Operation(summary = "즐겨찾기 메모 수정", description = "즐겨찾기 시설의 메모를 수정합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<Void> updateFavoriteMemo(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "즐겨찾기 ID", required = true)
 		@PathVariable Long favoriteId,
 
 		@RequestBody UpdateFavoriteMemoRequest request
 	) {
 		log.info("API 호출: 즐겨찾기 메모 수정 - userId: {}, favoriteId: {}",
-			user.getUserId(), favoriteId);
+			user.userId(), favoriteId);
 
-		facilityService.updateFavoriteMemo(user.getUserId(), favoriteId, request.getMemo());
+		facilityService.updateFavoriteMemo(user.userId(), favoriteId, request.getMemo());
 
 		return ApiResponse.onSuccess(null);
 	}
@@ -227,14 +253,27 @@ public class ExerciseFacilityController {
 	@PostMapping("/favorites/{favoriteId}/visit")
 	@Operation(summary = "방문 기록", description = "즐겨찾기 시설의 방문 횟수를 증가시킵니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<Void> recordVisit(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "즐겨찾기 ID", required = true)
 		@PathVariable Long favoriteId
 	) {
-		log.info("API 호출: 방문 기록 - userId: {}, favoriteId: {}", user.getUserId(), favoriteId);
+		log.info("API 호출: 방문 기록 - userId: {}, favoriteId: {}", user.userId(), favoriteId);
 
-		facilityService.recordVisit(user.getUserId(), favoriteId);
+		facilityService.recordVisit(user.userId(), favoriteId);
 
 		return ApiResponse.onSuccess(null);
 	}
+
+	// 페이지 크기 제한 (1 ~ 100)
+	private int limitPageSize(Integer size) {
+		return Math.max(1, Math.min(size, 100));
+	}
+
+	// 검색 반경 제한 (0 초과 ~ 50km, 넓은 반경이 격자 셀/DB 범위를 끝없이 넓히지 않도록)
+	private double limitRadius(Double radiusKm) {
+		if (radiusKm == null || !(radiusKm > 0)) {
+			throw new IllegalArgumentException("검색 반경은 0보다 커야 합니다.");
+		}
+		return Math.min(radiusKm, MAX_RADIUS_KM);
+	}
 }
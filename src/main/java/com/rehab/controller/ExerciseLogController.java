@@ -1,10 +1,10 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.exercise.CreateExerciseLogRequest;
 import com.rehab.dto.exercise.ExerciseLogListResponse;
 import com.rehab.dto.exercise.ExerciseLogResponse;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.exercise.ExerciseLogService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -40,13 +40,13 @@ public class ExerciseLogController {
 	@ResponseStatus(HttpStatus.CREATED)
 	@Operation(summary = "운동 로그 생성", description = "운동 수행 기록을 생성합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<ExerciseLogResponse> createExerciseLog(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "운동 로그 생성 요청", required = true)
 		@Valid @RequestBody CreateExerciseLogRequest request
 	) {
-		log.info("API 호출: 운동 로그 생성 - userId: {}, planItemId: {}", user.getUserId(), request.getPlanItemId());
+		log.info("API 호출: 운동 로그 생성 - userId: {}, planItemId: {}", user.userId(), request.getPlanItemId());
 
-		ExerciseLogResponse response = exerciseLogService.createExerciseLog(user.getUserId(), request);
+		ExerciseLogResponse response = exerciseLogService.createExerciseLog(user.userId(), request);
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -56,14 +56,14 @@ public class ExerciseLogController {
 	@GetMapping
 	@Operation(summary = "특정 날짜 운동 로그 조회", description = "특정 날짜의 운동 로그 목록을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<ExerciseLogListResponse> getExerciseLogs(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-01")
 		@RequestParam
 		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
 	) {
-		log.info("API 호출: 운동 로그 조회 - userId: {}, date: {}", user.getUserId(), date);
+		log.info("API 호출: 운동 로그 조회 - userId: {}, date: {}", user.userId(), date);
 
-		ExerciseLogListResponse response = exerciseLogService.getExerciseLogsByDate(user.getUserId(), date);
+		ExerciseLogListResponse response = exerciseLogService.getExerciseLogsByDate(user.userId(), date);
 		return ApiResponse.onSuccess(response);
 	}
 }
@@ -3,16 +3,24 @@ package com.rehab.controller;
 import com.rehab.apiPayload.ApiResponse;
 import com.rehab.dto.exercise.facility.CreateFacilityRequest;
 import com.rehab.dto.exercise.facility.CreateFacilityResponse;
+import com.rehab.dto.exercise.facility.FacilityImportResponse;
 import com.rehab.dto.exercise.facility.UpdateFacilityRequest;
+import com.rehab.service.facility.FacilityImportFormat;
+import com.rehab.service.facility.FacilityImportService;
 import com.rehab.service.facility.FacilityManagementService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -26,6 +34,7 @@ import java.util.List;
 public class FacilityManagementController {
 
 	private final FacilityManagementService facilityManagementService;
+	private final FacilityImportService facilityImportService;
 
 	/**
 	 * 운동 시설 생성
@@ -122,4 +131,48 @@ public class FacilityManagementController {
 
 		return ApiResponse.onSuccess(responses);
 	}
+
+	/**
+	 * 시설 대량 가져오기 (파일 업로드)
+	 */
+	@PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@Operation(summary = "시설 대량 가져오기 (파일)",
+		description = "공공데이터 CSV/JSON 파일을 스트리밍으로 읽어 등록합니다. externalSource/externalId가 같은 시설은 갱신하고, "
+			+ "실패한 행은 거부 목록으로 돌려줍니다.")
+	public ApiResponse<FacilityImportResponse> importFacilitiesFile(
+		@Parameter(description = "CSV 또는 JSON 파일", required = true)
+		@RequestPart("file") MultipartFile file,
+
+		@Parameter(description = "입력 형식 (생략하면 파일 확장자로 판단)")
+		@RequestParam(required = false) FacilityImportFormat format
+	) throws IOException {
+		log.info("API 호출: 시설 대량 가져오기 (파일) - filename: {}, size: {}", file.getOriginalFilename(), file.getSize());
+
+		FacilityImportFormat resolved = format != null
+			? format
+			: FacilityImportFormat.fromFilename(file.getOriginalFilename());
+		if (resolved == null) {
+			throw new IllegalArgumentException("입력 형식을 알 수 없습니다. format 파라미터를 지정해주세요.");
+		}
+
+		try (InputStream inputStream = file.getInputStream()) {
+			return ApiResponse.onSuccess(facilityImportService.importFacilities(inputStream, resolved));
+		}
+	}
+
+	/**
+	 * 시설 대량 가져오기 (요청 본문)
+	 */
+	@PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson"})
+	@Operation(summary = "시설 대량 가져오기 (본문)",
+		description = "요청 본문의 CSV(text/csv) 또는 JSON 배열/NDJSON을 스트리밍으로 읽어 등록합니다.")
+	public ApiResponse<FacilityImportResponse> importFacilitiesBody(HttpServletRequest request) throws IOException {
+		log.info("API 호출: 시설 대량 가져오기 (본문) - contentType: {}", request.getContentType());
+
+		FacilityImportFormat format = request.getContentType().startsWith("text/csv")
+			? FacilityImportFormat.CSV
+			: FacilityImportFormat.JSON;
+
+		return ApiResponse.onSuccess(facilityImportService.importFacilities(request.getInputStream(), format));
+	}
 }
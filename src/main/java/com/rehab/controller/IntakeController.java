@@ -1,8 +1,8 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.intake.IntakeDto;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.intakeService.IntakeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,17 +21,17 @@ public class IntakeController {
 	@PutMapping
 	@Operation(summary = "문진 정보 저장/수정", description = "초기 문진 정보 저장 또는 수정")
 	public ApiResponse<IntakeDto.IntakeResponse> saveOrUpdateIntake(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody IntakeDto.IntakeRequest request
 	) {
-		return ApiResponse.onSuccess(intakeService.saveOrUpdateIntake(user, request));
+		return ApiResponse.onSuccess(intakeService.saveOrUpdateIntake(user.userId(), request));
 	}
 
 	@GetMapping
 	@Operation(summary = "문진 정보 조회", description = "내 문진 정보 조회")
 	public ApiResponse<IntakeDto.IntakeListResponse> getMyIntake(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		return ApiResponse.onSuccess(intakeService.getMyIntakes(user));
+		return ApiResponse.onSuccess(intakeService.getMyIntakes(user.userId()));
 	}
 }
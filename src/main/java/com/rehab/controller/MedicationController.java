@@ -1,8 +1,8 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.medication.MedicationDto;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.medicationService.MedicationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -33,18 +33,18 @@ public class MedicationController {
 		)
 	)
 	public ApiResponse<MedicationDto.Response> createMedication(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody MedicationDto.CreateRequest request
 	) {
-		return ApiResponse.onSuccess(medicationService.createMedication(user, request));
+		return ApiResponse.onSuccess(medicationService.createMedication(user.userId(), request));
 	}
 
 	@GetMapping
 	@Operation(summary = "내 복약 리스트 조회")
 	public ApiResponse<List<MedicationDto.Response>> getMyMedications(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		return ApiResponse.onSuccess(medicationService.getMyMedications(user));
+		return ApiResponse.onSuccess(medicationService.getMyMedications(user.userId()));
 	}
 
 	@PostMapping("/{medicationId}/schedule")
@@ -59,12 +59,12 @@ public class MedicationController {
 	@PatchMapping("/{medicationId}")
 	@Operation(summary = "복약 정보 수정")
 	public ApiResponse<MedicationDto.Response> updateMedication(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@PathVariable Long medicationId,
 		@RequestBody MedicationDto.UpdateRequest request
 	) {
 		return ApiResponse.onSuccess(
-			medicationService.updateMedication(user, medicationId, request)
+			medicationService.updateMedication(user.userId(), medicationId, request)
 		);
 	}
 
@@ -72,12 +72,12 @@ public class MedicationController {
 	@GetMapping("/schedules")
 	@Operation(summary = "특정 날짜 복약 스케줄 조회")
 	public ApiResponse<MedicationDto.DailyScheduleResponse> getSchedulesForDate(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestParam("date") String date
 	) {
 		LocalDate localDate = LocalDate.parse(date);
 		return ApiResponse.onSuccess(
-			medicationService.getSchedulesForDate(user, localDate)
+			medicationService.getSchedulesForDate(user.userId(), localDate)
 		);
 	}
 
@@ -1,10 +1,10 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.medication.CreateMedicationLogRequest;
 import com.rehab.dto.medication.MedicationLogListResponse;
 import com.rehab.dto.medication.MedicationLogResponse;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.medicationService.MedicationLogService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -38,13 +38,13 @@ public class MedicationLogController {
 	@ResponseStatus(HttpStatus.CREATED)
 	@Operation(summary = "복약 로그 생성", description = "복약 로그를 생성합니다. 생성 시 자동으로 일일 요약이 업데이트됩니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<MedicationLogResponse> createMedicationLog(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "복약 로그 생성 요청", required = true)
 		@Valid @RequestBody CreateMedicationLogRequest request
 	) {
-		log.info("API 호출: 복약 로그 생성 - userId: {}, medicationId: {}", user.getUserId(), request.getMedicationId());
+		log.info("API 호출: 복약 로그 생성 - userId: {}, medicationId: {}", user.userId(), request.getMedicationId());
 
-		MedicationLogResponse response = medicationLogService.createMedicationLog(user.getUserId(), request);
+		MedicationLogResponse response = medicationLogService.createMedicationLog(user.userId(), request);
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -54,14 +54,14 @@ public class MedicationLogController {
 	@GetMapping
 	@Operation(summary = "특정 날짜 복약 로그 조회", description = "특정 날짜의 복약 로그 목록을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다.")
 	public ApiResponse<MedicationLogListResponse> getMedicationLogs(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "조회할 날짜 (YYYY-MM-DD)", required = true, example = "2025-12-01")
 		@RequestParam
 		@DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
 	) {
-		log.info("API 호출: 복약 로그 조회 - userId: {}, date: {}", user.getUserId(), date);
+		log.info("API 호출: 복약 로그 조회 - userId: {}, date: {}", user.userId(), date);
 
-		MedicationLogListResponse response = medicationLogService.getMedicationLogsByDate(user.getUserId(), date);
+		MedicationLogListResponse response = medicationLogService.getMedicationLogsByDate(user.userId(), date);
 		return ApiResponse.onSuccess(response);
 	}
 }
@@ -1,8 +1,8 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.user.UserProfileDto;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.userService.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -21,26 +21,26 @@ public class OauthUserController {
 	@GetMapping("/users/me")
 	@Operation(summary = "내 정보 조회", description = "JWT 기반 현재 로그인한 유저의 프로필 조회")
 	public ApiResponse<UserProfileDto.ProfileResponse> getMyProfile(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		return ApiResponse.onSuccess(userService.getMyProfile(user));
+		return ApiResponse.onSuccess(userService.getMyProfile(user.userId()));
 	}
 
 	@PostMapping("/users/me")
 	@Operation(summary = "프로필 최초 생성", description = "회원가입 직후 프로필 최초 생성용 API")
 	public ApiResponse<UserProfileDto.ProfileResponse> createMyProfile(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody UserProfileDto.ProfileUpdateRequest request
 	) {
-		return ApiResponse.onSuccess(userService.updateMyProfile(user, request));
+		return ApiResponse.onSuccess(userService.updateMyProfile(user.userId(), request));
 	}
 
 	@PatchMapping("/users/me")
 	@Operation(summary = "내 프로필 수정", description = "이름/성별/나이/키/몸무게 수정")
 	public ApiResponse<UserProfileDto.ProfileResponse> updateMyProfile(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody UserProfileDto.ProfileUpdateRequest request
 	) {
-		return ApiResponse.onSuccess(userService.updateMyProfile(user, request));
+		return ApiResponse.onSuccess(userService.updateMyProfile(user.userId(), request));
 	}
 }
@@ -4,6 +4,7 @@ import com.rehab.apiPayload.ApiResponse;
 import com.rehab.domain.entity.enums.MealTime;
 import com.rehab.domain.entity.enums.PlanPhase;
 import com.rehab.dto.plan.*;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.rehabPlan.RehabPlanService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,7 +22,9 @@ import java.time.LocalDate;
 import java.util.List;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.GeneralException;
+import com.rehab.domain.entity.enums.UserRole;
 import com.rehab.domain.entity.enums.MealTime;
 import com.rehab.domain.entity.enums.PlanPhase;
 import com.rehab.dto.plan.*;
@@ -62,11 +65,11 @@ public class RehabPlanController {
 	@GetMapping("/plans/current")
 	@Operation(summary = "현재 활성 플랜 조회", description = "사용자의 현재 활성화된 재활 플랜 중 가장 최신 플랜을 조회합니다.")
 	public ApiResponse<RehabPlanResponse> getCurrentPlan(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
-		log.info("API 호출: 현재 활성 플랜 조회 - userId: {}", user.getUserId());
+		log.info("API 호출: 현재 활성 플랜 조회 - userId: {}", user.userId());
 
-		RehabPlanResponse response = rehabPlanService.getCurrentPlan(user.getUserId());
+		RehabPlanResponse response = rehabPlanService.getCurrentPlan(user.userId());
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -76,7 +79,7 @@ public class RehabPlanController {
 	@GetMapping("/plans/{rehabPlanId}/items")
 	@Operation(summary = "플랜별 운동 항목 조회", description = "특정 재활 플랜의 운동 항목들을 조회합니다.")
 	public ApiResponse<PlanItemListResponse> getPlanItems(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "재활 플랜 ID", required = true)
 		@PathVariable Long rehabPlanId,
 
@@ -87,7 +90,7 @@ public class RehabPlanController {
 		@RequestParam(required = false) PlanPhase phase
 	) {
 		log.info("API 호출: 플랜 운동 항목 조회 - userId: {}, rehabPlanId: {}, date: {}, phase: {}",
-			user.getUserId(), rehabPlanId, date, phase);
+			user.userId(), rehabPlanId, date, phase);
 
 		PlanItemListResponse response = rehabPlanService.getPlanItems(rehabPlanId, date, phase);
 		return ApiResponse.onSuccess(response);
@@ -99,13 +102,39 @@ public class RehabPlanController {
 	@GetMapping("/plans")
 	@Operation(summary = "사용자의 운동 재활 플랜 조회", description = "사용자의 전체 재활 플랜 목록을 조회합니다.")
 	public ApiResponse<RehabPlanListResponse> getAllPlans(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "플랜 상태 필터 (ACTIVE, INACTIVE, COMPLETED)")
 		@RequestParam(required = false) String status
 	) {
-		log.info("API 호출: 모든 플랜 조회 - userId: {}, status: {}", user.getUserId(), status);
+		log.info("API 호출: 모든 플랜 조회 - userId: {}, status: {}", user.userId(), status);
 
-		RehabPlanListResponse response = rehabPlanService.getAllPlans(user.getUserId(), status);
+		RehabPlanListResponse response = rehabPlanService.getAllPlans(user.userId(), status);
+		return ApiResponse.onSuccess(response);
+	}
+
+	/**
+	 * 전체 사용자 재활 플랜 목록 조회 (관리자)
+	 */
+	@GetMapping("/admin/plans")
+	@Operation(summary = "전체 재활 플랜 목록 조회 (관리자)",
+		description = "모든 사용자의 재활 플랜을 최신 ID 순으로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다.")
+	public ApiResponse<RehabPlanListResponse> getAllPlansForAdmin(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "플랜 상태 필터 (ACTIVE, INACTIVE, COMPLETED)")
+		@RequestParam(required = false) String status,
+		@Parameter(description = "이전 페이지의 nextCursor (첫 페이지는 생략)")
+		@RequestParam(required = false) Long cursor,
+		@Parameter(description = "페이지 크기 (1-100)")
+		@RequestParam(defaultValue = "50") int size
+	) {
+		log.info("API 호출: 전체 플랜 목록 조회 - userId: {}, status: {}, cursor: {}", user.userId(), status, cursor);
+
+		if (user.role() != UserRole.ADMIN) {
+			throw new GeneralException(ErrorStatus._FORBIDDEN);
+		}
+
+		RehabPlanListResponse response =
+			rehabPlanService.getAllPlansForAdmin(status, cursor, Math.max(1, Math.min(size, 100)));
 		return ApiResponse.onSuccess(response);
 	}
 
@@ -115,11 +144,11 @@ public class RehabPlanController {
 	@GetMapping("/plans/{rehabPlanId}/medications")
 	@Operation(summary = "플랜별 복약 항목 조회", description = "특정 재활 플랜의 복약 항목들을 조회합니다.")
 	public ApiResponse<List<MedicationPlanItemResponse>> getMedicationPlanItems(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "재활 플랜 ID", required = true)
 		@PathVariable Long rehabPlanId
 	) {
-		log.info("API 호출: 플랜 복약 항목 조회 - userId: {}, rehabPlanId: {}", user.getUserId(), rehabPlanId);
+		log.info("API 호출: 플랜 복약 항목 조회 - userId: {}, rehabPlanId: {}", user.userId(), rehabPlanId);
 
 		List<MedicationPlanItemResponse> response = rehabPlanService.getMedicationPlanItems(rehabPlanId);
 		return ApiResponse.onSuccess(response);
@@ -131,7 +160,7 @@ public class RehabPlanController {
 	@GetMapping("/plans/{rehabPlanId}/diets")
 	@Operation(summary = "플랜별 식단 항목 조회", description = "특정 재활 플랜의 식단 항목들을 조회합니다.")
 	public ApiResponse<List<DietPlanItemResponse>> getDietPlanItems(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "재활 플랜 ID", required = true)
 		@PathVariable Long rehabPlanId,
 
@@ -139,7 +168,7 @@ public class RehabPlanController {
 		@RequestParam(required = false) MealTime mealTime
 	) {
 		log.info("API 호출: 플랜 식단 항목 조회 - userId: {}, rehabPlanId: {}, mealTime: {}",
-			user.getUserId(), rehabPlanId, mealTime);
+			user.userId(), rehabPlanId, mealTime);
 
 		List<DietPlanItemResponse> response = rehabPlanService.getDietPlanItems(rehabPlanId, mealTime);
 		return ApiResponse.onSuccess(response);
@@ -152,11 +181,11 @@ public class RehabPlanController {
 	@Operation(summary = "플랜의 모든 항목 통합 조회",
 		description = "특정 재활 플랜의 운동, 복약, 식단 항목을 모두 조회합니다.")
 	public ApiResponse<AllPlanItemsResponse> getAllPlanItems(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "재활 플랜 ID", required = true)
 		@PathVariable Long rehabPlanId
 	) {
-		log.info("API 호출: 플랜 전체 항목 조회 - userId: {}, rehabPlanId: {}", user.getUserId(), rehabPlanId);
+		log.info("API 호출: 플랜 전체 항목 조회 - userId: {}, rehabPlanId: {}", user.userId(), rehabPlanId);
 
 		AllPlanItemsResponse response = rehabPlanService.getAllPlanItems(rehabPlanId);
 		return ApiResponse.onSuccess(response);
@@ -184,13 +213,13 @@ public class RehabPlanController {
 		)
 	})
 	public ApiResponse<RehabPlanDetailResponse> createRehabPlan(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "재활 플랜 생성 요청", required = true)
 		@Valid @RequestBody CreateRehabPlanRequest request
 	) {
-		log.info("POST /api/v1/rehab/plans - userId: {}, title: {}", user.getUserId(), request.getTitle());
+		log.info("POST /api/v1/rehab/plans - userId: {}, title: {}", user.userId(), request.getTitle());
 
-		RehabPlanDetailResponse response = rehabPlanService.createRehabPlanWithItems(user.getUserId(), request);
+		RehabPlanDetailResponse response = rehabPlanService.createRehabPlanWithItems(user.userId(), request);
 		return ApiResponse.onSuccess(response);
 	}
 }
@@ -1,8 +1,8 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.reminder.ReminderDto;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.reminderService.ReminderService;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -21,31 +21,31 @@ public class ReminderController {
 
 	@PostMapping
 	public ApiResponse<ReminderDto.Response> createReminder(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@RequestBody ReminderDto.CreateRequest request
 	) {
 		return ApiResponse.onSuccess(
-			reminderService.createReminder(user, request)
+			reminderService.createReminder(user.userId(), request)
 		);
 	}
 
 	@PatchMapping("/{id}")
 	public ApiResponse<ReminderDto.Response> updateReminder(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@PathVariable Long id,
 		@RequestBody ReminderDto.UpdateRequest request
 	) {
 		return ApiResponse.onSuccess(
-			reminderService.updateReminder(user, id, request)
+			reminderService.updateReminder(user.userId(), id, request)
 		);
 	}
 
 	@GetMapping
 	public ApiResponse<List<ReminderDto.Response>> getMyReminders(
-		@AuthenticationPrincipal User user
+		@AuthenticationPrincipal AuthenticatedUser user
 	) {
 		return ApiResponse.onSuccess(
-			reminderService.getMyReminders(user)
+			reminderService.getMyReminders(user.userId())
 		);
 	}
 }
@@ -1,10 +1,10 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
 import com.rehab.dto.report.ProgressReportResponse;
 import com.rehab.dto.report.ReportSnapshotListResponse;
 import com.rehab.dto.report.WeeklyReportResponse;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.report.ReportService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,8 +37,8 @@ public class ReportController {
 		description = "특정 기간의 운동/복약/통증 진행률 통계를 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다."
 	)
 	public ApiResponse<ProgressReportResponse> getProgressReport(
-		@AuthenticationPrincipal User user,
-		@Parameter(description = "조회 기간 (7d, 14d, 30d)", example = "7d", required = true)
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "조회 기간 (7d, 14d, 30d, 90d, 365d 등 1~365일)", example = "7d", required = true)
 		@RequestParam String range,
 
 		@Parameter(description = "종료 날짜 (YYYY-MM-DD, 기본값: 오늘)", example = "2025-12-01")
@@ -46,10 +46,10 @@ public class ReportController {
 		@DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate
 	) {
 		log.info("GET /api/v1/reports/progress - userId: {}, range: {}, endDate: {}",
-			user.getUserId(), range, endDate);
+			user.userId(), range, endDate);
 
 		LocalDateTime endDateTime = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
-		ProgressReportResponse response = reportService.getProgressReport(user.getUserId(), range, endDateTime);
+		ProgressReportResponse response = reportService.getProgressReport(user.userId(), range, endDateTime);
 
 		return ApiResponse.onSuccess(response);
 	}
@@ -57,18 +57,19 @@ public class ReportController {
 	@GetMapping("/weekly")
 	@Operation(
 		summary = "주간 하이라이트 조회",
-		description = "주간 리포트 스냅샷을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다."
+		description = "배치로 생성된 주간 리포트 스냅샷을 조회합니다. 스냅샷이 아직 없는 주는 계산 결과를 저장 없이 반환합니다. "
+			+ "인증된 사용자 정보를 자동으로 추출합니다."
 	)
 	public ApiResponse<WeeklyReportResponse> getWeeklyReport(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "주간 시작 날짜 (YYYY-MM-DD, 월요일, 기본값: 이번 주 월요일)",
 			example = "2025-11-25")
 		@RequestParam(required = false)
 		@DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate weekStart
 	) {
-		log.info("GET /api/v1/reports/weekly - userId: {}, weekStart: {}", user.getUserId(), weekStart);
+		log.info("GET /api/v1/reports/weekly - userId: {}, weekStart: {}", user.userId(), weekStart);
 
-		WeeklyReportResponse response = reportService.getWeeklyReport(user.getUserId(), weekStart);
+		WeeklyReportResponse response = reportService.getWeeklyReport(user.userId(), weekStart);
 
 		return ApiResponse.onSuccess(response);
 	}
@@ -79,7 +80,7 @@ public class ReportController {
 		description = "저장된 리포트 스냅샷 목록을 조회합니다. 인증된 사용자 정보를 자동으로 추출합니다."
 	)
 	public ApiResponse<ReportSnapshotListResponse> getReportSnapshots(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(description = "기간 타입 (WEEKLY, MONTHLY, 선택 시 전체)",
 			example = "WEEKLY")
 		@RequestParam(required = false) String period,
@@ -89,13 +90,13 @@ public class ReportController {
 		@RequestParam(required = false) Integer limit
 	) {
 		log.info("GET /api/v1/reports/snapshots - userId: {}, period: {}, limit: {}",
-			user.getUserId(), period, limit);
+			user.userId(), period, limit);
 
 		if (limit != null && limit > 100) {
 			limit = 100;
 		}
 
-		ReportSnapshotListResponse response = reportService.getReportSnapshots(user.getUserId(), period, limit);
+		ReportSnapshotListResponse response = reportService.getReportSnapshots(user.userId(), period, limit);
 
 		return ApiResponse.onSuccess(response);
 	}
@@ -1,8 +1,10 @@
 package com.rehab.controller;
 
 import com.rehab.apiPayload.ApiResponse;
-import com.rehab.domain.entity.User;
+import com.rehab.dto.streak.StreakCalendarResponse;
+import com.rehab.dto.streak.StreakLeaderboardResponse;
 import com.rehab.dto.streak.StreakResponse;
+import com.rehab.security.jwt.AuthenticatedUser;
 import com.rehab.service.streak.StreakService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,12 +14,15 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.YearMonth;
+
 @RestController
 @RequestMapping("/api/v1/streak")
 @RequiredArgsConstructor
@@ -59,7 +64,7 @@ public class StreakController {
 		)
 	})
 	public ApiResponse<StreakResponse> getStreak(
-		@AuthenticationPrincipal User user,
+		@AuthenticationPrincipal AuthenticatedUser user,
 		@Parameter(
 			description = "조회할 최근 일수 (기본값: 30일, 최대: 90일)",
 			example = "30"
@@ -69,7 +74,52 @@ public class StreakController {
 		// range 제한 (최대 90일)
 		int rangeDays = Math.min(range, 90);
 
-		StreakResponse response = streakService.getStreak(user.getUserId(), rangeDays);
+		StreakResponse response = streakService.getStreak(user.userId(), rangeDays);
+		return ApiResponse.onSuccess(response);
+	}
+
+	@GetMapping("/calendar")
+	@Operation(
+		summary = "월간 활동 캘린더 조회",
+		description = "해당 월에 활동 기준을 달성한 날짜와 일수를 조회합니다. (최근 366일 이내) "
+			+ "인증된 사용자 정보를 자동으로 추출합니다."
+	)
+	public ApiResponse<StreakCalendarResponse> getActivityCalendar(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "조회 월 (YYYY-MM, 기본값: 이번 달)", example = "2025-12")
+		@RequestParam(required = false)
+		@DateTimeFormat(pattern = "yyyy-MM") YearMonth month
+	) {
+		YearMonth targetMonth = month != null ? month : YearMonth.now();
+
+		StreakCalendarResponse response = streakService.getActivityCalendar(user.userId(), targetMonth);
+		return ApiResponse.onSuccess(response);
+	}
+
+	@GetMapping("/leaderboard")
+	@Operation(
+		summary = "Streak 리더보드 조회",
+		description = """
+            현재/최대 streak 리더보드를 조회합니다. 인증된 사용자의 순위(me)를 함께 반환합니다.
+
+            - type: CURRENT(현재 streak) 또는 MAX(최대 streak)
+            - radius를 지정하면 상위 N명 대신 내 앞뒤 radius명을 반환합니다. (최대 50)
+            """
+	)
+	public ApiResponse<StreakLeaderboardResponse> getLeaderboard(
+		@AuthenticationPrincipal AuthenticatedUser user,
+		@Parameter(description = "리더보드 종류 (CURRENT, MAX)", example = "MAX")
+		@RequestParam(required = false, defaultValue = "MAX") String type,
+		@Parameter(description = "상위 N명 (기본값: 10, 최대: 100)", example = "10")
+		@RequestParam(required = false, defaultValue = "10") Integer limit,
+		@Parameter(description = "내 앞뒤 인원 (기본값: 0)", example = "5")
+		@RequestParam(required = false, defaultValue = "0") Integer radius
+	) {
+		int limitCount = Math.max(1, Math.min(limit, 100));
+		int radiusCount = Math.max(0, Math.min(radius, 50));
+
+		StreakLeaderboardResponse response = streakService.getLeaderboard(
+			user.userId(), type, limitCount, radiusCount);
 		return ApiResponse.onSuccess(response);
 	}
 
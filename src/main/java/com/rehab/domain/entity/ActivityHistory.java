@@ -0,0 +1,202 @@
+package com.rehab.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 사용자 활동 이력 비트맵 (UserStreak에 포함, 합계 99바이트)
+ * - 활동 달성 여부: 최근 366일, 하루 1비트 (46바이트)
+ * - 운동/복약 완료율: 최근 30일, 하루 7비트씩 한 배열에 (0~100, 기록은 있는데 완료율이 없으면 127, 53바이트)
+ * 날짜의 epochDay를 길이로 나눈 나머지를 위치로 쓰는 링 버퍼이며,
+ * historyEndDate(기록된 가장 최근 날짜)보다 뒤 날짜를 기록할 때 그 사이 지난 칸을 비운다.
+ * 완료율이 필요한 30일보다 긴 조회는 DailySummary에서 읽는다.
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ActivityHistory {
+
+	public static final int ACTIVITY_DAYS = 366;
+	public static final int RATE_DAYS = 30;
+	public static final int ACTIVITY_BYTES = (ACTIVITY_DAYS + 7) / 8;
+	public static final int RATE_BYTES = (RATE_DAYS * 2 * 7 + 7) / 8;
+
+	private static final int RATE_BITS = 7;
+	private static final int NO_RATE = (1 << RATE_BITS) - 1;
+	private static final int EXERCISE_OFFSET = 0;
+	private static final int MEDICATION_OFFSET = RATE_DAYS * RATE_BITS;
+
+	@Column(name = "activity_bits", columnDefinition = "BINARY(46)")
+	private byte[] activityBits;
+
+	/**
+	 * 운동 완료율 30칸 뒤에 복약 완료율 30칸 (칸마다 7비트)
+	 */
+	@Column(name = "completion_rates", columnDefinition = "BINARY(53)")
+	private byte[] completionRates;
+
+	/**
+	 * 기록된 가장 최근 날짜 (null이면 아직 이력을 만들지 않은 상태)
+	 */
+	@Getter
+	@Column(name = "history_end_date")
+	private LocalDate historyEndDate;
+
+	/**
+	 * 빈 이력 생성 (endDate 이전 기록은 없음)
+	 */
+	public static ActivityHistory empty(LocalDate endDate) {
+		ActivityHistory history = new ActivityHistory();
+		history.activityBits = new byte[ACTIVITY_BYTES];
+		history.completionRates = new byte[RATE_BYTES];
+		history.historyEndDate = endDate;
+		return history;
+	}
+
+	public boolean isInitialized() {
+		return historyEndDate != null;
+	}
+
+	/**
+	 * 활동 달성 비트 (JDBC 일괄 저장용 복사본)
+	 */
+	public byte[] activityBits() {
+		return activityBits.clone();
+	}
+
+	/**
+	 * 완료율 칸 (JDBC 일괄 저장용 복사본)
+	 */
+	public byte[] completionRates() {
+		return completionRates.clone();
+	}
+
+	/**
+	 * 하루 활동 기록 (같은 날짜를 다시 기록하면 덮어씀, 보관 기간보다 오래된 날짜는 무시)
+	 */
+	public void record(LocalDate date, boolean active, Integer exerciseRate, Integer medicationRate) {
+		if (date.isAfter(historyEndDate)) {
+			clearDays(historyEndDate.plusDays(1), date);
+			historyEndDate = date;
+		}
+
+		long age = ChronoUnit.DAYS.between(date, historyEndDate);
+		if (age >= ACTIVITY_DAYS) {
+			return;
+		}
+
+		writeBits(activityBits, Math.floorMod(date.toEpochDay(), ACTIVITY_DAYS), 1, active ? 1 : 0);
+
+		if (age < RATE_DAYS) {
+			int slot = Math.floorMod(date.toEpochDay(), RATE_DAYS);
+			writeBits(completionRates, EXERCISE_OFFSET + slot * RATE_BITS, RATE_BITS, toRateBits(exerciseRate));
+			writeBits(completionRates, MEDICATION_OFFSET + slot * RATE_BITS, RATE_BITS, toRateBits(medicationRate));
+		}
+	}
+
+	/**
+	 * 해당 날짜 활동 달성 여부 (보관 기간 밖이면 false)
+	 */
+	public boolean isActive(LocalDate date) {
+		if (!inWindow(date, ACTIVITY_DAYS)) {
+			return false;
+		}
+		return readBits(activityBits, Math.floorMod(date.toEpochDay(), ACTIVITY_DAYS), 1) != 0;
+	}
+
+	/**
+	 * 기간 [from, to] 중 활동 달성 일수
+	 */
+	public int countActiveDays(LocalDate from, LocalDate to) {
+		int count = 0;
+		for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+			if (isActive(date)) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 해당 날짜 운동 완료율 (기록이 없으면 0, 기록은 있는데 완료율이 없으면 null)
+	 */
+	public Integer exerciseRate(LocalDate date) {
+		return rateOf(EXERCISE_OFFSET, date);
+	}
+
+	/**
+	 * 해당 날짜 복약 완료율 (기록이 없으면 0, 기록은 있는데 완료율이 없으면 null)
+	 */
+	public Integer medicationRate(LocalDate date) {
+		return rateOf(MEDICATION_OFFSET, date);
+	}
+
+	private Integer rateOf(int offset, LocalDate date) {
+		if (!inWindow(date, RATE_DAYS)) {
+			return 0;
+		}
+		int slot = Math.floorMod(date.toEpochDay(), RATE_DAYS);
+		int value = readBits(completionRates, offset + slot * RATE_BITS, RATE_BITS);
+		return value == NO_RATE ? null : value;
+	}
+
+	private boolean inWindow(LocalDate date, int days) {
+		long age = ChronoUnit.DAYS.between(date, historyEndDate);
+		return age >= 0 && age < days;
+	}
+
+	/**
+	 * [from, to] 날짜 칸 비우기 (링 버퍼에서 이전 주기의 값 제거)
+	 */
+	private void clearDays(LocalDate from, LocalDate to) {
+		long days = ChronoUnit.DAYS.between(from, to) + 1;
+		for (long i = 0; i < Math.min(days, ACTIVITY_DAYS); i++) {
+			writeBits(activityBits, Math.floorMod(from.toEpochDay() + i, ACTIVITY_DAYS), 1, 0);
+		}
+		for (long i = 0; i < Math.min(days, RATE_DAYS); i++) {
+			int slot = Math.floorMod(from.toEpochDay() + i, RATE_DAYS);
+			writeBits(completionRates, EXERCISE_OFFSET + slot * RATE_BITS, RATE_BITS, 0);
+			writeBits(completionRates, MEDICATION_OFFSET + slot * RATE_BITS, RATE_BITS, 0);
+		}
+	}
+
+	private static int toRateBits(Integer rate) {
+		if (rate == null) {
+			return NO_RATE;
+		}
+		return Math.max(0, Math.min(100, rate));
+	}
+
+	/**
+	 * bytes의 offset 비트부터 width비트 읽기 (하위 비트부터)
+	 */
+	private static int readBits(byte[] bytes, int offset, int width) {
+		int value = 0;
+		for (int i = 0; i < width; i++) {
+			int bit = offset + i;
+			if ((bytes[bit >> 3] & (1 << (bit & 7))) != 0) {
+				value |= 1 << i;
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * bytes의 offset 비트부터 width비트에 value 쓰기 (하위 비트부터)
+	 */
+	private static void writeBits(byte[] bytes, int offset, int width, int value) {
+		for (int i = 0; i < width; i++) {
+			int bit = offset + i;
+			if ((value & (1 << i)) != 0) {
+				bytes[bit >> 3] |= (byte) (1 << (bit & 7));
+			} else {
+				bytes[bit >> 3] &= (byte) ~(1 << (bit & 7));
+			}
+		}
+	}
+}
@@ -1,16 +1,19 @@
 package com.rehab.domain.entity;
 
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
-
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.base.BaseEntity;
+import com.rehab.domain.entity.converter.JsonColumnConverter;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -20,8 +23,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * AI 추론 로그
+ * 새 로그의 스냅샷은 ai_snapshot_blob에 압축해 두고 해시만 가진다. (input_snapshot/output_snapshot은 이전 로그용)
+ * 운영 DB는 created_at 기준 월별 파티션으로 관리한다. (db/ai_inference_log_partitioning.sql, AiInferenceLogRetentionJob)
+ * MySQL 파티션 테이블은 외래 키를 지원하지 않으므로 user_id 외래 키를 만들지 않는다.
+ */
 @Entity
-@Table(name = "ai_inference_log")
+@Table(name = "ai_inference_log", indexes = {
+    @Index(name = "idx_ai_log_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_ai_log_user_model_created", columnList = "user_id, model_key, created_at"),
+    @Index(name = "idx_ai_log_input_hash", columnList = "input_hash"),
+    @Index(name = "idx_ai_log_output_hash", columnList = "output_hash")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -34,7 +48,7 @@ public class AiInferenceLog extends BaseEntity {
     private Long inferenceLogId;
 
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "user_id", nullable = false)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
     @Column(name = "model_key", nullable = false)
@@ -43,18 +57,48 @@ public class AiInferenceLog extends BaseEntity {
     @Column(name = "model_version")
     private String modelVersion;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonColumnConverter.class)
     @Column(name = "input_snapshot", columnDefinition = "JSON")
-    private String inputSnapshot;
+    private JsonColumn inputSnapshot;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonColumnConverter.class)
     @Column(name = "output_snapshot", columnDefinition = "JSON")
-    private String outputSnapshot;
+    private JsonColumn outputSnapshot;
+
+    /**
+     * 입력 스냅샷 해시 (ai_snapshot_blob.content_hash)
+     */
+    @Column(name = "input_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String inputHash;
+
+    /**
+     * 출력 스냅샷 해시 (ai_snapshot_blob.content_hash)
+     */
+    @Column(name = "output_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String outputHash;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonColumnConverter.class)
     @Column(name = "knowledge_references", columnDefinition = "JSON")
-    private String knowledgeReferences;
+    private JsonColumn knowledgeReferences;
+
+    /**
+     * 지식 참조 수 (기록 시 계산, 목록 조회에서 JSON을 읽지 않도록)
+     */
+    @Column(name = "knowledge_reference_count")
+    private Integer knowledgeReferenceCount;
+
+    /**
+     * 입력 + 출력 스냅샷 원문 바이트 수 (압축 전)
+     */
+    @Column(name = "snapshot_bytes")
+    private Integer snapshotBytes;
 
     @Column(name = "latency_ms")
     private Integer latencyMs;
+
+    /**
+     * 캐시된 응답으로 처리한 요청 여부 (모델 미호출)
+     */
+    @Column(name = "cache_hit")
+    private Boolean cacheHit;
 }
@@ -0,0 +1,42 @@
+package com.rehab.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * AI 추론 스냅샷 원문 저장소 (deflate 압축, 내용 해시로 중복 제거)
+ * 추론 로그는 입력/출력 스냅샷의 해시만 가지고, 같은 내용은 한 행만 저장한다.
+ * 쓰기/조회는 JDBC로 직접 처리한다. (AiInferenceLogBulkRepository)
+ */
+@Entity
+@Table(name = "ai_snapshot_blob")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AiSnapshotBlob {
+
+    /**
+     * 원문 SHA-256 (16진 문자열)
+     */
+    @Id
+    @Column(name = "content_hash", length = 64, columnDefinition = "CHAR(64)")
+    private String contentHash;
+
+    @Column(name = "compressed_json", nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] compressedJson;
+
+    /**
+     * 압축 전 원문 바이트 수
+     */
+    @Column(name = "raw_size", nullable = false)
+    private Integer rawSize;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -1,10 +1,10 @@
 package com.rehab.domain.entity;
 
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.base.BaseEntity;
+import com.rehab.domain.entity.converter.JsonColumnConverter;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 import java.util.Map;
@@ -14,7 +14,8 @@ import java.util.Map;
  * 하루 단위 운동/복약 완료율, 통증 점수 등을 집계
  */
 @Entity
-@Table(name = "daily_summary")
+@Table(name = "daily_summary",
+	uniqueConstraints = @UniqueConstraint(name = "unique_user_date", columnNames = {"user_id", "date"}))
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -73,9 +74,9 @@ public class DailySummary extends BaseEntity {
 	 * 일일 메트릭스 (JSON)
 	 * 예: {"totalExercises": 3, "completedExercises": 3, "avgRpe": 5.0}
 	 */
-	@JdbcTypeCode(SqlTypes.JSON)
+	@Convert(converter = JsonColumnConverter.class)
 	@Column(name = "daily_metrics", columnDefinition = "json")
-	private String  dailyMetrics;
+	private JsonColumn dailyMetrics;
 
 	@Column(name = "all_diet_completed")
 	private Boolean allDietCompleted;
@@ -83,6 +84,38 @@ public class DailySummary extends BaseEntity {
 	@Column(name = "diet_completion_rate")
 	private Integer dietCompletionRate;
 
+	// === 증분 집계용 누적 컬럼 (NULL이면 재계산 전 레거시 행) ===
+
+	@Column(name = "total_exercises")
+	private Integer totalExercises;
+
+	@Column(name = "completed_exercises")
+	private Integer completedExercises;
+
+	@Column(name = "total_medications")
+	private Integer totalMedications;
+
+	@Column(name = "taken_medications")
+	private Integer takenMedications;
+
+	@Column(name = "total_diets")
+	private Integer totalDiets;
+
+	@Column(name = "completed_diets")
+	private Integer completedDiets;
+
+	@Column(name = "pain_sum")
+	private Integer painSum;
+
+	@Column(name = "pain_count")
+	private Integer painCount;
+
+	@Column(name = "rpe_sum")
+	private Integer rpeSum;
+
+	@Column(name = "rpe_count")
+	private Integer rpeCount;
+
 	// === 비즈니스 메서드 ===
 
 	/**
@@ -117,7 +150,7 @@ public class DailySummary extends BaseEntity {
 		Integer medicationCompletionRate,
 		Integer avgPainScore,
 		Integer totalDurationSec,
-		String dailyMetrics
+		JsonColumn dailyMetrics
 	) {
 		if (allExercisesCompleted != null) {
 			this.allExercisesCompleted = allExercisesCompleted;
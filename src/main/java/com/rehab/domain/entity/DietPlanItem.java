@@ -3,15 +3,15 @@ package com.rehab.domain.entity;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
-
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.base.BaseEntity;
+import com.rehab.domain.entity.converter.JsonColumnConverter;
 import com.rehab.domain.entity.enums.MealTime;
 import com.rehab.domain.entity.enums.PlanItemStatus;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -64,9 +64,9 @@ public class DietPlanItem extends BaseEntity {
 	@Column(name = "order_index")
 	private Integer orderIndex;
 
-	@JdbcTypeCode(SqlTypes.JSON)
+	@Convert(converter = JsonColumnConverter.class)
 	@Column(name = "recommendation_reason", columnDefinition = "JSON")
-	private String recommendationReason;
+	private JsonColumn recommendationReason;
 
 	// 연관관계
 	@OneToMany(mappedBy = "dietPlanItem", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -1,5 +1,6 @@
 package com.rehab.domain.entity;
 
+import com.rehab.common.util.GeoBoundingBox;
 import com.rehab.domain.entity.base.BaseEntity;
 import com.rehab.domain.entity.enums.FacilityType;
 import jakarta.persistence.*;
@@ -19,7 +20,8 @@ import java.util.Map;
 @Table(name = "exercise_facility", indexes = {
 	@Index(name = "idx_facility_type", columnList = "facility_type"),
 	@Index(name = "idx_facility_location", columnList = "latitude, longitude"),
-	@Index(name = "idx_facility_district", columnList = "district")
+	@Index(name = "idx_facility_district", columnList = "district"),
+	@Index(name = "idx_facility_external", columnList = "external_source, external_id")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -185,8 +187,6 @@ public class ExerciseFacility extends BaseEntity {
 	 * 두 좌표 간의 거리 계산 (Haversine 공식, 단위: km)
 	 */
 	public static double calculateDistance(Double lat1, Double lon1, Double lat2, Double lon2) {
-		final int EARTH_RADIUS_KM = 6371;
-
 		double dLat = Math.toRadians(lat2 - lat1);
 		double dLon = Math.toRadians(lon2 - lon1);
 
@@ -196,7 +196,7 @@ public class ExerciseFacility extends BaseEntity {
 
 		double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
 
-		return EARTH_RADIUS_KM * c;
+		return GeoBoundingBox.EARTH_RADIUS_KM * c;
 	}
 
 	/**
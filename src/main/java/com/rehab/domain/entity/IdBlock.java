@@ -0,0 +1,28 @@
+package com.rehab.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ID 블록 할당 테이블 (hi/lo)
+ * 애플리케이션이 INSERT 전에 ID를 미리 받아 쓰는 테이블마다 한 행을 두고, next_id를 블록 크기만큼 올려 구간을 할당한다.
+ * 할당은 JDBC로 직접 처리한다. (AiInferenceLogBulkRepository)
+ */
+@Entity
+@Table(name = "id_block")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdBlock {
+
+    @Id
+    @Column(name = "block_name", length = 100)
+    private String blockName;
+
+    @Column(name = "next_id", nullable = false)
+    private Long nextId;
+}
@@ -2,13 +2,13 @@ package com.rehab.domain.entity;
 
 import java.time.LocalDate;
 
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
-
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.base.BaseEntity;
+import com.rehab.domain.entity.converter.JsonColumnConverter;
 import com.rehab.domain.entity.enums.PlanItemStatus;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -59,7 +59,7 @@ public class MedicationPlanItem extends BaseEntity {
 	@Column(name = "end_date")
 	private LocalDate endDate;
 
-	@JdbcTypeCode(SqlTypes.JSON)
+	@Convert(converter = JsonColumnConverter.class)
 	@Column(name = "recommendation_reason", columnDefinition = "JSON")
-	private String recommendationReason;
+	private JsonColumn recommendationReason;
 }
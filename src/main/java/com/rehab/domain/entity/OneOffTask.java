@@ -0,0 +1,30 @@
+package com.rehab.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 한 번만 실행하는 작업(데이터 백필 등) 완료 기록
+ * 작업 이름마다 한 행이며, 행이 있으면 이미 끝난 작업이라 다시 실행하지 않는다.
+ * 읽기/쓰기는 JDBC로 직접 처리한다. (OneOffTaskRepository)
+ */
+@Entity
+@Table(name = "one_off_task")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OneOffTask {
+
+    @Id
+    @Column(name = "task_name", length = 100)
+    private String taskName;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
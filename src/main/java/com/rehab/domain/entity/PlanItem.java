@@ -3,15 +3,15 @@ package com.rehab.domain.entity;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.hibernate.annotations.JdbcTypeCode;
-import org.hibernate.type.SqlTypes;
-
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.base.BaseEntity;
+import com.rehab.domain.entity.converter.JsonColumnConverter;
 import com.rehab.domain.entity.enums.PlanItemStatus;
 import com.rehab.domain.entity.enums.RehabPhase;
 
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -57,17 +57,17 @@ public class PlanItem extends BaseEntity {
     @Column(name = "phase")
     private RehabPhase phase;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonColumnConverter.class)
     @Column(name = "dose", columnDefinition = "JSON")
-    private String dose;
+    private JsonColumn dose;
 
     @Enumerated(EnumType.STRING)
     @Column(name = "status")
     private PlanItemStatus status;
 
-    @JdbcTypeCode(SqlTypes.JSON)
+    @Convert(converter = JsonColumnConverter.class)
     @Column(name = "recommendation_reason", columnDefinition = "JSON")
-    private String recommendationReason;
+    private JsonColumn recommendationReason;
 
     // 연관관계
     @OneToMany(mappedBy = "planItem", cascade = CascadeType.ALL, orphanRemoval = true)
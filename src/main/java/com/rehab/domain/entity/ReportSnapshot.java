@@ -1,6 +1,7 @@
 package com.rehab.domain.entity;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 import org.hibernate.annotations.JdbcTypeCode;
@@ -17,9 +18,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +30,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "report_snapshot")
+@Table(name = "report_snapshot",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_report_snapshot_user_period_range", columnNames = {"user_id", "period", "range_start", "range_end"}),
+    indexes = {
+        @Index(name = "idx_report_snapshot_user_generated", columnList = "user_id, generated_at"),
+        @Index(name = "idx_report_snapshot_user_period_generated", columnList = "user_id, period, generated_at")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -51,6 +60,15 @@ public class ReportSnapshot extends BaseEntity {
     @Column(name = "covered_range", columnDefinition = "JSON", nullable = false)
     private String coveredRange;
 
+    /**
+     * 리포트 기간 시작/종료일 (covered_range와 같은 값, 조회 및 중복 방지용)
+     */
+    @Column(name = "range_start")
+    private LocalDate rangeStart;
+
+    @Column(name = "range_end")
+    private LocalDate rangeEnd;
+
     @JdbcTypeCode(SqlTypes.JSON)
     @Column(name = "metrics", columnDefinition = "JSON")
     private String metrics;
@@ -59,6 +77,18 @@ public class ReportSnapshot extends BaseEntity {
     @Column(name = "weekly_highlight", columnDefinition = "JSON")
     private String weeklyHighlight;
 
+    /**
+     * 하이라이트 문구와 지표 (조회 시 JSON 파싱 없이 바로 쓰는 컬럼)
+     */
+    @Column(name = "highlight_text")
+    private String highlightText;
+
+    @Column(name = "total_exercises")
+    private Integer totalExercises;
+
+    @Column(name = "avg_completion_rate")
+    private Integer avgCompletionRate;
+
     @Column(name = "recovery_prediction", precision = 5, scale = 2)
     private BigDecimal recoveryPrediction;
 
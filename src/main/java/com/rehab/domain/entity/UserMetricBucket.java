@@ -0,0 +1,85 @@
+package com.rehab.domain.entity;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일별 지표 버킷 (진행률 리포트용 사전 집계)
+ * - DailySummary가 바뀔 때 같은 트랜잭션에서 해당 날짜 버킷을 다시 채운다
+ * - 지표마다 합계와 건수만 가지므로 기간 통계는 버킷을 한 번 훑어 합산한다
+ * - PK가 (user_id, bucket_date)라 기간 조회는 PK 범위 스캔 한 번으로 끝난다
+ * 쓰기는 네이티브 SQL로 처리한다. (UserMetricBucketRepository)
+ */
+@Entity
+@Table(name = "user_metric_bucket")
+@IdClass(UserMetricBucket.BucketId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserMetricBucket {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Id
+	@Column(name = "bucket_date")
+	private LocalDate bucketDate;
+
+	/**
+	 * 운동 완료율 합계 / 건수
+	 */
+	@Column(name = "exercise_rate_sum", nullable = false)
+	private Integer exerciseRateSum;
+
+	@Column(name = "exercise_rate_count", nullable = false)
+	private Integer exerciseRateCount;
+
+	/**
+	 * 운동 시간 합계 (초)
+	 */
+	@Column(name = "duration_sec_sum", nullable = false)
+	private Integer durationSecSum;
+
+	/**
+	 * 복약 완료율 합계 / 건수
+	 */
+	@Column(name = "medication_rate_sum", nullable = false)
+	private Integer medicationRateSum;
+
+	@Column(name = "medication_rate_count", nullable = false)
+	private Integer medicationRateCount;
+
+	/**
+	 * 평균 통증 점수 합계 / 건수
+	 */
+	@Column(name = "pain_score_sum", nullable = false)
+	private Integer painScoreSum;
+
+	@Column(name = "pain_score_count", nullable = false)
+	private Integer painScoreCount;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@EqualsAndHashCode
+	public static class BucketId implements Serializable {
+
+		private Long userId;
+		private LocalDate bucketDate;
+	}
+}
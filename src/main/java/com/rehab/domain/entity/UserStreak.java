@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import java.time.LocalDate;
 
 import com.rehab.domain.entity.base.BaseEntity;
@@ -15,8 +17,10 @@ import com.rehab.domain.entity.base.BaseEntity;
  * - 사용자당 1개 레코드 (스냅샷 데이터)
  * - 매일 DailySummary 확정 시 업데이트
  * - 홈 화면 조회 시 즉시 반환용
+ * 바뀐 컬럼만 UPDATE해서 이력 컬럼만 갱신하는 백필(ActivityHistoryBulkRepository)과 서로 덮어쓰지 않는다.
  */
 @Entity
+@DynamicUpdate
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "user_streak", indexes = {
@@ -51,6 +55,13 @@ public class UserStreak extends BaseEntity {
 	@Column(nullable = false)
 	private LocalDate lastActiveDate;
 
+	/**
+	 * 일별 활동 이력 비트맵 (최근 366일 달성 여부 + 최근 30일 완료율)
+	 * - 컬럼이 모두 비어 있으면(이력 생성 전) null
+	 */
+	@Embedded
+	private ActivityHistory activityHistory;
+
 	@Builder
 	public UserStreak(User user, Integer currentStreak, Integer maxStreak, LocalDate lastActiveDate) {
 		this.user = user;
@@ -61,14 +72,33 @@ public class UserStreak extends BaseEntity {
 
 	/**
 	 * 신규 사용자용 초기 Streak 생성
+	 * @param activityHistory 활동 이력 (null이면 이력 없이 생성)
 	 */
-	public static UserStreak createInitial(User user) {
-		return UserStreak.builder()
+	public static UserStreak createInitial(User user, ActivityHistory activityHistory) {
+		UserStreak streak = UserStreak.builder()
 			.user(user)
 			.currentStreak(0)
 			.maxStreak(0)
 			.lastActiveDate(LocalDate.now())
 			.build();
+		streak.activityHistory = activityHistory;
+		return streak;
+	}
+
+	/**
+	 * 활동 이력 존재 여부 (없으면 ActivityHistoryBackfill이 DailySummary로 만들어 둠)
+	 */
+	public boolean hasActivityHistory() {
+		return this.activityHistory != null && this.activityHistory.isInitialized();
+	}
+
+	/**
+	 * 하루 활동 이력 기록 (이력 생성 전이면 백필에 맡기고 건너뜀)
+	 */
+	public void recordActivity(LocalDate date, boolean active, Integer exerciseRate, Integer medicationRate) {
+		if (hasActivityHistory()) {
+			this.activityHistory.record(date, active, exerciseRate, medicationRate);
+		}
 	}
 
 	/**
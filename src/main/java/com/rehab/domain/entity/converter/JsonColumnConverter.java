@@ -0,0 +1,28 @@
+package com.rehab.domain.entity.converter;
+
+import org.hibernate.annotations.Immutable;
+
+import com.rehab.common.json.JsonColumn;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JSON 컬럼 ↔ JsonColumn 변환기
+ * 로드 시에는 원문만 감싸고 파싱은 JsonColumn.node()를 처음 호출할 때 한 번 한다.
+ * JsonColumn이 불변이라 @Immutable로 지정해 Hibernate가 스냅샷 복사 없이 equals로만 변경을 감지하게 한다.
+ */
+@Immutable
+@Converter
+public class JsonColumnConverter implements AttributeConverter<JsonColumn, String> {
+
+	@Override
+	public String convertToDatabaseColumn(JsonColumn attribute) {
+		return JsonColumn.rawOf(attribute);
+	}
+
+	@Override
+	public JsonColumn convertToEntityAttribute(String dbData) {
+		return JsonColumn.of(dbData);
+	}
+}
@@ -0,0 +1,212 @@
+package com.rehab.domain.repository.ai;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.rehab.common.json.CompressedJson;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 추론 로그 쓰기 Repository (JDBC 배치)
+ * 추론 로그는 쓰기 지연 버퍼(AiInferenceLogWriter)를 거쳐 미리 할당한 ID로 일괄 INSERT한다.
+ * INSERT IGNORE라서 같은 로그를 다시 넣어도(저널 재처리) 중복되지 않는다.
+ * 스냅샷은 해시로 중복을 걸러 ai_snapshot_blob에 압축 저장하고, 로그에는 해시만 남긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiInferenceLogBulkRepository {
+
+	private static final String BLOCK_NAME = "ai_inference_log";
+
+	private static final String SELECT_NEXT_ID =
+		"SELECT next_id FROM id_block WHERE block_name = :blockName FOR UPDATE";
+
+	private static final String SEED_BLOCK = """
+		INSERT IGNORE INTO id_block (block_name, next_id)
+		SELECT :blockName, COALESCE(MAX(inference_log_id), 0) + 1 FROM ai_inference_log
+		""";
+
+	private static final String UPDATE_NEXT_ID = "UPDATE id_block SET next_id = :nextId WHERE block_name = :blockName";
+
+	private static final String INSERT_LOG = """
+		INSERT IGNORE INTO ai_inference_log (
+			inference_log_id, user_id, model_key, model_version, input_hash, output_hash,
+			knowledge_references, knowledge_reference_count, snapshot_bytes, latency_ms, cache_hit,
+			created_at, updated_at
+		) VALUES (
+			:inferenceLogId, :userId, :modelKey, :modelVersion, :inputHash, :outputHash,
+			:knowledgeReferences, :knowledgeReferenceCount, :snapshotBytes, :latencyMs, :cacheHit,
+			:createdAt, :createdAt
+		)
+		""";
+
+	// 공유 잠금: 트랜잭션이 끝날 때까지 보존 기간 정리(AiInferenceLogRetentionJob)가 지우지 못하게 한다
+	private static final String SELECT_EXISTING_HASHES =
+		"SELECT content_hash FROM ai_snapshot_blob WHERE content_hash IN (:hashes) FOR SHARE";
+
+	private static final String INSERT_SNAPSHOT = """
+		INSERT IGNORE INTO ai_snapshot_blob (content_hash, compressed_json, raw_size, created_at)
+		VALUES (:contentHash, :compressedJson, :rawSize, :createdAt)
+		""";
+
+	private static final String SELECT_SNAPSHOT =
+		"SELECT compressed_json FROM ai_snapshot_blob WHERE content_hash = :hash";
+
+	private static final String SELECT_SNAPSHOTS =
+		"SELECT content_hash, compressed_json FROM ai_snapshot_blob WHERE content_hash IN (:hashes)";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 추론 로그 ID 구간 할당 [시작, 시작 + size)
+	 * 호출 측 트랜잭션 안에서 행 잠금으로 직렬화되며, 행이 없으면 기존 로그의 최대 ID 다음부터 시작한다.
+	 */
+	public long allocateIdBlock(int size) {
+		MapSqlParameterSource params = new MapSqlParameterSource("blockName", BLOCK_NAME);
+
+		List<Long> current = jdbcTemplate.queryForList(SELECT_NEXT_ID, params, Long.class);
+		if (current.isEmpty()) {
+			jdbcTemplate.update(SEED_BLOCK, params);
+			current = jdbcTemplate.queryForList(SELECT_NEXT_ID, params, Long.class);
+		}
+
+		long start = current.get(0);
+		jdbcTemplate.update(UPDATE_NEXT_ID, params.addValue("nextId", start + size));
+		return start;
+	}
+
+	/**
+	 * 추론 로그 일괄 등록 (이미 있는 ID는 무시)
+	 * 스냅샷은 아직 저장되지 않은 내용만 압축해서 먼저 넣는다.
+	 */
+	public void insertLogs(List<LogRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		Map<String, String> snapshots = new LinkedHashMap<>();
+		SqlParameterSource[] params = rows.stream()
+			.map(row -> new MapSqlParameterSource()
+				.addValue("inferenceLogId", row.inferenceLogId())
+				.addValue("userId", row.userId())
+				.addValue("modelKey", row.modelKey())
+				.addValue("modelVersion", row.modelVersion())
+				.addValue("inputHash", hashOf(row.inputSnapshot(), snapshots))
+				.addValue("outputHash", hashOf(row.outputSnapshot(), snapshots))
+				.addValue("knowledgeReferences", row.knowledgeReferences())
+				.addValue("knowledgeReferenceCount", row.knowledgeReferenceCount())
+				.addValue("snapshotBytes", row.snapshotBytes())
+				.addValue("latencyMs", row.latencyMs())
+				.addValue("cacheHit", row.cacheHit())
+				.addValue("createdAt", Timestamp.valueOf(row.createdAt())))
+			.toArray(SqlParameterSource[]::new);
+
+		insertSnapshots(snapshots);
+		jdbcTemplate.batchUpdate(INSERT_LOG, params);
+	}
+
+	/**
+	 * 해시로 스냅샷 원문 조회 (압축 해제, 없는 해시는 결과에서 빠짐)
+	 */
+	public Map<String, String> findSnapshots(Collection<String> hashes) {
+		Map<String, String> snapshots = new HashMap<>();
+		if (hashes.isEmpty()) {
+			return snapshots;
+		}
+
+		jdbcTemplate.query(SELECT_SNAPSHOTS, new MapSqlParameterSource("hashes", hashes),
+			rs -> {
+				snapshots.put(rs.getString("content_hash"), CompressedJson.decompress(rs.getBytes("compressed_json")));
+			});
+		return snapshots;
+	}
+
+	/**
+	 * 스냅샷 원문 바이트를 압축 해제하면서 그대로 output에 복사 (문자열/JSON 트리로 만들지 않음)
+	 *
+	 * @return 스냅샷이 있어 복사했으면 true
+	 */
+	public boolean copySnapshot(String hash, OutputStream output) {
+		Boolean copied = jdbcTemplate.query(SELECT_SNAPSHOT, new MapSqlParameterSource("hash", hash), rs -> {
+			if (!rs.next()) {
+				return false;
+			}
+			try (InputStream snapshot = CompressedJson.decompressing(rs.getBinaryStream("compressed_json"))) {
+				snapshot.transferTo(output);
+			} catch (IOException e) {
+				throw new UncheckedIOException("스냅샷 전송 실패 - hash: " + hash, e);
+			}
+			return true;
+		});
+		return Boolean.TRUE.equals(copied);
+	}
+
+	private String hashOf(String snapshot, Map<String, String> snapshots) {
+		if (snapshot == null) {
+			return null;
+		}
+		String hash = CompressedJson.hash(snapshot);
+		snapshots.putIfAbsent(hash, snapshot);
+		return hash;
+	}
+
+	private void insertSnapshots(Map<String, String> snapshots) {
+		if (snapshots.isEmpty()) {
+			return;
+		}
+
+		Set<String> existing = new HashSet<>(jdbcTemplate.queryForList(
+			SELECT_EXISTING_HASHES, new MapSqlParameterSource("hashes", snapshots.keySet()), String.class));
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		SqlParameterSource[] params = snapshots.entrySet().stream()
+			.filter(entry -> !existing.contains(entry.getKey()))
+			.map(entry -> new MapSqlParameterSource()
+				.addValue("contentHash", entry.getKey())
+				.addValue("compressedJson", CompressedJson.compress(entry.getValue()))
+				.addValue("rawSize", entry.getValue().getBytes(StandardCharsets.UTF_8).length)
+				.addValue("createdAt", now))
+			.toArray(SqlParameterSource[]::new);
+
+		if (params.length > 0) {
+			jdbcTemplate.batchUpdate(INSERT_SNAPSHOT, params);
+		}
+	}
+
+	/**
+	 * 추론 로그 행 (스냅샷은 JSON 문자열)
+	 */
+	public record LogRow(
+		Long inferenceLogId,
+		Long userId,
+		String modelKey,
+		String modelVersion,
+		String inputSnapshot,
+		String outputSnapshot,
+		String knowledgeReferences,
+		Integer knowledgeReferenceCount,
+		Integer snapshotBytes,
+		Integer latencyMs,
+		Boolean cacheHit,
+		LocalDateTime createdAt
+	) {
+	}
+}
@@ -1,7 +1,6 @@
 package com.rehab.domain.repository.ai;
 
 import com.rehab.domain.entity.AiInferenceLog;
-import com.rehab.domain.entity.User;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * AI 추론 로그 Repository
@@ -17,18 +17,38 @@ import java.util.List;
 public interface AiInferenceLogRepository extends JpaRepository<AiInferenceLog, Long> {
 
 	/**
-	 * 사용자별 AI 추론 로그 조회
+	 * 사용자별 AI 추론 로그 ID 조회 (최신순)
+	 * (user_id, created_at) 인덱스만 읽는다. 로그 본문은 ID로 따로 조회한다.
 	 */
-	@Query("SELECT a FROM AiInferenceLog a WHERE a.user = :user ORDER BY a.createdAt DESC")
-	List<AiInferenceLog> findByUser(@Param("user") User user, Pageable pageable);
+	@Query("SELECT a.inferenceLogId FROM AiInferenceLog a WHERE a.user.userId = :userId "
+		+ "ORDER BY a.createdAt DESC, a.inferenceLogId DESC")
+	List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
 
 	/**
-	 * 사용자 및 모델 키로 AI 추론 로그 조회
+	 * 사용자 및 모델 키로 AI 추론 로그 ID 조회 (최신순)
+	 * (user_id, model_key, created_at) 인덱스만 읽는다.
 	 */
-	@Query("SELECT a FROM AiInferenceLog a WHERE a.user = :user AND a.modelKey = :modelKey ORDER BY a.createdAt DESC")
-	List<AiInferenceLog> findByUserAndModelKey(
-		@Param("user") User user,
+	@Query("SELECT a.inferenceLogId FROM AiInferenceLog a WHERE a.user.userId = :userId AND a.modelKey = :modelKey "
+		+ "ORDER BY a.createdAt DESC, a.inferenceLogId DESC")
+	List<Long> findIdsByUserIdAndModelKey(
+		@Param("userId") Long userId,
 		@Param("modelKey") String modelKey,
 		Pageable pageable
 	);
+
+	/**
+	 * 로그 ID로 요약 필드만 조회 (순서 보장 안 됨)
+	 */
+	@Query("SELECT a.inferenceLogId AS inferenceLogId, a.user.userId AS userId, a.modelKey AS modelKey, "
+		+ "a.modelVersion AS modelVersion, a.latencyMs AS latencyMs, "
+		+ "a.knowledgeReferenceCount AS knowledgeReferenceCount, a.snapshotBytes AS snapshotBytes, "
+		+ "a.cacheHit AS cacheHit, a.createdAt AS createdAt "
+		+ "FROM AiInferenceLog a WHERE a.inferenceLogId IN :ids")
+	List<AiInferenceLogSummary> findSummariesByIdIn(@Param("ids") List<Long> ids);
+
+	/**
+	 * 사용자 소유 로그 조회 (상세 조회 권한 확인용)
+	 */
+	@Query("SELECT a FROM AiInferenceLog a WHERE a.inferenceLogId = :logId AND a.user.userId = :userId")
+	Optional<AiInferenceLog> findByIdAndUserId(@Param("logId") Long logId, @Param("userId") Long userId);
 }
@@ -0,0 +1,209 @@
+package com.rehab.domain.repository.ai;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.rehab.common.json.CompressedJson;
+import com.rehab.common.json.JsonColumn;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * AI 추론 로그 보존 기간 관리 Repository (JDBC)
+ * 월별 파티션 조회/추가/삭제, 파티션이 없는 테이블의 구간 삭제, 참조가 끊긴 스냅샷 정리를 담당한다.
+ * 파티션 이름은 information_schema에서 읽은 값만 SQL에 넣는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AiInferenceLogRetentionRepository {
+
+	private static final Pattern PARTITION_NAME = Pattern.compile("[A-Za-z0-9_]+");
+	private static final String MAXVALUE = "MAXVALUE";
+
+	private static final String SELECT_PARTITIONS = """
+		SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+		FROM information_schema.PARTITIONS
+		WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'ai_inference_log' AND PARTITION_NAME IS NOT NULL
+		ORDER BY PARTITION_ORDINAL_POSITION
+		""";
+
+	private static final String ADD_PARTITION = """
+		ALTER TABLE ai_inference_log REORGANIZE PARTITION %1$s INTO (
+			PARTITION %2$s VALUES LESS THAN ('%3$s'),
+			PARTITION %1$s VALUES LESS THAN (MAXVALUE)
+		)
+		""";
+
+	private static final String DROP_PARTITION = "ALTER TABLE ai_inference_log DROP PARTITION %s";
+
+	private static final String SELECT_LOGS = """
+		SELECT l.inference_log_id, l.user_id, l.model_key, l.model_version,
+			l.input_snapshot, l.output_snapshot, bi.compressed_json AS input_blob, bo.compressed_json AS output_blob,
+			l.knowledge_references, l.latency_ms, l.cache_hit, l.created_at
+		FROM ai_inference_log %s l
+		LEFT JOIN ai_snapshot_blob bi ON bi.content_hash = l.input_hash
+		LEFT JOIN ai_snapshot_blob bo ON bo.content_hash = l.output_hash
+		WHERE l.created_at < :cutoff AND l.inference_log_id > :lastId
+		ORDER BY l.inference_log_id
+		LIMIT :limit
+		""";
+
+	private static final String DELETE_LOGS_BY_ID = "DELETE FROM ai_inference_log WHERE inference_log_id IN (:ids)";
+
+	private static final String DELETE_LOGS_BEFORE = """
+		DELETE FROM ai_inference_log
+		WHERE created_at < :cutoff
+		ORDER BY inference_log_id
+		LIMIT :limit
+		""";
+
+	private static final String SELECT_BLOB_CANDIDATES = """
+		SELECT content_hash FROM ai_snapshot_blob
+		WHERE content_hash > :lastHash AND created_at < :cutoff
+		ORDER BY content_hash
+		LIMIT :limit
+		""";
+
+	private static final String DELETE_UNREFERENCED_BLOBS = """
+		DELETE FROM ai_snapshot_blob
+		WHERE content_hash IN (:hashes)
+			AND NOT EXISTS (SELECT 1 FROM ai_inference_log l WHERE l.input_hash = ai_snapshot_blob.content_hash)
+			AND NOT EXISTS (SELECT 1 FROM ai_inference_log l WHERE l.output_hash = ai_snapshot_blob.content_hash)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 월별 파티션 목록 (정의 순서, 파티션이 없는 테이블이면 빈 목록)
+	 */
+	public List<Partition> findPartitions() {
+		return jdbcTemplate.query(SELECT_PARTITIONS, (rs, rowNum) -> {
+			String description = rs.getString("PARTITION_DESCRIPTION");
+			LocalDate upperBound = MAXVALUE.equalsIgnoreCase(description)
+				? null
+				: LocalDate.parse(description.replace("'", "").substring(0, 10));
+			return new Partition(rs.getString("PARTITION_NAME"), upperBound);
+		});
+	}
+
+	/**
+	 * MAXVALUE 파티션 앞에 [이전 상한, upperBound) 구간 파티션 추가
+	 * MAXVALUE 파티션이 비어 있을 때만 빠르다. (미리 만들어 두는 이유)
+	 */
+	public void addPartition(String maxPartition, String name, LocalDate upperBound) {
+		jdbcTemplate.getJdbcTemplate().execute(
+			ADD_PARTITION.formatted(checkName(maxPartition), checkName(name), upperBound));
+	}
+
+	public void dropPartition(String name) {
+		jdbcTemplate.getJdbcTemplate().execute(DROP_PARTITION.formatted(checkName(name)));
+	}
+
+	/**
+	 * cutoff 이전 로그를 ID 순으로 조회 (스냅샷은 압축 해제한 원문)
+	 *
+	 * @param partition 특정 파티션만 읽을 때 이름 (null이면 테이블 전체)
+	 */
+	public List<ArchivedLog> findLogsBefore(String partition, LocalDateTime cutoff, long lastId, int limit) {
+		String from = partition != null ? "PARTITION (" + checkName(partition) + ")" : "";
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("cutoff", Timestamp.valueOf(cutoff))
+			.addValue("lastId", lastId)
+			.addValue("limit", limit);
+		return jdbcTemplate.query(SELECT_LOGS.formatted(from), params, (rs, rowNum) -> toArchivedLog(rs));
+	}
+
+	public int deleteLogs(List<Long> ids) {
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		return jdbcTemplate.update(DELETE_LOGS_BY_ID, new MapSqlParameterSource("ids", ids));
+	}
+
+	/**
+	 * cutoff 이전 로그를 오래된 순으로 limit개까지 삭제
+	 */
+	public int deleteLogsBefore(LocalDateTime cutoff, int limit) {
+		return jdbcTemplate.update(DELETE_LOGS_BEFORE, new MapSqlParameterSource()
+			.addValue("cutoff", Timestamp.valueOf(cutoff))
+			.addValue("limit", limit));
+	}
+
+	/**
+	 * cutoff 이전에 저장된 스냅샷 해시 (정리 후보, 해시 순)
+	 */
+	public List<String> findSnapshotHashesBefore(LocalDateTime cutoff, String lastHash, int limit) {
+		return jdbcTemplate.queryForList(SELECT_BLOB_CANDIDATES, new MapSqlParameterSource()
+			.addValue("cutoff", Timestamp.valueOf(cutoff))
+			.addValue("lastHash", lastHash)
+			.addValue("limit", limit), String.class);
+	}
+
+	/**
+	 * 어떤 로그도 참조하지 않는 스냅샷만 삭제
+	 */
+	public int deleteUnreferencedSnapshots(List<String> hashes) {
+		if (hashes.isEmpty()) {
+			return 0;
+		}
+		return jdbcTemplate.update(DELETE_UNREFERENCED_BLOBS, new MapSqlParameterSource("hashes", hashes));
+	}
+
+	private ArchivedLog toArchivedLog(ResultSet rs) throws SQLException {
+		return new ArchivedLog(
+			rs.getLong("inference_log_id"),
+			rs.getLong("user_id"),
+			rs.getString("model_key"),
+			rs.getString("model_version"),
+			snapshotOf(rs.getBytes("input_blob"), rs.getString("input_snapshot")),
+			snapshotOf(rs.getBytes("output_blob"), rs.getString("output_snapshot")),
+			JsonColumn.of(rs.getString("knowledge_references")),
+			rs.getObject("latency_ms", Integer.class),
+			rs.getObject("cache_hit", Boolean.class),
+			rs.getTimestamp("created_at").toLocalDateTime()
+		);
+	}
+
+	private JsonColumn snapshotOf(byte[] compressed, String legacySnapshot) {
+		return JsonColumn.of(compressed != null ? CompressedJson.decompress(compressed) : legacySnapshot);
+	}
+
+	private String checkName(String name) {
+		if (!PARTITION_NAME.matcher(name).matches()) {
+			throw new IllegalArgumentException("잘못된 파티션 이름입니다: " + name);
+		}
+		return name;
+	}
+
+	/**
+	 * 파티션 (upperBound: VALUES LESS THAN 값, MAXVALUE면 null)
+	 */
+	public record Partition(String name, LocalDate upperBound) {
+	}
+
+	/**
+	 * 보관 파일에 쓰는 추론 로그 (스냅샷은 원문)
+	 */
+	public record ArchivedLog(
+		Long inferenceLogId,
+		Long userId,
+		String modelKey,
+		String modelVersion,
+		JsonColumn inputSnapshot,
+		JsonColumn outputSnapshot,
+		JsonColumn knowledgeReferences,
+		Integer latencyMs,
+		Boolean cacheHit,
+		LocalDateTime createdAt
+	) {
+	}
+}
@@ -0,0 +1,27 @@
+package com.rehab.domain.repository.ai;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 추론 로그 요약 프로젝션 (스냅샷/참조 JSON 컬럼은 읽지 않음)
+ */
+public interface AiInferenceLogSummary {
+
+	Long getInferenceLogId();
+
+	Long getUserId();
+
+	String getModelKey();
+
+	String getModelVersion();
+
+	Integer getLatencyMs();
+
+	Integer getKnowledgeReferenceCount();
+
+	Integer getSnapshotBytes();
+
+	Boolean getCacheHit();
+
+	LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,49 @@
+package com.rehab.domain.repository.common;
+
+import java.sql.ResultSet;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * MySQL 이름 잠금 Repository (GET_LOCK / RELEASE_LOCK)
+ * 여러 인스턴스에서 도는 배치/백필을 한 곳에서만 실행할 때 쓴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NamedLockRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * MySQL 이름 잠금을 잡은 동안만 작업 실행 (여러 인스턴스 중 한 곳만 실행)
+	 * 잠금은 커넥션에 묶이므로 잠금용 커넥션 하나를 작업이 끝날 때까지 붙잡아 둔다.
+	 *
+	 * @return 잠금을 얻어 실행했으면 true
+	 */
+	public boolean runExclusively(String lockName, Runnable work) {
+		Boolean executed = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+			try (var lock = connection.prepareStatement("SELECT GET_LOCK(?, 0)")) {
+				lock.setString(1, lockName);
+				try (ResultSet rs = lock.executeQuery()) {
+					if (!rs.next() || rs.getInt(1) != 1) {
+						return false;
+					}
+				}
+			}
+			try {
+				work.run();
+				return true;
+			} finally {
+				try (var release = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+					release.setString(1, lockName);
+					release.execute();
+				}
+			}
+		});
+		return Boolean.TRUE.equals(executed);
+	}
+}
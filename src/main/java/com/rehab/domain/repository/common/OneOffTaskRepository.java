@@ -0,0 +1,40 @@
+package com.rehab.domain.repository.common;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 한 번만 실행하는 작업 완료 기록 Repository (JDBC)
+ */
+@Repository
+@RequiredArgsConstructor
+public class OneOffTaskRepository {
+
+	private static final String EXISTS_TASK =
+		"SELECT COUNT(*) FROM one_off_task WHERE task_name = :taskName";
+
+	private static final String INSERT_TASK = """
+		INSERT IGNORE INTO one_off_task (task_name, completed_at)
+		VALUES (:taskName, :completedAt)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public boolean isCompleted(String taskName) {
+		Integer count = jdbcTemplate.queryForObject(
+			EXISTS_TASK, new MapSqlParameterSource("taskName", taskName), Integer.class);
+		return count != null && count > 0;
+	}
+
+	public void markCompleted(String taskName) {
+		jdbcTemplate.update(INSERT_TASK, new MapSqlParameterSource()
+			.addValue("taskName", taskName)
+			.addValue("completedAt", Timestamp.valueOf(LocalDateTime.now())));
+	}
+}
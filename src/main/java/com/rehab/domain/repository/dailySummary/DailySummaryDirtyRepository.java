@@ -0,0 +1,86 @@
+package com.rehab.domain.repository.dailySummary;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일일 요약 갱신 필요 표시 Repository (JDBC)
+ * 로그 트랜잭션 안에서 (userId, date)를 표시해 두고, 메모리에만 있던 증분이 유실되어도
+ * DailySummaryUpdatePipeline의 정합성 점검이 표시된 날짜를 전체 재계산한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailySummaryDirtyRepository {
+
+	private static final String MARK = """
+		INSERT INTO daily_summary_dirty (user_id, date, marked_at)
+		VALUES (:userId, :date, :markedAt)
+		ON DUPLICATE KEY UPDATE marked_at = GREATEST(marked_at, VALUES(marked_at))
+		""";
+
+	private static final String FIND_MARKED_BEFORE = """
+		SELECT user_id, date, marked_at FROM daily_summary_dirty
+		WHERE marked_at < :before
+		ORDER BY marked_at
+		LIMIT :limit
+		""";
+
+	private static final String CLEAR = """
+		DELETE FROM daily_summary_dirty
+		WHERE user_id = :userId AND date = :date AND marked_at <= :markedAt
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 갱신 필요 표시 (이미 있으면 표시 시각만 늦춤)
+	 */
+	public void mark(Long userId, LocalDate date, LocalDateTime markedAt) {
+		jdbcTemplate.update(MARK, keyParams(userId, date).addValue("markedAt", Timestamp.valueOf(markedAt)));
+	}
+
+	/**
+	 * before 이전에 마지막으로 표시된 항목 (오래된 순)
+	 */
+	public List<DirtyRow> findMarkedBefore(LocalDateTime before, int limit) {
+		MapSqlParameterSource params = new MapSqlParameterSource()
+			.addValue("before", Timestamp.valueOf(before))
+			.addValue("limit", limit);
+		return jdbcTemplate.query(FIND_MARKED_BEFORE, params, (rs, rowNum) -> new DirtyRow(
+			rs.getLong("user_id"),
+			rs.getDate("date").toLocalDate(),
+			rs.getTimestamp("marked_at").toLocalDateTime()));
+	}
+
+	/**
+	 * 재계산한 표시 제거 (그 뒤에 다시 표시된 항목은 남김)
+	 */
+	public void clear(Long userId, LocalDate date, LocalDateTime markedAt) {
+		jdbcTemplate.update(CLEAR, keyParams(userId, date).addValue("markedAt", Timestamp.valueOf(markedAt)));
+	}
+
+	private static MapSqlParameterSource keyParams(Long userId, LocalDate date) {
+		return new MapSqlParameterSource()
+			.addValue("userId", userId)
+			.addValue("date", Date.valueOf(date));
+	}
+
+	/**
+	 * 갱신 필요 표시 한 건
+	 */
+	public record DirtyRow(
+		Long userId,
+		LocalDate date,
+		LocalDateTime markedAt
+	) {
+	}
+}
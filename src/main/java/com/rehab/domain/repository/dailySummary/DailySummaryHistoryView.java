@@ -0,0 +1,17 @@
+package com.rehab.domain.repository.dailySummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일일 요약 활동 이력 프로젝션 (활동 이력 비트맵 백필용)
+ */
+public interface DailySummaryHistoryView {
+
+	Long getUserId();
+
+	LocalDateTime getDate();
+
+	Integer getExerciseCompletionRate();
+
+	Integer getMedicationCompletionRate();
+}
@@ -0,0 +1,11 @@
+package com.rehab.domain.repository.dailySummary;
+
+/**
+ * 일일 요약 완료율 프로젝션
+ */
+public interface DailySummaryRateView {
+
+	Integer getExerciseCompletionRate();
+
+	Integer getMedicationCompletionRate();
+}
@@ -2,11 +2,13 @@ package com.rehab.domain.repository.dailySummary;
 
 import com.rehab.domain.entity.DailySummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -55,11 +57,73 @@ public interface DailySummaryRepository extends JpaRepository<DailySummary, Long
 		@Param("startDate") LocalDateTime startDate,
 		@Param("endDate") LocalDateTime endDate
 	);
-}
-
-
-
-
 
+	/**
+	 * 로그 증분을 누적 컬럼에 반영하고 완료율/평균을 다시 계산 (단일 UPDATE)
+	 * MySQL 단일 테이블 UPDATE는 SET 절을 왼쪽부터 평가하므로 뒤쪽 식은 갱신된 누적값을 사용한다.
+	 * 누적 컬럼이 비어 있는 레거시 행은 갱신하지 않는다 (0 반환 → 전체 재계산 필요).
+	 */
+	@Modifying
+	@Query(value = "UPDATE daily_summary SET " +
+		"completed_exercises = completed_exercises + :completedExercises, " +
+		"taken_medications = taken_medications + :takenMedications, " +
+		"completed_diets = completed_diets + :completedDiets, " +
+		"total_duration_sec = total_duration_sec + :durationSec, " +
+		"pain_sum = pain_sum + :painSum, " +
+		"pain_count = pain_count + :painCount, " +
+		"rpe_sum = rpe_sum + :rpeSum, " +
+		"rpe_count = rpe_count + :rpeCount, " +
+		"exercise_completion_rate = IF(total_exercises > 0, completed_exercises * 100 DIV total_exercises, 0), " +
+		"all_exercises_completed = completed_exercises >= total_exercises, " +
+		"medication_completion_rate = IF(total_medications > 0, taken_medications * 100 DIV total_medications, 0), " +
+		"all_medications_taken = taken_medications >= total_medications, " +
+		"diet_completion_rate = IF(total_diets > 0, completed_diets * 100 DIV total_diets, 0), " +
+		"all_diet_completed = completed_diets >= total_diets, " +
+		"avg_pain_score = IF(pain_count > 0, ROUND(pain_sum / pain_count), 0), " +
+		"daily_metrics = JSON_SET(COALESCE(daily_metrics, JSON_OBJECT()), " +
+		"'$.completedExercises', completed_exercises, " +
+		"'$.takenMedications', taken_medications, " +
+		"'$.completedDiets', completed_diets, " +
+		"'$.avgRpe', IF(rpe_count > 0, ROUND(rpe_sum / rpe_count, 1), 0.0)), " +
+		"updated_at = NOW() " +
+		"WHERE user_id = :userId AND date = :date AND completed_exercises IS NOT NULL",
+		nativeQuery = true)
+	int applyDelta(
+		@Param("userId") Long userId,
+		@Param("date") LocalDateTime date,
+		@Param("completedExercises") int completedExercises,
+		@Param("takenMedications") int takenMedications,
+		@Param("completedDiets") int completedDiets,
+		@Param("durationSec") int durationSec,
+		@Param("painSum") int painSum,
+		@Param("painCount") int painCount,
+		@Param("rpeSum") int rpeSum,
+		@Param("rpeCount") int rpeCount
+	);
 
+	/**
+	 * 특정 날짜의 운동/복약 완료율만 조회 (Streak 갱신용)
+	 */
+	@Query("SELECT ds.exerciseCompletionRate AS exerciseCompletionRate, " +
+		"ds.medicationCompletionRate AS medicationCompletionRate " +
+		"FROM DailySummary ds " +
+		"WHERE ds.user.userId = :userId AND ds.date = :date")
+	Optional<DailySummaryRateView> findRatesByUserIdAndDate(
+		@Param("userId") Long userId,
+		@Param("date") LocalDateTime date
+	);
 
+	/**
+	 * 여러 사용자의 기간 완료율 조회 (활동 이력 비트맵 백필용)
+	 */
+	@Query("SELECT ds.user.userId AS userId, ds.date AS date, " +
+		"ds.exerciseCompletionRate AS exerciseCompletionRate, " +
+		"ds.medicationCompletionRate AS medicationCompletionRate " +
+		"FROM DailySummary ds " +
+		"WHERE ds.user.userId IN :userIds AND ds.date BETWEEN :startDate AND :endDate")
+	List<DailySummaryHistoryView> findHistoryByUserIdIn(
+		@Param("userIds") Collection<Long> userIds,
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate
+	);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -46,6 +47,17 @@ public interface ExerciseFacilityRepository extends JpaRepository<ExerciseFacili
 	 */
 	Optional<ExerciseFacility> findByExternalSourceAndExternalId(String externalSource, String externalId);
 
+	/**
+	 * 외부 키 일괄 조회 (대량 가져오기 청크 단위 중복 확인용)
+	 * 소스/ID 조합이 아닌 각각의 IN 조건이라 호출 측에서 조합을 다시 확인해야 한다.
+	 */
+	@Query("SELECT f.facilityId AS facilityId, f.externalSource AS externalSource, f.externalId AS externalId " +
+		"FROM ExerciseFacility f WHERE f.externalSource IN :externalSources AND f.externalId IN :externalIds")
+	List<FacilityExternalKeyView> findExternalKeys(
+		@Param("externalSources") Collection<String> externalSources,
+		@Param("externalIds") Collection<String> externalIds
+	);
+
 	/**
 	 * 시설명으로 검색 (LIKE)
 	 */
@@ -75,6 +87,90 @@ public interface ExerciseFacilityRepository extends JpaRepository<ExerciseFacili
 		@Param("limit") Integer limit
 	);
 
+	/**
+	 * 위/경도 사각 범위로 먼저 좁힌 뒤 반경 내 시설 조회 (Native Query)
+	 * BETWEEN 조건으로 idx_facility_location을 타고, 남은 행에만 Haversine 거리를 계산한다.
+	 * (afterDistance, afterFacilityId) 이후 항목만 반환하는 커서 페이징도 지원한다.
+	 */
+	@Query(value = """
+        SELECT f.facility_id AS facilityId,
+               (6371 * ACOS(LEAST(1.0,
+                   COS(RADIANS(:latitude)) * COS(RADIANS(f.latitude)) *
+                   COS(RADIANS(f.longitude) - RADIANS(:longitude)) +
+                   SIN(RADIANS(:latitude)) * SIN(RADIANS(f.latitude))
+               ))) AS distance
+        FROM exercise_facility f
+        WHERE f.latitude BETWEEN :minLatitude AND :maxLatitude
+          AND f.longitude BETWEEN :minLongitude AND :maxLongitude
+          AND f.is_active = TRUE
+        HAVING distance <= :radiusKm
+           AND (distance > :afterDistance OR (distance = :afterDistance AND facilityId > :afterFacilityId))
+        ORDER BY distance, facilityId
+        LIMIT :limit
+        """, nativeQuery = true)
+	List<FacilityDistanceView> findWithinBoundingBox(
+		@Param("latitude") Double latitude,
+		@Param("longitude") Double longitude,
+		@Param("minLatitude") Double minLatitude,
+		@Param("maxLatitude") Double maxLatitude,
+		@Param("minLongitude") Double minLongitude,
+		@Param("maxLongitude") Double maxLongitude,
+		@Param("radiusKm") Double radiusKm,
+		@Param("afterDistance") Double afterDistance,
+		@Param("afterFacilityId") Long afterFacilityId,
+		@Param("limit") Integer limit
+	);
+
+	/**
+	 * 위/경도 사각 범위 + 시설 유형 필터로 반경 내 시설 조회 (Native Query)
+	 */
+	@Query(value = """
+        SELECT f.facility_id AS facilityId,
+               (6371 * ACOS(LEAST(1.0,
+                   COS(RADIANS(:latitude)) * COS(RADIANS(f.latitude)) *
+                   COS(RADIANS(f.longitude) - RADIANS(:longitude)) +
+                   SIN(RADIANS(:latitude)) * SIN(RADIANS(f.latitude))
+               ))) AS distance
+        FROM exercise_facility f
+        WHERE f.latitude BETWEEN :minLatitude AND :maxLatitude
+          AND f.longitude BETWEEN :minLongitude AND :maxLongitude
+          AND f.is_active = TRUE
+          AND f.facility_type IN (:facilityTypes)
+        HAVING distance <= :radiusKm
+           AND (distance > :afterDistance OR (distance = :afterDistance AND facilityId > :afterFacilityId))
+        ORDER BY distance, facilityId
+        LIMIT :limit
+        """, nativeQuery = true)
+	List<FacilityDistanceView> findWithinBoundingBoxAndTypes(
+		@Param("latitude") Double latitude,
+		@Param("longitude") Double longitude,
+		@Param("minLatitude") Double minLatitude,
+		@Param("maxLatitude") Double maxLatitude,
+		@Param("minLongitude") Double minLongitude,
+		@Param("maxLongitude") Double maxLongitude,
+		@Param("radiusKm") Double radiusKm,
+		@Param("afterDistance") Double afterDistance,
+		@Param("afterFacilityId") Long afterFacilityId,
+		@Param("facilityTypes") List<String> facilityTypes,
+		@Param("limit") Integer limit
+	);
+
+	/**
+	 * 활성 시설 위치 전체 조회 (공간 인덱스 구성용)
+	 */
+	@Query("SELECT f.facilityId AS facilityId, f.latitude AS latitude, f.longitude AS longitude, " +
+		"f.facilityType AS facilityType, f.isActive AS isActive " +
+		"FROM ExerciseFacility f WHERE f.isActive = true")
+	List<FacilityLocationView> findActiveLocations();
+
+	/**
+	 * 단일 시설 위치 조회 (공간 인덱스 갱신용)
+	 */
+	@Query("SELECT f.facilityId AS facilityId, f.latitude AS latitude, f.longitude AS longitude, " +
+		"f.facilityType AS facilityType, f.isActive AS isActive " +
+		"FROM ExerciseFacility f WHERE f.facilityId = :facilityId")
+	Optional<FacilityLocationView> findLocationById(@Param("facilityId") Long facilityId);
+
 	/**
 	 * 재활에 적합한 시설만 조회
 	 */
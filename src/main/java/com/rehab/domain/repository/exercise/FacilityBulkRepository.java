@@ -0,0 +1,200 @@
+package com.rehab.domain.repository.exercise;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.ExerciseFacility;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운동 시설 대량 쓰기 Repository (JDBC 배치)
+ * IDENTITY 키 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로 대량 가져오기는 JDBC로 직접 쓴다.
+ * 영속성 컨텍스트를 거치지 않으므로 호출 측 트랜잭션 안에서 쓰고, 끝나면 FacilityChangedEvent로 캐시/인덱스를 갱신해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FacilityBulkRepository {
+
+	private static final String INSERT_FACILITY = """
+		INSERT INTO exercise_facility (
+			name, facility_type, description, city, district, street, spec_address, zipcode,
+			latitude, longitude, phone_number, website_url, operating_hours, closed_days,
+			parking_available, wheelchair_accessible, shower_available, locker_available,
+			facilities, amenities, external_id, external_source, rating, review_count,
+			entry_fee, monthly_fee, pricing_info, is_active, is_verified, created_at, updated_at
+		) VALUES (
+			:name, :facilityType, :description, :city, :district, :street, :specAddress, :zipcode,
+			:latitude, :longitude, :phoneNumber, :websiteUrl, :operatingHours, :closedDays,
+			:parkingAvailable, :wheelchairAccessible, :showerAvailable, :lockerAvailable,
+			:facilities, :amenities, :externalId, :externalSource, :rating, :reviewCount,
+			:entryFee, :monthlyFee, :pricingInfo, :isActive, :isVerified, :now, :now
+		)
+		""";
+
+	/**
+	 * 외부 데이터로 덮어쓰는 컬럼만 갱신 (활성/검증 상태는 관리자 처리 결과를 유지)
+	 */
+	private static final String UPDATE_FACILITY = """
+		UPDATE exercise_facility SET
+			name = :name, facility_type = :facilityType, description = :description,
+			city = :city, district = :district, street = :street, spec_address = :specAddress, zipcode = :zipcode,
+			latitude = :latitude, longitude = :longitude, phone_number = :phoneNumber, website_url = :websiteUrl,
+			operating_hours = :operatingHours, closed_days = :closedDays,
+			parking_available = :parkingAvailable, wheelchair_accessible = :wheelchairAccessible,
+			shower_available = :showerAvailable, locker_available = :lockerAvailable,
+			facilities = :facilities, amenities = :amenities, rating = :rating, review_count = :reviewCount,
+			entry_fee = :entryFee, monthly_fee = :monthlyFee, pricing_info = :pricingInfo, updated_at = :now
+		WHERE facility_id = :facilityId
+		""";
+
+	private static final String DELETE_IMAGES = "DELETE FROM facility_image WHERE facility_id IN (:facilityIds)";
+
+	private static final String INSERT_IMAGE = """
+		INSERT INTO facility_image (facility_id, image_url, is_main, display_order, created_at, updated_at)
+		VALUES (:facilityId, :imageUrl, :isMain, :displayOrder, :now, :now)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 시설 일괄 등록 후 생성된 ID를 입력 순서대로 반환
+	 */
+	public List<Long> insertFacilities(List<ExerciseFacility> facilities) {
+		if (facilities.isEmpty()) {
+			return List.of();
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] params = facilities.stream()
+			.map(facility -> toParams(facility, now))
+			.toArray(SqlParameterSource[]::new);
+
+		KeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(INSERT_FACILITY, params, keyHolder, new String[] {"facility_id"});
+
+		List<Map<String, Object>> keys = keyHolder.getKeyList();
+		if (keys.size() != facilities.size()) {
+			throw new IllegalStateException(
+				"생성된 시설 ID 수가 일치하지 않습니다. (" + keys.size() + " != " + facilities.size() + ")");
+		}
+
+		List<Long> ids = new ArrayList<>(keys.size());
+		for (Map<String, Object> key : keys) {
+			ids.add(((Number) key.values().iterator().next()).longValue());
+		}
+		return ids;
+	}
+
+	/**
+	 * 기존 시설 일괄 갱신 (facilityId → 새 값)
+	 */
+	public void updateFacilities(Map<Long, ExerciseFacility> facilitiesById) {
+		if (facilitiesById.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] params = facilitiesById.entrySet().stream()
+			.map(entry -> toParams(entry.getValue(), now).addValue("facilityId", entry.getKey()))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(UPDATE_FACILITY, params);
+	}
+
+	/**
+	 * 시설 이미지 일괄 삭제
+	 */
+	public void deleteImages(Collection<Long> facilityIds) {
+		if (facilityIds.isEmpty()) {
+			return;
+		}
+		jdbcTemplate.update(DELETE_IMAGES, new MapSqlParameterSource("facilityIds", facilityIds));
+	}
+
+	/**
+	 * 시설 이미지 일괄 등록 (이미지 한 장당 한 행)
+	 */
+	public void insertImages(List<ImageRow> images) {
+		if (images.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] params = images.stream()
+			.map(image -> new MapSqlParameterSource()
+				.addValue("facilityId", image.facilityId())
+				.addValue("imageUrl", toJson(List.of(image.imageUrl())))
+				.addValue("isMain", image.isMain())
+				.addValue("displayOrder", image.displayOrder())
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(INSERT_IMAGE, params);
+	}
+
+	private MapSqlParameterSource toParams(ExerciseFacility facility, Timestamp now) {
+		return new MapSqlParameterSource()
+			.addValue("name", facility.getName())
+			.addValue("facilityType", facility.getFacilityType().name())
+			.addValue("description", facility.getDescription())
+			.addValue("city", facility.getCity())
+			.addValue("district", facility.getDistrict())
+			.addValue("street", facility.getStreet())
+			.addValue("specAddress", facility.getSpecAddress())
+			.addValue("zipcode", facility.getZipcode())
+			.addValue("latitude", facility.getLatitude())
+			.addValue("longitude", facility.getLongitude())
+			.addValue("phoneNumber", facility.getPhoneNumber())
+			.addValue("websiteUrl", facility.getWebsiteUrl())
+			.addValue("operatingHours", facility.getOperatingHours())
+			.addValue("closedDays", facility.getClosedDays())
+			.addValue("parkingAvailable", facility.getParkingAvailable())
+			.addValue("wheelchairAccessible", facility.getWheelchairAccessible())
+			.addValue("showerAvailable", facility.getShowerAvailable())
+			.addValue("lockerAvailable", facility.getLockerAvailable())
+			.addValue("facilities", toJson(facility.getFacilities()))
+			.addValue("amenities", toJson(facility.getAmenities()))
+			.addValue("externalId", facility.getExternalId())
+			.addValue("externalSource", facility.getExternalSource())
+			.addValue("rating", facility.getRating())
+			.addValue("reviewCount", facility.getReviewCount())
+			.addValue("entryFee", facility.getEntryFee())
+			.addValue("monthlyFee", facility.getMonthlyFee())
+			.addValue("pricingInfo", toJson(facility.getPricingInfo()))
+			.addValue("isActive", facility.getIsActive())
+			.addValue("isVerified", facility.getIsVerified())
+			.addValue("now", now);
+	}
+
+	private String toJson(Object value) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return objectMapper.writeValueAsString(value);
+		} catch (JsonProcessingException e) {
+			throw new IllegalArgumentException("JSON 변환 실패: " + e.getOriginalMessage());
+		}
+	}
+
+	/**
+	 * 시설 이미지 행
+	 */
+	public record ImageRow(Long facilityId, String imageUrl, boolean isMain, int displayOrder) {
+	}
+}
@@ -0,0 +1,11 @@
+package com.rehab.domain.repository.exercise;
+
+/**
+ * 시설 거리 프로젝션 (반경 검색 결과)
+ */
+public interface FacilityDistanceView {
+
+	Long getFacilityId();
+
+	Double getDistance();
+}
@@ -0,0 +1,13 @@
+package com.rehab.domain.repository.exercise;
+
+/**
+ * 시설 외부 키 프로젝션 (대량 가져오기 중복 확인용)
+ */
+public interface FacilityExternalKeyView {
+
+	Long getFacilityId();
+
+	String getExternalSource();
+
+	String getExternalId();
+}
@@ -0,0 +1,19 @@
+package com.rehab.domain.repository.exercise;
+
+import com.rehab.domain.entity.enums.FacilityType;
+
+/**
+ * 시설 위치 프로젝션 (공간 인덱스 구성용)
+ */
+public interface FacilityLocationView {
+
+	Long getFacilityId();
+
+	Double getLatitude();
+
+	Double getLongitude();
+
+	FacilityType getFacilityType();
+
+	Boolean getIsActive();
+}
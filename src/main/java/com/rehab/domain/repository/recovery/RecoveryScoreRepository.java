@@ -7,6 +7,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,16 @@ public interface RecoveryScoreRepository extends JpaRepository<RecoveryScore, Lo
 	 */
 	Optional<RecoveryScore> findByUser_UserIdAndDate(Long userId, LocalDate date);
 
+	/**
+	 * 여러 사용자의 특정 날짜 회복 점수 조회 (주간 리포트 배치용)
+	 */
+	@Query("SELECT rs FROM RecoveryScore rs " +
+		"WHERE rs.user.userId IN :userIds AND rs.date = :date")
+	List<RecoveryScore> findByUserIdInAndDate(
+		@Param("userIds") Collection<Long> userIds,
+		@Param("date") LocalDate date
+	);
+
 	/**
 	 * 특정 사용자의 가장 최근 회복 점수 조회
 	 */
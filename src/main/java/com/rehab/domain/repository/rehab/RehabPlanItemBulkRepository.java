@@ -0,0 +1,129 @@
+package com.rehab.domain.repository.rehab;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.rehab.common.json.JsonColumn;
+import com.rehab.domain.entity.DietPlanItem;
+import com.rehab.domain.entity.MedicationPlanItem;
+import com.rehab.domain.entity.PlanItem;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재활 플랜 항목 대량 등록 Repository (JDBC 배치)
+ * 항목 엔티티는 IDENTITY 키라 Hibernate가 saveAll INSERT를 배치로 묶지 못하므로 JDBC 배치로 한 번에 쓴다.
+ * 영속성 컨텍스트를 거치지 않으므로 등록 후 필요한 엔티티는 다시 조회해야 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RehabPlanItemBulkRepository {
+
+	private static final String INSERT_PLAN_ITEM = """
+		INSERT INTO plan_item (
+			rehab_plan_id, exercise_id, order_index, phase, dose, status, recommendation_reason, created_at, updated_at
+		) VALUES (
+			:rehabPlanId, :exerciseId, :orderIndex, :phase, :dose, :status, :recommendationReason, :now, :now
+		)
+		""";
+
+	private static final String INSERT_MEDICATION_PLAN_ITEM = """
+		INSERT INTO medication_plan_item (
+			rehab_plan_id, medication_id, status, order_index, start_date, end_date, recommendation_reason,
+			created_at, updated_at
+		) VALUES (
+			:rehabPlanId, :medicationId, :status, :orderIndex, :startDate, :endDate, :recommendationReason,
+			:now, :now
+		)
+		""";
+
+	private static final String INSERT_DIET_PLAN_ITEM = """
+		INSERT INTO diet_plan_item (
+			rehab_plan_id, diet_id, meal_time, portion, status, order_index, recommendation_reason,
+			created_at, updated_at
+		) VALUES (
+			:rehabPlanId, :dietId, :mealTime, :portion, :status, :orderIndex, :recommendationReason,
+			:now, :now
+		)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 운동 항목 일괄 등록
+	 */
+	public void insertPlanItems(List<PlanItem> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] params = items.stream()
+			.map(item -> new MapSqlParameterSource()
+				.addValue("rehabPlanId", item.getRehabPlan().getRehabPlanId())
+				.addValue("exerciseId", item.getExercise().getExerciseId())
+				.addValue("orderIndex", item.getOrderIndex())
+				.addValue("phase", item.getPhase() != null ? item.getPhase().name() : null)
+				.addValue("dose", JsonColumn.rawOf(item.getDose()))
+				.addValue("status", item.getStatus() != null ? item.getStatus().name() : null)
+				.addValue("recommendationReason", JsonColumn.rawOf(item.getRecommendationReason()))
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(INSERT_PLAN_ITEM, params);
+	}
+
+	/**
+	 * 복약 항목 일괄 등록
+	 */
+	public void insertMedicationPlanItems(List<MedicationPlanItem> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] params = items.stream()
+			.map(item -> new MapSqlParameterSource()
+				.addValue("rehabPlanId", item.getRehabPlan().getRehabPlanId())
+				.addValue("medicationId", item.getMedication().getMedicationId())
+				.addValue("status", item.getStatus() != null ? item.getStatus().name() : null)
+				.addValue("orderIndex", item.getOrderIndex())
+				.addValue("startDate", item.getStartDate())
+				.addValue("endDate", item.getEndDate())
+				.addValue("recommendationReason", JsonColumn.rawOf(item.getRecommendationReason()))
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(INSERT_MEDICATION_PLAN_ITEM, params);
+	}
+
+	/**
+	 * 식단 항목 일괄 등록
+	 */
+	public void insertDietPlanItems(List<DietPlanItem> items) {
+		if (items.isEmpty()) {
+			return;
+		}
+
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		SqlParameterSource[] params = items.stream()
+			.map(item -> new MapSqlParameterSource()
+				.addValue("rehabPlanId", item.getRehabPlan().getRehabPlanId())
+				.addValue("dietId", item.getDiet().getDietId())
+				.addValue("mealTime", item.getMealTime() != null ? item.getMealTime().name() : null)
+				.addValue("portion", item.getPortion())
+				.addValue("status", item.getStatus() != null ? item.getStatus().name() : null)
+				.addValue("orderIndex", item.getOrderIndex())
+				.addValue("recommendationReason", JsonColumn.rawOf(item.getRecommendationReason()))
+				.addValue("now", now))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(INSERT_DIET_PLAN_ITEM, params);
+	}
+}
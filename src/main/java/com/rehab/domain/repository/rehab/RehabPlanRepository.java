@@ -3,6 +3,7 @@ package com.rehab.domain.repository.rehab;
 import com.rehab.domain.entity.RehabPlan;
 import com.rehab.domain.entity.User;
 import com.rehab.domain.entity.enums.RehabPlanStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -17,6 +18,14 @@ import java.util.Optional;
 @Repository
 public interface RehabPlanRepository extends JpaRepository<RehabPlan, Long> {
 
+	/**
+	 * 플랜별 운동/복약/식단 항목 수 (요약 조회 SELECT 절 공통)
+	 */
+	String PLAN_ITEM_COUNTS =
+		"(SELECT COUNT(pi) FROM PlanItem pi WHERE pi.rehabPlan = p) AS exerciseCount, " +
+		"(SELECT COUNT(mi) FROM MedicationPlanItem mi WHERE mi.rehabPlan = p) AS medicationCount, " +
+		"(SELECT COUNT(di) FROM DietPlanItem di WHERE di.rehabPlan = p) AS dietCount ";
+
 	/**
 	 * 사용자의 현재 활성 플랜 조회
 	 * ACTIVE 상태인 가장 최근 플랜
@@ -41,4 +50,33 @@ public interface RehabPlanRepository extends JpaRepository<RehabPlan, Long> {
 	 * 상태별 조회 - enum 타입
 	 */
 	List<RehabPlan> findByUserAndStatusOrderByCreatedAtDesc(User user, RehabPlanStatus status);
+
+	/**
+	 * 사용자의 플랜 요약 조회 (최신순, 항목 수 포함)
+	 * 항목 수는 상관 서브쿼리로 같은 문장에서 함께 구한다. (status가 null이면 전체)
+	 */
+	@Query("SELECT p.rehabPlanId AS rehabPlanId, p.user.userId AS userId, p.title AS title, p.status AS status, " +
+		"p.createdAt AS createdAt, p.updatedAt AS updatedAt, " + PLAN_ITEM_COUNTS +
+		"FROM RehabPlan p " +
+		"WHERE p.user.userId = :userId AND (:status IS NULL OR p.status = :status) " +
+		"ORDER BY p.createdAt DESC, p.rehabPlanId DESC")
+	List<RehabPlanSummaryView> findSummariesByUserId(
+		@Param("userId") Long userId,
+		@Param("status") RehabPlanStatus status
+	);
+
+	/**
+	 * 전체 사용자 플랜 요약 조회 (관리자용, rehabPlanId 역순 키셋 페이지)
+	 * afterPlanId가 null이면 첫 페이지
+	 */
+	@Query("SELECT p.rehabPlanId AS rehabPlanId, p.user.userId AS userId, p.title AS title, p.status AS status, " +
+		"p.createdAt AS createdAt, p.updatedAt AS updatedAt, " + PLAN_ITEM_COUNTS +
+		"FROM RehabPlan p " +
+		"WHERE (:afterPlanId IS NULL OR p.rehabPlanId < :afterPlanId) AND (:status IS NULL OR p.status = :status) " +
+		"ORDER BY p.rehabPlanId DESC")
+	List<RehabPlanSummaryView> findSummariesBefore(
+		@Param("afterPlanId") Long afterPlanId,
+		@Param("status") RehabPlanStatus status,
+		Pageable pageable
+	);
 }
@@ -0,0 +1,29 @@
+package com.rehab.domain.repository.rehab;
+
+import java.time.LocalDateTime;
+
+import com.rehab.domain.entity.enums.RehabPlanStatus;
+
+/**
+ * 재활 플랜 요약 프로젝션 (플랜 + 항목 수)
+ */
+public interface RehabPlanSummaryView {
+
+	Long getRehabPlanId();
+
+	Long getUserId();
+
+	String getTitle();
+
+	RehabPlanStatus getStatus();
+
+	LocalDateTime getCreatedAt();
+
+	LocalDateTime getUpdatedAt();
+
+	Long getExerciseCount();
+
+	Long getMedicationCount();
+
+	Long getDietCount();
+}
@@ -0,0 +1,94 @@
+package com.rehab.domain.repository.report;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리포트 스냅샷 쓰기 Repository (JDBC 배치)
+ * (user_id, period, range_start, range_end) 유니크 키 기준 upsert라서
+ * 같은 기간을 다시 생성하면(배치 재실행, 여러 인스턴스 동시 실행) 기존 행을 갱신한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ReportSnapshotBulkRepository {
+
+	private static final String UPSERT_SNAPSHOT = """
+		INSERT INTO report_snapshot (
+			user_id, period, covered_range, range_start, range_end, metrics, weekly_highlight,
+			highlight_text, total_exercises, avg_completion_rate, recovery_prediction,
+			generated_at, created_at, updated_at
+		) VALUES (
+			:userId, :period, :coveredRange, :rangeStart, :rangeEnd, :metrics, :weeklyHighlight,
+			:highlightText, :totalExercises, :avgCompletionRate, :recoveryPrediction,
+			:generatedAt, :generatedAt, :generatedAt
+		)
+		ON DUPLICATE KEY UPDATE
+			metrics = VALUES(metrics),
+			weekly_highlight = VALUES(weekly_highlight),
+			highlight_text = VALUES(highlight_text),
+			total_exercises = VALUES(total_exercises),
+			avg_completion_rate = VALUES(avg_completion_rate),
+			recovery_prediction = VALUES(recovery_prediction),
+			generated_at = VALUES(generated_at),
+			updated_at = VALUES(updated_at)
+		""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * 리포트 스냅샷 일괄 upsert
+	 */
+	public void upsertSnapshots(List<SnapshotRow> rows) {
+		if (rows.isEmpty()) {
+			return;
+		}
+
+		SqlParameterSource[] params = rows.stream()
+			.map(row -> new MapSqlParameterSource()
+				.addValue("userId", row.userId())
+				.addValue("period", row.period())
+				.addValue("coveredRange", row.coveredRange())
+				.addValue("rangeStart", Date.valueOf(row.rangeStart()))
+				.addValue("rangeEnd", Date.valueOf(row.rangeEnd()))
+				.addValue("metrics", row.metrics())
+				.addValue("weeklyHighlight", row.weeklyHighlight())
+				.addValue("highlightText", row.highlightText())
+				.addValue("totalExercises", row.totalExercises())
+				.addValue("avgCompletionRate", row.avgCompletionRate())
+				.addValue("recoveryPrediction", row.recoveryPrediction())
+				.addValue("generatedAt", Timestamp.valueOf(row.generatedAt())))
+			.toArray(SqlParameterSource[]::new);
+
+		jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT, params);
+	}
+
+	/**
+	 * 리포트 스냅샷 행 (covered_range/metrics/weekly_highlight는 기존 클라이언트 호환용 JSON 문자열)
+	 */
+	public record SnapshotRow(
+		Long userId,
+		String period,
+		String coveredRange,
+		LocalDate rangeStart,
+		LocalDate rangeEnd,
+		String metrics,
+		String weeklyHighlight,
+		String highlightText,
+		Integer totalExercises,
+		Integer avgCompletionRate,
+		BigDecimal recoveryPrediction,
+		LocalDateTime generatedAt
+	) {
+	}
+}
@@ -4,10 +4,13 @@ import com.rehab.domain.entity.ReportSnapshot;
 import com.rehab.domain.entity.enums.ReportPeriod;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
@@ -32,18 +35,71 @@ public interface ReportSnapshotRepository extends JpaRepository<ReportSnapshot,
 	);
 
 	/**
-	 * 특정 사용자의 특정 날짜 범위를 커버하는 주간 리포트 조회
+	 * 특정 사용자의 특정 기간 리포트 조회 (유니크 키 조회)
 	 */
-	@Query(value = "SELECT * FROM report_snapshot rs " +
-		"WHERE rs.user_id = :userId " +
-		"AND rs.period = 'WEEKLY' " +
-		"AND JSON_UNQUOTE(JSON_EXTRACT(rs.covered_range, '$.start')) = :rangeStart " +
-		"AND JSON_UNQUOTE(JSON_EXTRACT(rs.covered_range, '$.end')) = :rangeEnd " +
-		"LIMIT 1",
+	Optional<ReportSnapshot> findByUser_UserIdAndPeriodAndRangeStartAndRangeEnd(
+		Long userId,
+		ReportPeriod period,
+		LocalDate rangeStart,
+		LocalDate rangeEnd
+	);
+
+	/**
+	 * covered_range JSON에서 range_start/range_end 채우기 (report_snapshot_id 구간 단위)
+	 * 같은 기간 리포트가 이미 있으면 유니크 키 충돌로 건너뛰므로, 먼저 deleteDuplicateRanges로 중복을 정리한다.
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE IGNORE report_snapshot SET " +
+		"range_start = CAST(JSON_UNQUOTE(JSON_EXTRACT(covered_range, '$.start')) AS DATE), " +
+		"range_end = CAST(JSON_UNQUOTE(JSON_EXTRACT(covered_range, '$.end')) AS DATE) " +
+		"WHERE report_snapshot_id > :fromId AND report_snapshot_id <= :toId AND range_start IS NULL",
 		nativeQuery = true)
-	Optional<ReportSnapshot> findWeeklyReportByRange(
-		@Param("userId") Long userId,
-		@Param("rangeStart") String rangeStart,
-		@Param("rangeEnd") String rangeEnd
+	int backfillRange(
+		@Param("fromId") long fromId,
+		@Param("toId") long toId
 	);
+
+	/**
+	 * 기간이 비어 있는 스냅샷 중 같은 사용자/타입/기간의 다른 행이 있는 중복 삭제 (report_snapshot_id 구간 단위)
+	 * 남기는 행: 기간이 이미 채워진 행(배치가 갱신하는 행), 없으면 가장 나중에 생성된 행 (같으면 ID가 큰 행)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE d FROM report_snapshot d " +
+		"JOIN report_snapshot k ON k.user_id = d.user_id AND k.period = d.period " +
+		"AND k.report_snapshot_id <> d.report_snapshot_id " +
+		"AND COALESCE(k.range_start, CAST(JSON_UNQUOTE(JSON_EXTRACT(k.covered_range, '$.start')) AS DATE)) " +
+		"= CAST(JSON_UNQUOTE(JSON_EXTRACT(d.covered_range, '$.start')) AS DATE) " +
+		"AND COALESCE(k.range_end, CAST(JSON_UNQUOTE(JSON_EXTRACT(k.covered_range, '$.end')) AS DATE)) " +
+		"= CAST(JSON_UNQUOTE(JSON_EXTRACT(d.covered_range, '$.end')) AS DATE) " +
+		"WHERE d.report_snapshot_id > :fromId AND d.report_snapshot_id <= :toId AND d.range_start IS NULL " +
+		"AND (k.range_start IS NOT NULL " +
+		"OR COALESCE(k.generated_at, k.created_at) > COALESCE(d.generated_at, d.created_at) " +
+		"OR (COALESCE(k.generated_at, k.created_at) = COALESCE(d.generated_at, d.created_at) " +
+		"AND k.report_snapshot_id > d.report_snapshot_id))",
+		nativeQuery = true)
+	int deleteDuplicateRanges(
+		@Param("fromId") long fromId,
+		@Param("toId") long toId
+	);
+
+	/**
+	 * metrics/weekly_highlight JSON에서 지표 컬럼과 하이라이트 문구 채우기 (report_snapshot_id 구간 단위)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE report_snapshot SET " +
+		"highlight_text = JSON_UNQUOTE(weekly_highlight), " +
+		"total_exercises = CAST(JSON_EXTRACT(metrics, '$.totalExercises') AS SIGNED), " +
+		"avg_completion_rate = CAST(JSON_EXTRACT(metrics, '$.avgCompletionRate') AS SIGNED) " +
+		"WHERE report_snapshot_id > :fromId AND report_snapshot_id <= :toId AND total_exercises IS NULL",
+		nativeQuery = true)
+	int backfillMetrics(
+		@Param("fromId") long fromId,
+		@Param("toId") long toId
+	);
+
+	@Query(value = "SELECT COALESCE(MAX(report_snapshot_id), 0) FROM report_snapshot", nativeQuery = true)
+	long findMaxReportSnapshotId();
 }
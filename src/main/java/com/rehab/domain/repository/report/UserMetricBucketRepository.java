@@ -0,0 +1,98 @@
+package com.rehab.domain.repository.report;
+
+import com.rehab.domain.entity.UserMetricBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자 일별 지표 버킷 Repository
+ */
+@Repository
+public interface UserMetricBucketRepository extends JpaRepository<UserMetricBucket, UserMetricBucket.BucketId> {
+
+	/**
+	 * 기간 버킷 조회 (날짜 오름차순)
+	 */
+	@Query("SELECT b FROM UserMetricBucket b " +
+		"WHERE b.userId = :userId " +
+		"AND b.bucketDate BETWEEN :startDate AND :endDate " +
+		"ORDER BY b.bucketDate ASC")
+	List<UserMetricBucket> findByUserIdAndDateBetween(
+		@Param("userId") Long userId,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+
+	/**
+	 * 여러 사용자의 기간 버킷 조회 (주간 리포트 배치용)
+	 */
+	@Query("SELECT b FROM UserMetricBucket b " +
+		"WHERE b.userId IN :userIds " +
+		"AND b.bucketDate BETWEEN :startDate AND :endDate")
+	List<UserMetricBucket> findByUserIdInAndDateBetween(
+		@Param("userIds") Collection<Long> userIds,
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate
+	);
+
+	/**
+	 * 해당 날짜 DailySummary로 버킷을 다시 채움 (없으면 생성)
+	 * 같은 트랜잭션의 DailySummary 변경이 먼저 반영되도록 실행 전에 flush한다.
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query(value = "INSERT INTO user_metric_bucket (" +
+		"user_id, bucket_date, exercise_rate_sum, exercise_rate_count, duration_sec_sum, " +
+		"medication_rate_sum, medication_rate_count, pain_score_sum, pain_score_count, updated_at) " +
+		"SELECT ds.user_id, DATE(ds.date), " +
+		"COALESCE(ds.exercise_completion_rate, 0), ds.exercise_completion_rate IS NOT NULL, " +
+		"COALESCE(ds.total_duration_sec, 0), " +
+		"COALESCE(ds.medication_completion_rate, 0), ds.medication_completion_rate IS NOT NULL, " +
+		"COALESCE(ds.avg_pain_score, 0), ds.avg_pain_score IS NOT NULL, NOW() " +
+		"FROM daily_summary ds WHERE ds.user_id = :userId AND ds.date = :date " +
+		"ON DUPLICATE KEY UPDATE " +
+		"exercise_rate_sum = VALUES(exercise_rate_sum), " +
+		"exercise_rate_count = VALUES(exercise_rate_count), " +
+		"duration_sec_sum = VALUES(duration_sec_sum), " +
+		"medication_rate_sum = VALUES(medication_rate_sum), " +
+		"medication_rate_count = VALUES(medication_rate_count), " +
+		"pain_score_sum = VALUES(pain_score_sum), " +
+		"pain_score_count = VALUES(pain_score_count), " +
+		"updated_at = VALUES(updated_at)",
+		nativeQuery = true)
+	int refreshFromDailySummary(
+		@Param("userId") Long userId,
+		@Param("date") LocalDateTime date
+	);
+
+	/**
+	 * 버킷이 없는 DailySummary만 채움 (summary_id 구간 단위, 기동 시 백필용)
+	 */
+	@Transactional
+	@Modifying
+	@Query(value = "INSERT IGNORE INTO user_metric_bucket (" +
+		"user_id, bucket_date, exercise_rate_sum, exercise_rate_count, duration_sec_sum, " +
+		"medication_rate_sum, medication_rate_count, pain_score_sum, pain_score_count, updated_at) " +
+		"SELECT ds.user_id, DATE(ds.date), " +
+		"COALESCE(ds.exercise_completion_rate, 0), ds.exercise_completion_rate IS NOT NULL, " +
+		"COALESCE(ds.total_duration_sec, 0), " +
+		"COALESCE(ds.medication_completion_rate, 0), ds.medication_completion_rate IS NOT NULL, " +
+		"COALESCE(ds.avg_pain_score, 0), ds.avg_pain_score IS NOT NULL, NOW() " +
+		"FROM daily_summary ds WHERE ds.summary_id > :fromId AND ds.summary_id <= :toId",
+		nativeQuery = true)
+	int backfillFromDailySummary(
+		@Param("fromId") long fromId,
+		@Param("toId") long toId
+	);
+
+	@Query(value = "SELECT COALESCE(MAX(summary_id), 0) FROM daily_summary", nativeQuery = true)
+	long findMaxDailySummaryId();
+}
@@ -0,0 +1,95 @@
+package com.rehab.domain.repository.streak;
+
+import java.sql.Date;
+import java.util.List;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+
+import com.rehab.domain.entity.ActivityHistory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 활동 이력 비트맵 백필 Repository (JDBC 배치)
+ * user_streak의 이력 컬럼만 읽고 쓰므로, 같은 행의 streak 컬럼을 갱신하는 일일 요약 반영과 서로 덮어쓰지 않는다.
+ * 대상은 이력이 없거나, 만들어졌지만 아무 기록도 없는 행 (백필 전에 빈 이력으로 생성된 Streak)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ActivityHistoryBulkRepository {
+
+	private static final String MISSING_HISTORY = """
+		(history_end_date IS NULL
+			OR (activity_bits = :emptyActivityBits AND completion_rates = :emptyCompletionRates))
+		""";
+
+	private static final String FIND_IDS_WITHOUT_HISTORY = """
+		SELECT user_id FROM user_streak
+		WHERE user_id > :lastUserId AND %s
+		ORDER BY user_id
+		LIMIT :limit
+		""".formatted(MISSING_HISTORY);
+
+	private static final String UPDATE_HISTORY = """
+		UPDATE user_streak
+		SET activity_bits = :activityBits,
+			completion_rates = :completionRates,
+			history_end_date = :historyEndDate
+		WHERE user_id = :userId AND %s
+		""".formatted(MISSING_HISTORY);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	/**
+	 * lastUserId 다음의 이력 백필 대상 사용자 ID (키셋 페이징, user_id 오름차순)
+	 */
+	public List<Long> findIdsWithoutHistoryAfter(long lastUserId, int limit) {
+		MapSqlParameterSource params = emptyHistoryParams()
+			.addValue("lastUserId", lastUserId)
+			.addValue("limit", limit);
+		return jdbcTemplate.queryForList(FIND_IDS_WITHOUT_HISTORY, params, Long.class);
+	}
+
+	/**
+	 * 이력 컬럼 일괄 갱신 (그 사이 이력이 생긴 행은 건너뜀)
+	 *
+	 * @return 갱신한 행 수
+	 */
+	public int updateHistories(List<HistoryRow> rows) {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+
+		SqlParameterSource[] params = rows.stream()
+			.map(row -> emptyHistoryParams()
+				.addValue("userId", row.userId())
+				.addValue("activityBits", row.history().activityBits())
+				.addValue("completionRates", row.history().completionRates())
+				.addValue("historyEndDate", Date.valueOf(row.history().getHistoryEndDate())))
+			.toArray(SqlParameterSource[]::new);
+
+		int updated = 0;
+		for (int count : jdbcTemplate.batchUpdate(UPDATE_HISTORY, params)) {
+			updated += Math.max(count, 0);
+		}
+		return updated;
+	}
+
+	private static MapSqlParameterSource emptyHistoryParams() {
+		return new MapSqlParameterSource()
+			.addValue("emptyActivityBits", new byte[ActivityHistory.ACTIVITY_BYTES])
+			.addValue("emptyCompletionRates", new byte[ActivityHistory.RATE_BYTES]);
+	}
+
+	/**
+	 * 사용자 한 명의 백필한 이력
+	 */
+	public record HistoryRow(
+		Long userId,
+		ActivityHistory history
+	) {
+	}
+}
@@ -0,0 +1,13 @@
+package com.rehab.domain.repository.streak;
+
+/**
+ * Streak 점수 프로젝션 (리더보드 재구성용)
+ */
+public interface StreakScore {
+
+	Long getUserId();
+
+	Integer getCurrentStreak();
+
+	Integer getMaxStreak();
+}
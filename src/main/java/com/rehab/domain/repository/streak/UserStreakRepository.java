@@ -1,11 +1,15 @@
 package com.rehab.domain.repository.streak;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,11 +29,25 @@ public interface UserStreakRepository extends JpaRepository<UserStreak, Long> {
 	boolean existsByUserId(Long userId);
 
 	/**
-	 * 특정 날짜 이전에 마지막 활동한 사용자들의 Streak 조회
+	 * 끊긴 streak 일괄 리셋 (user_id 구간 단위, 구간마다 별도 트랜잭션)
+	 * - 마지막 활동이 어제 이전인데 currentStreak > 0인 경우 (UserStreak.resetStreak와 같은 결과)
 	 * - 배치 작업에서 끊긴 streak 정리용
 	 */
-	@Query("SELECT s FROM UserStreak s WHERE s.lastActiveDate < :date AND s.currentStreak > 0")
-	List<UserStreak> findStaleStreaks(@Param("date") LocalDate date);
+	@Transactional
+	@Modifying
+	@Query(value = "UPDATE user_streak SET current_streak = 0, last_active_date = :today, updated_at = NOW() " +
+		"WHERE user_id > :fromId AND user_id <= :toId " +
+		"AND last_active_date < :yesterday AND current_streak > 0",
+		nativeQuery = true)
+	int resetStaleStreaks(
+		@Param("fromId") long fromId,
+		@Param("toId") long toId,
+		@Param("yesterday") LocalDate yesterday,
+		@Param("today") LocalDate today
+	);
+
+	@Query(value = "SELECT COALESCE(MAX(user_id), 0) FROM user_streak", nativeQuery = true)
+	long findMaxUserId();
 
 	/**
 	 * 현재 활성 상태인(streak > 0) 사용자 수 조회
@@ -39,9 +57,18 @@ public interface UserStreakRepository extends JpaRepository<UserStreak, Long> {
 	long countActiveStreaks();
 
 	/**
-	 * 최대 streak 기준 상위 N명 조회
-	 * - 리더보드 기능용 (선택 사항)
+	 * lastUserId 다음 사용자들의 streak 점수 (키셋 페이징, user_id 오름차순)
+	 * - 리더보드 재구성용 (StreakLeaderboard)
+	 */
+	@Query("SELECT s.userId AS userId, s.currentStreak AS currentStreak, s.maxStreak AS maxStreak " +
+		"FROM UserStreak s WHERE s.userId > :lastUserId ORDER BY s.userId")
+	List<StreakScore> findScoresAfter(@Param("lastUserId") Long lastUserId, Pageable pageable);
+
+	/**
+	 * 사용자들의 streak 점수
+	 * - 리더보드 재구성 중 바뀐 사용자 다시 반영용 (StreakLeaderboard)
 	 */
-	@Query("SELECT s FROM UserStreak s ORDER BY s.maxStreak DESC, s.currentStreak DESC")
-	List<UserStreak> findTopStreaks(@Param("limit") int limit);
+	@Query("SELECT s.userId AS userId, s.currentStreak AS currentStreak, s.maxStreak AS maxStreak " +
+		"FROM UserStreak s WHERE s.userId IN :userIds")
+	List<StreakScore> findScoresByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,13 @@
+package com.rehab.domain.repository.user;
+
+import com.rehab.domain.entity.enums.UserRole;
+
+/**
+ * 인증용 사용자 프로젝션 (JWT 인증 principal 캐시용)
+ */
+public interface UserAuthView {
+
+	Long getUserId();
+
+	UserRole getRole();
+}
@@ -2,10 +2,12 @@ package com.rehab.domain.repository.user;
 
 
 import com.rehab.domain.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 
@@ -27,6 +29,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 		"LEFT JOIN FETCH pi.exercise " +
 		"WHERE u.userId = :userId")
 	Optional<User> findByIdWithExerciseLogs(@Param("userId") Long userId);
+
+	/**
+	 * lastId 다음 사용자 ID 목록 (키셋 페이징, ID 오름차순)
+	 */
+	@Query("SELECT u.userId FROM User u WHERE u.userId > :lastId ORDER BY u.userId")
+	List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
+	/**
+	 * 인증용 ID/권한 조회 (엔티티를 만들지 않음, AuthenticatedUserCache용)
+	 */
+	@Query("SELECT u.userId AS userId, u.role AS role FROM User u WHERE u.userId = :userId")
+	Optional<UserAuthView> findAuthViewByUserId(@Param("userId") Long userId);
 }
 
 
@@ -0,0 +1,21 @@
+package com.rehab.dto.ai;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 모델 서버 배치 요청 DTO ({path}/batch)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AI 모델 배치 요청")
+public class AiBatchRequest<T> {
+
+	@Schema(description = "개별 요청 목록")
+	private List<T> items;
+}
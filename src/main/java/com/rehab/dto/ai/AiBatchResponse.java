@@ -0,0 +1,22 @@
+package com.rehab.dto.ai;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * AI 모델 서버 배치 응답 DTO
+ * results는 요청 items와 같은 순서이며, 처리하지 못한 항목은 null이다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "AI 모델 배치 응답")
+public class AiBatchResponse<T> {
+
+	@Schema(description = "개별 응답 목록 (요청 순서)")
+	private List<T> results;
+}
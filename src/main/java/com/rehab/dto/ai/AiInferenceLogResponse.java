@@ -1,6 +1,7 @@
 package com.rehab.dto.ai;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.rehab.common.json.JsonColumn;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -27,7 +28,8 @@ public class AiInferenceLogResponse {
 	@NoArgsConstructor
 	@AllArgsConstructor
 	@Builder
-	@Schema(description = "추론 로그 정보")
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	@Schema(description = "추론 로그 정보 (요약 조회면 스냅샷 제외)")
 	public static class InferenceLog {
 
 		@Schema(description = "AI 추론 로그 ID", example = "801")
@@ -43,10 +45,10 @@ public class AiInferenceLogResponse {
 		private String modelVer;
 
 		@Schema(description = "입력 스냅샷 (JSON)")
-		private JsonNode inputSnapshot;
+		private JsonColumn inputSnapshot;
 
 		@Schema(description = "출력 스냅샷 (JSON)")
-		private JsonNode outputSnapshot;
+		private JsonColumn outputSnapshot;
 
 		@Schema(description = "지연 시간 (밀리초)", example = "245")
 		private Integer latencyMs;
@@ -54,6 +56,12 @@ public class AiInferenceLogResponse {
 		@Schema(description = "지식 참조 수", example = "2")
 		private Integer knowledgeReferences;
 
+		@Schema(description = "입력 + 출력 스냅샷 크기 (바이트, 압축 전)", example = "1830")
+		private Integer snapshotBytes;
+
+		@Schema(description = "캐시 응답 여부 (모델 미호출)", example = "false")
+		private Boolean cacheHit;
+
 		@Schema(description = "생성 일시")
 		private LocalDateTime createdAt;
 	}
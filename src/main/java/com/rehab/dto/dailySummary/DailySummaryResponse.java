@@ -1,6 +1,6 @@
 package com.rehab.dto.dailySummary;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.rehab.common.json.JsonColumn;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -12,7 +12,7 @@ import java.time.LocalDateTime;
 /**
  * 일일 요약 조회 응답 DTO
  */
-import com.fasterxml.jackson.databind.JsonNode;
+import com.rehab.common.json.JsonColumn;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -51,7 +51,7 @@ public class DailySummaryResponse {
 	private Integer totalDurationSec;
 
 	// 메트릭스
-	private JsonNode dailyMetrics; // JSON 데이터
+	private JsonColumn dailyMetrics; // JSON 데이터
 
 	// 타임스탬프
 	private LocalDateTime createdAt;
@@ -17,7 +17,7 @@ import lombok.NoArgsConstructor;
  * 시설 상세 정보 응답 DTO
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "운동 시설 상세 정보")
@@ -0,0 +1,96 @@
+package com.rehab.dto.exercise.facility;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 시설 대량 가져오기 결과 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "운동 시설 대량 가져오기 결과")
+public class FacilityImportResponse {
+
+	@Schema(description = "읽은 행 수")
+	private Integer totalRows;
+
+	@Schema(description = "신규 등록 수")
+	private Integer insertedCount;
+
+	@Schema(description = "기존 시설 갱신 수 (externalSource/externalId 일치)")
+	private Integer updatedCount;
+
+	@Schema(description = "거부된 행 수")
+	private Integer rejectedCount;
+
+	@Schema(description = "청크별 진행 결과")
+	private List<ChunkProgress> chunks;
+
+	@Schema(description = "거부된 행 목록 (최대 개수까지만 포함)")
+	private List<RejectedRow> rejectedRows;
+
+	@Schema(description = "거부 목록이 잘렸는지 여부")
+	private Boolean rejectedRowsTruncated;
+
+	@Schema(description = "입력을 더 읽을 수 없어 중단된 경우 사유 (이전 청크는 반영됨)")
+	private String abortReason;
+
+	@Schema(description = "소요 시간 (ms)")
+	private Long elapsedMs;
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	@Schema(description = "청크 진행 결과")
+	public static class ChunkProgress {
+
+		@Schema(description = "청크 번호 (1부터)")
+		private Integer chunkNumber;
+
+		@Schema(description = "청크 첫 행 번호")
+		private Long firstRow;
+
+		@Schema(description = "청크 마지막 행 번호")
+		private Long lastRow;
+
+		@Schema(description = "신규 등록 수")
+		private Integer inserted;
+
+		@Schema(description = "갱신 수")
+		private Integer updated;
+
+		@Schema(description = "거부 수")
+		private Integer rejected;
+
+		@Schema(description = "소요 시간 (ms)")
+		private Long elapsedMs;
+	}
+
+	@Getter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Builder
+	@Schema(description = "거부된 행")
+	public static class RejectedRow {
+
+		@Schema(description = "행 번호 (CSV는 헤더 다음 행이 1)")
+		private Long rowNumber;
+
+		@Schema(description = "외부 ID")
+		private String externalId;
+
+		@Schema(description = "시설명")
+		private String name;
+
+		@Schema(description = "거부 사유")
+		private String reason;
+	}
+}
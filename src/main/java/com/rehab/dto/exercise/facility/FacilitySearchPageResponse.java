@@ -0,0 +1,29 @@
+package com.rehab.dto.exercise.facility;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 주변 시설 검색 페이지 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "주변 운동 시설 검색 결과 (가까운 순 페이지)")
+public class FacilitySearchPageResponse {
+
+	@Schema(description = "시설 목록 (가까운 순)")
+	private List<FacilitySearchResponse> facilities;
+
+	@Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+	private String nextCursor;
+
+	@Schema(description = "다음 페이지 존재 여부")
+	private Boolean hasNext;
+}
@@ -1,6 +1,6 @@
 package com.rehab.dto.plan;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.enums.MealTime;
 import com.rehab.domain.entity.enums.PlanItemStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -43,7 +43,7 @@ public class DietPlanItemResponse {
 	private Integer orderIndex;
 
 	@Schema(description = "추천 이유 (JSON)")
-	private JsonNode recommendationReason;
+	private JsonColumn recommendationReason;
 
 	@Schema(description = "생성일시")
 	private LocalDateTime createdAt;
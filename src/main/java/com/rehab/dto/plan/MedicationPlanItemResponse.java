@@ -1,6 +1,6 @@
 package com.rehab.dto.plan;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.enums.PlanItemStatus;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
@@ -46,7 +46,7 @@ public class MedicationPlanItemResponse {
 	private LocalDate endDate;
 
 	@Schema(description = "추천 이유 (JSON)")
-	private JsonNode recommendationReason;
+	private JsonColumn recommendationReason;
 
 	@Schema(description = "생성일시")
 	private LocalDateTime createdAt;
@@ -16,6 +16,8 @@ import com.rehab.domain.entity.enums.RehabPlanStatus;
 public class RehabPlanListResponse {
 	private List<RehabPlanSummary> plans;
 	private Integer totalCount;
+	private Long nextCursor;  // 다음 페이지 커서 (관리자 목록, 마지막 페이지면 null)
+	private Boolean hasNext;
 
 	@Getter
 	@Builder
@@ -27,6 +29,9 @@ public class RehabPlanListResponse {
 		private String title;
 		private RehabPlanStatus status;
 		private Integer totalItems;  // 전체 운동 항목 수
+		private Integer exerciseCount;
+		private Integer medicationCount;
+		private Integer dietCount;
 		private String createdAt;
 		private String updatedAt;
 	}
@@ -0,0 +1,26 @@
+package com.rehab.dto.streak;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "월간 활동 캘린더 응답")
+public class StreakCalendarResponse {
+
+	@Schema(description = "조회 월", example = "2025-12")
+	private String month;
+
+	@Schema(description = "활동 달성한 날짜 (일)", example = "[1, 2, 5, 6, 7]")
+	private List<Integer> activeDays;
+
+	@Schema(description = "이번 달 활동 달성 일수", example = "5")
+	private Integer activeDayCount;
+}
@@ -0,0 +1,49 @@
+package com.rehab.dto.streak;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Streak 리더보드 응답")
+public class StreakLeaderboardResponse {
+
+	@Schema(description = "리더보드 종류 (CURRENT: 현재 streak, MAX: 최대 streak)", example = "MAX")
+	private String type;
+
+	@Schema(description = "리더보드 전체 인원 (streak 1일 이상)", example = "1520")
+	private Long totalCount;
+
+	@Schema(description = "순위 목록")
+	private List<LeaderboardEntry> entries;
+
+	@Schema(description = "내 순위 (리더보드에 없으면 null)")
+	private LeaderboardEntry me;
+
+	@Getter
+	@Builder
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Schema(description = "리더보드 항목")
+	public static class LeaderboardEntry {
+
+		@Schema(description = "순위 (1부터)", example = "3")
+		private Long rank;
+
+		@Schema(description = "사용자 ID", example = "1")
+		private Long userId;
+
+		@Schema(description = "사용자 이름", example = "홍길동")
+		private String username;
+
+		@Schema(description = "streak 일수", example = "21")
+		private Integer streak;
+	}
+}
@@ -0,0 +1,14 @@
+package com.rehab.security.jwt;
+
+import com.rehab.domain.entity.enums.UserRole;
+
+/**
+ * 인증 principal (@AuthenticationPrincipal로 받는 값)
+ * 요청 사이에 공유되는 캐시 값이라 엔티티 대신 바뀌지 않는 ID/권한만 담는다.
+ * 사용자 정보를 읽거나 바꿀 때는 서비스에서 userId로 엔티티를 다시 조회한다.
+ */
+public record AuthenticatedUser(
+	Long userId,
+	UserRole role
+) {
+}
@@ -0,0 +1,88 @@
+package com.rehab.security.jwt;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.rehab.common.cache.LruCache;
+import com.rehab.domain.repository.user.UserRepository;
+import com.rehab.service.userService.UserChangedEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증 사용자 로컬 캐시 (JwtAuthenticationFilter용)
+ * 요청마다 users를 조회하지 않도록 사용자 ID별 AuthenticatedUser(ID/권한)를 짧은 TTL로 보관한다.
+ * 여러 요청 스레드가 같은 값을 principal로 쓰므로 엔티티가 아닌 불변 값만 담는다.
+ * 같은 인스턴스의 권한 변경은 UserChangedEvent로 바로 비우고,
+ * 다른 인스턴스의 변경은 TTL이 지나면 반영된다.
+ */
+@Slf4j
+@Component
+public class AuthenticatedUserCache {
+
+	private final UserRepository userRepository;
+	private final LruCache<Long, AuthenticatedUser> cache;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public AuthenticatedUserCache(
+		UserRepository userRepository,
+		MeterRegistry meterRegistry,
+		@Value("${security.user-cache.max-size:10000}") int maxSize,
+		@Value("${security.user-cache.ttl-seconds:30}") long ttlSeconds
+	) {
+		this.userRepository = userRepository;
+		this.cache = new LruCache<>(maxSize, ttlSeconds * 1000);
+
+		this.hitCounter = Counter.builder("security.user.cache.requests")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("security.user.cache.requests")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		FunctionCounter.builder("security.user.cache.evictions", cache, LruCache::evictionCount)
+			.register(meterRegistry);
+		Gauge.builder("security.user.cache.size", cache, LruCache::size)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 인증 사용자 조회 (없는 사용자면 null, 캐시하지 않음)
+	 */
+	public AuthenticatedUser get(Long userId) {
+		AuthenticatedUser cached = cache.get(userId);
+		if (cached != null) {
+			hitCounter.increment();
+			return cached;
+		}
+
+		missCounter.increment();
+		AuthenticatedUser user = userRepository.findAuthViewByUserId(userId)
+			.map(view -> new AuthenticatedUser(view.getUserId(), view.getRole()))
+			.orElse(null);
+		if (user != null) {
+			cache.put(userId, user);
+		}
+		return user;
+	}
+
+	public void evict(Long userId) {
+		cache.invalidate(userId);
+	}
+
+	/**
+	 * 사용자 변경 트랜잭션 종료 후 캐시 비움 (롤백되어도 비우며, 다음 요청에서 다시 조회)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMPLETION, fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		evict(event.getUserId());
+		log.debug("인증 사용자 캐시 삭제 - userId: {}", event.getUserId());
+	}
+}
@@ -1,8 +1,5 @@
 package com.rehab.security.jwt;
 
-import com.rehab.domain.entity.User;
-import com.rehab.domain.repository.user.UserRepository;
-
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -17,11 +14,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 
+/**
+ * JWT 인증 필터
+ * 토큰은 요청마다 한 번만 검증하고, 권한은 클레임으로, principal(AuthenticatedUser)은 AuthenticatedUserCache로 채운다.
+ */
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final UserRepository userRepository;
+	private final AuthenticatedUserCache authenticatedUserCache;
 
 	@Override
 	protected void doFilterInternal(
@@ -34,17 +35,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		if (token != null) {
 			try {
-				Long userId = jwtTokenProvider.getUserId(token);
-				String role = jwtTokenProvider.getRole(token);
+				JwtTokenProvider.TokenClaims claims = jwtTokenProvider.parseClaims(token);
 
-				User user = userRepository.findById(userId)
-					.orElse(null);
+				AuthenticatedUser user = authenticatedUserCache.get(claims.userId());
 
 				if (user != null) {
 					var auth = new UsernamePasswordAuthenticationToken(
 						user,
 						null,
-						List.of(new SimpleGrantedAuthority("ROLE_" + role))
+						List.of(new SimpleGrantedAuthority("ROLE_" + claims.role()))
 					);
 					SecurityContextHolder.getContext().setAuthentication(auth);
 				}
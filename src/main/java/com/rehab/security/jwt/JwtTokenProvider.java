@@ -65,6 +65,14 @@ public class JwtTokenProvider {
 			.parseClaimsJws(token);
 	}
 
+	/**
+	 * 토큰을 한 번만 검증해서 사용자 ID와 권한을 함께 꺼냄 (요청 인증용)
+	 */
+	public TokenClaims parseClaims(String token) {
+		Claims claims = parseToken(token).getBody();
+		return new TokenClaims(Long.valueOf(claims.getSubject()), (String) claims.get("role"));
+	}
+
 	public Long getUserId(String token) {
 		return Long.valueOf(parseToken(token).getBody().getSubject());
 	}
@@ -72,4 +80,13 @@ public class JwtTokenProvider {
 	public String getRole(String token) {
 		return (String) parseToken(token).getBody().get("role");
 	}
+
+	/**
+	 * 요청 인증에 쓰는 토큰 클레임
+	 */
+	public record TokenClaims(
+		Long userId,
+		String role
+	) {
+	}
 }
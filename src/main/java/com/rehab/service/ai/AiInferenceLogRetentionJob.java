@@ -0,0 +1,268 @@
+package com.rehab.service.ai;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.repository.ai.AiInferenceLogRetentionRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogRetentionRepository.ArchivedLog;
+import com.rehab.domain.repository.ai.AiInferenceLogRetentionRepository.Partition;
+import com.rehab.domain.repository.common.NamedLockRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 추론 로그 보존 기간 관리 배치
+ * - 보존 기간(retention-months)이 지난 로그를 월별 gzip NDJSON 파일로 보관한 뒤 삭제
+ * - 월별 파티션 테이블이면 파티션 단위로 DROP하고, 다음 달 파티션을 미리 만든다
+ * - 파티션이 없는 테이블이면 오래된 순으로 batch-size씩 삭제
+ * - 어떤 로그도 참조하지 않는 오래된 스냅샷(ai_snapshot_blob) 정리
+ * 여러 인스턴스가 떠 있어도 MySQL 이름 잠금으로 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Component
+public class AiInferenceLogRetentionJob {
+
+	private static final String LOCK_NAME = "ai_inference_log_retention";
+	private static final String ARCHIVE_FILE = "ai_inference_log-%s.ndjson.gz";
+	private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+	private static final String FIRST_HASH = "";
+
+	private final AiInferenceLogRetentionRepository retentionRepository;
+	private final NamedLockRepository namedLockRepository;
+	private final ObjectMapper objectMapper;
+	private final boolean enabled;
+	private final int retentionMonths;
+	private final int precreateMonths;
+	private final boolean archiveEnabled;
+	private final Path archiveDir;
+	private final int batchSize;
+
+	private final Counter archivedCounter;
+	private final Counter deletedCounter;
+	private final Counter droppedPartitionCounter;
+	private final Counter deletedSnapshotCounter;
+
+	public AiInferenceLogRetentionJob(
+		AiInferenceLogRetentionRepository retentionRepository,
+		NamedLockRepository namedLockRepository,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${ai-inference-log.retention.enabled:true}") boolean enabled,
+		@Value("${ai-inference-log.retention.retention-months:6}") int retentionMonths,
+		@Value("${ai-inference-log.retention.precreate-months:2}") int precreateMonths,
+		@Value("${ai-inference-log.retention.archive-enabled:true}") boolean archiveEnabled,
+		@Value("${ai-inference-log.retention.archive-dir:./data/archive}") String archiveDir,
+		@Value("${ai-inference-log.retention.batch-size:1000}") int batchSize
+	) {
+		this.retentionRepository = retentionRepository;
+		this.namedLockRepository = namedLockRepository;
+		this.objectMapper = objectMapper;
+		this.enabled = enabled;
+		this.retentionMonths = retentionMonths;
+		this.precreateMonths = precreateMonths;
+		this.archiveEnabled = archiveEnabled;
+		this.archiveDir = Path.of(archiveDir);
+		this.batchSize = batchSize;
+
+		this.archivedCounter = Counter.builder("ai.inference.log.retention.rows")
+			.tag("action", "archived")
+			.register(meterRegistry);
+		this.deletedCounter = Counter.builder("ai.inference.log.retention.rows")
+			.tag("action", "deleted")
+			.register(meterRegistry);
+		this.droppedPartitionCounter = Counter.builder("ai.inference.log.retention.partitions.dropped")
+			.register(meterRegistry);
+		this.deletedSnapshotCounter = Counter.builder("ai.inference.log.retention.snapshots.deleted")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 매일 03:30 실행
+	 * 보존 기준은 이번 달 1일에서 retention-months를 뺀 날짜 (그 이전 로그 삭제)
+	 */
+	@Scheduled(cron = "${ai-inference-log.retention.cron:0 30 3 * * *}")
+	public void run() {
+		if (!enabled) {
+			return;
+		}
+
+		log.info("Starting ai_inference_log retention job");
+		try {
+			boolean executed = namedLockRepository.runExclusively(LOCK_NAME, this::applyRetention);
+			if (!executed) {
+				log.info("ai_inference_log retention job skipped (running on another instance)");
+			}
+		} catch (Exception e) {
+			log.error("Error during ai_inference_log retention job", e);
+		}
+	}
+
+	private void applyRetention() {
+		LocalDate cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1);
+
+		List<Partition> partitions = retentionRepository.findPartitions();
+		if (partitions.isEmpty()) {
+			deleteRowsBefore(cutoff);
+		} else {
+			dropPartitionsBefore(partitions, cutoff);
+			createUpcomingPartitions(partitions);
+		}
+		deleteUnreferencedSnapshots(cutoff);
+	}
+
+	/**
+	 * 상한이 cutoff 이하인 파티션(모든 행이 cutoff 이전)을 보관 후 DROP
+	 */
+	private void dropPartitionsBefore(List<Partition> partitions, LocalDate cutoff) {
+		for (Partition partition : partitions) {
+			if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+				continue;
+			}
+			if (archiveEnabled) {
+				archive(partition.name(), partition.upperBound().atStartOfDay(), false);
+			}
+			retentionRepository.dropPartition(partition.name());
+			droppedPartitionCounter.increment();
+			log.info("ai_inference_log partition dropped - partition: {}, upperBound: {}",
+				partition.name(), partition.upperBound());
+		}
+	}
+
+	/**
+	 * 이번 달부터 precreate-months 뒤까지의 파티션이 없으면 MAXVALUE 파티션을 나눠 추가
+	 */
+	private void createUpcomingPartitions(List<Partition> partitions) {
+		Partition maxPartition = partitions.get(partitions.size() - 1);
+		if (maxPartition.upperBound() != null) {
+			log.warn("ai_inference_log has no MAXVALUE partition, skipping partition creation");
+			return;
+		}
+
+		LocalDate lastBound = partitions.stream()
+			.map(Partition::upperBound)
+			.filter(Objects::nonNull)
+			.max(LocalDate::compareTo)
+			.orElse(YearMonth.now().atDay(1));
+		LocalDate target = YearMonth.now().plusMonths(precreateMonths + 1L).atDay(1);
+
+		while (lastBound.isBefore(target)) {
+			String name = "p" + lastBound.format(MONTH_FORMAT);
+			LocalDate upperBound = lastBound.plusMonths(1);
+			retentionRepository.addPartition(maxPartition.name(), name, upperBound);
+			log.info("ai_inference_log partition created - partition: {}, upperBound: {}", name, upperBound);
+			lastBound = upperBound;
+		}
+	}
+
+	/**
+	 * 파티션이 없는 테이블: cutoff 이전 로그를 batch-size씩 보관 후 삭제
+	 */
+	private void deleteRowsBefore(LocalDate cutoff) {
+		if (archiveEnabled) {
+			archive(null, cutoff.atStartOfDay(), true);
+			return;
+		}
+
+		int deleted;
+		do {
+			deleted = retentionRepository.deleteLogsBefore(cutoff.atStartOfDay(), batchSize);
+			deletedCounter.increment(deleted);
+		} while (deleted >= batchSize);
+	}
+
+	/**
+	 * cutoff 이전 로그를 ID 순으로 읽어 생성 월별 파일에 추가 (gzip 멤버를 이어 붙임)
+	 * 파일 기록이 실패하면 예외로 중단해서 보관하지 못한 로그는 지우지 않는다.
+	 *
+	 * @param deleteArchived 청크마다 보관한 로그를 바로 삭제할지 (파티션이면 보관 후 DROP)
+	 */
+	private void archive(String partition, LocalDateTime cutoff, boolean deleteArchived) {
+		long lastId = 0L;
+		int archived = 0;
+		while (true) {
+			List<ArchivedLog> logs = retentionRepository.findLogsBefore(partition, cutoff, lastId, batchSize);
+			if (logs.isEmpty()) {
+				break;
+			}
+
+			writeArchive(logs);
+			archived += logs.size();
+			archivedCounter.increment(logs.size());
+			lastId = logs.get(logs.size() - 1).inferenceLogId();
+
+			if (deleteArchived) {
+				int deleted = retentionRepository.deleteLogs(logs.stream().map(ArchivedLog::inferenceLogId).toList());
+				deletedCounter.increment(deleted);
+			}
+			if (logs.size() < batchSize) {
+				break;
+			}
+		}
+		log.info("ai_inference_log archived - partition: {}, cutoff: {}, rows: {}", partition, cutoff, archived);
+	}
+
+	private void writeArchive(List<ArchivedLog> logs) {
+		Map<YearMonth, StringBuilder> linesByMonth = new HashMap<>();
+		try {
+			for (ArchivedLog archivedLog : logs) {
+				linesByMonth.computeIfAbsent(YearMonth.from(archivedLog.createdAt()), month -> new StringBuilder())
+					.append(objectMapper.writeValueAsString(archivedLog))
+					.append('\n');
+			}
+
+			Files.createDirectories(archiveDir);
+			for (Map.Entry<YearMonth, StringBuilder> entry : linesByMonth.entrySet()) {
+				Path file = archiveDir.resolve(ARCHIVE_FILE.formatted(entry.getKey().format(MONTH_FORMAT)));
+				try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(file,
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND))) {
+					output.write(entry.getValue().toString().getBytes(StandardCharsets.UTF_8));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("추론 로그 보관 파일 기록 실패 - dir: " + archiveDir, e);
+		}
+	}
+
+	/**
+	 * cutoff 이전에 저장됐고 남은 로그가 참조하지 않는 스냅샷 삭제
+	 */
+	private void deleteUnreferencedSnapshots(LocalDate cutoff) {
+		String lastHash = FIRST_HASH;
+		int deleted = 0;
+		while (true) {
+			List<String> hashes = retentionRepository.findSnapshotHashesBefore(
+				cutoff.atStartOfDay(), lastHash, batchSize);
+			if (hashes.isEmpty()) {
+				break;
+			}
+			deleted += retentionRepository.deleteUnreferencedSnapshots(hashes);
+			lastHash = hashes.get(hashes.size() - 1);
+			if (hashes.size() < batchSize) {
+				break;
+			}
+		}
+		deletedSnapshotCounter.increment(deleted);
+		log.info("Unreferenced snapshots deleted - cutoff: {}, count: {}", cutoff, deleted);
+	}
+}
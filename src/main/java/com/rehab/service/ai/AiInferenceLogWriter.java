@@ -0,0 +1,504 @@
+package com.rehab.service.ai;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.repository.ai.AiInferenceLogBulkRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogBulkRepository.LogRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 추론 로그 쓰기 지연 버퍼
+ * 요청 스레드는 미리 할당받은 ID 구간에서 로그 ID를 정하고 메모리 대기열에 넣은 뒤 바로 반환한다.
+ * 전용 스레드가 크기/주기마다 대기열을 비워 로컬 저널 파일에 추가(fsync)한 다음 JDBC 배치로 INSERT한다.
+ * DB 반영이 실패하면 저널을 지우지 않고 다음 반영 때 저널 전체를 다시 넣는다. (INSERT IGNORE라 중복 없음)
+ * 기동 시 저널이 남아 있으면 먼저 재처리한다. 저널에 쓰기 전(최대 flush-interval-ms) 대기열에 있던 로그는 비정상 종료 시 유실될 수 있다.
+ * 대기열이 가득 차면 요청 스레드는 반영을 요청하고 자리가 날 때까지(최대 enqueue-timeout-ms) 기다린다.
+ * 아직 DB에 없는 로그는 findUnpersisted로 대기열/저널에서 찾을 수 있다. (저널은 로그 ID별 위치 색인으로 한 줄만 읽음)
+ */
+@Slf4j
+@Component
+public class AiInferenceLogWriter {
+
+	private static final String JOURNAL_FILE = "ai-inference-log.journal";
+
+	private final AiInferenceLogBulkRepository bulkRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final BlockingQueue<LogRow> queue;
+	private final Map<Long, LogRow> queuedRows = new ConcurrentHashMap<>();
+	/** 저널에 있고 DB 반영 전인 로그의 저널 내 위치 (저널을 비우면 함께 비움) */
+	private final Map<Long, JournalEntry> journaledRows = new ConcurrentHashMap<>();
+	private final ScheduledThreadPoolExecutor flusher;
+	private final AtomicBoolean flushRequested = new AtomicBoolean(false);
+	private final Path journalPath;
+	private final int batchSize;
+	private final long flushIntervalMs;
+	private final int idBlockSize;
+	private final long maxJournalBytes;
+	private final long retryBackoffMs;
+	private final long enqueueTimeoutMs;
+	private final FileChannel journal;
+	private final Object idLock = new Object();
+
+	private boolean replayPending = false;
+	private long retryAfterMillis = 0L;
+	private long nextId = 0L;
+	private long idBlockEnd = 0L;
+
+	private final Counter writtenCounter;
+	private final Counter droppedCounter;
+	private final Counter backpressureCounter;
+	private final Counter flushFailureCounter;
+	private final Timer flushTimer;
+
+	public AiInferenceLogWriter(
+		AiInferenceLogBulkRepository bulkRepository,
+		ObjectMapper objectMapper,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${ai-inference-log.writer.queue-capacity:10000}") int queueCapacity,
+		@Value("${ai-inference-log.writer.batch-size:200}") int batchSize,
+		@Value("${ai-inference-log.writer.flush-interval-ms:1000}") long flushIntervalMs,
+		@Value("${ai-inference-log.writer.id-block-size:1000}") int idBlockSize,
+		@Value("${ai-inference-log.writer.journal-dir:./data}") String journalDir,
+		@Value("${ai-inference-log.writer.max-journal-bytes:1073741824}") long maxJournalBytes,
+		@Value("${ai-inference-log.writer.retry-backoff-ms:5000}") long retryBackoffMs,
+		@Value("${ai-inference-log.writer.enqueue-timeout-ms:5000}") long enqueueTimeoutMs
+	) throws IOException {
+		this.bulkRepository = bulkRepository;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		this.batchSize = batchSize;
+		this.flushIntervalMs = flushIntervalMs;
+		this.idBlockSize = idBlockSize;
+		this.maxJournalBytes = maxJournalBytes;
+		this.retryBackoffMs = retryBackoffMs;
+		this.enqueueTimeoutMs = enqueueTimeoutMs;
+
+		Files.createDirectories(Path.of(journalDir));
+		this.journalPath = Path.of(journalDir, JOURNAL_FILE);
+		this.journal = FileChannel.open(journalPath,
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+
+		this.flusher = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "ai-inference-log-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		this.writtenCounter = Counter.builder("ai.inference.log.writer.rows")
+			.tag("result", "written")
+			.register(meterRegistry);
+		this.droppedCounter = Counter.builder("ai.inference.log.writer.rows")
+			.tag("result", "dropped")
+			.register(meterRegistry);
+		this.backpressureCounter = Counter.builder("ai.inference.log.writer.backpressure")
+			.description("대기열이 가득 차 요청 스레드가 기다린 횟수")
+			.register(meterRegistry);
+		this.flushFailureCounter = Counter.builder("ai.inference.log.writer.flush.failures")
+			.register(meterRegistry);
+		this.flushTimer = Timer.builder("ai.inference.log.writer.flush.latency")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		Gauge.builder("ai.inference.log.writer.queue.depth", queue, BlockingQueue::size)
+			.description("DB 반영을 기다리는 추론 로그 수")
+			.register(meterRegistry);
+		Gauge.builder("ai.inference.log.writer.journal.bytes", this, AiInferenceLogWriter::journalSize)
+			.description("DB 반영 전 저널 크기")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 추론 로그 기록 요청 (DB 반영을 기다리지 않고 로그 ID 반환)
+	 */
+	public long write(
+		Long userId,
+		String modelKey,
+		String modelVersion,
+		String inputSnapshot,
+		String outputSnapshot,
+		String knowledgeReferences,
+		int knowledgeReferenceCount,
+		long latencyMs,
+		boolean cacheHit
+	) {
+		int snapshotBytes = utf8Length(inputSnapshot) + utf8Length(outputSnapshot);
+		LogRow row = new LogRow(nextId(), userId, modelKey, modelVersion, inputSnapshot, outputSnapshot,
+			knowledgeReferences, knowledgeReferenceCount, snapshotBytes, (int) latencyMs, cacheHit,
+			LocalDateTime.now());
+
+		queuedRows.put(row.inferenceLogId(), row);
+		if (!enqueue(row)) {
+			queuedRows.remove(row.inferenceLogId());
+			log.error("추론 로그 유실 (대기열 대기 시간 초과) - inferenceLogId: {}", row.inferenceLogId());
+			droppedCounter.increment();
+			return row.inferenceLogId();
+		}
+
+		if (queue.size() >= batchSize) {
+			requestFlush();
+		}
+		return row.inferenceLogId();
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 로그 조회 (대기열 → 저널 순, 이미 반영됐거나 없으면 empty)
+	 * 저널은 색인에 있는 로그의 줄 하나만 읽는다.
+	 */
+	public Optional<LogRow> findUnpersisted(long inferenceLogId) {
+		LogRow queued = queuedRows.get(inferenceLogId);
+		if (queued != null) {
+			return Optional.of(queued);
+		}
+		JournalEntry entry = journaledRows.get(inferenceLogId);
+		return entry != null ? readJournal(inferenceLogId, entry) : Optional.empty();
+	}
+
+	/**
+	 * 대기열에 추가 (가득 차면 반영 스레드에 반영을 요청하고 enqueue-timeout-ms까지 대기)
+	 * 반영은 항상 반영 스레드에서 하므로 요청 스레드가 DB/저널 I/O를 직접 기다리지 않는다.
+	 */
+	private boolean enqueue(LogRow row) {
+		if (queue.offer(row)) {
+			return true;
+		}
+
+		backpressureCounter.increment();
+		log.warn("추론 로그 대기열 한도 초과, 반영 대기 - queue: {}", queue.size());
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(enqueueTimeoutMs);
+		try {
+			do {
+				requestFlush();
+				long waitMs = Math.min(flushIntervalMs, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+				if (queue.offer(row, Math.max(waitMs, 1L), TimeUnit.MILLISECONDS)) {
+					return true;
+				}
+			} while (System.nanoTime() < deadline);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return false;
+	}
+
+	private void requestFlush() {
+		if (!flushRequested.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			flusher.execute(() -> {
+				flushRequested.set(false);
+				flushSafely();
+			});
+		} catch (RejectedExecutionException e) {
+			// 종료 중: shutdown()이 마지막으로 반영한다
+			flushRequested.set(false);
+		}
+	}
+
+	/**
+	 * 기동 완료 후 남은 저널 재처리 및 주기 반영 시작
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		if (journalSize() > 0) {
+			log.info("추론 로그 저널 재처리 예정 - bytes: {}", journalSize());
+			synchronized (this) {
+				replayPending = true;
+			}
+			flusher.execute(this::indexJournal);
+		}
+		flusher.scheduleWithFixedDelay(this::flushSafely, 0, flushIntervalMs, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flusher.shutdown();
+		flushSafely();
+		try {
+			journal.close();
+		} catch (IOException e) {
+			log.warn("추론 로그 저널 닫기 실패 - error: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 다음 로그 ID (구간을 다 쓰면 새 구간 할당)
+	 * 반영 스레드가 DB를 기다리는 동안에도 막히지 않도록 flush와 다른 잠금을 쓴다.
+	 */
+	private long nextId() {
+		synchronized (idLock) {
+			if (nextId >= idBlockEnd) {
+				Long start = transactionTemplate.execute(status -> bulkRepository.allocateIdBlock(idBlockSize));
+				nextId = start;
+				idBlockEnd = start + idBlockSize;
+			}
+			return nextId++;
+		}
+	}
+
+	private void flushSafely() {
+		try {
+			flush();
+		} catch (Exception e) {
+			log.error("추론 로그 반영 중 오류", e);
+		}
+	}
+
+	/**
+	 * 대기열을 배치 단위로 비움 (저널 추가 → DB 반영 → 성공 시 저널 비움)
+	 * DB 반영이 실패하면 retry-backoff-ms 동안은 저널에만 쌓는다.
+	 */
+	private synchronized void flush() {
+		while (true) {
+			List<LogRow> batch = new ArrayList<>(batchSize);
+			queue.drainTo(batch, batchSize);
+			if (batch.isEmpty() && !replayPending) {
+				return;
+			}
+
+			boolean journaled = appendJournal(batch);
+			boolean persisted = true;
+			if (replayPending && System.currentTimeMillis() < retryAfterMillis) {
+				if (!journaled) {
+					drop(batch, null);
+				}
+			} else {
+				persisted = flushTimer.record(() -> persist(batch, journaled));
+			}
+			batch.forEach(row -> queuedRows.remove(row.inferenceLogId()));
+			if (!persisted) {
+				retryAfterMillis = System.currentTimeMillis() + retryBackoffMs;
+				return;
+			}
+
+			if (batch.size() < batchSize) {
+				return;
+			}
+		}
+	}
+
+	private boolean persist(List<LogRow> batch, boolean journaled) {
+		try {
+			if (replayPending) {
+				replayJournal();
+			}
+			// 저널 재처리에 포함되지 않은 배치만 따로 반영
+			if (!replayPending || !journaled) {
+				insert(batch);
+			}
+			replayPending = false;
+			truncateJournal();
+			writtenCounter.increment(batch.size());
+			return true;
+		} catch (Exception e) {
+			flushFailureCounter.increment();
+			if (journaled) {
+				log.warn("추론 로그 DB 반영 실패, 저널에 보관 - rows: {}, error: {}", batch.size(), e.getMessage());
+				replayPending = true;
+			} else {
+				drop(batch, e);
+			}
+			return false;
+		}
+	}
+
+	private void drop(List<LogRow> batch, Exception cause) {
+		if (batch.isEmpty()) {
+			return;
+		}
+		log.error("추론 로그 유실 (저널 기록/DB 반영 모두 불가) - rows: {}", batch.size(), cause);
+		droppedCounter.increment(batch.size());
+	}
+
+	private void insert(List<LogRow> rows) {
+		if (!rows.isEmpty()) {
+			transactionTemplate.executeWithoutResult(status -> bulkRepository.insertLogs(rows));
+		}
+	}
+
+	/**
+	 * 저널 전체를 배치 단위로 다시 INSERT (깨진 마지막 줄은 건너뜀)
+	 */
+	private void replayJournal() throws IOException {
+		int replayed = 0;
+		try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+			List<LogRow> chunk = new ArrayList<>(batchSize);
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank()) {
+					continue;
+				}
+				try {
+					chunk.add(objectMapper.readValue(line, LogRow.class));
+				} catch (JsonProcessingException e) {
+					log.warn("추론 로그 저널 손상된 줄 건너뜀 - error: {}", e.getOriginalMessage());
+					continue;
+				}
+				if (chunk.size() >= batchSize) {
+					insert(chunk);
+					replayed += chunk.size();
+					chunk = new ArrayList<>(batchSize);
+				}
+			}
+			insert(chunk);
+			replayed += chunk.size();
+		}
+		log.info("추론 로그 저널 재처리 완료 - rows: {}", replayed);
+	}
+
+	/**
+	 * 기동 시 남은 저널의 로그 위치 색인 (반영 스레드에서 한 번, 깨진 마지막 줄은 건너뜀)
+	 */
+	private synchronized void indexJournal() {
+		long offset = 0;
+		int indexed = 0;
+		try (InputStream in = new BufferedInputStream(Files.newInputStream(journalPath))) {
+			ByteArrayOutputStream line = new ByteArrayOutputStream();
+			int b;
+			while ((b = in.read()) != -1) {
+				if (b != '\n') {
+					line.write(b);
+					continue;
+				}
+				if (line.size() > 0) {
+					try {
+						LogRow row = objectMapper.readValue(line.toByteArray(), LogRow.class);
+						journaledRows.put(row.inferenceLogId(), new JournalEntry(offset, line.size()));
+						indexed++;
+					} catch (JsonProcessingException e) {
+						log.warn("추론 로그 저널 색인 중 손상된 줄 건너뜀 - error: {}", e.getOriginalMessage());
+					}
+				}
+				offset += line.size() + 1;
+				line.reset();
+			}
+		} catch (IOException e) {
+			log.warn("추론 로그 저널 색인 실패 - path: {}, error: {}", journalPath, e.getMessage());
+		}
+		log.info("추론 로그 저널 색인 완료 - rows: {}", indexed);
+	}
+
+	/**
+	 * 색인된 위치에서 저널 한 줄 읽기
+	 * 읽는 사이 DB 반영으로 저널이 비워졌으면 empty (이미 커밋되었으므로 DB에서 보인다)
+	 */
+	private Optional<LogRow> readJournal(long inferenceLogId, JournalEntry entry) {
+		try (FileChannel reader = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+			ByteBuffer buffer = ByteBuffer.allocate(entry.length());
+			while (buffer.hasRemaining()) {
+				if (reader.read(buffer, entry.offset() + buffer.position()) < 0) {
+					break;
+				}
+			}
+			LogRow row = objectMapper.readValue(buffer.array(), 0, buffer.position(), LogRow.class);
+			return row.inferenceLogId() == inferenceLogId ? Optional.of(row) : Optional.empty();
+		} catch (IOException e) {
+			log.debug("추론 로그 저널 조회 실패 (반영 후 비워졌을 수 있음) - inferenceLogId: {}, error: {}",
+				inferenceLogId, e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * 배치를 저널에 추가하고 fsync (실패하거나 크기 한도를 넘으면 false)
+	 */
+	private boolean appendJournal(List<LogRow> batch) {
+		if (batch.isEmpty()) {
+			return true;
+		}
+
+		try {
+			long offset = journal.size();
+			ByteArrayOutputStream lines = new ByteArrayOutputStream();
+			Map<Long, JournalEntry> entries = new HashMap<>(batch.size() * 2);
+			for (LogRow row : batch) {
+				byte[] line = objectMapper.writeValueAsBytes(row);
+				entries.put(row.inferenceLogId(), new JournalEntry(offset + lines.size(), line.length));
+				lines.writeBytes(line);
+				lines.write('\n');
+			}
+			ByteBuffer buffer = ByteBuffer.wrap(lines.toByteArray());
+
+			if (offset + buffer.remaining() > maxJournalBytes) {
+				log.error("추론 로그 저널 크기 한도 초과 - bytes: {}, max: {}", offset, maxJournalBytes);
+				return false;
+			}
+			while (buffer.hasRemaining()) {
+				journal.write(buffer);
+			}
+			journal.force(false);
+			journaledRows.putAll(entries);
+			return true;
+		} catch (IOException e) {
+			log.error("추론 로그 저널 기록 실패 - path: {}", journalPath, e);
+			return false;
+		}
+	}
+
+	private void truncateJournal() throws IOException {
+		if (journal.size() > 0) {
+			journal.truncate(0);
+			journal.force(false);
+		}
+		journaledRows.clear();
+	}
+
+	private static int utf8Length(String json) {
+		return json != null ? json.getBytes(StandardCharsets.UTF_8).length : 0;
+	}
+
+	private long journalSize() {
+		try {
+			return journal.isOpen() ? journal.size() : 0L;
+		} catch (IOException e) {
+			return 0L;
+		}
+	}
+
+	/**
+	 * 저널 한 줄의 위치 (바이트 오프셋, 줄바꿈 제외 길이)
+	 */
+	private record JournalEntry(long offset, int length) {
+	}
+}
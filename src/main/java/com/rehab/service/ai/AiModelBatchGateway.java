@@ -0,0 +1,214 @@
+package com.rehab.service.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.dto.ai.AiBatchRequest;
+import com.rehab.dto.ai.AiBatchResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 모델 호출 마이크로 배칭 게이트웨이
+ * 같은 엔드포인트로 동시에 들어온 호출을 최대 maxBatchSize개 또는 첫 호출 후 maxWaitMs까지 모아
+ * {path}/batch 한 번으로 보내고, 응답을 요청 순서대로 각 호출자에게 돌려준다.
+ * 비활성화되어 있으면 호출마다 바로 단건 요청을 보낸다.
+ */
+@Slf4j
+@Component
+public class AiModelBatchGateway {
+
+	private static final String BATCH_SUFFIX = "/batch";
+
+	private final AiModelClient aiModelClient;
+	private final ObjectMapper objectMapper;
+	private final MeterRegistry meterRegistry;
+	private final ScheduledThreadPoolExecutor scheduler;
+	private final Map<String, BatchQueue> queues = new ConcurrentHashMap<>();
+	private final boolean enabled;
+	private final int maxBatchSize;
+	private final long maxWaitMs;
+	private final long batchTimeoutMs;
+
+	public AiModelBatchGateway(
+		AiModelClient aiModelClient,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${ai-model.batch.enabled:false}") boolean enabled,
+		@Value("${ai-model.batch.max-size:16}") int maxBatchSize,
+		@Value("${ai-model.batch.max-wait-ms:10}") long maxWaitMs,
+		@Value("${ai-model.batch.timeout-ms:30000}") long batchTimeoutMs
+	) {
+		this.aiModelClient = aiModelClient;
+		this.objectMapper = objectMapper;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.maxBatchSize = Math.max(maxBatchSize, 1);
+		this.maxWaitMs = maxWaitMs;
+		this.batchTimeoutMs = batchTimeoutMs;
+
+		this.scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "ai-model-batcher");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.scheduler.setRemoveOnCancelPolicy(true);
+
+		if (enabled) {
+			log.info("AI 모델 마이크로 배칭 사용 - maxBatchSize: {}, maxWaitMs: {}", this.maxBatchSize, maxWaitMs);
+		}
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 모델 호출 (배칭 사용 시 같은 path의 다른 호출과 묶여 전송)
+	 */
+	public <T> CompletableFuture<T> submit(String path, Object request, Class<T> responseType) {
+		if (!enabled) {
+			return aiModelClient.postAsync(path, request, responseType);
+		}
+
+		PendingCall<T> call = new PendingCall<>(request, responseType, new CompletableFuture<>());
+		queues.computeIfAbsent(path, BatchQueue::new).add(call);
+		return call.future();
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		// 대기 중인 호출은 즉시 전송하고 종료
+		queues.values().forEach(BatchQueue::flushNow);
+		scheduler.shutdown();
+	}
+
+	private void send(String path, List<PendingCall<?>> batch, String trigger) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		DistributionSummary.builder("ai.model.batch.size")
+			.tag("path", path)
+			.register(meterRegistry)
+			.record(batch.size());
+		Counter.builder("ai.model.batch.flushes")
+			.tag("path", path)
+			.tag("trigger", trigger)
+			.register(meterRegistry)
+			.increment();
+
+		List<Object> items = batch.stream().<Object>map(PendingCall::request).toList();
+		aiModelClient.postAsync(path + BATCH_SUFFIX, new AiBatchRequest<>(items), AiBatchResponse.class)
+			.orTimeout(batchTimeoutMs, TimeUnit.MILLISECONDS)
+			.whenComplete((response, error) -> {
+				sample.stop(Timer.builder("ai.model.batch.latency")
+					.tag("path", path)
+					.tag("outcome", error == null ? "success" : "failure")
+					.publishPercentiles(0.5, 0.95, 0.99)
+					.register(meterRegistry));
+
+				if (error != null) {
+					log.warn("AI 모델 배치 호출 실패 - path: {}, size: {}, error: {}", path, batch.size(), error.toString());
+					batch.forEach(call -> call.future().completeExceptionally(error));
+					return;
+				}
+				fanOut(path, batch, response);
+			});
+	}
+
+	private void fanOut(String path, List<PendingCall<?>> batch, AiBatchResponse<?> response) {
+		List<?> results = response != null ? response.getResults() : null;
+		if (results == null || results.size() != batch.size()) {
+			RestClientException error = new RestClientException("AI 모델 배치 응답 수 불일치 - path: " + path
+				+ ", 요청: " + batch.size() + ", 응답: " + (results != null ? results.size() : null));
+			batch.forEach(call -> call.future().completeExceptionally(error));
+			return;
+		}
+
+		for (int i = 0; i < batch.size(); i++) {
+			batch.get(i).complete(results.get(i), objectMapper);
+		}
+	}
+
+	/**
+	 * 엔드포인트별 대기열 (크기 도달 또는 대기 시간 경과 시 전송)
+	 */
+	private final class BatchQueue {
+
+		private final String path;
+		private List<PendingCall<?>> pending = new ArrayList<>();
+
+		BatchQueue(String path) {
+			this.path = path;
+		}
+
+		void add(PendingCall<?> call) {
+			List<PendingCall<?>> full = null;
+			synchronized (this) {
+				pending.add(call);
+				if (pending.size() >= maxBatchSize) {
+					full = pending;
+					pending = new ArrayList<>();
+				} else if (pending.size() == 1) {
+					List<PendingCall<?>> opened = pending;
+					scheduler.schedule(() -> flushIfCurrent(opened), maxWaitMs, TimeUnit.MILLISECONDS);
+				}
+			}
+			if (full != null) {
+				send(path, full, "size");
+			}
+		}
+
+		/**
+		 * 대기 시간 경과 시점에 아직 같은 배치가 열려 있으면 전송 (이미 크기로 전송됐으면 무시)
+		 */
+		private void flushIfCurrent(List<PendingCall<?>> opened) {
+			synchronized (this) {
+				if (pending != opened) {
+					return;
+				}
+				pending = new ArrayList<>();
+			}
+			send(path, opened, "timer");
+		}
+
+		void flushNow() {
+			List<PendingCall<?>> batch;
+			synchronized (this) {
+				if (pending.isEmpty()) {
+					return;
+				}
+				batch = pending;
+				pending = new ArrayList<>();
+			}
+			send(path, batch, "shutdown");
+		}
+	}
+
+	/**
+	 * 배치 응답을 기다리는 개별 호출
+	 */
+	private record PendingCall<T>(Object request, Class<T> responseType, CompletableFuture<T> future) {
+
+		void complete(Object result, ObjectMapper objectMapper) {
+			try {
+				future.complete(result != null ? objectMapper.convertValue(result, responseType) : null);
+			} catch (IllegalArgumentException e) {
+				future.completeExceptionally(e);
+			}
+		}
+	}
+}
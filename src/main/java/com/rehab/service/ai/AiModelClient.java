@@ -0,0 +1,173 @@
+package com.rehab.service.ai;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.config.AiModelConfig;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 모델 서버 HTTP 클라이언트
+ * 동기 호출은 커넥션 풀 RestTemplate, 비동기 호출은 NIO 클라이언트를 쓴다.
+ * 비동기 응답의 역직렬화와 후속 처리(로그 저장 등)는 I/O 스레드가 아닌 크기가 제한된 콜백 풀에서 실행된다.
+ */
+@Slf4j
+@Component
+public class AiModelClient {
+
+	private final RestTemplate aiModelRestTemplate;
+	private final CloseableHttpAsyncClient aiModelAsyncClient;
+	private final AiModelConfig aiModelConfig;
+	private final ObjectMapper objectMapper;
+	private final ThreadPoolExecutor callbackExecutor;
+
+	public AiModelClient(
+		RestTemplate aiModelRestTemplate,
+		CloseableHttpAsyncClient aiModelAsyncClient,
+		AiModelConfig aiModelConfig,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${ai-model.async.callback-threads:8}") int callbackThreads,
+		@Value("${ai-model.async.callback-queue-capacity:500}") int callbackQueueCapacity
+	) {
+		this.aiModelRestTemplate = aiModelRestTemplate;
+		this.aiModelAsyncClient = aiModelAsyncClient;
+		this.aiModelConfig = aiModelConfig;
+		this.objectMapper = objectMapper;
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.callbackExecutor = new ThreadPoolExecutor(
+			callbackThreads, callbackThreads, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(callbackQueueCapacity),
+			runnable -> {
+				Thread thread = new Thread(runnable, "ai-model-callback-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+
+		Gauge.builder("ai.model.client.callback.queue.depth", callbackExecutor, executor -> executor.getQueue().size())
+			.description("후속 처리를 기다리는 AI 모델 응답 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 동기 POST (응답 본문이 없으면 null)
+	 */
+	public <T> T post(String path, Object body, Class<T> responseType) {
+		String url = aiModelConfig.getAiModelBaseUrl() + path;
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+
+		log.info("AI 모델 서버 호출 - URL: {}", url);
+		return aiModelRestTemplate.exchange(url, HttpMethod.POST, new HttpEntity<>(body, headers), responseType)
+			.getBody();
+	}
+
+	/**
+	 * 비동기 POST
+	 * 응답 대기 중에는 스레드를 점유하지 않으며, 통신 실패는 IOException/RestClientException으로 완료된다.
+	 * 반환된 future를 취소하면 HTTP 요청도 중단된다.
+	 */
+	public <T> CompletableFuture<T> postAsync(String path, Object body, Class<T> responseType) {
+		String url = aiModelConfig.getAiModelBaseUrl() + path;
+		CompletableFuture<T> future = new CompletableFuture<>();
+
+		SimpleHttpRequest request;
+		try {
+			request = SimpleRequestBuilder.post(url)
+				.setBody(objectMapper.writeValueAsBytes(body), ContentType.APPLICATION_JSON)
+				.build();
+		} catch (Exception e) {
+			future.completeExceptionally(e);
+			return future;
+		}
+
+		log.info("AI 모델 서버 비동기 호출 - URL: {}", url);
+		Future<SimpleHttpResponse> exchange = aiModelAsyncClient.execute(request, new FutureCallback<>() {
+			@Override
+			public void completed(SimpleHttpResponse response) {
+				completeOnCallbackExecutor(future, () -> readBody(response, responseType));
+			}
+
+			@Override
+			public void failed(Exception e) {
+				future.completeExceptionally(e);
+			}
+
+			@Override
+			public void cancelled() {
+				future.cancel(false);
+			}
+		});
+		// 호출자가 취소하면 (헤지에서 진 요청) 진행 중인 요청을 중단해 커넥션을 돌려준다
+		future.whenComplete((response, error) -> {
+			if (future.isCancelled()) {
+				exchange.cancel(true);
+			}
+		});
+		return future;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		callbackExecutor.shutdown();
+	}
+
+	private <T> T readBody(SimpleHttpResponse response, Class<T> responseType) throws Exception {
+		int status = response.getCode();
+		if (status < 200 || status >= 300) {
+			throw new RestClientException("AI 모델 서버 응답 오류 - status: " + status);
+		}
+		byte[] bytes = response.getBodyBytes();
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		return objectMapper.readValue(bytes, responseType);
+	}
+
+	private <T> void completeOnCallbackExecutor(CompletableFuture<T> future, ResponseReader<T> reader) {
+		try {
+			callbackExecutor.execute(() -> {
+				try {
+					future.complete(reader.read());
+				} catch (Exception e) {
+					future.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("AI 모델 응답 후속 처리 대기열 초과 - queue: {}", callbackExecutor.getQueue().size());
+			future.completeExceptionally(e);
+		}
+	}
+
+	@FunctionalInterface
+	private interface ResponseReader<T> {
+		T read() throws Exception;
+	}
+}
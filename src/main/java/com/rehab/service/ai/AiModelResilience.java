@@ -0,0 +1,440 @@
+package com.rehab.service.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 모델 호출 보호 계층 (벌크헤드 → 서킷 브레이커 → 선택적 헤지 요청)
+ * 동시에 나가 있는 호출 수를 제한하고, 최근 호출의 실패/지연 비율이 임계치를 넘으면 일정 시간 호출 없이 바로 거부한다.
+ * 헤지를 켜면 최근 지연 시간의 백분위(기본 p95)가 지나도 응답이 없을 때 같은 요청을 한 번 더 보내 먼저 온 응답을 쓰고
+ * 나머지 요청은 취소한다.
+ * 실패/지연 집계와 지연 표본은 헤지 요청을 포함한 실제 요청 단위로 기록한다.
+ */
+@Slf4j
+@Component
+public class AiModelResilience {
+
+	private final Semaphore bulkhead;
+	private final long bulkheadMaxWaitMs;
+	private final CircuitBreaker circuitBreaker;
+	private final LatencyWindow latencyWindow;
+	private final long slowCallThresholdMs;
+
+	private final boolean hedgeEnabled;
+	private final double hedgePercentile;
+	private final long hedgeMinDelayMs;
+	private final int hedgeMinSamples;
+	private final ScheduledThreadPoolExecutor hedgeScheduler;
+
+	private final Counter bulkheadRejectCounter;
+	private final Counter circuitRejectCounter;
+	private final Counter hedgeSentCounter;
+	private final Counter hedgeWonCounter;
+	private final MeterRegistry meterRegistry;
+
+	public AiModelResilience(
+		MeterRegistry meterRegistry,
+		@Value("${ai-model.resilience.max-concurrent-calls:32}") int maxConcurrentCalls,
+		@Value("${ai-model.resilience.bulkhead-max-wait-ms:0}") long bulkheadMaxWaitMs,
+		@Value("${ai-model.resilience.circuit.window-size:50}") int windowSize,
+		@Value("${ai-model.resilience.circuit.minimum-calls:20}") int minimumCalls,
+		@Value("${ai-model.resilience.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+		@Value("${ai-model.resilience.circuit.slow-call-threshold-ms:10000}") long slowCallThresholdMs,
+		@Value("${ai-model.resilience.circuit.open-duration-ms:30000}") long openDurationMs,
+		@Value("${ai-model.resilience.circuit.half-open-calls:3}") int halfOpenCalls,
+		@Value("${ai-model.resilience.hedge.enabled:false}") boolean hedgeEnabled,
+		@Value("${ai-model.resilience.hedge.percentile:0.95}") double hedgePercentile,
+		@Value("${ai-model.resilience.hedge.min-delay-ms:100}") long hedgeMinDelayMs,
+		@Value("${ai-model.resilience.hedge.min-samples:20}") int hedgeMinSamples
+	) {
+		this.meterRegistry = meterRegistry;
+		this.bulkhead = new Semaphore(maxConcurrentCalls);
+		this.bulkheadMaxWaitMs = bulkheadMaxWaitMs;
+		this.circuitBreaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, openDurationMs,
+			halfOpenCalls);
+		this.latencyWindow = new LatencyWindow(200);
+		this.slowCallThresholdMs = slowCallThresholdMs;
+
+		this.hedgeEnabled = hedgeEnabled;
+		this.hedgePercentile = hedgePercentile;
+		this.hedgeMinDelayMs = hedgeMinDelayMs;
+		this.hedgeMinSamples = hedgeMinSamples;
+		this.hedgeScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "ai-model-hedge");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.hedgeScheduler.setRemoveOnCancelPolicy(true);
+
+		this.bulkheadRejectCounter = Counter.builder("ai.model.calls.rejected")
+			.tag("reason", "bulkhead")
+			.register(meterRegistry);
+		this.circuitRejectCounter = Counter.builder("ai.model.calls.rejected")
+			.tag("reason", "circuit_open")
+			.register(meterRegistry);
+		this.hedgeSentCounter = Counter.builder("ai.model.hedge.requests")
+			.tag("outcome", "sent")
+			.register(meterRegistry);
+		this.hedgeWonCounter = Counter.builder("ai.model.hedge.requests")
+			.tag("outcome", "won")
+			.register(meterRegistry);
+
+		Gauge.builder("ai.model.bulkhead.in_flight", bulkhead, b -> maxConcurrentCalls - b.availablePermits())
+			.description("응답을 기다리는 AI 모델 요청 수")
+			.register(meterRegistry);
+		for (CircuitState state : CircuitState.values()) {
+			Gauge.builder("ai.model.circuit.state", circuitBreaker, breaker -> breaker.state() == state ? 1 : 0)
+				.tag("state", state.name().toLowerCase())
+				.description("AI 모델 서킷 브레이커 상태 (현재 상태만 1)")
+				.register(meterRegistry);
+		}
+	}
+
+	public boolean isHedgeEnabled() {
+		return hedgeEnabled;
+	}
+
+	/**
+	 * 동기 호출 보호 (헤지 없음)
+	 */
+	public <T> T call(Supplier<T> call) {
+		acquire();
+		long start = System.nanoTime();
+		try {
+			T result = call.get();
+			record(start, null);
+			return result;
+		} catch (RuntimeException e) {
+			record(start, e);
+			throw e;
+		} finally {
+			bulkhead.release();
+		}
+	}
+
+	/**
+	 * 비동기 호출 보호 (거부되면 AiModelUnavailableException으로 완료된 future 반환)
+	 */
+	public <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> call) {
+		try {
+			acquire();
+		} catch (AiModelUnavailableException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		CompletableFuture<T> primary = launch(call);
+		if (!hedgeEnabled) {
+			return primary;
+		}
+
+		long delayMs = hedgeDelayMs();
+		if (delayMs < 0) {
+			return primary;
+		}
+		return withHedge(call, primary, delayMs);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		hedgeScheduler.shutdownNow();
+	}
+
+	/**
+	 * 벌크헤드 → 서킷 순으로 허가 획득 (서킷에서 거부되면 벌크헤드 허가 반환)
+	 */
+	private void acquire() {
+		if (!tryAcquireBulkhead()) {
+			bulkheadRejectCounter.increment();
+			throw new AiModelUnavailableException("AI 모델 동시 호출 한도 초과");
+		}
+		if (!circuitBreaker.tryAcquire()) {
+			bulkhead.release();
+			circuitRejectCounter.increment();
+			throw new AiModelUnavailableException("AI 모델 서킷 브레이커 열림");
+		}
+	}
+
+	private boolean tryAcquireBulkhead() {
+		if (bulkheadMaxWaitMs <= 0) {
+			return bulkhead.tryAcquire();
+		}
+		try {
+			return bulkhead.tryAcquire(bulkheadMaxWaitMs, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	/**
+	 * 허가를 얻은 요청 하나 실행 (완료 시 허가 반환 및 결과 기록)
+	 * 반환된 future를 취소하면 실제 요청도 취소하고 허가를 돌려준다. (헤지에서 진 요청)
+	 */
+	private <T> CompletableFuture<T> launch(Supplier<CompletableFuture<T>> call) {
+		long start = System.nanoTime();
+		CompletableFuture<T> request;
+		try {
+			request = call.get();
+		} catch (RuntimeException e) {
+			request = CompletableFuture.failedFuture(e);
+		}
+
+		// 허가 반환은 요청 future에 걸어 둔다 (반환된 future가 먼저 취소돼도 빠지지 않도록)
+		CompletableFuture<T> result = new CompletableFuture<>();
+		request.whenComplete((value, error) -> {
+			bulkhead.release();
+			record(start, error);
+			if (error == null) {
+				result.complete(value);
+			} else {
+				result.completeExceptionally(
+					error instanceof CompletionException ? error : new CompletionException(error));
+			}
+		});
+
+		CompletableFuture<T> inFlight = request;
+		result.whenComplete((value, error) -> {
+			if (result.isCancelled()) {
+				inFlight.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * 먼저 성공한 응답을 사용하고, 둘 다 실패하면 마지막 실패로 완료
+	 * 결과가 정해지면 아직 응답을 기다리는 나머지 요청은 취소한다.
+	 */
+	private <T> CompletableFuture<T> withHedge(
+		Supplier<CompletableFuture<T>> call,
+		CompletableFuture<T> primary,
+		long delayMs
+	) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		AtomicInteger pending = new AtomicInteger(1);
+		AtomicReference<CompletableFuture<T>> hedge = new AtomicReference<>();
+
+		primary.whenComplete((value, error) -> {
+			if (error == null) {
+				result.complete(value);
+			} else if (pending.decrementAndGet() == 0) {
+				result.completeExceptionally(error);
+			}
+		});
+
+		ScheduledFuture<?> timer = hedgeScheduler.schedule(() -> {
+			if (result.isDone() || !bulkhead.tryAcquire()) {
+				return;
+			}
+			if (!circuitBreaker.tryAcquire()) {
+				bulkhead.release();
+				return;
+			}
+			pending.incrementAndGet();
+			hedgeSentCounter.increment();
+			CompletableFuture<T> hedgeCall = launch(call);
+			hedge.set(hedgeCall);
+			hedgeCall.whenComplete((value, error) -> {
+				if (error == null) {
+					if (result.complete(value)) {
+						hedgeWonCounter.increment();
+					}
+				} else if (pending.decrementAndGet() == 0) {
+					result.completeExceptionally(error);
+				}
+			});
+			// 헤지를 보내는 사이 결과가 정해졌으면 바로 취소
+			if (result.isDone()) {
+				hedgeCall.cancel(true);
+			}
+		}, delayMs, TimeUnit.MILLISECONDS);
+
+		result.whenComplete((value, error) -> {
+			timer.cancel(false);
+			primary.cancel(true);
+			CompletableFuture<T> hedgeCall = hedge.get();
+			if (hedgeCall != null) {
+				hedgeCall.cancel(true);
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * 헤지 지연 시간 (표본이 부족하면 -1)
+	 */
+	private long hedgeDelayMs() {
+		long percentile = latencyWindow.percentile(hedgePercentile, hedgeMinSamples);
+		return percentile < 0 ? -1 : Math.max(percentile, hedgeMinDelayMs);
+	}
+
+	private void record(long startNanos, Throwable error) {
+		long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+		Throwable cause = (error instanceof CompletionException && error.getCause() != null) ? error.getCause() : error;
+
+		// 거부된 호출과 헤지에서 져서 취소된 요청은 서버 상태와 무관하므로 집계하지 않음
+		if (cause instanceof AiModelUnavailableException || cause instanceof CancellationException) {
+			return;
+		}
+		if (error == null) {
+			latencyWindow.add(latencyMs);
+		}
+		circuitBreaker.record(error != null || latencyMs >= slowCallThresholdMs);
+	}
+
+	/**
+	 * 서킷 브레이커 상태
+	 */
+	private enum CircuitState {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	/**
+	 * 최근 windowSize개 호출 기준 실패율 서킷 브레이커
+	 */
+	private final class CircuitBreaker {
+
+		private final boolean[] window;
+		private final int minimumCalls;
+		private final int failureRateThreshold;
+		private final long openDurationMs;
+		private final int halfOpenCalls;
+
+		private CircuitState state = CircuitState.CLOSED;
+		private int index = 0;
+		private int count = 0;
+		private int failures = 0;
+		private long openedAt = 0L;
+		private int halfOpenStarted = 0;
+		private int halfOpenSucceeded = 0;
+
+		CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long openDurationMs,
+			int halfOpenCalls) {
+			this.window = new boolean[Math.max(windowSize, 1)];
+			this.minimumCalls = Math.min(Math.max(minimumCalls, 1), window.length);
+			this.failureRateThreshold = failureRateThreshold;
+			this.openDurationMs = openDurationMs;
+			this.halfOpenCalls = Math.max(halfOpenCalls, 1);
+		}
+
+		synchronized CircuitState state() {
+			return state;
+		}
+
+		synchronized boolean tryAcquire() {
+			if (state == CircuitState.OPEN) {
+				if (System.currentTimeMillis() - openedAt < openDurationMs) {
+					return false;
+				}
+				transition(CircuitState.HALF_OPEN);
+			}
+			if (state == CircuitState.HALF_OPEN) {
+				if (halfOpenStarted >= halfOpenCalls) {
+					return false;
+				}
+				halfOpenStarted++;
+			}
+			return true;
+		}
+
+		synchronized void record(boolean failure) {
+			switch (state) {
+				case OPEN -> {
+					// 열리기 전에 보낸 요청의 늦은 결과는 무시
+				}
+				case HALF_OPEN -> {
+					if (failure) {
+						transition(CircuitState.OPEN);
+					} else if (++halfOpenSucceeded >= halfOpenCalls) {
+						transition(CircuitState.CLOSED);
+					}
+				}
+				case CLOSED -> {
+					if (count == window.length) {
+						failures -= window[index] ? 1 : 0;
+					} else {
+						count++;
+					}
+					window[index] = failure;
+					failures += failure ? 1 : 0;
+					index = (index + 1) % window.length;
+
+					if (count >= minimumCalls && failures * 100 >= failureRateThreshold * count) {
+						transition(CircuitState.OPEN);
+					}
+				}
+			}
+		}
+
+		private void transition(CircuitState next) {
+			log.warn("AI 모델 서킷 브레이커 상태 변경 - {} -> {} (최근 실패 {}/{})", state, next, failures, count);
+			state = next;
+			halfOpenStarted = 0;
+			halfOpenSucceeded = 0;
+			if (next == CircuitState.OPEN) {
+				openedAt = System.currentTimeMillis();
+			}
+			if (next == CircuitState.CLOSED) {
+				Arrays.fill(window, false);
+				index = 0;
+				count = 0;
+				failures = 0;
+			}
+			Counter.builder("ai.model.circuit.transitions")
+				.tag("to", next.name().toLowerCase())
+				.register(meterRegistry)
+				.increment();
+		}
+	}
+
+	/**
+	 * 최근 성공 요청 지연 시간 표본 (헤지 지연 계산용)
+	 */
+	private static final class LatencyWindow {
+
+		private final long[] samples;
+		private int index = 0;
+		private int count = 0;
+
+		LatencyWindow(int size) {
+			this.samples = new long[size];
+		}
+
+		synchronized void add(long latencyMs) {
+			samples[index] = latencyMs;
+			index = (index + 1) % samples.length;
+			count = Math.min(count + 1, samples.length);
+		}
+
+		/**
+		 * 백분위 지연 시간 (표본이 minSamples보다 적으면 -1)
+		 */
+		synchronized long percentile(double percentile, int minSamples) {
+			if (count < Math.max(minSamples, 1)) {
+				return -1;
+			}
+			long[] sorted = Arrays.copyOf(samples, count);
+			Arrays.sort(sorted);
+			int rank = (int) Math.ceil(percentile * count) - 1;
+			return sorted[Math.min(Math.max(rank, 0), count - 1)];
+		}
+	}
+}
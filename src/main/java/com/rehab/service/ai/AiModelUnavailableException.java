@@ -0,0 +1,14 @@
+package com.rehab.service.ai;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * AI 모델 호출을 보내지 않고 바로 거부한 경우 (동시 호출 한도 초과, 서킷 열림)
+ * 통신 실패와 같은 AI_SERVER_UNAVAILABLE로 응답하되, 서킷 실패 집계에는 넣지 않는다.
+ */
+public class AiModelUnavailableException extends RestClientException {
+
+	public AiModelUnavailableException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,170 @@
+package com.rehab.service.ai;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.common.cache.LruCache;
+import com.rehab.dto.ai.AiRecommendationRequest;
+import com.rehab.dto.ai.AiRecommendationResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AI 운동 추천 응답 캐시
+ * 요청을 정규화(필드 정렬, 공백/대소문자 통일, 통증 수준 구간화)한 뒤 모델 키/버전과 함께 SHA-256으로 해시해 키로 쓴다.
+ * 모델 응답의 버전이 바뀌면 키가 달라지므로 이전 버전 응답은 자동으로 무효화된다.
+ * 값은 JSON 문자열로 보관하고 조회할 때마다 새 객체로 읽어, 호출 측이 응답을 수정해도 캐시에 영향이 없다.
+ */
+@Slf4j
+@Component
+public class AiRecommendationCache {
+
+	private final ObjectMapper objectMapper;
+	private final LruCache<String, String> cache;
+	private final Map<String, String> modelVersions = new ConcurrentHashMap<>();
+	private final boolean enabled;
+	private final int painLevelBucket;
+
+	private final Counter hitCounter;
+	private final Counter missCounter;
+
+	public AiRecommendationCache(
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		@Value("${ai-model.recommendation-cache.enabled:true}") boolean enabled,
+		@Value("${ai-model.recommendation-cache.max-size:5000}") int maxSize,
+		@Value("${ai-model.recommendation-cache.ttl-seconds:600}") long ttlSeconds,
+		@Value("${ai-model.recommendation-cache.pain-level-bucket:1}") int painLevelBucket
+	) {
+		this.objectMapper = objectMapper;
+		this.cache = new LruCache<>(maxSize, ttlSeconds * 1000);
+		this.enabled = enabled;
+		this.painLevelBucket = Math.max(painLevelBucket, 1);
+
+		this.hitCounter = Counter.builder("ai.recommendation.cache.requests")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("ai.recommendation.cache.requests")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		FunctionCounter.builder("ai.recommendation.cache.evictions", cache, LruCache::evictionCount)
+			.register(meterRegistry);
+		Gauge.builder("ai.recommendation.cache.size", cache, LruCache::size)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 캐시된 응답 조회 (없으면 null)
+	 */
+	public CachedRecommendation get(String modelKey, AiRecommendationRequest request) {
+		if (!enabled) {
+			return null;
+		}
+
+		String outputJson = cache.get(keyOf(modelKey, request));
+		if (outputJson == null) {
+			missCounter.increment();
+			return null;
+		}
+
+		try {
+			AiRecommendationResponse response = objectMapper.readValue(outputJson, AiRecommendationResponse.class);
+			hitCounter.increment();
+			return new CachedRecommendation(response, outputJson);
+		} catch (JsonProcessingException e) {
+			log.warn("AI 추천 캐시 역직렬화 실패 - modelKey: {}, error: {}", modelKey, e.getMessage());
+			missCounter.increment();
+			return null;
+		}
+	}
+
+	/**
+	 * 모델 응답 저장
+	 * 응답의 모델 버전이 이전과 다르면 기존 항목을 모두 비우고 새 버전 키로 저장한다.
+	 */
+	public void put(String modelKey, AiRecommendationRequest request, AiRecommendationResponse response) {
+		if (!enabled) {
+			return;
+		}
+
+		observeModelVersion(modelKey, response);
+		try {
+			cache.put(keyOf(modelKey, request), objectMapper.writeValueAsString(response));
+		} catch (JsonProcessingException e) {
+			log.warn("AI 추천 캐시 저장 실패 - modelKey: {}, error: {}", modelKey, e.getMessage());
+		}
+	}
+
+	private void observeModelVersion(String modelKey, AiRecommendationResponse response) {
+		String version = response.getModelInfo() != null ? response.getModelInfo().getModelVer() : null;
+		if (version == null) {
+			return;
+		}
+
+		String previous = modelVersions.put(modelKey, version);
+		if (previous != null && !previous.equals(version)) {
+			log.info("AI 추천 모델 버전 변경, 캐시 초기화 - modelKey: {}, {} -> {}", modelKey, previous, version);
+			cache.clear();
+		}
+	}
+
+	/**
+	 * 정규화한 요청 필드를 이름순으로 이어 붙여 해시
+	 */
+	private String keyOf(String modelKey, AiRecommendationRequest request) {
+		AiRecommendationRequest.RecommendationContext context = request.getContext();
+
+		Map<String, String> fields = new TreeMap<>();
+		fields.put("goal", normalizeText(context.getGoal()).toLowerCase(Locale.ROOT));
+		fields.put("painLevelBucket", bucketOf(context.getCurrentPainLevel()));
+		fields.put("targetArea", normalizeText(context.getTargetArea()).toUpperCase(Locale.ROOT));
+
+		StringBuilder canonical = new StringBuilder()
+			.append(modelKey).append('@').append(modelVersions.getOrDefault(modelKey, ""));
+		fields.forEach((name, value) -> canonical.append('\n').append(name).append('=').append(value));
+
+		return modelKey + ":" + sha256(canonical.toString());
+	}
+
+	private String bucketOf(Integer painLevel) {
+		if (painLevel == null) {
+			return "";
+		}
+		return String.valueOf((painLevel - 1) / painLevelBucket);
+	}
+
+	private static String normalizeText(String value) {
+		return Objects.requireNonNullElse(value, "").strip().replaceAll("\\s+", " ");
+	}
+
+	private static String sha256(String value) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * 캐시 적중 결과 (호출마다 새로 읽은 응답 객체와 원본 JSON)
+	 */
+	public record CachedRecommendation(AiRecommendationResponse response, String outputJson) {
+	}
+}
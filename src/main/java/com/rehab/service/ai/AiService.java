@@ -6,6 +6,9 @@ import com.rehab.dto.ai.AiRecommendationRequest;
 import com.rehab.dto.ai.AiRecommendationResponse;
 import com.rehab.dto.ai.RecoveryPredictionRequest;
 import com.rehab.dto.ai.RecoveryPredictionResponse;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.CompletableFuture;
 
 public interface AiService {
 
@@ -22,7 +25,23 @@ public interface AiService {
 	RecoveryPredictionResponse predictRecovery(Long userId, RecoveryPredictionRequest request);
 
 	/**
-	 * 8.3 AI 추론 로그 조회
+	 * 8.1 운동 추천 요청 (비동기)
+	 * 모델 응답 대기 중 요청 스레드를 점유하지 않음
+	 */
+	CompletableFuture<AiRecommendationResponse> recommendExercisesAsync(Long userId, AiRecommendationRequest request);
+
+	/**
+	 * 8.2 회복 예측 요청 (비동기)
+	 */
+	CompletableFuture<RecoveryPredictionResponse> predictRecoveryAsync(Long userId, RecoveryPredictionRequest request);
+
+	/**
+	 * 8.3 AI 추론 로그 조회 (summaryOnly면 스냅샷 제외)
+	 */
+	AiInferenceLogResponse getInferenceLogs(Long userId, String modelKey, Integer limit, boolean summaryOnly);
+
+	/**
+	 * 8.4 AI 추론 로그 상세 조회 (스냅샷 원문 스트리밍)
 	 */
-	AiInferenceLogResponse getInferenceLogs(Long userId, String modelKey, Integer limit);
+	StreamingResponseBody streamInferenceLog(Long userId, Long logId);
 }
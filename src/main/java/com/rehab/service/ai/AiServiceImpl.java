@@ -1,27 +1,44 @@
 package com.rehab.service.ai;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.code.status.SuccessStatus;
 import com.rehab.apiPayload.exception.RehabPlanException;
-import com.rehab.config.AiModelConfig;
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.AiInferenceLog;
-import com.rehab.domain.entity.User;
+import com.rehab.domain.repository.ai.AiInferenceLogBulkRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogBulkRepository.LogRow;
 import com.rehab.domain.repository.ai.AiInferenceLogRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogSummary;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.ai.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * AI 서비스
@@ -33,9 +50,20 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AiServiceImpl implements AiService {
 
-	private final RestTemplate aiModelRestTemplate;
-	private final AiModelConfig aiModelConfig;
+	private static final String RECOMMENDATION_PATH = "/api/v1/recommendations";
+	private static final String RECOVERY_PREDICTION_PATH = "/api/v1/predictions/recovery";
+	private static final String RECOMMENDER_MODEL_KEY = "rehab-recommender-v0";
+	private static final String RECOVERY_MODEL_KEY = "recovery-predictor-v0";
+	private static final String MODEL_VERSION = "1.0.0";
+	private static final byte[] NULL_JSON = "null".getBytes(StandardCharsets.UTF_8);
+
+	private final AiModelClient aiModelClient;
+	private final AiModelBatchGateway aiModelBatchGateway;
+	private final AiModelResilience aiModelResilience;
+	private final AiRecommendationCache recommendationCache;
+	private final AiInferenceLogWriter aiInferenceLogWriter;
 	private final AiInferenceLogRepository aiInferenceLogRepository;
+	private final AiInferenceLogBulkRepository aiInferenceLogBulkRepository;
 	private final UserRepository userRepository;
 	private final ObjectMapper objectMapper;
 
@@ -43,7 +71,6 @@ public class AiServiceImpl implements AiService {
 	 * 8.1 운동 추천 요청
 	 * 학과 서버의 허깅페이스 모델 호출
 	 */
-	@Transactional
 	public AiRecommendationResponse recommendExercises(Long userId, AiRecommendationRequest request) {
 		log.info("AI 운동 추천 요청 - userId: {}, painLevel: {}, targetArea: {}",
 			userId, request.getContext().getCurrentPainLevel(), request.getContext().getTargetArea());
@@ -51,50 +78,45 @@ public class AiServiceImpl implements AiService {
 		long startTime = System.currentTimeMillis();
 
 		try {
-			// 1. 사용자 조회
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new RehabPlanException(ErrorStatus.USER_NOT_FOUND));
+			// 1. 사용자 확인
+			validateUserExists(userId);
 
-			// 2. AI 모델 서버 호출
-			String url = aiModelConfig.getAiModelBaseUrl() + "/api/v1/recommendations";
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-
-			HttpEntity<AiRecommendationRequest> entity = new HttpEntity<>(request, headers);
-
-			log.info("AI 모델 서버 호출 - URL: {}", url);
-
-			ResponseEntity<AiRecommendationResponse> response = aiModelRestTemplate.exchange(
-				url,
-				HttpMethod.POST,
-				entity,
-				AiRecommendationResponse.class
-			);
+			// 2. 같은 입력의 캐시된 응답이 있으면 모델 호출 생략
+			AiRecommendationCache.CachedRecommendation cached = recommendationCache.get(RECOMMENDER_MODEL_KEY, request);
+			if (cached != null) {
+				return respondFromCache(userId, request, cached, startTime);
+			}
 
-			AiRecommendationResponse aiResponse = response.getBody();
+			// 3. AI 모델 서버 호출
+			AiRecommendationResponse aiResponse = callModel(
+				RECOMMENDATION_PATH, request, AiRecommendationResponse.class);
 			if (aiResponse == null) {
 				throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
 			}
+			recommendationCache.put(RECOMMENDER_MODEL_KEY, request, aiResponse);
 
-			// 3. 추론 로그 저장
+			// 4. 추론 로그 기록 (쓰기 지연, 로그 ID는 미리 할당)
 			long latencyMs = System.currentTimeMillis() - startTime;
 			log.info("AI 추론 완료 - latency: {}ms", latencyMs);
 
-			AiInferenceLog inferenceLog = saveInferenceLog(
-				user,
-				"rehab-recommender-v0",
-				"1.0.0",
+			long inferenceLogId = saveInferenceLog(
+				userId,
+				RECOMMENDER_MODEL_KEY,
+				MODEL_VERSION,
 				request,
 				aiResponse,
-				latencyMs
+				latencyMs,
+				false
 			);
 
-			// 4. 응답에 로그 ID 추가
-			aiResponse.setAiInferenceLogId(inferenceLog.getInferenceLogId());
+			// 5. 응답에 로그 ID 추가
+			aiResponse.setAiInferenceLogId(inferenceLogId);
 
 			return aiResponse;
 
+		} catch (AiModelUnavailableException e) {
+			log.warn("AI 모델 호출 거부 - userId: {}, reason: {}", userId, e.getMessage());
+			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
 		} catch (RestClientException e) {
 			log.error("AI 모델 서버 통신 실패 - userId: {}", userId, e);
 			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
@@ -108,7 +130,6 @@ public class AiServiceImpl implements AiService {
 	 * 8.2 회복 예측 요청
 	 * 학과 서버의 허깅페이스 모델 호출
 	 */
-	@Transactional
 	public RecoveryPredictionResponse predictRecovery(Long userId, RecoveryPredictionRequest request) {
 		log.info("AI 회복 예측 요청 - userId: {}, painLevel: {}, adherence: {}",
 			userId, request.getCurrentPainLevel(), request.getRecentAdherence());
@@ -116,50 +137,38 @@ public class AiServiceImpl implements AiService {
 		long startTime = System.currentTimeMillis();
 
 		try {
-			// 1. 사용자 조회
-			User user = userRepository.findById(userId)
-				.orElseThrow(() -> new RehabPlanException(ErrorStatus.USER_NOT_FOUND));
+			// 1. 사용자 확인
+			validateUserExists(userId);
 
 			// 2. AI 모델 서버 호출
-			String url = aiModelConfig.getAiModelBaseUrl() + "/api/v1/predictions/recovery";
-
-			HttpHeaders headers = new HttpHeaders();
-			headers.setContentType(MediaType.APPLICATION_JSON);
-
-			HttpEntity<RecoveryPredictionRequest> entity = new HttpEntity<>(request, headers);
-
-			log.info("AI 모델 서버 호출 - URL: {}", url);
-
-			ResponseEntity<RecoveryPredictionResponse> response = aiModelRestTemplate.exchange(
-				url,
-				HttpMethod.POST,
-				entity,
-				RecoveryPredictionResponse.class
-			);
-
-			RecoveryPredictionResponse aiResponse = response.getBody();
+			RecoveryPredictionResponse aiResponse = callModel(
+				RECOVERY_PREDICTION_PATH, request, RecoveryPredictionResponse.class);
 			if (aiResponse == null) {
 				throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
 			}
 
-			// 3. 추론 로그 저장
+			// 3. 추론 로그 기록 (쓰기 지연, 로그 ID는 미리 할당)
 			long latencyMs = System.currentTimeMillis() - startTime;
 			log.info("AI 예측 완료 - latency: {}ms", latencyMs);
 
-			AiInferenceLog inferenceLog = saveInferenceLog(
-				user,
-				"recovery-predictor-v0",
-				"1.0.0",
+			long inferenceLogId = saveInferenceLog(
+				userId,
+				RECOVERY_MODEL_KEY,
+				MODEL_VERSION,
 				request,
 				aiResponse,
-				latencyMs
+				latencyMs,
+				false
 			);
 
 			// 4. 응답에 로그 ID 추가
-			aiResponse.setAiInferenceLogId(inferenceLog.getInferenceLogId());
+			aiResponse.setAiInferenceLogId(inferenceLogId);
 
 			return aiResponse;
 
+		} catch (AiModelUnavailableException e) {
+			log.warn("AI 모델 호출 거부 - userId: {}, reason: {}", userId, e.getMessage());
+			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
 		} catch (RestClientException e) {
 			log.error("AI 모델 서버 통신 실패 - userId: {}", userId, e);
 			throw new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
@@ -169,27 +178,119 @@ public class AiServiceImpl implements AiService {
 		}
 	}
 
+	/**
+	 * 8.1 운동 추천 요청 (비동기)
+	 * 모델 응답을 기다리는 동안 요청 스레드를 점유하지 않고, 응답이 오면 추론 로그를 기록한다.
+	 */
+	public CompletableFuture<AiRecommendationResponse> recommendExercisesAsync(
+		Long userId,
+		AiRecommendationRequest request
+	) {
+		log.info("AI 운동 추천 비동기 요청 - userId: {}, painLevel: {}, targetArea: {}",
+			userId, request.getContext().getCurrentPainLevel(), request.getContext().getTargetArea());
+
+		validateUserExists(userId);
+		long startTime = System.currentTimeMillis();
+
+		AiRecommendationCache.CachedRecommendation cached = recommendationCache.get(RECOMMENDER_MODEL_KEY, request);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(respondFromCache(userId, request, cached, startTime));
+		}
+
+		return aiModelResilience.callAsync(() ->
+				aiModelBatchGateway.submit(RECOMMENDATION_PATH, request, AiRecommendationResponse.class))
+			.thenApply(aiResponse -> {
+				if (aiResponse == null) {
+					throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
+				}
+				recommendationCache.put(RECOMMENDER_MODEL_KEY, request, aiResponse);
+				long latencyMs = System.currentTimeMillis() - startTime;
+				log.info("AI 추론 완료 - latency: {}ms", latencyMs);
+
+				aiResponse.setAiInferenceLogId(saveInferenceLog(
+					userId, RECOMMENDER_MODEL_KEY, MODEL_VERSION, request, aiResponse, latencyMs, false));
+				return aiResponse;
+			})
+			.exceptionally(e -> {
+				throw toAiException(e, userId, "AI 추론 실패");
+			});
+	}
+
+	/**
+	 * 8.2 회복 예측 요청 (비동기)
+	 */
+	public CompletableFuture<RecoveryPredictionResponse> predictRecoveryAsync(
+		Long userId,
+		RecoveryPredictionRequest request
+	) {
+		log.info("AI 회복 예측 비동기 요청 - userId: {}, painLevel: {}, adherence: {}",
+			userId, request.getCurrentPainLevel(), request.getRecentAdherence());
+
+		validateUserExists(userId);
+		long startTime = System.currentTimeMillis();
+
+		return aiModelResilience.callAsync(() ->
+				aiModelBatchGateway.submit(RECOVERY_PREDICTION_PATH, request, RecoveryPredictionResponse.class))
+			.thenApply(aiResponse -> {
+				if (aiResponse == null) {
+					throw new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
+				}
+				long latencyMs = System.currentTimeMillis() - startTime;
+				log.info("AI 예측 완료 - latency: {}ms", latencyMs);
+
+				aiResponse.setAiInferenceLogId(saveInferenceLog(
+					userId, RECOVERY_MODEL_KEY, MODEL_VERSION, request, aiResponse, latencyMs, false));
+				return aiResponse;
+			})
+			.exceptionally(e -> {
+				throw toAiException(e, userId, "AI 예측 실패");
+			});
+	}
+
 	/**
 	 * 8.3 AI 추론 로그 조회
+	 * 요약 조회(summaryOnly)는 스냅샷/참조 JSON 컬럼을 읽지 않고 요약 필드만 돌려준다.
 	 */
-	public AiInferenceLogResponse getInferenceLogs(Long userId, String modelKey, Integer limit) {
-		log.info("AI 추론 로그 조회 - userId: {}, modelKey: {}, limit: {}", userId, modelKey, limit);
+	public AiInferenceLogResponse getInferenceLogs(Long userId, String modelKey, Integer limit, boolean summaryOnly) {
+		log.info("AI 추론 로그 조회 - userId: {}, modelKey: {}, limit: {}, summaryOnly: {}",
+			userId, modelKey, limit, summaryOnly);
 
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new RehabPlanException(ErrorStatus.USER_NOT_FOUND));
+		validateUserExists(userId);
 
 		int pageSize = (limit != null && limit > 0) ? limit : 20;
 		PageRequest pageRequest = PageRequest.of(0, pageSize);
 
-		List<AiInferenceLog> logs;
+		// 1. 인덱스만 읽어 최신 로그 ID 조회
+		List<Long> logIds;
 		if (modelKey != null && !modelKey.isEmpty()) {
-			logs = aiInferenceLogRepository.findByUserAndModelKey(user, modelKey, pageRequest);
+			logIds = aiInferenceLogRepository.findIdsByUserIdAndModelKey(userId, modelKey, pageRequest);
 		} else {
-			logs = aiInferenceLogRepository.findByUser(user, pageRequest);
+			logIds = aiInferenceLogRepository.findIdsByUserId(userId, pageRequest);
 		}
 
+		if (summaryOnly) {
+			return AiInferenceLogResponse.builder()
+				.logs(findLogSummaries(logIds))
+				.build();
+		}
+
+		// 2. 해당 로그만 PK로 조회 (ID 순서 유지)
+		Map<Long, AiInferenceLog> logsById = aiInferenceLogRepository.findAllById(logIds).stream()
+			.collect(Collectors.toMap(AiInferenceLog::getInferenceLogId, Function.identity()));
+		List<AiInferenceLog> logs = logIds.stream()
+			.map(logsById::get)
+			.filter(Objects::nonNull)
+			.toList();
+
+		// 3. 압축 저장된 스냅샷 한 번에 조회
+		Set<String> snapshotHashes = logs.stream()
+			.flatMap(log -> Stream.of(log.getInputHash(), log.getOutputHash()))
+			.filter(Objects::nonNull)
+			.collect(Collectors.toSet());
+		Map<String, String> snapshots = aiInferenceLogBulkRepository.findSnapshots(snapshotHashes);
+
 		List<AiInferenceLogResponse.InferenceLog> logResponses = logs.stream()
-			.map(this::convertToLogResponse)
+			.map(log -> convertToLogResponse(log, snapshots))
 			.collect(Collectors.toList());
 
 		return AiInferenceLogResponse.builder()
@@ -197,34 +298,196 @@ public class AiServiceImpl implements AiService {
 			.build();
 	}
 
+	/**
+	 * 8.4 AI 추론 로그 상세 조회 (스냅샷 원문 스트리밍)
+	 * 소유 확인은 바로 하고, 응답 본문은 ApiResponse와 같은 형식으로 쓰되 스냅샷은 저장된 바이트를 그대로 복사한다.
+	 * 방금 발급한 로그는 아직 DB에 없을 수 있어 쓰기 버퍼(대기열/저널)를 먼저 확인한다.
+	 * (버퍼에서 빠진 로그는 이미 커밋된 뒤라, 그 다음 DB 조회에서 보인다)
+	 */
+	public StreamingResponseBody streamInferenceLog(Long userId, Long logId) {
+		log.info("AI 추론 로그 상세 조회 - userId: {}, logId: {}", userId, logId);
+
+		Optional<LogRow> unpersisted = aiInferenceLogWriter.findUnpersisted(logId);
+		if (unpersisted.isPresent()) {
+			if (!userId.equals(unpersisted.get().userId())) {
+				throw new RehabPlanException(ErrorStatus.AI_INFERENCE_LOG_NOT_FOUND);
+			}
+			return streamUnpersistedLog(unpersisted.get());
+		}
+
+		AiInferenceLog inferenceLog = aiInferenceLogRepository.findByIdAndUserId(logId, userId)
+			.orElseThrow(() -> new RehabPlanException(ErrorStatus.AI_INFERENCE_LOG_NOT_FOUND));
+
+		return output -> {
+			JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+			generator.writeStartObject();
+			generator.writeBooleanField("isSuccess", true);
+			generator.writeStringField("code", SuccessStatus._OK.getCode());
+			generator.writeStringField("message", SuccessStatus._OK.getMessage());
+			generator.writeObjectFieldStart("result");
+			generator.writeNumberField("aiInferenceLogId", inferenceLog.getInferenceLogId());
+			generator.writeNumberField("userId", userId);
+			generator.writeStringField("modelKey", inferenceLog.getModelKey());
+			generator.writeObjectField("modelVer", inferenceLog.getModelVersion());
+			writeRawSnapshot(generator, output, "inputSnapshot",
+				inferenceLog.getInputHash(), inferenceLog.getInputSnapshot());
+			writeRawSnapshot(generator, output, "outputSnapshot",
+				inferenceLog.getOutputHash(), inferenceLog.getOutputSnapshot());
+			generator.writeObjectField("latencyMs", inferenceLog.getLatencyMs());
+			generator.writeNumberField("knowledgeReferences", knowledgeReferenceCountOf(inferenceLog));
+			generator.writeObjectField("snapshotBytes", inferenceLog.getSnapshotBytes());
+			generator.writeBooleanField("cacheHit", Boolean.TRUE.equals(inferenceLog.getCacheHit()));
+			generator.writeObjectField("createdAt", inferenceLog.getCreatedAt());
+			generator.writeEndObject();
+			generator.writeEndObject();
+			generator.close();
+		};
+	}
+
 	// === Private Helper Methods ===
 
 	/**
-	 * 추론 로그 저장
+	 * DB 반영 전 로그 스트리밍 (스냅샷은 버퍼에 있는 원문 그대로)
+	 */
+	private StreamingResponseBody streamUnpersistedLog(LogRow row) {
+		return output -> {
+			JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+			generator.writeStartObject();
+			generator.writeBooleanField("isSuccess", true);
+			generator.writeStringField("code", SuccessStatus._OK.getCode());
+			generator.writeStringField("message", SuccessStatus._OK.getMessage());
+			generator.writeObjectFieldStart("result");
+			generator.writeNumberField("aiInferenceLogId", row.inferenceLogId());
+			generator.writeNumberField("userId", row.userId());
+			generator.writeStringField("modelKey", row.modelKey());
+			generator.writeObjectField("modelVer", row.modelVersion());
+			writeRawSnapshot(generator, "inputSnapshot", row.inputSnapshot());
+			writeRawSnapshot(generator, "outputSnapshot", row.outputSnapshot());
+			generator.writeObjectField("latencyMs", row.latencyMs());
+			generator.writeNumberField("knowledgeReferences",
+				row.knowledgeReferenceCount() != null ? row.knowledgeReferenceCount() : 0);
+			generator.writeObjectField("snapshotBytes", row.snapshotBytes());
+			generator.writeBooleanField("cacheHit", Boolean.TRUE.equals(row.cacheHit()));
+			generator.writeObjectField("createdAt", row.createdAt());
+			generator.writeEndObject();
+			generator.writeEndObject();
+			generator.close();
+		};
+	}
+
+	private void writeRawSnapshot(JsonGenerator generator, String fieldName, String snapshot) throws IOException {
+		generator.writeFieldName(fieldName);
+		if (snapshot == null) {
+			generator.writeNull();
+		} else {
+			generator.writeRawValue(snapshot);
+		}
+	}
+
+	/**
+	 * 동기 모델 호출 (벌크헤드/서킷 브레이커 적용)
+	 * 배칭이나 헤지를 쓰면 비동기 경로로 보내고 응답까지 대기한다.
+	 * 통신 실패는 RestTemplate과 같이 RestClientException으로 던진다.
 	 */
-	private AiInferenceLog saveInferenceLog(
-		User user,
+	private <T> T callModel(String path, Object request, Class<T> responseType) {
+		if (!aiModelBatchGateway.isEnabled() && !aiModelResilience.isHedgeEnabled()) {
+			return aiModelResilience.call(() -> aiModelClient.post(path, request, responseType));
+		}
+
+		try {
+			return aiModelResilience.callAsync(() -> aiModelBatchGateway.submit(path, request, responseType))
+				.join();
+		} catch (CompletionException e) {
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			if (cause instanceof RestClientException restClientException) {
+				throw restClientException;
+			}
+			if (cause instanceof IOException || cause instanceof TimeoutException
+				|| cause instanceof RejectedExecutionException) {
+				throw new ResourceAccessException("AI 모델 배치 호출 실패: " + cause,
+					cause instanceof IOException ioException ? ioException : null);
+			}
+			throw e;
+		}
+	}
+
+	private void validateUserExists(Long userId) {
+		if (!userRepository.existsById(userId)) {
+			throw new RehabPlanException(ErrorStatus.USER_NOT_FOUND);
+		}
+	}
+
+	/**
+	 * 비동기 호출 실패를 동기 호출과 같은 오류 코드로 변환
+	 */
+	private RehabPlanException toAiException(Throwable e, Long userId, String message) {
+		Throwable cause = (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+		if (cause instanceof RehabPlanException rehabPlanException) {
+			return rehabPlanException;
+		}
+		if (cause instanceof AiModelUnavailableException) {
+			log.warn("AI 모델 호출 거부 - userId: {}, reason: {}", userId, cause.getMessage());
+			return new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+		}
+		if (cause instanceof IOException || cause instanceof RestClientException
+			|| cause instanceof RejectedExecutionException || cause instanceof TimeoutException) {
+			log.error("AI 모델 서버 통신 실패 - userId: {}", userId, cause);
+			return new RehabPlanException(ErrorStatus.AI_SERVER_UNAVAILABLE);
+		}
+		log.error("{} - userId: {}", message, userId, cause);
+		return new RehabPlanException(ErrorStatus.AI_INFERENCE_FAILED);
+	}
+
+	/**
+	 * 캐시된 추천 응답 반환 (모델 호출 없이 캐시 적중 여부와 지연 시간을 추론 로그로 남김)
+	 */
+	private AiRecommendationResponse respondFromCache(
+		Long userId,
+		AiRecommendationRequest request,
+		AiRecommendationCache.CachedRecommendation cached,
+		long startTime
+	) {
+		AiRecommendationResponse aiResponse = cached.response();
+		long latencyMs = System.currentTimeMillis() - startTime;
+		log.info("AI 추천 캐시 적중 - latency: {}ms", latencyMs);
+
+		aiResponse.setAiInferenceLogId(saveInferenceLog(
+			userId,
+			RECOMMENDER_MODEL_KEY,
+			MODEL_VERSION,
+			request,
+			aiResponse,
+			latencyMs,
+			true
+		));
+		return aiResponse;
+	}
+
+	/**
+	 * 추론 로그 기록 (DB 반영은 AiInferenceLogWriter가 배치로 처리)
+	 * 스냅샷은 호출 시점 내용으로 직렬화하고, 미리 할당된 로그 ID를 바로 반환한다.
+	 * 추천 응답이면 운동별 지식 참조 ID를 모아 참조 목록과 참조 수를 함께 남긴다.
+	 */
+	private long saveInferenceLog(
+		Long userId,
 		String modelKey,
 		String modelVersion,
 		Object inputData,
 		Object outputData,
-		long latencyMs
+		long latencyMs,
+		boolean cacheHit
 	) {
 		try {
 			String inputSnapshot = objectMapper.writeValueAsString(inputData);
 			String outputSnapshot = objectMapper.writeValueAsString(outputData);
+			List<Long> knowledgeReferences = knowledgeReferencesOf(outputData);
 
-			AiInferenceLog log = AiInferenceLog.builder()
-				.user(user)
-				.modelKey(modelKey)
-				.modelVersion(modelVersion)
-				.inputSnapshot(inputSnapshot)
-				.outputSnapshot(outputSnapshot)
-				.latencyMs((int) latencyMs)
-				.knowledgeReferences("[]")
-				.build();
-
-			return aiInferenceLogRepository.save(log);
+			return aiInferenceLogWriter.write(userId, modelKey, modelVersion, inputSnapshot, outputSnapshot,
+				objectMapper.writeValueAsString(knowledgeReferences), knowledgeReferences.size(), latencyMs, cacheHit);
 
 		} catch (JsonProcessingException e) {
 			log.error("추론 로그 저장 실패", e);
@@ -232,42 +495,115 @@ public class AiServiceImpl implements AiService {
 		}
 	}
 
+	private List<Long> knowledgeReferencesOf(Object outputData) {
+		if (!(outputData instanceof AiRecommendationResponse response) || response.getRecommendations() == null) {
+			return List.of();
+		}
+		return response.getRecommendations().stream()
+			.map(AiRecommendationResponse.RecommendedExercise::getKnowledgeReferences)
+			.filter(Objects::nonNull)
+			.flatMap(List::stream)
+			.distinct()
+			.toList();
+	}
+
 	/**
-	 * AiInferenceLog -> InferenceLog 변환
+	 * 요약 필드만 조회해서 logIds 순서대로 변환
+	 */
+	private List<AiInferenceLogResponse.InferenceLog> findLogSummaries(List<Long> logIds) {
+		if (logIds.isEmpty()) {
+			return List.of();
+		}
+
+		Map<Long, AiInferenceLogSummary> summariesById = aiInferenceLogRepository.findSummariesByIdIn(logIds).stream()
+			.collect(Collectors.toMap(AiInferenceLogSummary::getInferenceLogId, Function.identity()));
+
+		return logIds.stream()
+			.map(summariesById::get)
+			.filter(Objects::nonNull)
+			.map(summary -> AiInferenceLogResponse.InferenceLog.builder()
+				.aiInferenceLogId(summary.getInferenceLogId())
+				.userId(summary.getUserId())
+				.modelKey(summary.getModelKey())
+				.modelVer(summary.getModelVersion())
+				.latencyMs(summary.getLatencyMs())
+				.knowledgeReferences(summary.getKnowledgeReferenceCount() != null
+					? summary.getKnowledgeReferenceCount() : 0)
+				.snapshotBytes(summary.getSnapshotBytes())
+				.cacheHit(Boolean.TRUE.equals(summary.getCacheHit()))
+				.createdAt(summary.getCreatedAt())
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 스냅샷 필드를 원문 바이트로 기록
+	 * 빈 원시 값을 써서 생성기에 구분자(:)와 값 위치만 기록한 뒤, 스트림에 원문을 직접 이어 쓴다.
 	 */
-	private AiInferenceLogResponse.InferenceLog convertToLogResponse(AiInferenceLog log) {
-		JsonNode inputSnapshot = parseJson(log.getInputSnapshot());
-		JsonNode outputSnapshot = parseJson(log.getOutputSnapshot());
-		JsonNode knowledgeReferences = parseJson(log.getKnowledgeReferences());
+	private void writeRawSnapshot(
+		JsonGenerator generator,
+		OutputStream output,
+		String fieldName,
+		String hash,
+		JsonColumn legacySnapshot
+	) throws IOException {
+		generator.writeFieldName(fieldName);
+		if (hash == null && legacySnapshot == null) {
+			generator.writeNull();
+			return;
+		}
+
+		generator.writeRawValue("");
+		generator.flush();
+		boolean copied = hash != null
+			? aiInferenceLogBulkRepository.copySnapshot(hash, output)
+			: copyLegacySnapshot(legacySnapshot, output);
+		if (!copied) {
+			output.write(NULL_JSON);
+		}
+	}
+
+	private boolean copyLegacySnapshot(JsonColumn snapshot, OutputStream output) throws IOException {
+		output.write(snapshot.raw().getBytes(StandardCharsets.UTF_8));
+		return true;
+	}
 
-		int knowledgeRefCount = (knowledgeReferences != null && knowledgeReferences.isArray())
-			? knowledgeReferences.size() : 0;
+	/**
+	 * 지식 참조 수 (기록 시 계산한 값, 이전 로그는 참조 JSON을 파싱)
+	 */
+	private int knowledgeReferenceCountOf(AiInferenceLog log) {
+		if (log.getKnowledgeReferenceCount() != null) {
+			return log.getKnowledgeReferenceCount();
+		}
+		JsonNode knowledgeReferences = log.getKnowledgeReferences() != null
+			? log.getKnowledgeReferences().node() : null;
+		return (knowledgeReferences != null && knowledgeReferences.isArray()) ? knowledgeReferences.size() : 0;
+	}
 
+	/**
+	 * AiInferenceLog -> InferenceLog 변환
+	 * 해시가 있는 로그는 압축 저장된 스냅샷을, 이전 로그는 JSON 컬럼을 그대로 쓴다.
+	 */
+	private AiInferenceLogResponse.InferenceLog convertToLogResponse(
+		AiInferenceLog log,
+		Map<String, String> snapshots
+	) {
 		return AiInferenceLogResponse.InferenceLog.builder()
 			.aiInferenceLogId(log.getInferenceLogId())
 			.userId(log.getUser().getUserId())
 			.modelKey(log.getModelKey())
 			.modelVer(log.getModelVersion())
-			.inputSnapshot(inputSnapshot)
-			.outputSnapshot(outputSnapshot)
+			.inputSnapshot(snapshotOf(log.getInputHash(), log.getInputSnapshot(), snapshots))
+			.outputSnapshot(snapshotOf(log.getOutputHash(), log.getOutputSnapshot(), snapshots))
 			.latencyMs(log.getLatencyMs())
-			.knowledgeReferences(knowledgeRefCount)
+			.knowledgeReferences(knowledgeReferenceCountOf(log))
+			.snapshotBytes(log.getSnapshotBytes())
+			.cacheHit(Boolean.TRUE.equals(log.getCacheHit()))
 			.createdAt(log.getCreatedAt())
 			.build();
 	}
 
-	/**
-	 * JSON 문자열 파싱
-	 */
-	private JsonNode parseJson(String jsonString) {
-		if (jsonString == null || jsonString.isEmpty()) {
-			return null;
-		}
-		try {
-			return objectMapper.readTree(jsonString);
-		} catch (JsonProcessingException e) {
-			log.error("JSON 파싱 실패: {}", jsonString, e);
-			return null;
-		}
+	private JsonColumn snapshotOf(String hash, JsonColumn legacySnapshot, Map<String, String> snapshots) {
+		return hash != null ? JsonColumn.of(snapshots.get(hash)) : legacySnapshot;
 	}
 }
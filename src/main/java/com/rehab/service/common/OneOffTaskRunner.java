@@ -0,0 +1,53 @@
+package com.rehab.service.common;
+
+import org.springframework.stereotype.Component;
+
+import com.rehab.domain.repository.common.NamedLockRepository;
+import com.rehab.domain.repository.common.OneOffTaskRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 한 번만 실행하는 작업 실행기 (완료 기록 + MySQL 이름 잠금)
+ * 완료 기록(one_off_task)이 있으면 바로 건너뛰고, 없으면 작업 이름의 잠금을 잡은 한 인스턴스만 실행한다.
+ * 작업이 예외 없이 끝났을 때만 완료로 기록하므로, 도중에 실패하면 다음 기동 때 다시 실행된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OneOffTaskRunner {
+
+	private static final String LOCK_PREFIX = "one_off_task:";
+
+	private final OneOffTaskRepository oneOffTaskRepository;
+	private final NamedLockRepository namedLockRepository;
+
+	/**
+	 * 아직 완료되지 않은 작업이면 실행
+	 *
+	 * @return 이번에 실행해서 완료했으면 true
+	 */
+	public boolean runOnce(String taskName, Runnable task) {
+		if (oneOffTaskRepository.isCompleted(taskName)) {
+			log.debug("One-off task already completed: {}", taskName);
+			return false;
+		}
+
+		boolean[] completed = {false};
+		boolean locked = namedLockRepository.runExclusively(LOCK_PREFIX + taskName, () -> {
+			// 완료 여부를 확인한 뒤 잠금을 잡기 전에 다른 인스턴스가 끝냈을 수 있음
+			if (oneOffTaskRepository.isCompleted(taskName)) {
+				return;
+			}
+			task.run();
+			oneOffTaskRepository.markCompleted(taskName);
+			completed[0] = true;
+		});
+
+		if (!locked) {
+			log.info("One-off task skipped (running on another instance): {}", taskName);
+		}
+		return completed[0];
+	}
+}
@@ -0,0 +1,74 @@
+package com.rehab.service.dailySummary;
+
+import com.rehab.domain.entity.DietLog;
+import com.rehab.domain.entity.ExerciseLog;
+import com.rehab.domain.entity.MedicationLog;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 일일 요약 증분 값
+ * 로그 한 건이 DailySummary 누적 컬럼에 더해야 할 값만 담는다.
+ * 완료 판정 기준은 전체 재계산(DailySummaryService#updateDailySummary)과 동일하다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class DailySummaryDelta {
+
+	private final int completedExercises;
+	private final int durationSec;
+	private final int painSum;
+	private final int painCount;
+	private final int rpeSum;
+	private final int rpeCount;
+	private final int takenMedications;
+	private final int completedDiets;
+
+	/**
+	 * 운동 로그 증분 (완료율 80% 이상이면 완료)
+	 */
+	public static DailySummaryDelta of(ExerciseLog log) {
+		return new DailySummaryDelta(
+			log.getCompletionRate() != null && log.getCompletionRate() >= 80 ? 1 : 0,
+			log.getDurationSec() != null ? log.getDurationSec() : 0,
+			log.getPainAfter() != null ? log.getPainAfter() : 0,
+			log.getPainAfter() != null ? 1 : 0,
+			log.getRpe() != null ? log.getRpe() : 0,
+			log.getRpe() != null ? 1 : 0,
+			0,
+			0);
+	}
+
+	/**
+	 * 복약 로그 증분 (taken = true면 복용 완료)
+	 */
+	public static DailySummaryDelta of(MedicationLog log) {
+		return new DailySummaryDelta(0, 0, 0, 0, 0, 0, Boolean.TRUE.equals(log.getTaken()) ? 1 : 0, 0);
+	}
+
+	/**
+	 * 식단 로그 증분 (completed = true 또는 portionConsumed >= 80이면 완료)
+	 */
+	public static DailySummaryDelta of(DietLog log) {
+		boolean completed = Boolean.TRUE.equals(log.getCompleted())
+			|| (log.getPortionConsumed() != null && log.getPortionConsumed() >= 80);
+		return new DailySummaryDelta(0, 0, 0, 0, 0, 0, 0, completed ? 1 : 0);
+	}
+
+	/**
+	 * 같은 (사용자, 날짜)의 증분 합치기
+	 */
+	public DailySummaryDelta merge(DailySummaryDelta other) {
+		return new DailySummaryDelta(
+			completedExercises + other.completedExercises,
+			durationSec + other.durationSec,
+			painSum + other.painSum,
+			painCount + other.painCount,
+			rpeSum + other.rpeSum,
+			rpeCount + other.rpeCount,
+			takenMedications + other.takenMedications,
+			completedDiets + other.completedDiets);
+	}
+}
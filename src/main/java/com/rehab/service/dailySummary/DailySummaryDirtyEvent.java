@@ -0,0 +1,19 @@
+package com.rehab.service.dailySummary;
+
+import java.time.LocalDate;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일일 요약 갱신 필요 이벤트
+ * 로그 저장 트랜잭션이 커밋된 뒤 DailySummaryUpdatePipeline이 받아 비동기로 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class DailySummaryDirtyEvent {
+
+	private final Long userId;
+	private final LocalDate date;
+	private final DailySummaryDelta delta;
+}
@@ -1,10 +1,10 @@
 package com.rehab.service.dailySummary;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.apiPayload.code.status.ErrorStatus;
 import com.rehab.apiPayload.exception.RehabPlanException;
+import com.rehab.common.json.JsonColumn;
 import com.rehab.domain.entity.DailySummary;
 import com.rehab.domain.entity.DietLog;
 import com.rehab.domain.entity.ExerciseLog;
@@ -22,6 +22,7 @@ import com.rehab.dto.dailySummary.DailySummaryResponse;
 import com.rehab.domain.repository.dailySummary.DailySummaryRepository;
 import com.rehab.domain.repository.exercise.ExerciseLogRepository;
 import com.rehab.domain.repository.plan.PlanItemRepository;
+import com.rehab.domain.repository.report.UserMetricBucketRepository;
 import com.rehab.service.streak.StreakService;
 
 import lombok.RequiredArgsConstructor;
@@ -54,6 +55,7 @@ public class DailySummaryService {
 	private final DietPlanItemRepository dietPlanItemRepository;
 	private final RehabPlanRepository rehabPlanRepository;
 	private final UserRepository userRepository;
+	private final UserMetricBucketRepository userMetricBucketRepository;
 	private final StreakService streakService;
 	private final ObjectMapper objectMapper;
 
@@ -86,7 +88,7 @@ public class DailySummaryService {
 					.dietCompletionRate(0)
 					.avgPainScore(0)
 					.totalDurationSec(0)
-					.dailyMetrics("{}")
+					.dailyMetrics(JsonColumn.of("{}"))
 					.build();
 			});
 
@@ -94,7 +96,44 @@ public class DailySummaryService {
 	}
 
 	/**
-	 * 일일 요약 업데이트 (운동/복약/식단 로그 생성 시 호출)
+	 * 로그 증분 반영 (운동/복약/식단 로그 생성 시 호출)
+	 * 누적 컬럼에 증분을 더하는 단일 UPDATE로 처리하고,
+	 * 요약 행이 없거나 누적 컬럼이 없는 행(레거시 행, 활성 플랜이 없는 날)이면 전체 재계산으로 대체하고 true를 반환한다.
+	 */
+	@Transactional
+	public boolean applyLogDelta(Long userId, LocalDateTime dateTime, DailySummaryDelta delta) {
+		LocalDate targetDate = dateTime.toLocalDate();
+		LocalDateTime startOfDay = targetDate.atStartOfDay();
+
+		int updated = dailySummaryRepository.applyDelta(
+			userId,
+			startOfDay,
+			delta.getCompletedExercises(),
+			delta.getTakenMedications(),
+			delta.getCompletedDiets(),
+			delta.getDurationSec(),
+			delta.getPainSum(),
+			delta.getPainCount(),
+			delta.getRpeSum(),
+			delta.getRpeCount());
+
+		if (updated == 0) {
+			log.info("누적 가능한 일일 요약이 없어 전체 재계산 - userId: {}, date: {}", userId, targetDate);
+			updateDailySummary(userId, dateTime);
+			return true;
+		}
+
+		log.info("일일 요약 증분 반영 완료 - userId: {}, date: {}", userId, targetDate);
+		userMetricBucketRepository.refreshFromDailySummary(userId, startOfDay);
+
+		dailySummaryRepository.findRatesByUserIdAndDate(userId, startOfDay)
+			.ifPresent(rates -> updateStreak(userId, targetDate,
+				rates.getExerciseCompletionRate(), rates.getMedicationCompletionRate()));
+		return false;
+	}
+
+	/**
+	 * 일일 요약 전체 재계산 (요약 최초 생성 및 누적값 복구용)
 	 */
 	@Transactional
 	public void updateDailySummary(Long userId, LocalDateTime dateTime) {
@@ -114,54 +153,24 @@ public class DailySummaryService {
 				com.rehab.domain.entity.enums.RehabPlanStatus.ACTIVE)
 			.orElse(null);
 
-		if (activePlan == null) {
-			log.warn("활성 플랜이 없습니다. 빈 DailySummary를 생성합니다. userId: {}, date: {}", userId, targetDate);
-
-			// 활성 플랜이 없어도 빈 DailySummary는 생성
-			DailySummary summary = dailySummaryRepository
-				.findByUser_UserIdAndDate(userId, startOfDay)
-				.orElseGet(() -> {
-					Map<String, Object> emptyMetrics = new HashMap<>();
-					emptyMetrics.put("totalExercises", 0);
-					emptyMetrics.put("completedExercises", 0);
-					emptyMetrics.put("avgRpe", 0.0);
-					emptyMetrics.put("totalMedications", 0);
-					emptyMetrics.put("takenMedications", 0);
-					emptyMetrics.put("totalDiets", 0);
-					emptyMetrics.put("completedDiets", 0);
-
-					DailySummary newSummary = DailySummary.builder()
-						.user(user)
-						.date(startOfDay)
-						.allExercisesCompleted(false)
-						.exerciseCompletionRate(0)
-						.allMedicationsTaken(false)
-						.medicationCompletionRate(0)
-						.allDietCompleted(false)
-						.dietCompletionRate(0)
-						.avgPainScore(0)
-						.totalDurationSec(0)
-						.dailyMetrics(convertToJson(emptyMetrics))
-						.build();
-
-					return dailySummaryRepository.save(newSummary);
-				});
-
-			log.info("빈 DailySummary 생성 완료 - summaryId: {}", summary.getSummaryId());
-			return;
+		// 활성 플랜이 없으면 목표 수가 0이라 완료율/달성 여부는 0/false로 두고 당일 로그만 집계한다.
+		Long rehabPlanId = activePlan == null ? null : activePlan.getRehabPlanId();
+		if (rehabPlanId == null) {
+			log.warn("활성 플랜이 없습니다. 당일 로그만으로 DailySummary를 갱신합니다. userId: {}, date: {}",
+				userId, targetDate);
 		}
 
 		// 1. 운동 완료율 계산
 		ExerciseCompletionResult exerciseResult = calculateExerciseCompletion(
-			userId, activePlan.getRehabPlanId(), startOfDay, endOfDay);
+			userId, rehabPlanId, startOfDay, endOfDay);
 
 		// 2. 복약 완료율 계산
 		MedicationCompletionResult medicationResult = calculateMedicationCompletion(
-			userId, activePlan.getRehabPlanId(), startOfDay, endOfDay);
+			userId, rehabPlanId, startOfDay, endOfDay);
 
 		// 3. 식단 완료율 계산
 		DietCompletionResult dietResult = calculateDietCompletion(
-			userId, activePlan.getRehabPlanId(), startOfDay, endOfDay);
+			userId, rehabPlanId, startOfDay, endOfDay);
 
 		// dailyMetrics 구성
 		Map<String, Object> dailyMetrics = new HashMap<>();
@@ -185,7 +194,7 @@ public class DailySummaryService {
 			);
 
 		// 업데이트
-		DailySummary updatedSummary = DailySummary.builder()
+		DailySummary.DailySummaryBuilder builder = DailySummary.builder()
 			.summaryId(summary.getSummaryId())
 			.user(user)
 			.date(startOfDay)
@@ -201,10 +210,26 @@ public class DailySummaryService {
 			// 기타
 			.avgPainScore(exerciseResult.avgPainScore)
 			.totalDurationSec(exerciseResult.totalDurationSec)
-			.dailyMetrics(dailyMetricsJson)
-			.build();
+			.dailyMetrics(JsonColumn.of(dailyMetricsJson));
+
+		// 증분 집계용 누적값 (플랜이 없으면 NULL로 두어 로그마다 전체 재계산)
+		if (rehabPlanId != null) {
+			builder
+				.totalExercises((int) exerciseResult.totalCount)
+				.completedExercises((int) exerciseResult.completedCount)
+				.totalMedications((int) medicationResult.totalCount)
+				.takenMedications((int) medicationResult.completedCount)
+				.totalDiets((int) dietResult.totalCount)
+				.completedDiets((int) dietResult.completedCount)
+				.painSum(exerciseResult.painSum)
+				.painCount(exerciseResult.painCount)
+				.rpeSum(exerciseResult.rpeSum)
+				.rpeCount(exerciseResult.rpeCount);
+		}
+		DailySummary updatedSummary = builder.build();
 
 		dailySummaryRepository.save(updatedSummary);
+		userMetricBucketRepository.refreshFromDailySummary(userId, startOfDay);
 
 		log.info("일일 요약 업데이트 완료 - summaryId: {}, 운동: {}%, 복약: {}%, 식단: {}%",
 			updatedSummary.getSummaryId(),
@@ -212,14 +237,17 @@ public class DailySummaryService {
 			medicationResult.completionRate,
 			dietResult.completionRate);
 
-		// Streak 업데이트
+		if (rehabPlanId != null) {
+			updateStreak(userId, targetDate, exerciseResult.completionRate, medicationResult.completionRate);
+		}
+	}
+
+	/**
+	 * Streak 업데이트 (실패해도 일일 요약은 유지)
+	 */
+	private void updateStreak(Long userId, LocalDate targetDate, Integer exerciseRate, Integer medicationRate) {
 		try {
-			streakService.updateStreakFromDailySummary(
-				userId,
-				targetDate,
-				exerciseResult.completionRate,
-				medicationResult.completionRate
-			);
+			streakService.updateStreakFromDailySummary(userId, targetDate, exerciseRate, medicationRate);
 			log.info("Streak 업데이트 완료 - userId: {}, date: {}", userId, targetDate);
 		} catch (Exception e) {
 			log.error("Streak 업데이트 실패 - userId: {}, date: {}", userId, targetDate, e);
@@ -232,48 +260,51 @@ public class DailySummaryService {
 	private ExerciseCompletionResult calculateExerciseCompletion(
 		Long userId, Long rehabPlanId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
 
-		// 해당 플랜의 총 운동 항목 수
-		long totalExercises = planItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
+		// 해당 플랜의 총 운동 항목 수 (플랜이 없으면 0)
+		long totalExercises = rehabPlanId == null
+			? 0
+			: planItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
 
 		// 해당 날짜의 운동 로그
 		List<ExerciseLog> logs = exerciseLogRepository
 			.findByUser_UserIdAndLoggedAtBetween(userId, startOfDay, endOfDay);
 
-		if (totalExercises == 0) {
-			return new ExerciseCompletionResult(0, 0, 0, true, 0, 0, 0.0);
+		// 누적값 (증분 반영과 같은 기준: 완료율 80% 이상이면 완료)
+		long completedExercises = 0;
+		int totalDurationSec = 0;
+		int painSum = 0;
+		int painCount = 0;
+		int rpeSum = 0;
+		int rpeCount = 0;
+		for (ExerciseLog log : logs) {
+			if (log.getCompletionRate() != null && log.getCompletionRate() >= 80) {
+				completedExercises++;
+			}
+			if (log.getDurationSec() != null) {
+				totalDurationSec += log.getDurationSec();
+			}
+			if (log.getPainAfter() != null) {
+				painSum += log.getPainAfter();
+				painCount++;
+			}
+			if (log.getRpe() != null) {
+				rpeSum += log.getRpe();
+				rpeCount++;
+			}
 		}
 
-		// 완료된 운동 (완료율 80% 이상)
-		long completedExercises = logs.stream()
-			.filter(log -> log.getCompletionRate() != null && log.getCompletionRate() >= 80)
-			.count();
-
-		int completionRate = (int) ((completedExercises * 100) / totalExercises);
-		boolean allCompleted = completedExercises >= totalExercises;
+		int completionRate = totalExercises == 0 ? 0 : (int) ((completedExercises * 100) / totalExercises);
+		boolean allCompleted = rehabPlanId != null && completedExercises >= totalExercises;
 
 		// 평균 통증 점수
-		int avgPainScore = (int) Math.round(logs.stream()
-			.filter(log -> log.getPainAfter() != null)
-			.mapToInt(ExerciseLog::getPainAfter)
-			.average()
-			.orElse(0.0));
-
-		// 총 운동 시간
-		int totalDurationSec = logs.stream()
-			.filter(log -> log.getDurationSec() != null)
-			.mapToInt(ExerciseLog::getDurationSec)
-			.sum();
+		int avgPainScore = painCount == 0 ? 0 : (int) Math.round((double) painSum / painCount);
 
 		// 평균 RPE
-		double avgRpe = Math.round(logs.stream()
-			.filter(log -> log.getRpe() != null)
-			.mapToInt(ExerciseLog::getRpe)
-			.average()
-			.orElse(0.0) * 10) / 10.0;
+		double avgRpe = rpeCount == 0 ? 0.0 : Math.round((double) rpeSum / rpeCount * 10) / 10.0;
 
 		return new ExerciseCompletionResult(
 			totalExercises, completedExercises, completionRate, allCompleted,
-			avgPainScore, totalDurationSec, avgRpe);
+			avgPainScore, totalDurationSec, avgRpe, painSum, painCount, rpeSum, rpeCount);
 	}
 
 	/**
@@ -282,12 +313,10 @@ public class DailySummaryService {
 	private MedicationCompletionResult calculateMedicationCompletion(
 		Long userId, Long rehabPlanId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
 
-		// 해당 플랜의 총 복약 항목 수
-		long totalMedications = medicationPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
-
-		if (totalMedications == 0) {
-			return new MedicationCompletionResult(0, 0, 0, true);
-		}
+		// 해당 플랜의 총 복약 항목 수 (플랜이 없으면 0)
+		long totalMedications = rehabPlanId == null
+			? 0
+			: medicationPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
 
 		// 해당 날짜의 복약 로그
 		List<MedicationLog> logs = medicationLogRepository
@@ -295,11 +324,11 @@ public class DailySummaryService {
 
 		// 복용 완료된 복약 (taken = true)
 		long takenMedications = logs.stream()
-			.filter(MedicationLog::getTaken)
+			.filter(log -> Boolean.TRUE.equals(log.getTaken()))
 			.count();
 
-		int completionRate = (int) ((takenMedications * 100) / totalMedications);
-		boolean allCompleted = takenMedications >= totalMedications;
+		int completionRate = totalMedications == 0 ? 0 : (int) ((takenMedications * 100) / totalMedications);
+		boolean allCompleted = rehabPlanId != null && takenMedications >= totalMedications;
 
 		return new MedicationCompletionResult(
 			totalMedications, takenMedications, completionRate, allCompleted);
@@ -311,12 +340,10 @@ public class DailySummaryService {
 	private DietCompletionResult calculateDietCompletion(
 		Long userId, Long rehabPlanId, LocalDateTime startOfDay, LocalDateTime endOfDay) {
 
-		// 해당 플랜의 총 식단 항목 수
-		long totalDiets = dietPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
-
-		if (totalDiets == 0) {
-			return new DietCompletionResult(0, 0, 0, true);
-		}
+		// 해당 플랜의 총 식단 항목 수 (플랜이 없으면 0)
+		long totalDiets = rehabPlanId == null
+			? 0
+			: dietPlanItemRepository.countByRehabPlan_RehabPlanId(rehabPlanId);
 
 		// 해당 날짜의 식단 로그
 		List<DietLog> logs = dietLogRepository
@@ -332,8 +359,8 @@ public class DailySummaryService {
 			})
 			.count();
 
-		int completionRate = (int) ((completedDiets * 100) / totalDiets);
-		boolean allCompleted = completedDiets >= totalDiets;
+		int completionRate = totalDiets == 0 ? 0 : (int) ((completedDiets * 100) / totalDiets);
+		boolean allCompleted = rehabPlanId != null && completedDiets >= totalDiets;
 
 		return new DietCompletionResult(
 			totalDiets, completedDiets, completionRate, allCompleted);
@@ -355,27 +382,12 @@ public class DailySummaryService {
 			.dietCompletionRate(summary.getDietCompletionRate())
 			.avgPainScore(summary.getAvgPainScore())
 			.totalDurationSec(summary.getTotalDurationSec())
-			.dailyMetrics(parseJson(summary.getDailyMetrics()))
+			.dailyMetrics(summary.getDailyMetrics())
 			.createdAt(summary.getCreatedAt())
 			.updatedAt(summary.getUpdatedAt())
 			.build();
 	}
 
-	/**
-	 * JSON 문자열을 JsonNode로 변환
-	 */
-	private JsonNode parseJson(String jsonString) {
-		if (jsonString == null || jsonString.isEmpty()) {
-			return null;
-		}
-		try {
-			return objectMapper.readTree(jsonString);
-		} catch (JsonProcessingException e) {
-			log.error("JSON 파싱 실패: {}", jsonString, e);
-			return null;
-		}
-	}
-
 	/**
 	 * Map을 JSON 문자열로 변환
 	 */
@@ -398,9 +410,14 @@ public class DailySummaryService {
 		int avgPainScore;
 		int totalDurationSec;
 		double avgRpe;
+		int painSum;
+		int painCount;
+		int rpeSum;
+		int rpeCount;
 
 		ExerciseCompletionResult(long totalCount, long completedCount, int completionRate,
-			boolean allCompleted, int avgPainScore, int totalDurationSec, double avgRpe) {
+			boolean allCompleted, int avgPainScore, int totalDurationSec, double avgRpe,
+			int painSum, int painCount, int rpeSum, int rpeCount) {
 			this.totalCount = totalCount;
 			this.completedCount = completedCount;
 			this.completionRate = completionRate;
@@ -408,6 +425,10 @@ public class DailySummaryService {
 			this.avgPainScore = avgPainScore;
 			this.totalDurationSec = totalDurationSec;
 			this.avgRpe = avgRpe;
+			this.painSum = painSum;
+			this.painCount = painCount;
+			this.rpeSum = rpeSum;
+			this.rpeCount = rpeCount;
 		}
 	}
 
@@ -0,0 +1,309 @@
+package com.rehab.service.dailySummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.rehab.domain.repository.common.NamedLockRepository;
+import com.rehab.domain.repository.dailySummary.DailySummaryDirtyRepository;
+import com.rehab.domain.repository.dailySummary.DailySummaryDirtyRepository.DirtyRow;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 일일 요약 비동기 갱신 파이프라인
+ * 로그 트랜잭션 커밋 후 (userId, date) 단위로 이벤트를 모아 윈도우가 지나면 한 번에 반영한다.
+ * 같은 키로 들어온 증분은 합쳐서 한 번의 UPDATE로 처리된다.
+ * 반영은 항상 작업 스레드에서 새 트랜잭션으로 실행하며, 같은 키의 반영은 동시에 하나만 실행한다.
+ * 대기 중인 증분은 메모리에만 있으므로 로그 트랜잭션 안에서 (userId, date)를 daily_summary_dirty에 표시해 두고,
+ * 주기적인 정합성 점검(기동 직후 포함)이 한동안 새 표시가 없는 날짜를 전체 재계산한 뒤 표시를 지운다.
+ * 그래서 반영 전에 프로세스가 죽어 증분이 유실되어도 그날 요약은 stale-ms 뒤에 복구된다.
+ */
+@Slf4j
+@Component
+public class DailySummaryUpdatePipeline {
+
+	private static final String RECONCILE_LOCK = "daily_summary_reconcile";
+
+	private final DailySummaryService dailySummaryService;
+	private final DailySummaryDirtyRepository dirtyRepository;
+	private final NamedLockRepository namedLockRepository;
+	private final ScheduledThreadPoolExecutor executor;
+	private final Map<DirtyKey, PendingUpdate> pending = new ConcurrentHashMap<>();
+	private final Set<DirtyKey> flushing = ConcurrentHashMap.newKeySet();
+	private final long windowMs;
+	private final int maxPending;
+	private final long shutdownTimeoutMs;
+	private final long reconcileStaleMs;
+	private final int reconcileBatchSize;
+
+	private final Counter eventCounter;
+	private final Counter flushCounter;
+	private final Timer recomputeTimer;
+	private final Counter reconcileCounter;
+
+	public DailySummaryUpdatePipeline(
+		DailySummaryService dailySummaryService,
+		DailySummaryDirtyRepository dirtyRepository,
+		NamedLockRepository namedLockRepository,
+		MeterRegistry meterRegistry,
+		@Value("${daily-summary.pipeline.workers:4}") int workers,
+		@Value("${daily-summary.pipeline.window-ms:500}") long windowMs,
+		@Value("${daily-summary.pipeline.max-pending:10000}") int maxPending,
+		@Value("${daily-summary.pipeline.shutdown-timeout-ms:10000}") long shutdownTimeoutMs,
+		@Value("${daily-summary.pipeline.reconcile-stale-ms:60000}") long reconcileStaleMs,
+		@Value("${daily-summary.pipeline.reconcile-batch-size:500}") int reconcileBatchSize
+	) {
+		this.dailySummaryService = dailySummaryService;
+		this.dirtyRepository = dirtyRepository;
+		this.namedLockRepository = namedLockRepository;
+		this.windowMs = windowMs;
+		this.maxPending = maxPending;
+		this.shutdownTimeoutMs = shutdownTimeoutMs;
+		this.reconcileStaleMs = reconcileStaleMs;
+		this.reconcileBatchSize = reconcileBatchSize;
+
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ScheduledThreadPoolExecutor(workers, runnable -> {
+			Thread thread = new Thread(runnable, "daily-summary-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.setRemoveOnCancelPolicy(true);
+
+		this.eventCounter = Counter.builder("daily.summary.pipeline.events")
+			.description("수신한 일일 요약 갱신 이벤트 수")
+			.register(meterRegistry);
+		this.flushCounter = Counter.builder("daily.summary.pipeline.flushes")
+			.description("실제 반영(UPDATE/재계산) 횟수")
+			.register(meterRegistry);
+		this.recomputeTimer = Timer.builder("daily.summary.pipeline.recompute.latency")
+			.description("일일 요약 반영 소요 시간")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.reconcileCounter = Counter.builder("daily.summary.pipeline.reconciled")
+			.description("정합성 점검으로 전체 재계산한 (userId, date) 수")
+			.register(meterRegistry);
+		Gauge.builder("daily.summary.pipeline.queue.depth", pending, Map::size)
+			.description("반영 대기 중인 (userId, date) 키 수")
+			.register(meterRegistry);
+		Gauge.builder("daily.summary.pipeline.coalesce.ratio", this, DailySummaryUpdatePipeline::coalesceRatio)
+			.description("이벤트 대비 병합되어 생략된 반영 비율")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 로그 트랜잭션 안에서 갱신 필요 표시 (로그와 함께 커밋되므로 반영 전에 죽어도 남는다)
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void markDirty(DailySummaryDirtyEvent event) {
+		dirtyRepository.mark(event.getUserId(), event.getDate(), LocalDateTime.now());
+	}
+
+	/**
+	 * 로그 트랜잭션 커밋 후 이벤트 수신
+	 * 이미 커밋된 트랜잭션 안이라 여기서 직접 반영하면 쓰기가 커밋되지 않으므로, 반영은 항상 작업 스레드에 맡긴다.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onDirty(DailySummaryDirtyEvent event) {
+		eventCounter.increment();
+		DirtyKey key = new DirtyKey(event.getUserId(), event.getDate());
+
+		// 대기 키가 한도를 넘으면 윈도우를 기다리지 않고 바로 반영 예약 (병합보다 대기열 크기 제한을 우선)
+		boolean overflow = pending.size() >= maxPending && !pending.containsKey(key);
+		if (overflow) {
+			log.warn("일일 요약 대기열 한도 초과, 즉시 반영 예약 - userId: {}, date: {}", key.userId, key.date);
+		}
+		enqueue(key, new PendingUpdate(event.getDelta(), false), overflow ? 0L : windowMs);
+	}
+
+	private void enqueue(DirtyKey key, PendingUpdate update, long delayMs) {
+		boolean[] created = {false};
+		pending.compute(key, (k, current) -> {
+			if (current == null) {
+				created[0] = true;
+				return update;
+			}
+			return current.merge(update);
+		});
+
+		if (created[0]) {
+			schedule(key, delayMs);
+		}
+	}
+
+	private void schedule(DirtyKey key, long delayMs) {
+		try {
+			executor.schedule(() -> drain(key), delayMs, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			// 종료 중: 대기열에 남겨 두면 shutdown()이 마지막에 반영한다
+			log.debug("일일 요약 반영 예약 불가 (종료 중) - userId: {}, date: {}", key.userId, key.date);
+		}
+	}
+
+	/**
+	 * 대기 중인 갱신 반영 (같은 키가 반영 중이면 끝난 뒤로 미룸)
+	 */
+	private void drain(DirtyKey key) {
+		if (!flushing.add(key)) {
+			schedule(key, windowMs);
+			return;
+		}
+		try {
+			PendingUpdate update = pending.remove(key);
+			if (update != null) {
+				flush(key, update);
+			}
+		} finally {
+			flushing.remove(key);
+		}
+	}
+
+	private void flush(DirtyKey key, PendingUpdate update) {
+		flushCounter.increment();
+		long start = System.nanoTime();
+		boolean recomputed;
+		try {
+			if (update.recompute) {
+				dailySummaryService.updateDailySummary(key.userId, key.date.atStartOfDay());
+				return;
+			}
+			recomputed = dailySummaryService.applyLogDelta(key.userId, key.date.atStartOfDay(), update.delta);
+		} catch (Exception e) {
+			log.error("일일 요약 반영 실패, 전체 재계산으로 복구 - userId: {}, date: {}", key.userId, key.date, e);
+			recomputed = recover(key);
+		} finally {
+			recomputeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+
+		if (recomputed && !update.recompute) {
+			// 재계산 직전에 커밋된 로그의 증분이 뒤따라 들어오면 중복 집계될 수 있어 한 번 더 재계산으로 정리
+			enqueue(key, new PendingUpdate(null, true), windowMs);
+		}
+	}
+
+	private boolean recover(DirtyKey key) {
+		try {
+			dailySummaryService.updateDailySummary(key.userId, key.date.atStartOfDay());
+			return true;
+		} catch (Exception e) {
+			log.error("일일 요약 재계산 실패 - userId: {}, date: {}", key.userId, key.date, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 정합성 점검 (기동 직후부터 interval마다, 여러 인스턴스 중 한 곳에서만)
+	 * stale-ms 동안 새 표시가 없는 날짜는 대기 중인 증분이 없어야 하므로 전체 재계산으로 확정하고 표시를 지운다.
+	 * stale-ms는 윈도우와 반영 지연보다 충분히 길어야 한다.
+	 */
+	@Scheduled(fixedDelayString = "${daily-summary.pipeline.reconcile-interval-ms:60000}")
+	public void reconcile() {
+		try {
+			if (!namedLockRepository.runExclusively(RECONCILE_LOCK, this::reconcileStaleKeys)) {
+				log.debug("다른 인스턴스에서 일일 요약 정합성 점검 중");
+			}
+		} catch (Exception e) {
+			log.error("일일 요약 정합성 점검 실패", e);
+		}
+	}
+
+	private void reconcileStaleKeys() {
+		List<DirtyRow> rows = dirtyRepository.findMarkedBefore(
+			LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(reconcileStaleMs)), reconcileBatchSize);
+		int reconciled = 0;
+		for (DirtyRow row : rows) {
+			if (reconcile(new DirtyKey(row.userId(), row.date()), row.markedAt())) {
+				reconciled++;
+			}
+		}
+		if (!rows.isEmpty()) {
+			log.info("일일 요약 정합성 점검 완료 - 대상: {}, 재계산: {}", rows.size(), reconciled);
+		}
+	}
+
+	/**
+	 * 표시된 날짜 전체 재계산 (이 인스턴스에서 반영 대기/진행 중인 키는 다음 점검으로 미룸)
+	 */
+	private boolean reconcile(DirtyKey key, LocalDateTime markedAt) {
+		if (pending.containsKey(key) || !flushing.add(key)) {
+			return false;
+		}
+		try {
+			dailySummaryService.updateDailySummary(key.userId, key.date.atStartOfDay());
+			dirtyRepository.clear(key.userId, key.date, markedAt);
+			reconcileCounter.increment();
+			return true;
+		} catch (Exception e) {
+			log.error("일일 요약 정합성 재계산 실패 - userId: {}, date: {}", key.userId, key.date, e);
+			return false;
+		} finally {
+			flushing.remove(key);
+		}
+	}
+
+	private double coalesceRatio() {
+		double events = eventCounter.count();
+		if (events == 0) {
+			return 0.0;
+		}
+		return Math.max(0.0, 1.0 - flushCounter.count() / events);
+	}
+
+	/**
+	 * 종료 시 진행 중인 반영을 기다린 뒤 남은 갱신을 모두 반영
+	 * 여기서 반영하지 못한 갱신은 daily_summary_dirty 표시로 다음 정합성 점검에서 재계산된다.
+	 */
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+		try {
+			if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+				log.warn("일일 요약 반영 종료 대기 시간 초과 - pending: {}", pending.size());
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		// 시간 초과로 아직 반영 중인 키가 있으면 같은 키를 동시에 반영하지 않도록 남은 갱신은 포기
+		while (!pending.isEmpty() && flushing.isEmpty()) {
+			pending.keySet().forEach(this::drain);
+		}
+		if (!pending.isEmpty()) {
+			log.warn("종료 전에 반영하지 못한 일일 요약 - pending: {}", pending.size());
+		}
+	}
+
+	private record DirtyKey(Long userId, LocalDate date) {
+	}
+
+	/**
+	 * 대기 중인 갱신 (recompute면 증분 대신 전체 재계산)
+	 */
+	private record PendingUpdate(DailySummaryDelta delta, boolean recompute) {
+
+		PendingUpdate merge(PendingUpdate other) {
+			if (recompute || other.recompute) {
+				return new PendingUpdate(null, true);
+			}
+			return new PendingUpdate(delta.merge(other.delta), false);
+		}
+	}
+}
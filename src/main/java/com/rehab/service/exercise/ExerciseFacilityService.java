@@ -1,22 +1,33 @@
 package com.rehab.service.exercise;
 
+import com.rehab.common.util.GeoBoundingBox;
 import com.rehab.domain.entity.*;
 import com.rehab.domain.entity.enums.FacilityType;
 import com.rehab.domain.repository.address.AddressRepository;
 import com.rehab.domain.repository.exercise.ExerciseFacilityRepository;
+import com.rehab.domain.repository.exercise.FacilityDistanceView;
 import com.rehab.domain.repository.exercise.UserFacilityFavoriteRepository;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.exercise.facility.FacilityDetailResponse;
 import com.rehab.dto.exercise.facility.FacilityFavoriteResponse;
 import com.rehab.dto.exercise.facility.FacilityListResponse;
+import com.rehab.dto.exercise.facility.FacilitySearchPageResponse;
 import com.rehab.dto.exercise.facility.FacilitySearchResponse;
+import com.rehab.service.facility.FacilityCatalogCache;
+import com.rehab.service.facility.FacilitySearchCursor;
+import com.rehab.service.facility.FacilitySearchCursor.Source;
+import com.rehab.service.facility.FacilitySpatialIndex;
+import com.rehab.service.facility.FacilitySpatialIndex.FacilityHit;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,16 +43,23 @@ public class ExerciseFacilityService {
 	private final UserRepository userRepository;
 	private final AddressRepository addressRepository;
 	private final UserFacilityFavoriteRepository favoriteRepository;
+	private final FacilitySpatialIndex facilitySpatialIndex;
+	private final FacilityCatalogCache facilityCatalogCache;
+
+	@Value("${facility.search.use-index:true}")
+	private boolean useSpatialIndex;
 
 	/**
-	 * 사용자 주소 기준 주변 시설 검색
+	 * 사용자 주소 기준 주변 시설 검색 (가까운 순 size개 + 다음 페이지 커서)
 	 */
-	public List<FacilitySearchResponse> searchNearbyFacilities(
+	public FacilitySearchPageResponse searchNearbyFacilities(
 		Long userId,
 		Double radiusKm,
-		List<FacilityType> facilityTypes) {
+		List<FacilityType> facilityTypes,
+		int size,
+		String cursor) {
 
-		log.info("주변 시설 검색 - userId: {}, radius: {}km, types: {}", userId, radiusKm, facilityTypes);
+		log.info("주변 시설 검색 - userId: {}, radius: {}km, types: {}, size: {}", userId, radiusKm, facilityTypes, size);
 
 		// 1. 사용자 주소 조회
 		Address userAddress = addressRepository.findByUser_UserId(userId)
@@ -51,36 +69,99 @@ public class ExerciseFacilityService {
 			throw new IllegalArgumentException("주소의 좌표 정보가 없습니다.");
 		}
 
-		// 2. 시설 검색 (필터 적용)
-		List<ExerciseFacility> facilities;
+		FacilitySearchCursor after = FacilitySearchCursor.decode(cursor);
+
+		// 2. 검색 경로 결정 (다음 페이지는 커서를 만든 경로로만 이어 감)
+		boolean indexAvailable = useSpatialIndex && facilitySpatialIndex.isReady();
+		Source source = after.getSource() != null
+			? after.getSource()
+			: (indexAvailable ? Source.INDEX : Source.DATABASE);
+		if (source == Source.INDEX && !indexAvailable) {
+			throw new IllegalArgumentException("검색 커서가 만료되었습니다. 처음부터 다시 검색해 주세요.");
+		}
+
+		// 3. 다음 페이지 여부 확인을 위해 size + 1개만 선택
+		List<FacilityHit> hits;
+		if (source == Source.INDEX) {
+			// 공간 인덱스: 주변 셀만 확인하며 상위 K개 힙 유지
+			hits = facilitySpatialIndex.searchNearest(
+				userAddress.getLatitude(), userAddress.getLongitude(), radiusKm, facilityTypes, size + 1, after);
+		} else {
+			// 인덱스를 쓸 수 없으면 DB에서 사각 범위로 좁힌 뒤 커서 이후 size + 1개 조회
+			hits = findWithinRadius(
+				userAddress.getLatitude(), userAddress.getLongitude(), radiusKm, facilityTypes, after, size + 1);
+		}
+
+		boolean hasNext = hits.size() > size;
+		List<FacilityHit> page = hasNext ? hits.subList(0, size) : hits;
+		FacilityHit last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+		return FacilitySearchPageResponse.builder()
+			.facilities(toSearchResponses(page))
+			.nextCursor(hasNext ? FacilitySearchCursor.of(source, last.distanceKm(), last.facilityId()).encode() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * DB 반경 검색 (위/경도 사각 범위 선필터 + 유형 필터 + 커서/limit)
+	 */
+	private List<FacilityHit> findWithinRadius(
+		Double latitude,
+		Double longitude,
+		Double radiusKm,
+		List<FacilityType> facilityTypes,
+		FacilitySearchCursor after,
+		int limit) {
+
+		GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
+
+		List<FacilityDistanceView> rows;
 		if (facilityTypes != null && !facilityTypes.isEmpty()) {
-			facilities = facilityRepository.findByIsActiveTrueAndFacilityTypeIn(facilityTypes);
+			rows = facilityRepository.findWithinBoundingBoxAndTypes(
+				latitude, longitude,
+				box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude(),
+				radiusKm,
+				after.getDistanceKm(), after.getFacilityId(),
+				facilityTypes.stream().map(FacilityType::name).collect(Collectors.toList()),
+				limit);
 		} else {
-			facilities = facilityRepository.findByIsActiveTrue();
+			rows = facilityRepository.findWithinBoundingBox(
+				latitude, longitude,
+				box.getMinLatitude(), box.getMaxLatitude(), box.getMinLongitude(), box.getMaxLongitude(),
+				radiusKm,
+				after.getDistanceKm(), after.getFacilityId(),
+				limit);
 		}
 
-		// 3. 거리 계산 및 필터링
-		return facilities.stream()
-			.map(facility -> {
-				double distance = ExerciseFacility.calculateDistance(
-					userAddress.getLatitude(),
-					userAddress.getLongitude(),
-					facility.getLatitude(),
-					facility.getLongitude()
-				);
-				return new FacilitySearchResponse(facility, distance);
-			})
-			.filter(dto -> dto.getDistanceKm() <= radiusKm)
-			.sorted((a, b) -> Double.compare(a.getDistanceKm(), b.getDistanceKm()))
+		return rows.stream()
+			.map(row -> new FacilityHit(row.getFacilityId(), row.getDistance()))
+			.collect(Collectors.toList());
+	}
+
+	/**
+	 * 인덱스 검색 결과 → 응답 변환 (거리순 유지)
+	 */
+	private List<FacilitySearchResponse> toSearchResponses(List<FacilityHit> hits) {
+		Map<Long, ExerciseFacility> facilityMap = facilityRepository.findAllById(
+				hits.stream().map(FacilityHit::facilityId).collect(Collectors.toList()))
+			.stream()
+			.collect(Collectors.toMap(ExerciseFacility::getFacilityId, Function.identity()));
+
+		return hits.stream()
+			.filter(hit -> facilityMap.containsKey(hit.facilityId()))
+			.map(hit -> new FacilitySearchResponse(facilityMap.get(hit.facilityId()), hit.distanceKm()))
 			.collect(Collectors.toList());
 	}
 
 	/**
 	 * 재활에 적합한 시설만 검색
 	 */
-	public List<FacilitySearchResponse> searchRehabSuitableFacilities(
+	public FacilitySearchPageResponse searchRehabSuitableFacilities(
 		Long userId,
-		Double radiusKm) {
+		Double radiusKm,
+		int size,
+		String cursor) {
 
 		List<FacilityType> rehabTypes = List.of(
 			FacilityType.REHAB_CENTER,
@@ -92,33 +173,37 @@ public class ExerciseFacilityService {
 			FacilityType.YOGA_STUDIO
 		);
 
-		return searchNearbyFacilities(userId, radiusKm, rehabTypes);
+		return searchNearbyFacilities(userId, radiusKm, rehabTypes, size, cursor);
 	}
 
 	/**
 	 * 시설 상세 조회
+	 * 시설 정보는 카탈로그 캐시에서 읽고, 사용자별 값은 요청마다 채운다.
+	 * distanceKm는 사용자 주소에 좌표가 있을 때 주소로부터의 거리(km, 소수 둘째 자리)이고 없으면 null이다.
 	 */
 	public FacilityDetailResponse getFacilityDetail(Long facilityId, Long userId) {
 		log.info("시설 상세 조회 - facilityId: {}, userId: {}", facilityId, userId);
 
-		ExerciseFacility facility = facilityRepository.findById(facilityId)
-			.orElseThrow(() -> new IllegalArgumentException("시설을 찾을 수 없습니다."));
+		// 사용자와 무관한 시설 정보는 카탈로그 캐시에서 조회
+		FacilityDetailResponse detail = facilityCatalogCache.getDetail(facilityId, () ->
+			new FacilityDetailResponse(
+				facilityRepository.findById(facilityId)
+					.orElseThrow(() -> new IllegalArgumentException("시설을 찾을 수 없습니다.")),
+				null, null));
 
 		// 사용자 주소로부터의 거리 계산 (주소가 있는 경우)
 		Double distanceKm = null;
-		if (userId != null) {
-			addressRepository.findByUser_UserId(userId)
-				.ifPresent(address -> {
-					if (address.hasCoordinates()) {
-						double distance = ExerciseFacility.calculateDistance(
-							address.getLatitude(),
-							address.getLongitude(),
-							facility.getLatitude(),
-							facility.getLongitude()
-						);
-						// distanceKm에 값 할당 (final 변수 제약으로 직접 할당 불가)
-					}
-				});
+		if (userId != null && detail.getLatitude() != null && detail.getLongitude() != null) {
+			distanceKm = addressRepository.findByUser_UserId(userId)
+				.filter(Address::hasCoordinates)
+				.map(address -> ExerciseFacility.calculateDistance(
+					address.getLatitude(),
+					address.getLongitude(),
+					detail.getLatitude(),
+					detail.getLongitude()
+				))
+				.map(distance -> Math.round(distance * 100.0) / 100.0)
+				.orElse(null);
 		}
 
 		// 즐겨찾기 여부 확인
@@ -129,7 +214,10 @@ public class ExerciseFacilityService {
 			);
 		}
 
-		return new FacilityDetailResponse(facility, distanceKm, isFavorite);
+		return detail.toBuilder()
+			.distanceKm(distanceKm)
+			.isFavorite(isFavorite)
+			.build();
 	}
 
 	/**
@@ -219,9 +307,11 @@ public class ExerciseFacilityService {
 	/**
 	 * 공공 시설만 검색 (무료/저렴한 시설)
 	 */
-	public List<FacilitySearchResponse> searchPublicFacilities(
+	public FacilitySearchPageResponse searchPublicFacilities(
 		Long userId,
-		Double radiusKm) {
+		Double radiusKm,
+		int size,
+		String cursor) {
 
 		List<FacilityType> publicTypes = List.of(
 			FacilityType.PUBLIC_GYM,
@@ -233,18 +323,20 @@ public class ExerciseFacilityService {
 			FacilityType.SPORTS_PARK
 		);
 
-		return searchNearbyFacilities(userId, radiusKm, publicTypes);
+		return searchNearbyFacilities(userId, radiusKm, publicTypes, size, cursor);
 	}
 
 	/**
 	 * 시설 유형별 검색
 	 */
-	public List<FacilitySearchResponse> searchByType(
+	public FacilitySearchPageResponse searchByType(
 		Long userId,
 		FacilityType facilityType,
-		Double radiusKm) {
+		Double radiusKm,
+		int size,
+		String cursor) {
 
-		return searchNearbyFacilities(userId, radiusKm, List.of(facilityType));
+		return searchNearbyFacilities(userId, radiusKm, List.of(facilityType), size, cursor);
 	}
 
 	/**
@@ -253,11 +345,9 @@ public class ExerciseFacilityService {
 	public List<FacilityListResponse> searchByDistrict(String district) {
 		log.info("지역별 시설 검색 - district: {}", district);
 
-		List<ExerciseFacility> facilities =
-			facilityRepository.findByDistrictAndIsActiveTrueOrderByNameAsc(district);
-
-		return facilities.stream()
-			.map(FacilityListResponse::new)
-			.collect(Collectors.toList());
+		return facilityCatalogCache.getDistrict(district, () ->
+			facilityRepository.findByDistrictAndIsActiveTrueOrderByNameAsc(district).stream()
+				.map(FacilityListResponse::new)
+				.collect(Collectors.toList()));
 	}
 }
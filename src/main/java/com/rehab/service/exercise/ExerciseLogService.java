@@ -12,10 +12,12 @@ import com.rehab.dto.exercise.ExerciseLogListResponse;
 import com.rehab.dto.exercise.ExerciseLogResponse;
 import com.rehab.domain.repository.exercise.ExerciseLogRepository;
 import com.rehab.domain.repository.plan.PlanItemRepository;
-import com.rehab.service.dailySummary.DailySummaryService;
+import com.rehab.service.dailySummary.DailySummaryDelta;
+import com.rehab.service.dailySummary.DailySummaryDirtyEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,7 +39,7 @@ public class ExerciseLogService {
 	private final ExerciseLogRepository exerciseLogRepository;
 	private final PlanItemRepository planItemRepository;
 	private final UserRepository userRepository;
-	private final DailySummaryService dailySummaryService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 운동 로그 생성
@@ -82,16 +84,9 @@ public class ExerciseLogService {
 
 		log.info("운동 로그 생성 완료 - exerciseLogId: {}", savedLog.getExerciseLogId());
 
-		// 일일 요약 업데이트 (비동기적으로 처리, 실패해도 로그 생성은 성공)
-		try {
-			dailySummaryService.updateDailySummary(userId, request.getLoggedAt());
-			log.info("일일 요약 업데이트 완료 - userId: {}, date: {}",
-				userId, request.getLoggedAt().toLocalDate());
-		} catch (Exception e) {
-			log.error("일일 요약 업데이트 실패 - userId: {}, date: {}, error: {}",
-				userId, request.getLoggedAt().toLocalDate(), e.getMessage(), e);
-			// DailySummary 업데이트 실패해도 운동 로그 생성은 성공으로 처리
-		}
+		// 일일 요약 업데이트 (커밋 후 DailySummaryUpdatePipeline에서 비동기 반영)
+		eventPublisher.publishEvent(new DailySummaryDirtyEvent(
+			userId, request.getLoggedAt().toLocalDate(), DailySummaryDelta.of(savedLog)));
 
 		return convertToExerciseLogResponse(savedLog);
 	}
@@ -0,0 +1,169 @@
+package com.rehab.service.facility;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.rehab.common.cache.LruCache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운동 시설 카탈로그 캐시 (로컬 LRU → Redis → DB)
+ * 캐시 키에 카탈로그 버전을 넣고, 시설이 변경되면 버전을 올려 이전 항목을 한 번에 무효화한다.
+ * 버전은 Redis에 두어 여러 인스턴스가 공유하며, 각 인스턴스는 일정 주기로만 다시 읽는다.
+ */
+@Slf4j
+@Component
+public class FacilityCatalogCache {
+
+	private static final String KEY_PREFIX = "facility:catalog:";
+	private static final String VERSION_KEY = KEY_PREFIX + "version";
+
+	private final RedisTemplate<String, Object> redisTemplate;
+	private final LruCache<String, Object> localCache;
+	private final Duration redisTtl;
+	private final long versionCheckIntervalMillis;
+
+	private volatile long version = 0L;
+	private volatile long lastVersionCheckAt = 0L;
+
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter missCounter;
+
+	public FacilityCatalogCache(
+		RedisTemplate<String, Object> redisTemplate,
+		MeterRegistry meterRegistry,
+		@Value("${facility.cache.max-size:10000}") int maxSize,
+		@Value("${facility.cache.redis-ttl-seconds:3600}") long redisTtlSeconds,
+		@Value("${facility.cache.version-check-interval-ms:1000}") long versionCheckIntervalMillis
+	) {
+		this.redisTemplate = redisTemplate;
+		this.localCache = new LruCache<>(maxSize, 0);
+		this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+		this.versionCheckIntervalMillis = versionCheckIntervalMillis;
+
+		this.localHitCounter = Counter.builder("facility.catalog.cache.requests")
+			.tag("result", "local_hit")
+			.register(meterRegistry);
+		this.redisHitCounter = Counter.builder("facility.catalog.cache.requests")
+			.tag("result", "redis_hit")
+			.register(meterRegistry);
+		this.missCounter = Counter.builder("facility.catalog.cache.requests")
+			.tag("result", "miss")
+			.register(meterRegistry);
+		FunctionCounter.builder("facility.catalog.cache.evictions", localCache, LruCache::evictionCount)
+			.register(meterRegistry);
+		Gauge.builder("facility.catalog.cache.size", localCache, LruCache::size)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 시설 상세 (사용자별 정보 제외) 조회
+	 */
+	public <T> T getDetail(Long facilityId, Supplier<T> loader) {
+		return getOrLoad("detail:" + facilityId, loader);
+	}
+
+	/**
+	 * 지역별 시설 목록 조회
+	 */
+	public <T> T getDistrict(String district, Supplier<T> loader) {
+		return getOrLoad("district:" + district, loader);
+	}
+
+	/**
+	 * 시설 변경 커밋 후 카탈로그 버전 증가
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onFacilityChanged(FacilityChangedEvent event) {
+		long next;
+		try {
+			Long incremented = redisTemplate.opsForValue().increment(VERSION_KEY);
+			next = incremented != null ? incremented : version + 1;
+		} catch (Exception e) {
+			log.warn("시설 카탈로그 버전 갱신 실패 (Redis) - 로컬 버전만 올립니다. error: {}", e.getMessage());
+			next = version + 1;
+		}
+
+		version = Math.max(next, version + 1);
+		lastVersionCheckAt = System.currentTimeMillis();
+		// 이전 버전 키는 다시 조회되지 않으므로 로컬 메모리에서 바로 비움
+		localCache.clear();
+		log.info("시설 카탈로그 버전 갱신 - facilityId: {}, version: {}", event.getFacilityId(), version);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T getOrLoad(String name, Supplier<T> loader) {
+		String key = KEY_PREFIX + "v" + currentVersion() + ":" + name;
+
+		Object local = localCache.get(key);
+		if (local != null) {
+			localHitCounter.increment();
+			return (T) local;
+		}
+
+		Object remote = readRedis(key);
+		if (remote != null) {
+			redisHitCounter.increment();
+			localCache.put(key, remote);
+			return (T) remote;
+		}
+
+		missCounter.increment();
+		T loaded = loader.get();
+		if (loaded != null) {
+			localCache.put(key, loaded);
+			writeRedis(key, loaded);
+		}
+		return loaded;
+	}
+
+	/**
+	 * 현재 카탈로그 버전 (Redis 조회는 versionCheckInterval마다 한 번)
+	 */
+	private long currentVersion() {
+		long now = System.currentTimeMillis();
+		if (now - lastVersionCheckAt < versionCheckIntervalMillis) {
+			return version;
+		}
+		lastVersionCheckAt = now;
+		try {
+			Object value = redisTemplate.opsForValue().get(VERSION_KEY);
+			if (value instanceof Number number && number.longValue() != version) {
+				version = number.longValue();
+				localCache.clear();
+			}
+		} catch (Exception e) {
+			log.warn("시설 카탈로그 버전 조회 실패 (Redis) - error: {}", e.getMessage());
+		}
+		return version;
+	}
+
+	private Object readRedis(String key) {
+		try {
+			return redisTemplate.opsForValue().get(key);
+		} catch (Exception e) {
+			log.warn("시설 카탈로그 Redis 조회 실패 - key: {}, error: {}", key, e.getMessage());
+			return null;
+		}
+	}
+
+	private void writeRedis(String key, Object value) {
+		try {
+			redisTemplate.opsForValue().set(key, value, redisTtl);
+		} catch (Exception e) {
+			log.warn("시설 카탈로그 Redis 저장 실패 - key: {}, error: {}", key, e.getMessage());
+		}
+	}
+}
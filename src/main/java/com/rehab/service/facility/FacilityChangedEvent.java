@@ -0,0 +1,27 @@
+package com.rehab.service.facility;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 운동 시설 변경 이벤트
+ * facilityId가 null이면 대량 변경으로 보고 전체를 다시 읽는다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class FacilityChangedEvent {
+
+	private final Long facilityId;
+
+	public static FacilityChangedEvent of(Long facilityId) {
+		return new FacilityChangedEvent(facilityId);
+	}
+
+	public static FacilityChangedEvent all() {
+		return new FacilityChangedEvent(null);
+	}
+
+	public boolean isBulk() {
+		return facilityId == null;
+	}
+}
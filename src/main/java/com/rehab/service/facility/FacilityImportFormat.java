@@ -0,0 +1,26 @@
+package com.rehab.service.facility;
+
+/**
+ * 시설 대량 가져오기 입력 형식
+ */
+public enum FacilityImportFormat {
+	CSV,
+	JSON;
+
+	/**
+	 * 파일 확장자로 형식 추정 (알 수 없으면 null)
+	 */
+	public static FacilityImportFormat fromFilename(String filename) {
+		if (filename == null) {
+			return null;
+		}
+		String lower = filename.toLowerCase();
+		if (lower.endsWith(".csv")) {
+			return CSV;
+		}
+		if (lower.endsWith(".json") || lower.endsWith(".jsonl") || lower.endsWith(".ndjson")) {
+			return JSON;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,246 @@
+package com.rehab.service.facility;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.dto.exercise.facility.CreateFacilityRequest;
+
+/**
+ * 시설 대량 가져오기 입력을 한 행씩 읽는 스트리밍 리더
+ * 전체 입력을 메모리에 올리지 않고, 행 단위 변환 오류는 Row.error로 돌려 호출 측에서 거부 처리한다.
+ * 입력 자체를 더 읽을 수 없는 경우(JSON 문법 오류 등)에만 IOException을 던진다.
+ */
+public abstract class FacilityImportReader implements Closeable {
+
+	/**
+	 * CSV에서 JSON 문자열로 받는 컬럼
+	 */
+	private static final Set<String> JSON_COLUMNS = Set.of("facilities", "amenities", "pricingInfo");
+
+	/**
+	 * CSV 이미지 URL 구분자 (imageUrls 컬럼)
+	 */
+	private static final String IMAGE_URL_DELIMITER = "\\|";
+
+	protected final ObjectMapper objectMapper;
+	protected long rowNumber = 0;
+
+	protected FacilityImportReader(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	public static FacilityImportReader open(InputStream inputStream, FacilityImportFormat format,
+		ObjectMapper objectMapper) throws IOException {
+		return switch (format) {
+			case CSV -> new CsvReader(inputStream, objectMapper);
+			case JSON -> new JsonReader(inputStream, objectMapper);
+		};
+	}
+
+	/**
+	 * 다음 행 (입력 끝이면 null)
+	 */
+	public abstract Row next() throws IOException;
+
+	/**
+	 * 읽은 행 (request 또는 error 중 하나만 채워짐)
+	 */
+	public record Row(long rowNumber, CreateFacilityRequest request, String error) {
+
+		static Row ok(long rowNumber, CreateFacilityRequest request) {
+			return new Row(rowNumber, request, null);
+		}
+
+		static Row failed(long rowNumber, String error) {
+			return new Row(rowNumber, null, error);
+		}
+	}
+
+	/**
+	 * JSON 배열 또는 줄 단위 JSON 객체(NDJSON)
+	 */
+	private static class JsonReader extends FacilityImportReader {
+
+		private final JsonParser parser;
+		private boolean array;
+		private boolean started = false;
+
+		JsonReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+			super(objectMapper);
+			this.parser = objectMapper.getFactory().createParser(inputStream);
+		}
+
+		@Override
+		public Row next() throws IOException {
+			JsonToken token = parser.nextToken();
+			if (!started) {
+				started = true;
+				array = token == JsonToken.START_ARRAY;
+				if (array) {
+					token = parser.nextToken();
+				}
+			}
+			if (token == null || (array && token == JsonToken.END_ARRAY)) {
+				return null;
+			}
+			if (token != JsonToken.START_OBJECT) {
+				throw new IOException("JSON 객체가 필요합니다. (위치: " + parser.currentLocation() + ")");
+			}
+
+			// 문법 오류는 입력 전체를 더 읽을 수 없으므로 그대로 던지고, 값 변환 오류만 행 단위로 거부
+			JsonNode node = parser.readValueAsTree();
+			rowNumber++;
+			try {
+				return Row.ok(rowNumber, objectMapper.treeToValue(node, CreateFacilityRequest.class));
+			} catch (JsonProcessingException | IllegalArgumentException e) {
+				return Row.failed(rowNumber, "값 변환 실패: " + e.getMessage());
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			parser.close();
+		}
+	}
+
+	/**
+	 * 헤더가 있는 CSV (RFC 4180 따옴표 규칙, 컬럼명은 CreateFacilityRequest 필드명)
+	 */
+	private static class CsvReader extends FacilityImportReader {
+
+		private final BufferedReader reader;
+		private final List<String> header;
+
+		CsvReader(InputStream inputStream, ObjectMapper objectMapper) throws IOException {
+			super(objectMapper);
+			this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+			List<String> columns = readRecord();
+			if (columns == null) {
+				throw new IOException("CSV 헤더가 없습니다.");
+			}
+			// UTF-8 BOM 제거
+			if (!columns.isEmpty() && columns.get(0).startsWith("\uFEFF")) {
+				columns.set(0, columns.get(0).substring(1));
+			}
+			this.header = columns.stream().map(String::trim).toList();
+		}
+
+		@Override
+		public Row next() throws IOException {
+			List<String> values = readRecord();
+			while (values != null && values.size() == 1 && values.get(0).isBlank()) {
+				values = readRecord();  // 빈 줄 건너뜀
+			}
+			if (values == null) {
+				return null;
+			}
+
+			rowNumber++;
+			if (values.size() > header.size()) {
+				return Row.failed(rowNumber, "컬럼 수가 헤더보다 많습니다. (" + values.size() + " > " + header.size() + ")");
+			}
+			try {
+				return Row.ok(rowNumber, toRequest(values));
+			} catch (Exception e) {
+				return Row.failed(rowNumber, "값 변환 실패: " + e.getMessage());
+			}
+		}
+
+		private CreateFacilityRequest toRequest(List<String> values) throws IOException {
+			Map<String, Object> fields = new LinkedHashMap<>();
+			for (int i = 0; i < values.size(); i++) {
+				String column = header.get(i);
+				String value = values.get(i).trim();
+				if (column.isEmpty() || value.isEmpty()) {
+					continue;
+				}
+				if (JSON_COLUMNS.contains(column)) {
+					fields.put(column, objectMapper.readTree(value));
+				} else if ("imageUrls".equals(column)) {
+					fields.put(column, Arrays.stream(value.split(IMAGE_URL_DELIMITER))
+						.map(String::trim)
+						.filter(url -> !url.isEmpty())
+						.toList());
+				} else {
+					fields.put(column, value);
+				}
+			}
+			return objectMapper.convertValue(fields, CreateFacilityRequest.class);
+		}
+
+		/**
+		 * CSV 레코드 하나 읽기 (따옴표 안의 줄바꿈 포함, 입력 끝이면 null)
+		 */
+		private List<String> readRecord() throws IOException {
+			int ch = reader.read();
+			if (ch == -1) {
+				return null;
+			}
+
+			List<String> values = new ArrayList<>();
+			StringBuilder current = new StringBuilder();
+			boolean quoted = false;
+
+			while (ch != -1) {
+				if (quoted) {
+					if (ch == '"') {
+						reader.mark(1);
+						int nextCh = reader.read();
+						if (nextCh == '"') {
+							current.append('"');
+						} else {
+							quoted = false;
+							if (nextCh != -1) {
+								reader.reset();
+							}
+						}
+					} else {
+						current.append((char) ch);
+					}
+				} else if (ch == '"') {
+					quoted = true;
+				} else if (ch == ',') {
+					values.add(current.toString());
+					current.setLength(0);
+				} else if (ch == '\n') {
+					break;
+				} else if (ch == '\r') {
+					reader.mark(1);
+					if (reader.read() != '\n') {
+						reader.reset();
+					}
+					break;
+				} else {
+					current.append((char) ch);
+				}
+				ch = reader.read();
+			}
+
+			if (quoted) {
+				throw new IOException("CSV 따옴표가 닫히지 않았습니다. (행: " + (rowNumber + 1) + ")");
+			}
+			values.add(current.toString());
+			return values;
+		}
+
+		@Override
+		public void close() throws IOException {
+			reader.close();
+		}
+	}
+}
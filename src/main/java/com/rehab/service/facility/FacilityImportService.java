@@ -0,0 +1,348 @@
+package com.rehab.service.facility;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.ExerciseFacility;
+import com.rehab.domain.repository.exercise.ExerciseFacilityRepository;
+import com.rehab.domain.repository.exercise.FacilityBulkRepository;
+import com.rehab.domain.repository.exercise.FacilityBulkRepository.ImageRow;
+import com.rehab.domain.repository.exercise.FacilityExternalKeyView;
+import com.rehab.dto.exercise.facility.CreateFacilityRequest;
+import com.rehab.dto.exercise.facility.FacilityImportResponse;
+import com.rehab.dto.exercise.facility.FacilityImportResponse.ChunkProgress;
+import com.rehab.dto.exercise.facility.FacilityImportResponse.RejectedRow;
+import com.rehab.service.facility.FacilityImportReader.Row;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운동 시설 대량 가져오기 서비스 (공공데이터 CSV/JSON)
+ * 입력을 스트리밍으로 읽어 청크 단위로 나누고, 청크마다 별도 트랜잭션에서
+ * 외부 키 일괄 조회 → JDBC 배치 INSERT/UPDATE → 이미지 배치 INSERT 순으로 반영한다.
+ * 청크 반영이 실패하면 행 단위로 다시 시도해 실패한 행만 거부 목록에 남긴다.
+ */
+@Slf4j
+@Service
+public class FacilityImportService {
+
+	private final ExerciseFacilityRepository facilityRepository;
+	private final FacilityBulkRepository facilityBulkRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+	private final Validator validator;
+	private final TransactionTemplate transactionTemplate;
+	private final int chunkSize;
+	private final int maxRejectReport;
+
+	public FacilityImportService(
+		ExerciseFacilityRepository facilityRepository,
+		FacilityBulkRepository facilityBulkRepository,
+		ApplicationEventPublisher eventPublisher,
+		ObjectMapper objectMapper,
+		Validator validator,
+		PlatformTransactionManager transactionManager,
+		@Value("${facility.import.chunk-size:500}") int chunkSize,
+		@Value("${facility.import.max-reject-report:1000}") int maxRejectReport
+	) {
+		this.facilityRepository = facilityRepository;
+		this.facilityBulkRepository = facilityBulkRepository;
+		this.eventPublisher = eventPublisher;
+		this.objectMapper = objectMapper;
+		this.validator = validator;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.chunkSize = chunkSize;
+		this.maxRejectReport = maxRejectReport;
+	}
+
+	/**
+	 * 시설 대량 가져오기
+	 * 입력 도중 더 읽을 수 없게 되면 그때까지 반영한 결과와 함께 abortReason을 돌려준다.
+	 */
+	public FacilityImportResponse importFacilities(InputStream inputStream, FacilityImportFormat format) {
+		log.info("시설 대량 가져오기 시작 - format: {}, chunkSize: {}", format, chunkSize);
+		long start = System.currentTimeMillis();
+		ImportProgress progress = new ImportProgress();
+
+		try (FacilityImportReader reader = FacilityImportReader.open(inputStream, format, objectMapper)) {
+			List<Row> chunk = new ArrayList<>(chunkSize);
+			Row row;
+			while ((row = reader.next()) != null) {
+				progress.totalRows++;
+				String error = row.error() != null ? row.error() : validate(row.request());
+				if (error != null) {
+					progress.reject(row, error);
+					continue;
+				}
+
+				chunk.add(row);
+				if (chunk.size() >= chunkSize) {
+					writeChunk(chunk, progress);
+					chunk = new ArrayList<>(chunkSize);
+				}
+			}
+			if (!chunk.isEmpty()) {
+				writeChunk(chunk, progress);
+			}
+		} catch (IOException e) {
+			log.warn("시설 대량 가져오기 중단 - 읽은 행: {}, error: {}", progress.totalRows, e.getMessage());
+			progress.abortReason = e.getMessage();
+		}
+
+		if (progress.inserted + progress.updated > 0) {
+			eventPublisher.publishEvent(FacilityChangedEvent.all());
+		}
+
+		log.info("시설 대량 가져오기 완료 - 전체: {}, 등록: {}, 갱신: {}, 거부: {}",
+			progress.totalRows, progress.inserted, progress.updated, progress.rejected);
+
+		return FacilityImportResponse.builder()
+			.totalRows(progress.totalRows)
+			.insertedCount(progress.inserted)
+			.updatedCount(progress.updated)
+			.rejectedCount(progress.rejected)
+			.chunks(progress.chunks)
+			.rejectedRows(progress.rejectedRows)
+			.rejectedRowsTruncated(progress.rejected > progress.rejectedRows.size())
+			.abortReason(progress.abortReason)
+			.elapsedMs(System.currentTimeMillis() - start)
+			.build();
+	}
+
+	private String validate(CreateFacilityRequest request) {
+		Set<ConstraintViolation<CreateFacilityRequest>> violations = validator.validate(request);
+		if (violations.isEmpty()) {
+			return null;
+		}
+		return violations.stream()
+			.map(ConstraintViolation::getMessage)
+			.sorted()
+			.collect(Collectors.joining(", "));
+	}
+
+	/**
+	 * 청크 반영 후 진행 상황 기록
+	 */
+	private void writeChunk(List<Row> chunk, ImportProgress progress) {
+		long start = System.currentTimeMillis();
+		int insertedBefore = progress.inserted;
+		int updatedBefore = progress.updated;
+		int rejectedBefore = progress.rejected;
+
+		try {
+			ChunkResult result = transactionTemplate.execute(status -> writeRows(chunk));
+			progress.inserted += result.inserted();
+			progress.updated += result.updated();
+			result.duplicates().forEach(row -> progress.reject(row, "같은 파일에 뒤에 나온 동일 외부 ID 행으로 대체됨"));
+		} catch (Exception e) {
+			// 한 행 때문에 청크 전체가 롤백되지 않도록 행 단위로 다시 시도
+			log.warn("시설 청크 반영 실패, 행 단위로 재시도 - rows: {}~{}, error: {}",
+				chunk.get(0).rowNumber(), chunk.get(chunk.size() - 1).rowNumber(), e.getMessage());
+			for (Row row : chunk) {
+				try {
+					ChunkResult result = transactionTemplate.execute(status -> writeRows(List.of(row)));
+					progress.inserted += result.inserted();
+					progress.updated += result.updated();
+				} catch (Exception rowException) {
+					progress.reject(row, rowException.getMessage());
+				}
+			}
+		}
+
+		ChunkProgress chunkProgress = ChunkProgress.builder()
+			.chunkNumber(progress.chunks.size() + 1)
+			.firstRow(chunk.get(0).rowNumber())
+			.lastRow(chunk.get(chunk.size() - 1).rowNumber())
+			.inserted(progress.inserted - insertedBefore)
+			.updated(progress.updated - updatedBefore)
+			.rejected(progress.rejected - rejectedBefore)
+			.elapsedMs(System.currentTimeMillis() - start)
+			.build();
+		progress.chunks.add(chunkProgress);
+
+		log.info("시설 청크 반영 - chunk: {}, rows: {}~{}, 등록: {}, 갱신: {}, 거부: {}, {}ms",
+			chunkProgress.getChunkNumber(), chunkProgress.getFirstRow(), chunkProgress.getLastRow(),
+			chunkProgress.getInserted(), chunkProgress.getUpdated(), chunkProgress.getRejected(),
+			chunkProgress.getElapsedMs());
+	}
+
+	/**
+	 * 청크 한 개 반영 (트랜잭션 안에서 호출)
+	 */
+	private ChunkResult writeRows(List<Row> rows) {
+		// 같은 청크 안의 동일 외부 키는 마지막 행만 반영
+		Map<String, Row> keyed = new LinkedHashMap<>();
+		List<Row> unkeyed = new ArrayList<>();
+		List<Row> duplicates = new ArrayList<>();
+		for (Row row : rows) {
+			String key = externalKey(row.request().getExternalSource(), row.request().getExternalId());
+			if (key == null) {
+				unkeyed.add(row);
+				continue;
+			}
+			Row previous = keyed.remove(key);
+			if (previous != null) {
+				duplicates.add(previous);
+			}
+			keyed.put(key, row);
+		}
+
+		Map<String, Long> existingIds = findExistingIds(keyed.values());
+
+		List<Row> inserts = new ArrayList<>(unkeyed);
+		Map<Long, Row> updates = new LinkedHashMap<>();
+		keyed.forEach((key, row) -> {
+			Long facilityId = existingIds.get(key);
+			if (facilityId != null) {
+				updates.put(facilityId, row);
+			} else {
+				inserts.add(row);
+			}
+		});
+
+		List<Long> insertedIds = facilityBulkRepository.insertFacilities(
+			inserts.stream().map(row -> toFacility(row.request())).toList());
+
+		Map<Long, ExerciseFacility> updatedFacilities = new LinkedHashMap<>();
+		updates.forEach((facilityId, row) -> updatedFacilities.put(facilityId, toFacility(row.request())));
+		facilityBulkRepository.updateFacilities(updatedFacilities);
+
+		// 갱신 행은 이미지가 함께 온 경우에만 기존 이미지를 교체
+		List<ImageRow> images = new ArrayList<>();
+		for (int i = 0; i < inserts.size(); i++) {
+			addImages(images, insertedIds.get(i), inserts.get(i).request());
+		}
+		List<Long> replacedImageOwners = new ArrayList<>();
+		updates.forEach((facilityId, row) -> {
+			if (row.request().getImageUrls() != null && !row.request().getImageUrls().isEmpty()) {
+				replacedImageOwners.add(facilityId);
+				addImages(images, facilityId, row.request());
+			}
+		});
+		facilityBulkRepository.deleteImages(replacedImageOwners);
+		facilityBulkRepository.insertImages(images);
+
+		return new ChunkResult(inserts.size(), updates.size(), duplicates);
+	}
+
+	/**
+	 * 청크의 외부 키를 한 번에 조회해 "source|id" → facilityId 맵으로 반환
+	 */
+	private Map<String, Long> findExistingIds(Collection<Row> rows) {
+		if (rows.isEmpty()) {
+			return Map.of();
+		}
+
+		Set<String> sources = new HashSet<>();
+		Set<String> externalIds = new HashSet<>();
+		for (Row row : rows) {
+			sources.add(row.request().getExternalSource());
+			externalIds.add(row.request().getExternalId());
+		}
+
+		Map<String, Long> existingIds = new LinkedHashMap<>();
+		for (FacilityExternalKeyView view : facilityRepository.findExternalKeys(sources, externalIds)) {
+			existingIds.putIfAbsent(externalKey(view.getExternalSource(), view.getExternalId()), view.getFacilityId());
+		}
+		return existingIds;
+	}
+
+	private static String externalKey(String externalSource, String externalId) {
+		if (externalSource == null || externalId == null) {
+			return null;
+		}
+		return externalSource + "|" + externalId;
+	}
+
+	private void addImages(List<ImageRow> images, Long facilityId, CreateFacilityRequest request) {
+		List<String> imageUrls = request.getImageUrls();
+		if (imageUrls == null) {
+			return;
+		}
+		for (int i = 0; i < imageUrls.size(); i++) {
+			boolean isMain = request.getMainImageIndex() != null && request.getMainImageIndex() == i;
+			images.add(new ImageRow(facilityId, imageUrls.get(i), isMain, i));
+		}
+	}
+
+	private ExerciseFacility toFacility(CreateFacilityRequest request) {
+		return ExerciseFacility.builder()
+			.name(request.getName())
+			.facilityType(request.getFacilityType())
+			.description(request.getDescription())
+			.city(request.getCity())
+			.district(request.getDistrict())
+			.street(request.getStreet())
+			.specAddress(request.getSpecAddress())
+			.zipcode(request.getZipcode())
+			.latitude(request.getLatitude())
+			.longitude(request.getLongitude())
+			.phoneNumber(request.getPhoneNumber())
+			.websiteUrl(request.getWebsiteUrl())
+			.operatingHours(request.getOperatingHours())
+			.closedDays(request.getClosedDays())
+			.parkingAvailable(request.getParkingAvailable())
+			.wheelchairAccessible(request.getWheelchairAccessible())
+			.showerAvailable(request.getShowerAvailable())
+			.lockerAvailable(request.getLockerAvailable())
+			.facilities(request.getFacilities())
+			.amenities(request.getAmenities())
+			.externalId(request.getExternalId())
+			.externalSource(request.getExternalSource())
+			.rating(request.getRating())
+			.reviewCount(request.getReviewCount())
+			.entryFee(request.getEntryFee())
+			.monthlyFee(request.getMonthlyFee())
+			.pricingInfo(request.getPricingInfo())
+			.isActive(true)
+			.isVerified(false)  // 기본값: 미검증
+			.build();
+	}
+
+	private record ChunkResult(int inserted, int updated, List<Row> duplicates) {
+	}
+
+	/**
+	 * 가져오기 누적 진행 상황
+	 */
+	private class ImportProgress {
+		int totalRows = 0;
+		int inserted = 0;
+		int updated = 0;
+		int rejected = 0;
+		String abortReason;
+		final List<ChunkProgress> chunks = new ArrayList<>();
+		final List<RejectedRow> rejectedRows = new ArrayList<>();
+
+		void reject(Row row, String reason) {
+			rejected++;
+			if (rejectedRows.size() >= maxRejectReport) {
+				return;
+			}
+			CreateFacilityRequest request = row.request();
+			rejectedRows.add(RejectedRow.builder()
+				.rowNumber(row.rowNumber())
+				.externalId(request != null ? request.getExternalId() : null)
+				.name(request != null ? request.getName() : null)
+				.reason(reason)
+				.build());
+		}
+	}
+}
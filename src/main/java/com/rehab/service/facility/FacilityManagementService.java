@@ -10,6 +10,7 @@ import com.rehab.dto.exercise.facility.UpdateFacilityRequest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +28,7 @@ public class FacilityManagementService {
 
 	private final ExerciseFacilityRepository facilityRepository;
 	private final FacilityImageRepository facilityImageRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 운동 시설 생성
@@ -85,6 +87,8 @@ public class FacilityManagementService {
 			saveImages(savedFacility, request.getImageUrls(), request.getMainImageIndex());
 		}
 
+		eventPublisher.publishEvent(FacilityChangedEvent.of(savedFacility.getFacilityId()));
+
 		log.info("운동 시설 생성 완료 - facilityId: {}", savedFacility.getFacilityId());
 
 		return CreateFacilityResponse.from(savedFacility);
@@ -126,6 +130,8 @@ public class FacilityManagementService {
 			);
 		}
 
+		eventPublisher.publishEvent(FacilityChangedEvent.of(facilityId));
+
 		log.info("운동 시설 수정 완료 - facilityId: {}", facilityId);
 
 		return CreateFacilityResponse.from(facility);
@@ -142,6 +148,7 @@ public class FacilityManagementService {
 			.orElseThrow(() -> new IllegalArgumentException("시설을 찾을 수 없습니다."));
 
 		facility.deactivate();
+		eventPublisher.publishEvent(FacilityChangedEvent.of(facilityId));
 
 		log.info("운동 시설 삭제 완료 (비활성화) - facilityId: {}", facilityId);
 	}
@@ -157,6 +164,7 @@ public class FacilityManagementService {
 			.orElseThrow(() -> new IllegalArgumentException("시설을 찾을 수 없습니다."));
 
 		facility.verify();
+		eventPublisher.publishEvent(FacilityChangedEvent.of(facilityId));
 
 		log.info("운동 시설 검증 완료 - facilityId: {}", facilityId);
 	}
@@ -172,6 +180,7 @@ public class FacilityManagementService {
 			.orElseThrow(() -> new IllegalArgumentException("시설을 찾을 수 없습니다."));
 
 		facility.activate();
+		eventPublisher.publishEvent(FacilityChangedEvent.of(facilityId));
 
 		log.info("운동 시설 활성화 완료 - facilityId: {}", facilityId);
 	}
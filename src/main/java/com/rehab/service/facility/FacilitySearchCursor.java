@@ -0,0 +1,74 @@
+package com.rehab.service.facility;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 주변 시설 검색 커서 (검색 경로 + 마지막 항목의 거리 + 시설 ID)
+ * 거리는 비트 그대로 인코딩해 다음 페이지 비교 시 오차가 생기지 않도록 한다.
+ * 공간 인덱스(Java Haversine)와 DB(MySQL ACOS)는 거리 계산 결과가 미세하게 달라 서로의 커서로 이어 가면
+ * 항목이 빠지거나 중복되므로, 커서를 만든 검색 경로를 함께 담아 같은 경로로만 이어 간다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class FacilitySearchCursor {
+
+	/** 첫 페이지 (모든 항목보다 앞, 검색 경로 제한 없음) */
+	public static final FacilitySearchCursor FIRST = new FacilitySearchCursor(null, -1.0, 0L);
+
+	/** 커서를 만든 검색 경로 (첫 페이지면 null) */
+	private final Source source;
+	private final double distanceKm;
+	private final Long facilityId;
+
+	public static FacilitySearchCursor of(Source source, double distanceKm, Long facilityId) {
+		return new FacilitySearchCursor(source, distanceKm, facilityId);
+	}
+
+	/**
+	 * 커서 문자열 해석 (없으면 첫 페이지)
+	 */
+	public static FacilitySearchCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return FIRST;
+		}
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = decoded.split(":");
+			if (parts.length != 3) {
+				throw new IllegalArgumentException("잘못된 검색 커서입니다.");
+			}
+			return new FacilitySearchCursor(
+				Source.valueOf(parts[0]),
+				Double.longBitsToDouble(Long.parseUnsignedLong(parts[1], 16)),
+				Long.parseLong(parts[2]));
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("잘못된 검색 커서입니다.");
+		}
+	}
+
+	public String encode() {
+		String raw = source + ":" + Long.toHexString(Double.doubleToLongBits(distanceKm)) + ":" + facilityId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * (거리, 시설 ID) 순서상 커서보다 뒤에 있는지
+	 */
+	public boolean isBefore(double otherDistanceKm, Long otherFacilityId) {
+		int compare = Double.compare(distanceKm, otherDistanceKm);
+		return compare < 0 || (compare == 0 && facilityId < otherFacilityId);
+	}
+
+	/**
+	 * 검색 경로 (경로마다 거리 계산식이 다름)
+	 */
+	public enum Source {
+		INDEX,
+		DATABASE
+	}
+}
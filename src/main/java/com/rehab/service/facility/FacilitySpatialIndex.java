@@ -0,0 +1,303 @@
+package com.rehab.service.facility;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.rehab.common.util.GeoBoundingBox;
+import com.rehab.domain.entity.ExerciseFacility;
+import com.rehab.domain.entity.enums.FacilityType;
+import com.rehab.domain.repository.exercise.ExerciseFacilityRepository;
+import com.rehab.domain.repository.exercise.FacilityLocationView;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 운동 시설 공간 인덱스 (위/경도 격자)
+ * 활성 시설 좌표를 고정 크기 셀에 나눠 담고, 반경 검색 시 범위에 걸친 셀만 확인한다.
+ * 시설 생성/수정/비활성화/활성화 시 FacilityChangedEvent로 해당 시설만 갱신한다.
+ * 구성에 실패하면 DB 검색으로 대체하고, 성공할 때까지 간격을 두 배씩 늘려 가며(최대 retry-max-ms) 다시 구성한다.
+ */
+@Slf4j
+@Component
+public class FacilitySpatialIndex {
+
+	private static final Comparator<FacilityHit> HIT_ORDER =
+		Comparator.comparingDouble(FacilityHit::distanceKm).thenComparing(FacilityHit::facilityId);
+
+	private final ExerciseFacilityRepository facilityRepository;
+	private final double cellSizeDeg;
+	private final long retryInitialMs;
+	private final long retryMaxMs;
+	private final ScheduledThreadPoolExecutor retryScheduler;
+	private final AtomicBoolean retryScheduled = new AtomicBoolean(false);
+
+	private volatile Grid grid = new Grid();
+	private volatile boolean ready = false;
+
+	public FacilitySpatialIndex(
+		ExerciseFacilityRepository facilityRepository,
+		@Value("${facility.index.cell-size-deg:0.05}") double cellSizeDeg,
+		@Value("${facility.index.retry-initial-ms:1000}") long retryInitialMs,
+		@Value("${facility.index.retry-max-ms:60000}") long retryMaxMs
+	) {
+		this.facilityRepository = facilityRepository;
+		this.cellSizeDeg = cellSizeDeg;
+		this.retryInitialMs = retryInitialMs;
+		this.retryMaxMs = retryMaxMs;
+
+		this.retryScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+			Thread thread = new Thread(runnable, "facility-index-retry");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * 애플리케이션 기동 후 전체 구성 (실패하면 재시도 예약)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		try {
+			rebuild();
+		} catch (Exception e) {
+			log.error("시설 공간 인덱스 구성 실패 - DB 검색으로 대체합니다.", e);
+			scheduleRetry(retryInitialMs);
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		retryScheduler.shutdownNow();
+	}
+
+	/**
+	 * 재구성 재시도 예약 (이미 예약된 재시도가 있으면 무시)
+	 */
+	private void scheduleRetry(long delayMs) {
+		if (retryScheduled.compareAndSet(false, true)) {
+			retryScheduler.schedule(() -> retry(delayMs), delayMs, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	private void retry(long delayMs) {
+		retryScheduled.set(false);
+		if (ready) {
+			return;
+		}
+		try {
+			rebuild();
+		} catch (Exception e) {
+			long nextDelayMs = Math.min(delayMs * 2, retryMaxMs);
+			log.warn("시설 공간 인덱스 재구성 실패, {}ms 후 재시도 - error: {}", nextDelayMs, e.getMessage());
+			scheduleRetry(nextDelayMs);
+		}
+	}
+
+	/**
+	 * 시설 변경 커밋 후 인덱스 갱신
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onFacilityChanged(FacilityChangedEvent event) {
+		try {
+			if (event.isBulk()) {
+				rebuild();
+				return;
+			}
+			facilityRepository.findLocationById(event.getFacilityId())
+				.filter(location -> Boolean.TRUE.equals(location.getIsActive()))
+				.ifPresentOrElse(this::upsert, () -> remove(event.getFacilityId()));
+		} catch (Exception e) {
+			// 갱신에 실패하면 오래된 결과를 내지 않도록 DB 검색으로 돌리고 전체 재구성 시도
+			log.error("시설 공간 인덱스 갱신 실패 - facilityId: {}", event.getFacilityId(), e);
+			ready = false;
+			initialize();
+		}
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 반경 내에서 커서 이후 가장 가까운 시설 limit개 검색 (가까운 순)
+	 * 크기 limit의 최대 힙만 유지하므로 할당량이 주변 시설 밀도가 아니라 limit에 비례한다.
+	 * 확인하는 셀 수는 범위의 셀 수와 시설이 있는 셀 수 중 작은 쪽을 넘지 않는다.
+	 */
+	public List<FacilityHit> searchNearest(double latitude, double longitude, double radiusKm,
+		Collection<FacilityType> facilityTypes, int limit, FacilitySearchCursor cursor) {
+
+		GeoBoundingBox box = GeoBoundingBox.of(latitude, longitude, radiusKm);
+		Grid current = grid;
+
+		int minLatIdx = cellIndex(box.getMinLatitude());
+		int maxLatIdx = cellIndex(box.getMaxLatitude());
+		int minLngIdx = cellIndex(box.getMinLongitude());
+		int maxLngIdx = cellIndex(box.getMaxLongitude());
+		long boxCells = (long) (maxLatIdx - minLatIdx + 1) * (maxLngIdx - minLngIdx + 1);
+
+		// 가장 먼 후보가 맨 앞에 오는 최대 힙
+		PriorityQueue<FacilityHit> heap = new PriorityQueue<>(limit + 1, HIT_ORDER.reversed());
+		if (boxCells > current.cells.size()) {
+			// 범위의 셀 수가 시설이 있는 셀 수보다 많으면 빈 셀을 훑지 않고 시설이 있는 셀만 확인
+			for (Map.Entry<Long, Map<Long, FacilityPoint>> entry : current.cells.entrySet()) {
+				long key = entry.getKey();
+				int latIdx = (int) (key >> 32);
+				int lngIdx = (int) key;
+				if (latIdx >= minLatIdx && latIdx <= maxLatIdx && lngIdx >= minLngIdx && lngIdx <= maxLngIdx) {
+					collect(entry.getValue(), latitude, longitude, radiusKm, facilityTypes, limit, cursor, heap);
+				}
+			}
+		} else {
+			for (int latIdx = minLatIdx; latIdx <= maxLatIdx; latIdx++) {
+				for (int lngIdx = minLngIdx; lngIdx <= maxLngIdx; lngIdx++) {
+					Map<Long, FacilityPoint> cell = current.cells.get(cellKey(latIdx, lngIdx));
+					if (cell != null) {
+						collect(cell, latitude, longitude, radiusKm, facilityTypes, limit, cursor, heap);
+					}
+				}
+			}
+		}
+
+		List<FacilityHit> hits = new ArrayList<>(heap);
+		hits.sort(HIT_ORDER);
+		return hits;
+	}
+
+	/**
+	 * 셀 하나의 시설 중 반경/유형/커서 조건을 만족하는 것을 힙에 반영
+	 */
+	private static void collect(Map<Long, FacilityPoint> cell, double latitude, double longitude, double radiusKm,
+		Collection<FacilityType> facilityTypes, int limit, FacilitySearchCursor cursor,
+		PriorityQueue<FacilityHit> heap) {
+
+		boolean filterByType = facilityTypes != null && !facilityTypes.isEmpty();
+		for (FacilityPoint point : cell.values()) {
+			if (filterByType && !facilityTypes.contains(point.facilityType())) {
+				continue;
+			}
+			double distance = ExerciseFacility.calculateDistance(
+				latitude, longitude, point.latitude(), point.longitude());
+			if (distance > radiusKm || !cursor.isBefore(distance, point.facilityId())) {
+				continue;
+			}
+			if (heap.size() < limit) {
+				heap.add(new FacilityHit(point.facilityId(), distance));
+			} else if (isCloser(distance, point.facilityId(), heap.peek())) {
+				heap.poll();
+				heap.add(new FacilityHit(point.facilityId(), distance));
+			}
+		}
+	}
+
+	private static boolean isCloser(double distance, Long facilityId, FacilityHit farthest) {
+		int compare = Double.compare(distance, farthest.distanceKm());
+		return compare < 0 || (compare == 0 && facilityId < farthest.facilityId());
+	}
+
+	/**
+	 * 전체 재구성 (새 격자를 만든 뒤 교체)
+	 */
+	public synchronized void rebuild() {
+		List<FacilityLocationView> locations = facilityRepository.findActiveLocations();
+
+		Grid rebuilt = new Grid();
+		for (FacilityLocationView location : locations) {
+			if (location.getLatitude() != null && location.getLongitude() != null) {
+				rebuilt.put(toPoint(location), cellKeyOf(location.getLatitude(), location.getLongitude()));
+			}
+		}
+
+		grid = rebuilt;
+		ready = true;
+		log.info("시설 공간 인덱스 구성 완료 - 시설: {}개, 셀: {}개", rebuilt.points.size(), rebuilt.cells.size());
+	}
+
+	private synchronized void upsert(FacilityLocationView location) {
+		if (location.getLatitude() == null || location.getLongitude() == null) {
+			remove(location.getFacilityId());
+			return;
+		}
+		Grid current = grid;
+		current.remove(location.getFacilityId());
+		current.put(toPoint(location), cellKeyOf(location.getLatitude(), location.getLongitude()));
+		log.debug("시설 공간 인덱스 갱신 - facilityId: {}", location.getFacilityId());
+	}
+
+	private synchronized void remove(Long facilityId) {
+		grid.remove(facilityId);
+		log.debug("시설 공간 인덱스 제거 - facilityId: {}", facilityId);
+	}
+
+	private FacilityPoint toPoint(FacilityLocationView location) {
+		return new FacilityPoint(
+			location.getFacilityId(),
+			location.getLatitude(),
+			location.getLongitude(),
+			location.getFacilityType());
+	}
+
+	private int cellIndex(double degree) {
+		return (int) Math.floor(degree / cellSizeDeg);
+	}
+
+	private long cellKeyOf(double latitude, double longitude) {
+		return cellKey(cellIndex(latitude), cellIndex(longitude));
+	}
+
+	private static long cellKey(int latIdx, int lngIdx) {
+		return ((long) latIdx << 32) | (lngIdx & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * 검색 결과 (시설 ID + 거리)
+	 */
+	public record FacilityHit(Long facilityId, double distanceKm) {
+	}
+
+	private record FacilityPoint(Long facilityId, double latitude, double longitude, FacilityType facilityType) {
+	}
+
+	/**
+	 * 셀 → 시설 좌표 맵
+	 */
+	private class Grid {
+		final Map<Long, Map<Long, FacilityPoint>> cells = new ConcurrentHashMap<>();
+		final Map<Long, FacilityPoint> points = new ConcurrentHashMap<>();
+
+		void put(FacilityPoint point, long cellKey) {
+			cells.computeIfAbsent(cellKey, key -> new ConcurrentHashMap<>()).put(point.facilityId(), point);
+			points.put(point.facilityId(), point);
+		}
+
+		void remove(Long facilityId) {
+			FacilityPoint previous = points.remove(facilityId);
+			if (previous == null) {
+				return;
+			}
+			long cellKey = cellKeyOf(previous.latitude(), previous.longitude());
+			Map<Long, FacilityPoint> cell = cells.get(cellKey);
+			if (cell != null) {
+				cell.remove(facilityId);
+				if (cell.isEmpty()) {
+					cells.remove(cellKey, cell);
+				}
+			}
+		}
+	}
+}
@@ -1,14 +1,13 @@
 package com.rehab.service.intakeService;
 
-import com.rehab.domain.entity.User;
 import com.rehab.dto.intake.IntakeDto;
 
 public interface IntakeService {
 
-	IntakeDto.IntakeResponse saveOrUpdateIntake(User user, IntakeDto.IntakeRequest request);
+	IntakeDto.IntakeResponse saveOrUpdateIntake(Long userId, IntakeDto.IntakeRequest request);
 
-	IntakeDto.IntakeResponse getMyIntake(User user);
-	IntakeDto.IntakeListResponse getMyIntakes(User user);
+	IntakeDto.IntakeResponse getMyIntake(Long userId);
+	IntakeDto.IntakeListResponse getMyIntakes(Long userId);
 
 }
 
@@ -6,6 +6,7 @@ import com.rehab.apiPayload.exception.handler.UserHandler;
 import com.rehab.domain.entity.SymptomIntake;
 import com.rehab.domain.entity.User;
 import com.rehab.domain.repository.symptomIntake.SymptomIntakeRepository;
+import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.intake.IntakeDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,16 +20,15 @@ import java.util.List;
 public class IntakeServiceImpl implements IntakeService {
 
 	private final SymptomIntakeRepository symptomIntakeRepository;
+	private final UserRepository userRepository;
 
 	/**
 	 * 문진 정보 저장 (1:N 구조 → 매번 새 이력 추가)
 	 * 명세서 2.1 - PUT /users/me/intake
 	 */
 	@Override
-	public IntakeDto.IntakeResponse saveOrUpdateIntake(User user, IntakeDto.IntakeRequest request) {
-		if (user == null) {
-			throw new UserHandler(ErrorStatus.MEMBER_NOT_FOUND);
-		}
+	public IntakeDto.IntakeResponse saveOrUpdateIntake(Long userId, IntakeDto.IntakeRequest request) {
+		User user = findUser(userId);
 
 		SymptomIntake intake = SymptomIntake.builder()
 			.user(user)
@@ -48,10 +48,8 @@ public class IntakeServiceImpl implements IntakeService {
 	 */
 	@Override
 	@Transactional(readOnly = true)
-	public IntakeDto.IntakeResponse getMyIntake(User user) {
-		if (user == null) {
-			throw new UserHandler(ErrorStatus.MEMBER_NOT_FOUND);
-		}
+	public IntakeDto.IntakeResponse getMyIntake(Long userId) {
+		User user = findUser(userId);
 
 		return symptomIntakeRepository.findAllByUserOrderByCreatedAtDesc(user)
 			.stream()
@@ -67,10 +65,8 @@ public class IntakeServiceImpl implements IntakeService {
 	 */
 	@Override
 	@Transactional(readOnly = true)
-	public IntakeDto.IntakeListResponse getMyIntakes(User user) {
-		if (user == null) {
-			throw new UserHandler(ErrorStatus.MEMBER_NOT_FOUND);
-		}
+	public IntakeDto.IntakeListResponse getMyIntakes(Long userId) {
+		User user = findUser(userId);
 
 		List<SymptomIntake> intakes =
 			symptomIntakeRepository.findAllByUserOrderByCreatedAtDesc(user);
@@ -84,6 +80,11 @@ public class IntakeServiceImpl implements IntakeService {
 			.build();
 	}
 
+	private User findUser(Long userId) {
+		return userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.MEMBER_NOT_FOUND));
+	}
+
 	/**
 	 * 엔티티 → DTO 변환
 	 */
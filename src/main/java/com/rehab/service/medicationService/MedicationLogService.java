@@ -11,10 +11,12 @@ import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.medication.CreateMedicationLogRequest;
 import com.rehab.dto.medication.MedicationLogListResponse;
 import com.rehab.dto.medication.MedicationLogResponse;  // ← 이 import
-import com.rehab.service.dailySummary.DailySummaryService;
+import com.rehab.service.dailySummary.DailySummaryDelta;
+import com.rehab.service.dailySummary.DailySummaryDirtyEvent;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -33,7 +35,7 @@ public class MedicationLogService {
 	private final MedicationLogRepository medicationLogRepository;
 	private final MedicationRepository medicationRepository;
 	private final UserRepository userRepository;
-	private final DailySummaryService dailySummaryService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 복약 로그 생성
@@ -74,16 +76,9 @@ public class MedicationLogService {
 
 		log.info("복약 로그 생성 완료 - medicationLogId: {}", savedLog.getMedicationLogId());
 
-		// 일일 요약 업데이트 (비동기적으로 처리, 실패해도 로그 생성은 성공)
-		try {
-			dailySummaryService.updateDailySummary(userId, request.getTakenAt());
-			log.info("일일 요약 업데이트 완료 - userId: {}, date: {}",
-				userId, request.getTakenAt().toLocalDate());
-		} catch (Exception e) {
-			log.error("일일 요약 업데이트 실패 - userId: {}, date: {}, error: {}",
-				userId, request.getTakenAt().toLocalDate(), e.getMessage(), e);
-			// DailySummary 업데이트 실패해도 복약 로그 생성은 성공으로 처리
-		}
+		// 일일 요약 업데이트 (커밋 후 DailySummaryUpdatePipeline에서 비동기 반영)
+		eventPublisher.publishEvent(new DailySummaryDirtyEvent(
+			userId, request.getTakenAt().toLocalDate(), DailySummaryDelta.of(savedLog)));
 
 		return convertToMedicationLogResponse(savedLog);
 	}
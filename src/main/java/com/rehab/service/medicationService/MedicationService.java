@@ -1,6 +1,5 @@
 package com.rehab.service.medicationService;
 
-import com.rehab.domain.entity.User;
 import com.rehab.dto.medication.MedicationDto;
 
 import java.time.LocalDate;
@@ -8,14 +7,14 @@ import java.util.List;
 
 public interface MedicationService {
 
-	MedicationDto.Response createMedication(User user, MedicationDto.CreateRequest request);
+	MedicationDto.Response createMedication(Long userId, MedicationDto.CreateRequest request);
 
-	List<MedicationDto.Response> getMyMedications(User user);
+	List<MedicationDto.Response> getMyMedications(Long userId);
 
 	MedicationDto.ScheduleResponse addSchedule(Long medicationId, MedicationDto.ScheduleRequest request);
 
-	MedicationDto.Response updateMedication(User user, Long medicationId, MedicationDto.UpdateRequest request);
+	MedicationDto.Response updateMedication(Long userId, Long medicationId, MedicationDto.UpdateRequest request);
 
-	MedicationDto.DailyScheduleResponse getSchedulesForDate(User user, LocalDate date);
+	MedicationDto.DailyScheduleResponse getSchedulesForDate(Long userId, LocalDate date);
 
 }
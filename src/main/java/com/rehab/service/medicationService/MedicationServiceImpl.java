@@ -10,6 +10,7 @@ import com.rehab.domain.entity.enums.MedicationStatus;
 import com.rehab.domain.repository.medication.MediScheduleRepository;
 import com.rehab.domain.repository.medication.MedicationLogRepository;
 import com.rehab.domain.repository.medication.MedicationRepository;
+import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.medication.MedicationDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -28,9 +29,12 @@ public class MedicationServiceImpl implements MedicationService {
 	private final MedicationRepository medicationRepository;
 	private final MediScheduleRepository scheduleRepository;
 	private final MedicationLogRepository logRepository;
+	private final UserRepository userRepository;
 
 	@Override
-	public MedicationDto.Response createMedication(User user, MedicationDto.CreateRequest request) {
+	public MedicationDto.Response createMedication(Long userId, MedicationDto.CreateRequest request) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
 		Medication medication = Medication.builder()
 			.user(user)
@@ -47,13 +51,14 @@ public class MedicationServiceImpl implements MedicationService {
 		return toResponse(medication);
 	}
 	@Override
-	public MedicationDto.Response updateMedication(User user, Long medicationId, MedicationDto.UpdateRequest request) {
+	public MedicationDto.Response updateMedication(Long userId, Long medicationId,
+		MedicationDto.UpdateRequest request) {
 
 		Medication medication = medicationRepository.findById(medicationId)
 			.orElseThrow(() -> new UserHandler(ErrorStatus._BAD_REQUEST));
 
 		// 본인 약인지 체크 (아닌데 수정하려 하면 에러)
-		if (!medication.getUser().getUserId().equals(user.getUserId())) {
+		if (!medication.getUser().getUserId().equals(userId)) {
 			throw new UserHandler(ErrorStatus._UNAUTHORIZED);
 		}
 
@@ -73,7 +78,9 @@ public class MedicationServiceImpl implements MedicationService {
 
 
 	@Override
-	public List<MedicationDto.Response> getMyMedications(User user) {
+	public List<MedicationDto.Response> getMyMedications(Long userId) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 		return medicationRepository.findByUser(user)
 			.stream()
 			.map(this::toResponse)
@@ -105,7 +112,9 @@ public class MedicationServiceImpl implements MedicationService {
 
 	@Override
 	@Transactional(readOnly = true)
-	public MedicationDto.DailyScheduleResponse getSchedulesForDate(User user, LocalDate date) {
+	public MedicationDto.DailyScheduleResponse getSchedulesForDate(Long userId, LocalDate date) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
 		List<Medication> medications = medicationRepository.findByUser(user);
 
@@ -1,13 +1,10 @@
 package com.rehab.service.rehabPlan;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.common.json.JsonColumn;
 import com.rehab.apiPayload.exception.GeneralException;
+import com.rehab.apiPayload.exception.MissingEntityException;
 import com.rehab.apiPayload.exception.RehabPlanException;
-import com.rehab.apiPayload.exception.handler.ExerciseHandler;
-import com.rehab.apiPayload.exception.handler.RehabPlanHandler;
 import com.rehab.apiPayload.exception.handler.UserHandler;
 import com.rehab.domain.entity.*;
 import com.rehab.domain.entity.enums.MealTime;
@@ -20,18 +17,26 @@ import com.rehab.domain.repository.exercise.ExerciseRepository;
 import com.rehab.domain.repository.medication.MedicationPlanItemRepository;
 import com.rehab.domain.repository.medication.MedicationRepository;
 import com.rehab.domain.repository.plan.PlanItemRepository;
+import com.rehab.domain.repository.rehab.RehabPlanItemBulkRepository;
 import com.rehab.domain.repository.rehab.RehabPlanRepository;
+import com.rehab.domain.repository.rehab.RehabPlanSummaryView;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.plan.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -49,10 +54,10 @@ public class RehabPlanService {
 	private final DietPlanItemRepository dietPlanItemRepository;
 	private final ExerciseLogRepository exerciseLogRepository;
 	private final UserRepository userRepository;
-	private final ObjectMapper objectMapper;
 	private final ExerciseRepository exerciseRepository;
 	private final MedicationRepository  medicationRepository;
 	private final DietRepository  dietRepository;
+	private final RehabPlanItemBulkRepository rehabPlanItemBulkRepository;
 
 
 	/**
@@ -198,47 +203,78 @@ public class RehabPlanService {
 		log.info("모든 플랜 조회 시작 - userId: {}, status: {}", userId, status);
 
 		// 사용자 존재 확인
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
-
-		// 플랜 조회 (상태 필터링)
-		List<RehabPlan> plans;
-		if (status != null && !status.isEmpty()) {
-			try {
-				// String을 Enum으로 변환
-				RehabPlanStatus statusEnum = RehabPlanStatus.valueOf(status.toUpperCase());
-				plans = rehabPlanRepository.findByUserAndStatusOrderByCreatedAtDesc(user, statusEnum);
-			} catch (IllegalArgumentException e) {
-				log.error("유효하지 않은 status 값: {}", status, e);
-				throw new GeneralException(ErrorStatus.INVALID_STATUS);
-			}
-		} else {
-			plans = rehabPlanRepository.findByUserOrderByCreatedAtDesc(user);
+		if (!userRepository.existsById(userId)) {
+			throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
 		}
 
-		// DTO 변환
-		List<RehabPlanListResponse.RehabPlanSummary> planSummaries = plans.stream()
-			.map(plan -> {
-				int exerciseCount = planItemRepository.countByRehabPlan(plan);
-				int medicationCount = medicationPlanItemRepository.countByRehabPlan(plan);
-				int dietCount = dietPlanItemRepository.countByRehabPlan(plan);
-				int totalItems = exerciseCount + medicationCount + dietCount;
-
-				return RehabPlanListResponse.RehabPlanSummary.builder()
-					.rehabPlanId(plan.getRehabPlanId())
-					.userId(plan.getUser().getUserId())
-					.title(plan.getTitle())
-					.status(plan.getStatus())
-					.totalItems(totalItems)
-					.createdAt(plan.getCreatedAt().toString())
-					.updatedAt(plan.getUpdatedAt().toString())
-					.build();
-			})
+		// 플랜 + 항목 수를 한 번에 조회 (상태 필터링)
+		List<RehabPlanListResponse.RehabPlanSummary> planSummaries =
+			rehabPlanRepository.findSummariesByUserId(userId, parseStatus(status)).stream()
+				.map(this::toPlanSummary)
+				.toList();
+
+		return RehabPlanListResponse.builder()
+			.plans(planSummaries)
+			.totalCount(planSummaries.size())
+			.build();
+	}
+
+	/**
+	 * 전체 사용자 플랜 목록 조회 (관리자용, 키셋 페이지)
+	 */
+	@Transactional(readOnly = true)
+	public RehabPlanListResponse getAllPlansForAdmin(String status, Long cursor, int size) {
+		log.info("전체 플랜 목록 조회 - status: {}, cursor: {}, size: {}", status, cursor, size);
+
+		// 한 건 더 조회해서 다음 페이지 여부 판단
+		List<RehabPlanSummaryView> views =
+			rehabPlanRepository.findSummariesBefore(cursor, parseStatus(status), PageRequest.of(0, size + 1));
+
+		boolean hasNext = views.size() > size;
+		List<RehabPlanListResponse.RehabPlanSummary> planSummaries = views.stream()
+			.limit(size)
+			.map(this::toPlanSummary)
 			.toList();
 
 		return RehabPlanListResponse.builder()
 			.plans(planSummaries)
 			.totalCount(planSummaries.size())
+			.nextCursor(hasNext ? planSummaries.get(planSummaries.size() - 1).getRehabPlanId() : null)
+			.hasNext(hasNext)
+			.build();
+	}
+
+	/**
+	 * 상태 문자열 → Enum 변환 (비어 있으면 null)
+	 */
+	private RehabPlanStatus parseStatus(String status) {
+		if (status == null || status.isEmpty()) {
+			return null;
+		}
+		try {
+			return RehabPlanStatus.valueOf(status.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			log.error("유효하지 않은 status 값: {}", status, e);
+			throw new GeneralException(ErrorStatus.INVALID_STATUS);
+		}
+	}
+
+	private RehabPlanListResponse.RehabPlanSummary toPlanSummary(RehabPlanSummaryView view) {
+		int exerciseCount = view.getExerciseCount().intValue();
+		int medicationCount = view.getMedicationCount().intValue();
+		int dietCount = view.getDietCount().intValue();
+
+		return RehabPlanListResponse.RehabPlanSummary.builder()
+			.rehabPlanId(view.getRehabPlanId())
+			.userId(view.getUserId())
+			.title(view.getTitle())
+			.status(view.getStatus())
+			.totalItems(exerciseCount + medicationCount + dietCount)
+			.exerciseCount(exerciseCount)
+			.medicationCount(medicationCount)
+			.dietCount(dietCount)
+			.createdAt(view.getCreatedAt().toString())
+			.updatedAt(view.getUpdatedAt() != null ? view.getUpdatedAt().toString() : null)
 			.build();
 	}
 
@@ -268,8 +304,8 @@ public class RehabPlanService {
 			.phase(planItem.getPhase())
 			.orderIndex(planItem.getOrderIndex())
 			.status(planItem.getStatus())
-			.dose(parseJson(planItem.getDose()))
-			.recommendationReason(parseJson(planItem.getRecommendationReason()))
+			.dose(planItem.getDose())
+			.recommendationReason(planItem.getRecommendationReason())
 			.createdAt(planItem.getCreatedAt())
 			.updatedAt(planItem.getUpdatedAt())
 			.build();
@@ -290,7 +326,7 @@ public class RehabPlanService {
 			.orderIndex(item.getOrderIndex())
 			.startDate(item.getStartDate())
 			.endDate(item.getEndDate())
-			.recommendationReason(parseJson(item.getRecommendationReason()))
+			.recommendationReason(item.getRecommendationReason())
 			.createdAt(item.getCreatedAt())
 			.updatedAt(item.getUpdatedAt())
 			.build();
@@ -310,7 +346,7 @@ public class RehabPlanService {
 			.portion(item.getPortion())
 			.status(item.getStatus())
 			.orderIndex(item.getOrderIndex())
-			.recommendationReason(parseJson(item.getRecommendationReason()))
+			.recommendationReason(item.getRecommendationReason())
 			.createdAt(item.getCreatedAt())
 			.updatedAt(item.getUpdatedAt())
 			.build();
@@ -362,24 +398,24 @@ public class RehabPlanService {
 			return List.of();
 		}
 
+		Map<Long, Exercise> exercises = findAllByIdOrThrow(exerciseRepository,
+			requests.stream().map(CreatePlanItemRequest::getExerciseId).toList(),
+			Exercise::getExerciseId, ErrorStatus.EXERCISE_NOT_FOUND);
+
 		List<PlanItem> planItems = requests.stream()
-			.map(req -> {
-				Exercise exercise = exerciseRepository.findById(req.getExerciseId())
-					.orElseThrow(() -> new ExerciseHandler(ErrorStatus.EXERCISE_NOT_FOUND));
-
-				return PlanItem.builder()
-					.rehabPlan(rehabPlan)
-					.exercise(exercise)
-					.phase(req.getPhase())
-					.dose(req.getDose())
-					.status(req.getStatus())
-					.orderIndex(req.getOrderIndex())
-					.recommendationReason(req.getRecommendationReason())
-					.build();
-			})
+			.map(req -> PlanItem.builder()
+				.rehabPlan(rehabPlan)
+				.exercise(exercises.get(req.getExerciseId()))
+				.phase(req.getPhase())
+				.dose(toJsonColumn(req.getDose()))
+				.status(req.getStatus())
+				.orderIndex(req.getOrderIndex())
+				.recommendationReason(toJsonColumn(req.getRecommendationReason()))
+				.build())
 			.collect(Collectors.toList());
 
-		return planItemRepository.saveAll(planItems);
+		rehabPlanItemBulkRepository.insertPlanItems(planItems);
+		return planItemRepository.findByRehabPlanIdOrderByOrderIndex(rehabPlan.getRehabPlanId());
 	}
 
 	/**
@@ -390,24 +426,24 @@ public class RehabPlanService {
 			return List.of();
 		}
 
+		Map<Long, Medication> medications = findAllByIdOrThrow(medicationRepository,
+			requests.stream().map(CreateMedicationPlanItemRequest::getMedicationId).toList(),
+			Medication::getMedicationId, ErrorStatus.MEDICATION_NOT_FOUND);
+
 		List<MedicationPlanItem> medicationPlanItems = requests.stream()
-			.map(req -> {
-				Medication medication = medicationRepository.findById(req.getMedicationId())
-					.orElseThrow(() -> new RehabPlanHandler(ErrorStatus.MEDICATION_NOT_FOUND));
-
-				return MedicationPlanItem.builder()
-					.rehabPlan(rehabPlan)
-					.medication(medication)
-					.status(req.getStatus())
-					.orderIndex(req.getOrderIndex())
-					.startDate(req.getStartDate())
-					.endDate(req.getEndDate())
-					.recommendationReason(req.getRecommendationReason())
-					.build();
-			})
+			.map(req -> MedicationPlanItem.builder()
+				.rehabPlan(rehabPlan)
+				.medication(medications.get(req.getMedicationId()))
+				.status(req.getStatus())
+				.orderIndex(req.getOrderIndex())
+				.startDate(req.getStartDate())
+				.endDate(req.getEndDate())
+				.recommendationReason(toJsonColumn(req.getRecommendationReason()))
+				.build())
 			.collect(Collectors.toList());
 
-		return medicationPlanItemRepository.saveAll(medicationPlanItems);
+		rehabPlanItemBulkRepository.insertMedicationPlanItems(medicationPlanItems);
+		return medicationPlanItemRepository.findByRehabPlanOrderByOrderIndex(rehabPlan);
 	}
 
 	/**
@@ -418,24 +454,59 @@ public class RehabPlanService {
 			return List.of();
 		}
 
+		Map<Long, Diet> diets = findAllByIdOrThrow(dietRepository,
+			requests.stream().map(CreateDietPlanItemRequest::getDietId).toList(),
+			Diet::getDietId, ErrorStatus.DIET_NOT_FOUND);
+
 		List<DietPlanItem> dietPlanItems = requests.stream()
-			.map(req -> {
-				Diet diet = dietRepository.findById(req.getDietId())
-					.orElseThrow(() -> new RehabPlanHandler(ErrorStatus.DIET_NOT_FOUND));
-
-				return DietPlanItem.builder()
-					.rehabPlan(rehabPlan)
-					.diet(diet)
-					.mealTime(req.getMealTime())
-					.portion(req.getPortion())
-					.status(req.getStatus())
-					.orderIndex(req.getOrderIndex())
-					.recommendationReason(req.getRecommendationReason())
-					.build();
-			})
+			.map(req -> DietPlanItem.builder()
+				.rehabPlan(rehabPlan)
+				.diet(diets.get(req.getDietId()))
+				.mealTime(req.getMealTime())
+				.portion(req.getPortion())
+				.status(req.getStatus())
+				.orderIndex(req.getOrderIndex())
+				.recommendationReason(toJsonColumn(req.getRecommendationReason()))
+				.build())
 			.collect(Collectors.toList());
 
-		return dietPlanItemRepository.saveAll(dietPlanItems);
+		rehabPlanItemBulkRepository.insertDietPlanItems(dietPlanItems);
+		return dietPlanItemRepository.findByRehabPlanOrderByOrderIndex(rehabPlan);
+	}
+
+	/**
+	 * 요청의 JSON 문자열 검증 후 변환 (유효한 JSON이 아니면 예외)
+	 */
+	private JsonColumn toJsonColumn(String json) {
+		try {
+			return JsonColumn.parse(json);
+		} catch (IllegalArgumentException e) {
+			throw new RehabPlanException(ErrorStatus.INVALID_JSON_FORMAT);
+		}
+	}
+
+	/**
+	 * ID 목록을 한 번에 조회하고, 없는 ID가 있으면 전부 모아서 예외
+	 */
+	private <T> Map<Long, T> findAllByIdOrThrow(JpaRepository<T, Long> repository, List<Long> ids,
+		Function<T, Long> idGetter, ErrorStatus notFoundStatus) {
+
+		Set<Long> distinctIds = new LinkedHashSet<>(ids);
+		if (distinctIds.contains(null)) {
+			throw new MissingEntityException(notFoundStatus, Collections.singletonList(null));
+		}
+
+		Map<Long, T> found = repository.findAllById(distinctIds).stream()
+			.collect(Collectors.toMap(idGetter, Function.identity()));
+
+		List<Long> missingIds = distinctIds.stream()
+			.filter(id -> !found.containsKey(id))
+			.toList();
+		if (!missingIds.isEmpty()) {
+			log.warn("플랜 항목 참조 대상 없음 - status: {}, missingIds: {}", notFoundStatus, missingIds);
+			throw new MissingEntityException(notFoundStatus, missingIds);
+		}
+		return found;
 	}
 
 	/**
@@ -470,19 +541,4 @@ public class RehabPlanService {
 			.updatedAt(plan.getUpdatedAt())
 			.build();
 	}
-
-	/**
-	 * JSON 문자열을 JsonNode로 변환
-	 */
-	private JsonNode parseJson(String jsonString) {
-		if (jsonString == null || jsonString.isEmpty()) {
-			return null;
-		}
-		try {
-			return objectMapper.readTree(jsonString);
-		} catch (JsonProcessingException e) {
-			log.error("JSON 파싱 실패: {}", jsonString, e);
-			return null;
-		}
-	}
 }
@@ -5,6 +5,7 @@ import com.rehab.apiPayload.exception.handler.UserHandler;
 import com.rehab.domain.entity.Reminder;
 import com.rehab.domain.entity.User;
 import com.rehab.domain.repository.remind.ReminderRepository;
+import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.reminder.ReminderDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,9 +20,12 @@ import java.util.List;
 public class ReminderServiceImpl implements ReminderService {
 
 	private final ReminderRepository reminderRepository;
+	private final UserRepository userRepository;
 
 	@Override
-	public ReminderDto.Response createReminder(User user, ReminderDto.CreateRequest request) {
+	public ReminderDto.Response createReminder(Long userId, ReminderDto.CreateRequest request) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
 		LocalDateTime next = calculateNextFireAt(request.getRule());
 
@@ -40,12 +44,12 @@ public class ReminderServiceImpl implements ReminderService {
 	}
 
 	@Override
-	public ReminderDto.Response updateReminder(User user, Long id, ReminderDto.UpdateRequest request) {
+	public ReminderDto.Response updateReminder(Long userId, Long id, ReminderDto.UpdateRequest request) {
 
 		Reminder reminder = reminderRepository.findById(id)
 			.orElseThrow(() -> new RuntimeException("Reminder not found"));
 
-		if (!reminder.getUser().getUserId().equals(user.getUserId())) {
+		if (!reminder.getUser().getUserId().equals(userId)) {
 			throw new RuntimeException("Unauthorized");
 		}
 
@@ -66,7 +70,9 @@ public class ReminderServiceImpl implements ReminderService {
 
 	@Override
 	@Transactional(readOnly = true)
-	public List<ReminderDto.Response> getMyReminders(User user) {
+	public List<ReminderDto.Response> getMyReminders(Long userId) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 		return reminderRepository.findByUser(user)
 			.stream()
 			.map(this::toResponse)
@@ -0,0 +1,93 @@
+package com.rehab.service.report;
+
+import java.util.List;
+
+import com.rehab.domain.entity.UserMetricBucket;
+
+/**
+ * 리포트 지표 집계 (일별 버킷을 한 번 훑어 지표별 합계/건수/최소/최대와 활동일 수를 primitive로 누적)
+ * 진행률 리포트와 주간 리포트가 같은 집계를 쓴다. 스레드 안전하지 않으므로 요청마다 새로 만든다.
+ */
+final class MetricStats {
+
+	// DailySummary.meetsStreakCriteria와 같은 기준 (운동 60% 이상 OR 복약 70% 이상)
+	private static final int EXERCISE_ACTIVE_RATE = 60;
+	private static final int MEDICATION_ACTIVE_RATE = 70;
+
+	final Metric exerciseRate = new Metric();
+	final Metric durationSec = new Metric();
+	final Metric medicationRate = new Metric();
+	final Metric painScore = new Metric();
+	int days;
+	int activeDays;
+
+	static MetricStats of(List<UserMetricBucket> buckets) {
+		MetricStats stats = new MetricStats();
+		for (UserMetricBucket bucket : buckets) {
+			stats.add(bucket);
+		}
+		return stats;
+	}
+
+	/**
+	 * 하루치 버킷 누적 (게터를 한 번씩만 언박싱)
+	 */
+	void add(UserMetricBucket bucket) {
+		int exerciseSum = bucket.getExerciseRateSum();
+		int exerciseCount = bucket.getExerciseRateCount();
+		int medicationSum = bucket.getMedicationRateSum();
+		int medicationCount = bucket.getMedicationRateCount();
+
+		exerciseRate.add(exerciseSum, exerciseCount);
+		durationSec.add(bucket.getDurationSecSum(), 1);
+		medicationRate.add(medicationSum, medicationCount);
+		painScore.add(bucket.getPainScoreSum(), bucket.getPainScoreCount());
+
+		days++;
+		if ((exerciseCount > 0 && exerciseSum >= EXERCISE_ACTIVE_RATE * exerciseCount)
+			|| (medicationCount > 0 && medicationSum >= MEDICATION_ACTIVE_RATE * medicationCount)) {
+			activeDays++;
+		}
+	}
+
+	/**
+	 * 지표 하나의 합계/건수/최소/최대 (최소/최대는 일별 평균 기준)
+	 */
+	static final class Metric {
+		long sum;
+		long count;
+		int min = Integer.MAX_VALUE;
+		int max = Integer.MIN_VALUE;
+
+		void add(int daySum, int dayCount) {
+			if (dayCount == 0) {
+				return;
+			}
+			sum += daySum;
+			count += dayCount;
+			int dayValue = dayCount == 1 ? daySum : daySum / dayCount;
+			if (dayValue < min) {
+				min = dayValue;
+			}
+			if (dayValue > max) {
+				max = dayValue;
+			}
+		}
+
+		double mean() {
+			return count == 0 ? 0.0 : (double) sum / count;
+		}
+
+		int average() {
+			return (int) Math.round(mean());
+		}
+
+		int min() {
+			return count == 0 ? 0 : min;
+		}
+
+		int max() {
+			return count == 0 ? 0 : max;
+		}
+	}
+}
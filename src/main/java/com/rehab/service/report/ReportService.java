@@ -12,7 +12,7 @@ public interface ReportService {
 	 * 진행률 리포트 조회
 	 *
 	 * @param userId  사용자 ID
-	 * @param range   조회 범위 (예: "7d", "14d", "30d")
+	 * @param range   조회 범위 (예: "7d", "30d", "365d", 최대 365일)
 	 * @param endDate 범위의 끝 시간 (null이면 현재 날짜의 23:59:59 기준)
 	 * @return 진행률 리포트 응답
 	 */
@@ -1,17 +1,15 @@
 package com.rehab.service.report;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.rehab.apiPayload.code.status.ErrorStatus;
 import com.rehab.apiPayload.exception.GeneralException;
-import com.rehab.domain.entity.DailySummary;
 import com.rehab.domain.entity.RecoveryScore;
 import com.rehab.domain.entity.ReportSnapshot;
 import com.rehab.domain.entity.User;
+import com.rehab.domain.entity.UserMetricBucket;
 import com.rehab.domain.entity.enums.ReportPeriod;
-import com.rehab.domain.repository.dailySummary.DailySummaryRepository;
 import com.rehab.domain.repository.recovery.RecoveryScoreRepository;
 import com.rehab.domain.repository.report.ReportSnapshotRepository;
+import com.rehab.domain.repository.report.UserMetricBucketRepository;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.report.ProgressReportResponse;
 import com.rehab.dto.report.ReportSnapshotListResponse;
@@ -27,10 +25,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
@@ -39,11 +41,14 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ReportServiceImpl implements ReportService{
 
-	private final DailySummaryRepository dailySummaryRepository;
+	private static final Pattern RANGE_PATTERN = Pattern.compile("(\\d{1,3})d");
+	private static final int MAX_RANGE_DAYS = 365;
+
 	private final RecoveryScoreRepository recoveryScoreRepository;
 	private final ReportSnapshotRepository reportSnapshotRepository;
+	private final UserMetricBucketRepository userMetricBucketRepository;
 	private final UserRepository userRepository;
-	private final ObjectMapper objectMapper;
+	private final WeeklyReportCalculator weeklyReportCalculator;
 
 	/**
 	 * 진행률 리포트 조회
@@ -59,16 +64,28 @@ public class ReportServiceImpl implements ReportService{
 		int days = parseDays(range);
 		LocalDateTime start = end.minusDays(days - 1).with(LocalTime.MIN);
 
-		List<DailySummary> summaries = dailySummaryRepository
-			.findByUserIdAndDateBetween(userId, start, end);
+		List<UserMetricBucket> buckets = userMetricBucketRepository
+			.findByUserIdAndDateBetween(userId, start.toLocalDate(), end.toLocalDate());
 
-		if (summaries.isEmpty()) {
+		if (buckets.isEmpty()) {
 			log.warn("No daily summaries found for userId: {} in range {} to {}", userId, start, end);
 		}
 
-		ProgressReportResponse.ExerciseStats exerciseStats = buildExerciseStats(summaries);
-		ProgressReportResponse.MedicationStats medicationStats = buildMedicationStats(summaries);
-		ProgressReportResponse.PainStats painStats = buildPainStats(summaries);
+		ProgressStats progress = aggregate(buckets);
+		MetricStats stats = progress.stats;
+		ProgressReportResponse.ExerciseStats exerciseStats = ProgressReportResponse.ExerciseStats.builder()
+			.avgCompletionRate(stats.exerciseRate.average())
+			.totalDurationSec(stats.durationSec.sum)
+			.dailyData(progress.exerciseDaily)
+			.build();
+		ProgressReportResponse.MedicationStats medicationStats = ProgressReportResponse.MedicationStats.builder()
+			.avgCompletionRate(stats.medicationRate.average())
+			.dailyData(progress.medicationDaily)
+			.build();
+		ProgressReportResponse.PainStats painStats = ProgressReportResponse.PainStats.builder()
+			.avgPainScore(stats.painScore.average())
+			.dailyData(progress.painDaily)
+			.build();
 
 		return ProgressReportResponse.builder()
 			.range(range)
@@ -82,33 +99,30 @@ public class ReportServiceImpl implements ReportService{
 
 	/**
 	 * 주간 하이라이트 조회
+	 * 배치(WeeklyReportBatchJob)가 만든 스냅샷을 읽기만 한다.
+	 * 아직 스냅샷이 없는 주는 버킷으로 계산해서 저장하지 않고 반환한다. (reportSnapshotId 없음)
 	 */
-	@Transactional
 	public WeeklyReportResponse getWeeklyReport(Long userId, LocalDate weekStart) {
 		log.info("Fetching weekly report for userId: {}, weekStart: {}", userId, weekStart);
 
-		User user = userRepository.findById(userId)
-			.orElseThrow(() -> new GeneralException(ErrorStatus.USER_NOT_FOUND));
+		if (!userRepository.existsById(userId)) {
+			throw new GeneralException(ErrorStatus.USER_NOT_FOUND);
+		}
 
 		LocalDate start = (weekStart != null) ? weekStart :
 			LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
 		LocalDate end = start.plusDays(6);
 
-		String startStr = start.toString();
-		String endStr = end.toString();
 		Optional<ReportSnapshot> existingSnapshot = reportSnapshotRepository
-			.findWeeklyReportByRange(userId, startStr, endStr);
+			.findByUser_UserIdAndPeriodAndRangeStartAndRangeEnd(userId, ReportPeriod.WEEKLY, start, end);
 
 		if (existingSnapshot.isPresent()) {
 			log.info("Found existing weekly report for userId: {}, range: {} to {}", userId, start, end);
 			return mapToWeeklyReportResponse(existingSnapshot.get());
 		}
 
-		log.info("Creating new weekly report for userId: {}, range: {} to {}", userId, start, end);
-		ReportSnapshot newSnapshot = createWeeklySnapshot(user, start, end);
-		reportSnapshotRepository.save(newSnapshot);
-
-		return mapToWeeklyReportResponse(newSnapshot);
+		log.info("No weekly report snapshot yet, computing for userId: {}, range: {} to {}", userId, start, end);
+		return computeWeeklyReport(userId, start, end);
 	}
 
 	/**
@@ -133,8 +147,9 @@ public class ReportServiceImpl implements ReportService{
 				.findByUser_UserIdOrderByGeneratedAtDesc(userId, pageRequest);
 		}
 
+		Map<Long, String> computedHighlights = computeMissingHighlights(userId, snapshots);
 		List<ReportSnapshotListResponse.ReportSnapshotItem> items = snapshots.stream()
-			.map(this::mapToSnapshotItem)
+			.map(snapshot -> mapToSnapshotItem(snapshot, computedHighlights))
 			.collect(Collectors.toList());
 
 		return ReportSnapshotListResponse.builder()
@@ -143,212 +158,87 @@ public class ReportServiceImpl implements ReportService{
 			.build();
 	}
 
+	/**
+	 * 조회 기간 파싱 ("{일수}d", 1 ~ 365일)
+	 */
 	private int parseDays(String range) {
-		return switch (range.toLowerCase()) {
-			case "7d" -> 7;
-			case "14d" -> 14;
-			case "30d" -> 30;
-			default -> throw new GeneralException(ErrorStatus._BAD_REQUEST);
-		};
+		Matcher matcher = RANGE_PATTERN.matcher(range.toLowerCase());
+		if (!matcher.matches()) {
+			throw new GeneralException(ErrorStatus._BAD_REQUEST);
+		}
+		int days = Integer.parseInt(matcher.group(1));
+		if (days < 1 || days > MAX_RANGE_DAYS) {
+			throw new GeneralException(ErrorStatus._BAD_REQUEST);
+		}
+		return days;
 	}
 
-	private ProgressReportResponse.ExerciseStats buildExerciseStats(List<DailySummary> summaries) {
-		double avgRate = summaries.stream()
-			.filter(s -> s.getExerciseCompletionRate() != null)
-			.mapToInt(DailySummary::getExerciseCompletionRate)
-			.average()
-			.orElse(0.0);
-
-		long totalDuration = summaries.stream()
-			.filter(s -> s.getTotalDurationSec() != null)
-			.mapToInt(DailySummary::getTotalDurationSec)
-			.sum();
-
-		List<ProgressReportResponse.DailyExerciseData> dailyData = summaries.stream()
-			.map(s -> ProgressReportResponse.DailyExerciseData.builder()
-				.date(s.getDate())
-				.completionRate(s.getExerciseCompletionRate() != null ? s.getExerciseCompletionRate() : 0)
-				.durationSec(s.getTotalDurationSec() != null ? s.getTotalDurationSec() : 0)
-				.build())
-			.collect(Collectors.toList());
-
-		return ProgressReportResponse.ExerciseStats.builder()
-			.avgCompletionRate((int) Math.round(avgRate))
-			.totalDurationSec(totalDuration)
-			.dailyData(dailyData)
-			.build();
+	/**
+	 * 버킷을 한 번 훑으며 지표 집계(MetricStats)와 일별 데이터를 함께 만든다
+	 */
+	private ProgressStats aggregate(List<UserMetricBucket> buckets) {
+		ProgressStats progress = new ProgressStats(buckets.size());
+		for (UserMetricBucket bucket : buckets) {
+			LocalDateTime date = bucket.getBucketDate().atStartOfDay();
+
+			progress.stats.add(bucket);
+
+			progress.exerciseDaily.add(ProgressReportResponse.DailyExerciseData.builder()
+				.date(date)
+				.completionRate(bucket.getExerciseRateSum())
+				.durationSec(bucket.getDurationSecSum())
+				.build());
+			progress.medicationDaily.add(ProgressReportResponse.DailyMedicationData.builder()
+				.date(date)
+				.completionRate(bucket.getMedicationRateSum())
+				.build());
+			if (bucket.getPainScoreCount() > 0) {
+				progress.painDaily.add(ProgressReportResponse.DailyPainData.builder()
+					.date(date)
+					.avgPain(bucket.getPainScoreSum() / bucket.getPainScoreCount())
+					.build());
+			}
+		}
+		return progress;
 	}
 
-	private ProgressReportResponse.MedicationStats buildMedicationStats(List<DailySummary> summaries) {
-		double avgRate = summaries.stream()
-			.filter(s -> s.getMedicationCompletionRate() != null)
-			.mapToInt(DailySummary::getMedicationCompletionRate)
-			.average()
-			.orElse(0.0);
-
-		List<ProgressReportResponse.DailyMedicationData> dailyData = summaries.stream()
-			.map(s -> ProgressReportResponse.DailyMedicationData.builder()
-				.date(s.getDate())
-				.completionRate(s.getMedicationCompletionRate() != null ? s.getMedicationCompletionRate() : 0)
-				.build())
-			.collect(Collectors.toList());
-
-		return ProgressReportResponse.MedicationStats.builder()
-			.avgCompletionRate((int) Math.round(avgRate))
-			.dailyData(dailyData)
-			.build();
-	}
+	private WeeklyReportResponse computeWeeklyReport(Long userId, LocalDate start, LocalDate end) {
+		List<UserMetricBucket> buckets = userMetricBucketRepository.findByUserIdAndDateBetween(userId, start, end);
+		WeeklyReportCalculator.WeeklyReport report = weeklyReportCalculator.calculate(buckets);
 
-	private ProgressReportResponse.PainStats buildPainStats(List<DailySummary> summaries) {
-		double avgPain = summaries.stream()
-			.filter(s -> s.getAvgPainScore() != null)
-			.mapToInt(DailySummary::getAvgPainScore)
-			.average()
-			.orElse(0.0);
-
-		List<ProgressReportResponse.DailyPainData> dailyData = summaries.stream()
-			.filter(s -> s.getAvgPainScore() != null)
-			.map(s -> ProgressReportResponse.DailyPainData.builder()
-				.date(s.getDate())
-				.avgPain(s.getAvgPainScore())
-				.build())
-			.collect(Collectors.toList());
+		BigDecimal recoveryPrediction = recoveryScoreRepository.findByUser_UserIdAndDate(userId, end)
+			.map(RecoveryScore::getDailyScore)
+			.orElse(BigDecimal.ZERO);
 
-		return ProgressReportResponse.PainStats.builder()
-			.avgPainScore((int) Math.round(avgPain))
-			.dailyData(dailyData)
+		WeeklyReportResponse.DateRangeDto dateRange = WeeklyReportResponse.DateRangeDto.builder()
+			.start(start.toString())
+			.end(end.toString())
 			.build();
-	}
 
-	private ReportSnapshot createWeeklySnapshot(User user, LocalDate start, LocalDate end) {
-		LocalDateTime startDateTime = start.atStartOfDay();
-		LocalDateTime endDateTime = end.atTime(LocalTime.MAX);
-		List<DailySummary> summaries = dailySummaryRepository
-			.findByUserIdAndDateBetween(user.getUserId(), startDateTime, endDateTime);
-
-		String weeklyHighlightText = generateWeeklyHighlight(summaries);
-		String weeklyHighlight = toJson(weeklyHighlightText);  // JSON 문자열로 변환
-		String metrics = generateMetrics(summaries);
-		BigDecimal recoveryPrediction = getRecoveryPrediction(user.getUserId(), end);
-
-		Map<String, String> rangeMap = new HashMap<>();
-		rangeMap.put("start", start.toString());
-		rangeMap.put("end", end.toString());
-		String coveredRange = toJson(rangeMap);
-
-		return ReportSnapshot.builder()
-			.user(user)
-			.period(ReportPeriod.WEEKLY)
-			.coveredRange(coveredRange)
-			.weeklyHighlight(weeklyHighlight)
-			.metrics(metrics)
+		return WeeklyReportResponse.builder()
+			.userId(userId)
+			.period(ReportPeriod.WEEKLY.name())
+			.coveredRange(dateRange)
+			.weeklyHighlight(report.highlight())
+			.metrics(weeklyReportCalculator.metricsJson(report))
 			.recoveryPrediction(recoveryPrediction)
 			.generatedAt(LocalDateTime.now())
 			.build();
 	}
 
-	private String generateWeeklyHighlight(List<DailySummary> summaries) {
-		if (summaries.isEmpty()) {
-			return "이번 주에는 기록이 없어요. 다음 주부터 열심히 해봐요!";
-		}
-
-		long activeDays = summaries.stream()
-			.filter(DailySummary::meetsStreakCriteria)
-			.count();
-
-		double avgExerciseRate = summaries.stream()
-			.filter(s -> s.getExerciseCompletionRate() != null)
-			.mapToInt(DailySummary::getExerciseCompletionRate)
-			.average()
-			.orElse(0.0);
-
-		if (activeDays == 7) {
-			return "7일 연속 운동 달성! 꾸준한 습관이 회복을 만듭니다.";
-		} else if (activeDays >= 5) {
-			return String.format("이번 주 %d일 운동 완료! 거의 다 왔어요.", activeDays);
-		} else if (avgExerciseRate >= 80) {
-			return "높은 완료율을 유지하고 있어요. 계속 이대로만 가세요!";
-		} else if (avgExerciseRate >= 60) {
-			return "좋은 진행이에요. 조금만 더 꾸준히 해봐요!";
-		} else {
-			return "다음 주에는 조금 더 열심히 해봐요. 화이팅!";
-		}
-	}
-
-	private String generateMetrics(List<DailySummary> summaries) {
-		long totalExercises = summaries.size();
-
-		double avgCompletionRate = summaries.stream()
-			.filter(s -> s.getExerciseCompletionRate() != null)
-			.mapToInt(DailySummary::getExerciseCompletionRate)
-			.average()
-			.orElse(0.0);
-
-		Map<String, Object> metricsMap = new HashMap<>();
-		metricsMap.put("totalExercises", totalExercises);
-		metricsMap.put("avgCompletionRate", (int) Math.round(avgCompletionRate));
-
-		return toJson(metricsMap);
-	}
-
-	private BigDecimal getRecoveryPrediction(Long userId, LocalDate date) {
-		Optional<RecoveryScore> recoveryScore = recoveryScoreRepository
-			.findByUser_UserIdAndDate(userId, date);
-
-		return recoveryScore.map(RecoveryScore::getDailyScore)
-			.orElse(BigDecimal.ZERO);
-	}
-
-	private String toJson(Object obj) {
-		try {
-			return objectMapper.writeValueAsString(obj);
-		} catch (JsonProcessingException e) {
-			log.error("Failed to serialize object to JSON", e);
-			return "{}";
-		}
-	}
-
-	private Map<String, String> fromJson(String json) {
-		try {
-			return objectMapper.readValue(json, Map.class);
-		} catch (JsonProcessingException e) {
-			log.error("Failed to parse JSON string", e);
-			return new HashMap<>();
-		}
-	}
-
-	private String parseJsonString(String json) {
-		if (json == null) {
-			return null;
-		}
-		try {
-			// JSON 문자열을 파�ing하여 순수 문자열로 변환
-			// 예: "\"7일 연속...\"" -> "7일 연속..."
-			return objectMapper.readValue(json, String.class);
-		} catch (JsonProcessingException e) {
-			log.error("Failed to parse JSON string to plain text", e);
-			return json; // 파싱 실패 시 원본 반환
-		}
-	}
-
 	private WeeklyReportResponse mapToWeeklyReportResponse(ReportSnapshot snapshot) {
-		Map<String, String> rangeMap = fromJson(snapshot.getCoveredRange());
-
 		WeeklyReportResponse.DateRangeDto dateRange = WeeklyReportResponse.DateRangeDto.builder()
-			.start(rangeMap.getOrDefault("start", ""))
-			.end(rangeMap.getOrDefault("end", ""))
+			.start(dateOf(snapshot.getRangeStart()))
+			.end(dateOf(snapshot.getRangeEnd()))
 			.build();
 
-		// JSON 문자열을 파싱하여 순수 문자열로 변환
-		String weeklyHighlight = parseJsonString(snapshot.getWeeklyHighlight());
-
 		return WeeklyReportResponse.builder()
 			.reportSnapshotId(snapshot.getReportSnapshotId())
 			.userId(snapshot.getUser().getUserId())
 			.period(snapshot.getPeriod().name())
 			.coveredRange(dateRange)
-			.weeklyHighlight(weeklyHighlight)
-			.metrics(snapshot.getMetrics())
+			.weeklyHighlight(highlightOf(snapshot))
+			.metrics(metricsOf(snapshot))
 			.recoveryPrediction(snapshot.getRecoveryPrediction())
 			.generatedAt(snapshot.getGeneratedAt())
 			.createdAt(snapshot.getCreatedAt())
@@ -356,25 +246,96 @@ public class ReportServiceImpl implements ReportService{
 			.build();
 	}
 
-	private ReportSnapshotListResponse.ReportSnapshotItem mapToSnapshotItem(ReportSnapshot snapshot) {
-		Map<String, String> rangeMap = fromJson(snapshot.getCoveredRange());
-
+	private ReportSnapshotListResponse.ReportSnapshotItem mapToSnapshotItem(ReportSnapshot snapshot,
+		Map<Long, String> computedHighlights) {
 		ReportSnapshotListResponse.DateRangeDto dateRange = ReportSnapshotListResponse.DateRangeDto.builder()
-			.start(rangeMap.getOrDefault("start", ""))
-			.end(rangeMap.getOrDefault("end", ""))
+			.start(dateOf(snapshot.getRangeStart()))
+			.end(dateOf(snapshot.getRangeEnd()))
 			.build();
 
-		// JSON 문자열을 파싱하여 순수 문자열로 변환
-		String weeklyHighlight = parseJsonString(snapshot.getWeeklyHighlight());
-
 		return ReportSnapshotListResponse.ReportSnapshotItem.builder()
 			.reportSnapshotId(snapshot.getReportSnapshotId())
 			.period(snapshot.getPeriod().name())
 			.coveredRange(dateRange)
-			.weeklyHighlight(weeklyHighlight)
-			.metrics(snapshot.getMetrics())
+			.weeklyHighlight(snapshot.getHighlightText() != null
+				? snapshot.getHighlightText()
+				: computedHighlights.get(snapshot.getReportSnapshotId()))
+			.metrics(metricsOf(snapshot))
 			.recoveryPrediction(snapshot.getRecoveryPrediction())
 			.generatedAt(snapshot.getGeneratedAt())
 			.build();
 	}
+
+	private String dateOf(LocalDate date) {
+		return date != null ? date.toString() : "";
+	}
+
+	/**
+	 * 응답용 하이라이트 문구
+	 * 문구 컬럼이 비어 있으면(백필 전이거나 JSON 하이라이트 없이 저장된 스냅샷) 기간의 버킷으로 계산한다.
+	 */
+	private String highlightOf(ReportSnapshot snapshot) {
+		if (snapshot.getHighlightText() != null) {
+			return snapshot.getHighlightText();
+		}
+		if (snapshot.getRangeStart() == null || snapshot.getRangeEnd() == null) {
+			return null;
+		}
+		List<UserMetricBucket> buckets = userMetricBucketRepository.findByUserIdAndDateBetween(
+			snapshot.getUser().getUserId(), snapshot.getRangeStart(), snapshot.getRangeEnd());
+		return weeklyReportCalculator.calculate(buckets).highlight();
+	}
+
+	/**
+	 * 목록 응답용: 문구 컬럼이 비어 있는 스냅샷들의 하이라이트 (reportSnapshotId -> 문구)
+	 * 스냅샷마다 조회하지 않고 해당 스냅샷들의 전체 기간 버킷을 한 번에 읽어 스냅샷 기간별로 나눠 계산한다.
+	 */
+	private Map<Long, String> computeMissingHighlights(Long userId, List<ReportSnapshot> snapshots) {
+		List<ReportSnapshot> missing = snapshots.stream()
+			.filter(s -> s.getHighlightText() == null && s.getRangeStart() != null && s.getRangeEnd() != null)
+			.collect(Collectors.toList());
+		if (missing.isEmpty()) {
+			return Map.of();
+		}
+
+		LocalDate from = missing.stream().map(ReportSnapshot::getRangeStart).min(Comparator.naturalOrder()).get();
+		LocalDate to = missing.stream().map(ReportSnapshot::getRangeEnd).max(Comparator.naturalOrder()).get();
+		List<UserMetricBucket> buckets = userMetricBucketRepository.findByUserIdAndDateBetween(userId, from, to);
+
+		Map<Long, String> highlights = new HashMap<>();
+		for (ReportSnapshot snapshot : missing) {
+			List<UserMetricBucket> inRange = buckets.stream()
+				.filter(b -> !b.getBucketDate().isBefore(snapshot.getRangeStart())
+					&& !b.getBucketDate().isAfter(snapshot.getRangeEnd()))
+				.collect(Collectors.toList());
+			highlights.put(snapshot.getReportSnapshotId(), weeklyReportCalculator.calculate(inRange).highlight());
+		}
+		return highlights;
+	}
+
+	/**
+	 * 응답용 metrics JSON (지표 컬럼으로 만들고, 백필 전이면 저장된 JSON 그대로)
+	 */
+	private String metricsOf(ReportSnapshot snapshot) {
+		if (snapshot.getTotalExercises() == null) {
+			return snapshot.getMetrics();
+		}
+		return WeeklyReportCalculator.metricsJson(snapshot.getTotalExercises(), snapshot.getAvgCompletionRate());
+	}
+
+	/**
+	 * 진행률 리포트 집계 결과 (버킷 한 번 순회로 채움)
+	 */
+	private static class ProgressStats {
+		final MetricStats stats = new MetricStats();
+		final List<ProgressReportResponse.DailyExerciseData> exerciseDaily;
+		final List<ProgressReportResponse.DailyMedicationData> medicationDaily;
+		final List<ProgressReportResponse.DailyPainData> painDaily;
+
+		ProgressStats(int days) {
+			this.exerciseDaily = new ArrayList<>(days);
+			this.medicationDaily = new ArrayList<>(days);
+			this.painDaily = new ArrayList<>(days);
+		}
+	}
 }
@@ -0,0 +1,72 @@
+package com.rehab.service.report;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.rehab.domain.repository.report.ReportSnapshotRepository;
+import com.rehab.service.common.OneOffTaskRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 리포트 스냅샷 컬럼 백필 (배포 후 한 번만)
+ * JSON으로만 저장된 기존 스냅샷의 기간(range_start/range_end), 하이라이트 문구,
+ * 지표 컬럼을 report_snapshot_id 구간 단위로 채운다. (구간마다 별도 트랜잭션)
+ * 예전에 같은 기간으로 중복 생성된 스냅샷은 기간을 채우기 전에 한 행만 남기고 지운다.
+ * 새 스냅샷은 배치가 컬럼까지 채워 넣으므로 one_off_task에 완료가 기록되면 다시 돌지 않는다.
+ */
+@Slf4j
+@Component
+public class ReportSnapshotBackfill {
+
+	private static final String TASK_NAME = "report_snapshot_backfill";
+
+	private final ReportSnapshotRepository reportSnapshotRepository;
+	private final OneOffTaskRunner oneOffTaskRunner;
+	private final boolean enabled;
+	private final int chunkSize;
+
+	public ReportSnapshotBackfill(
+		ReportSnapshotRepository reportSnapshotRepository,
+		OneOffTaskRunner oneOffTaskRunner,
+		@Value("${report.snapshot.backfill-on-startup:true}") boolean enabled,
+		@Value("${report.snapshot.backfill-chunk-size:5000}") int chunkSize
+	) {
+		this.reportSnapshotRepository = reportSnapshotRepository;
+		this.oneOffTaskRunner = oneOffTaskRunner;
+		this.enabled = enabled;
+		this.chunkSize = chunkSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			oneOffTaskRunner.runOnce(TASK_NAME, this::fillColumns);
+		} catch (Exception e) {
+			log.error("Error during report snapshot backfill", e);
+		}
+	}
+
+	private void fillColumns() {
+		long maxId = reportSnapshotRepository.findMaxReportSnapshotId();
+		long duplicatesDeleted = 0;
+		long rangeUpdated = 0;
+		long metricsUpdated = 0;
+		for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+			long toId = fromId + chunkSize;
+			duplicatesDeleted += reportSnapshotRepository.deleteDuplicateRanges(fromId, toId);
+			rangeUpdated += reportSnapshotRepository.backfillRange(fromId, toId);
+			// 그 사이 배치가 같은 기간 행을 넣었으면 UPDATE IGNORE가 건너뛴 행이 남으므로 한 번 더 정리
+			duplicatesDeleted += reportSnapshotRepository.deleteDuplicateRanges(fromId, toId);
+			metricsUpdated += reportSnapshotRepository.backfillMetrics(fromId, toId);
+		}
+		log.info("Report snapshot backfill completed. maxSnapshotId: {}, duplicatesDeleted: {}, range: {}, metrics: {}",
+			maxId, duplicatesDeleted, rangeUpdated, metricsUpdated);
+	}
+}
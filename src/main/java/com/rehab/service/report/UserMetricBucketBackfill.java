@@ -0,0 +1,63 @@
+package com.rehab.service.report;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.rehab.domain.repository.report.UserMetricBucketRepository;
+import com.rehab.service.common.OneOffTaskRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 일별 지표 버킷 백필 (배포 후 한 번만)
+ * 버킷 도입 전에 쌓인 DailySummary로 버킷을 summary_id 구간 단위로 채운다. (구간마다 별도 트랜잭션)
+ * 이후 생기는 요약은 일일 요약 갱신 때 버킷도 함께 갱신되므로, 완료 기록을 남긴 뒤에는 기동 시 건너뛴다.
+ * 중간에 실패하면 완료 기록이 없어 다음 기동 때 처음부터 다시 채운다. (INSERT IGNORE라 이미 채운 버킷은 그대로)
+ */
+@Slf4j
+@Component
+public class UserMetricBucketBackfill {
+
+	private static final String TASK_NAME = "user_metric_bucket_backfill";
+
+	private final UserMetricBucketRepository userMetricBucketRepository;
+	private final OneOffTaskRunner oneOffTaskRunner;
+	private final boolean enabled;
+	private final int chunkSize;
+
+	public UserMetricBucketBackfill(
+		UserMetricBucketRepository userMetricBucketRepository,
+		OneOffTaskRunner oneOffTaskRunner,
+		@Value("${report.metric-bucket.backfill-on-startup:true}") boolean enabled,
+		@Value("${report.metric-bucket.backfill-chunk-size:5000}") int chunkSize
+	) {
+		this.userMetricBucketRepository = userMetricBucketRepository;
+		this.oneOffTaskRunner = oneOffTaskRunner;
+		this.enabled = enabled;
+		this.chunkSize = chunkSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			oneOffTaskRunner.runOnce(TASK_NAME, this::fillBuckets);
+		} catch (Exception e) {
+			log.error("Error during user metric bucket backfill", e);
+		}
+	}
+
+	private void fillBuckets() {
+		long maxId = userMetricBucketRepository.findMaxDailySummaryId();
+		long inserted = 0;
+		for (long fromId = 0; fromId < maxId; fromId += chunkSize) {
+			inserted += userMetricBucketRepository.backfillFromDailySummary(fromId, fromId + chunkSize);
+		}
+		log.info("User metric bucket backfill completed. maxSummaryId: {}, inserted: {}", maxId, inserted);
+	}
+}
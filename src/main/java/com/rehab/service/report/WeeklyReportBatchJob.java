@@ -0,0 +1,219 @@
+package com.rehab.service.report;
+
+import java.math.BigDecimal;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.rehab.domain.entity.RecoveryScore;
+import com.rehab.domain.entity.UserMetricBucket;
+import com.rehab.domain.entity.enums.ReportPeriod;
+import com.rehab.domain.repository.common.NamedLockRepository;
+import com.rehab.domain.repository.recovery.RecoveryScoreRepository;
+import com.rehab.domain.repository.report.ReportSnapshotBulkRepository;
+import com.rehab.domain.repository.report.ReportSnapshotBulkRepository.SnapshotRow;
+import com.rehab.domain.repository.report.UserMetricBucketRepository;
+import com.rehab.domain.repository.user.UserRepository;
+import com.rehab.service.report.WeeklyReportCalculator.WeeklyReport;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주간 리포트 생성 배치
+ * 어제가 속한 주(월~일)의 리포트를 전체 사용자에 대해 미리 만들어 둔다.
+ * 월요일 실행분이 지난 주 리포트를 확정하고, 나머지 요일은 이번 주 리포트를 어제까지의 기록으로 갱신한다.
+ * - 사용자 ID 키셋 페이징으로 chunk-size명씩 읽고, 청크는 크기가 제한된 풀에서 병렬로 계산
+ * - 청크마다 버킷/회복 점수를 한 번에 조회하고, 한 트랜잭션으로 일괄 upsert
+ * - 그 주에 기록(버킷)이 없는 사용자는 건너뛴다 (조회 시 빈 리포트를 계산해서 보여준다)
+ * 이름 잠금으로 여러 인스턴스 중 한 곳에서만 돌고, 유니크 키 upsert라 재실행해도 중복 행이 생기지 않는다.
+ */
+@Slf4j
+@Component
+public class WeeklyReportBatchJob {
+
+	private static final String LOCK_NAME = "weekly_report_batch";
+
+	private final UserRepository userRepository;
+	private final UserMetricBucketRepository userMetricBucketRepository;
+	private final RecoveryScoreRepository recoveryScoreRepository;
+	private final ReportSnapshotBulkRepository reportSnapshotBulkRepository;
+	private final WeeklyReportCalculator weeklyReportCalculator;
+	private final NamedLockRepository namedLockRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final boolean enabled;
+	private final int chunkSize;
+	private final ThreadPoolExecutor executor;
+
+	private final Counter generatedCounter;
+	private final Counter skippedCounter;
+	private final Counter failedChunkCounter;
+	private final Timer runTimer;
+
+	public WeeklyReportBatchJob(
+		UserRepository userRepository,
+		UserMetricBucketRepository userMetricBucketRepository,
+		RecoveryScoreRepository recoveryScoreRepository,
+		ReportSnapshotBulkRepository reportSnapshotBulkRepository,
+		WeeklyReportCalculator weeklyReportCalculator,
+		NamedLockRepository namedLockRepository,
+		PlatformTransactionManager transactionManager,
+		MeterRegistry meterRegistry,
+		@Value("${report.weekly-batch.enabled:true}") boolean enabled,
+		@Value("${report.weekly-batch.chunk-size:500}") int chunkSize,
+		@Value("${report.weekly-batch.threads:4}") int threads
+	) {
+		this.userRepository = userRepository;
+		this.userMetricBucketRepository = userMetricBucketRepository;
+		this.recoveryScoreRepository = recoveryScoreRepository;
+		this.reportSnapshotBulkRepository = reportSnapshotBulkRepository;
+		this.weeklyReportCalculator = weeklyReportCalculator;
+		this.namedLockRepository = namedLockRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.chunkSize = chunkSize;
+
+		// 대기열이 차면 호출 스레드(ID 페이징)가 직접 처리해서 읽기 속도를 계산 속도에 맞춘다
+		AtomicInteger threadNumber = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+			threads, threads, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<>(threads),
+			runnable -> {
+				Thread thread = new Thread(runnable, "weekly-report-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			},
+			new ThreadPoolExecutor.CallerRunsPolicy());
+
+		this.generatedCounter = Counter.builder("report.weekly.batch.generated")
+			.register(meterRegistry);
+		this.skippedCounter = Counter.builder("report.weekly.batch.skipped")
+			.register(meterRegistry);
+		this.failedChunkCounter = Counter.builder("report.weekly.batch.failed.chunks")
+			.register(meterRegistry);
+		this.runTimer = Timer.builder("report.weekly.batch.duration")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 매일 00:10 실행 (어제가 속한 주)
+	 */
+	@Scheduled(cron = "${report.weekly-batch.cron:0 10 0 * * *}")
+	public void run() {
+		if (!enabled) {
+			return;
+		}
+
+		LocalDate weekStart = LocalDate.now().minusDays(1).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+		log.info("Starting weekly report batch - weekStart: {}", weekStart);
+		try {
+			boolean executed = namedLockRepository.runExclusively(LOCK_NAME,
+				() -> runTimer.record(() -> generate(weekStart)));
+			if (!executed) {
+				log.info("Weekly report batch skipped (running on another instance) - weekStart: {}", weekStart);
+			}
+		} catch (Exception e) {
+			log.error("Error during weekly report batch - weekStart: {}", weekStart, e);
+		}
+	}
+
+	/**
+	 * 전체 사용자의 weekStart 주간 리포트 생성
+	 */
+	public void generate(LocalDate weekStart) {
+		LocalDate weekEnd = weekStart.plusDays(6);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		long lastId = 0L;
+		int users = 0;
+
+		while (true) {
+			List<Long> userIds = userRepository.findIdsAfter(lastId, PageRequest.of(0, chunkSize));
+			if (userIds.isEmpty()) {
+				break;
+			}
+			users += userIds.size();
+			lastId = userIds.get(userIds.size() - 1);
+
+			futures.add(CompletableFuture.runAsync(() -> generateChunk(userIds, weekStart, weekEnd), executor)
+				.exceptionally(e -> {
+					failedChunkCounter.increment();
+					log.error("Weekly report chunk failed - weekStart: {}, userIds: {}~{}",
+						weekStart, userIds.get(0), userIds.get(userIds.size() - 1), e);
+					return null;
+				}));
+			if (userIds.size() < chunkSize) {
+				break;
+			}
+		}
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		log.info("Weekly report batch completed - weekStart: {}, users: {}, chunks: {}",
+			weekStart, users, futures.size());
+	}
+
+	private void generateChunk(List<Long> userIds, LocalDate weekStart, LocalDate weekEnd) {
+		Map<Long, List<UserMetricBucket>> bucketsByUser = userMetricBucketRepository
+			.findByUserIdInAndDateBetween(userIds, weekStart, weekEnd).stream()
+			.collect(Collectors.groupingBy(UserMetricBucket::getUserId));
+		List<Long> activeUserIds = userIds.stream()
+			.filter(bucketsByUser::containsKey)
+			.toList();
+		skippedCounter.increment(userIds.size() - activeUserIds.size());
+		if (activeUserIds.isEmpty()) {
+			return;
+		}
+
+		Map<Long, BigDecimal> predictions = recoveryScoreRepository.findByUserIdInAndDate(activeUserIds, weekEnd)
+			.stream()
+			.collect(Collectors.toMap(score -> score.getUser().getUserId(), RecoveryScore::getDailyScore,
+				(first, second) -> first));
+
+		String coveredRange = weeklyReportCalculator.coveredRangeJson(weekStart, weekEnd);
+		LocalDateTime generatedAt = LocalDateTime.now();
+		List<SnapshotRow> rows = new ArrayList<>(activeUserIds.size());
+		for (Long userId : activeUserIds) {
+			WeeklyReport report = weeklyReportCalculator.calculate(bucketsByUser.get(userId));
+			rows.add(new SnapshotRow(
+				userId,
+				ReportPeriod.WEEKLY.name(),
+				coveredRange,
+				weekStart,
+				weekEnd,
+				weeklyReportCalculator.metricsJson(report),
+				weeklyReportCalculator.highlightJson(report),
+				report.highlight(),
+				report.totalExercises(),
+				report.avgCompletionRate(),
+				predictions.getOrDefault(userId, BigDecimal.ZERO),
+				generatedAt));
+		}
+
+		transactionTemplate.executeWithoutResult(status -> reportSnapshotBulkRepository.upsertSnapshots(rows));
+		generatedCounter.increment(rows.size());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+}
@@ -0,0 +1,106 @@
+package com.rehab.service.report;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.UserMetricBucket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 주간 리포트 계산
+ * 일별 지표 버킷으로 하이라이트 문구와 지표를 만든다.
+ * 배치(WeeklyReportBatchJob)와 스냅샷이 없을 때의 조회가 같은 계산을 쓴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WeeklyReportCalculator {
+
+	private static final String METRICS_JSON = "{\"totalExercises\":%d,\"avgCompletionRate\":%d}";
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 주간 리포트 계산 (버킷 한 번 순회)
+	 */
+	public WeeklyReport calculate(List<UserMetricBucket> buckets) {
+		MetricStats stats = MetricStats.of(buckets);
+		String highlight = stats.days == 0
+			? "이번 주에는 기록이 없어요. 다음 주부터 열심히 해봐요!"
+			: highlightOf(stats.activeDays, stats.exerciseRate.mean());
+
+		return new WeeklyReport(highlight, stats.days, stats.exerciseRate.average());
+	}
+
+	/**
+	 * covered_range JSON ({"start": ..., "end": ...})
+	 */
+	public String coveredRangeJson(LocalDate start, LocalDate end) {
+		Map<String, String> range = new LinkedHashMap<>();
+		range.put("start", start.toString());
+		range.put("end", end.toString());
+		return toJson(range);
+	}
+
+	/**
+	 * metrics JSON ({"totalExercises": ..., "avgCompletionRate": ...})
+	 */
+	public String metricsJson(WeeklyReport report) {
+		return metricsJson(report.totalExercises(), report.avgCompletionRate());
+	}
+
+	/**
+	 * 지표 컬럼으로 metrics JSON 만들기 (정수 두 개라 ObjectMapper를 거치지 않음)
+	 */
+	public static String metricsJson(Integer totalExercises, Integer avgCompletionRate) {
+		return METRICS_JSON.formatted(totalExercises, avgCompletionRate);
+	}
+
+	/**
+	 * weekly_highlight JSON (문구를 JSON 문자열로)
+	 */
+	public String highlightJson(WeeklyReport report) {
+		return toJson(report.highlight());
+	}
+
+	private String highlightOf(int activeDays, double avgExerciseRate) {
+		if (activeDays == 7) {
+			return "7일 연속 운동 달성! 꾸준한 습관이 회복을 만듭니다.";
+		} else if (activeDays >= 5) {
+			return String.format("이번 주 %d일 운동 완료! 거의 다 왔어요.", activeDays);
+		} else if (avgExerciseRate >= 80) {
+			return "높은 완료율을 유지하고 있어요. 계속 이대로만 가세요!";
+		} else if (avgExerciseRate >= 60) {
+			return "좋은 진행이에요. 조금만 더 꾸준히 해봐요!";
+		} else {
+			return "다음 주에는 조금 더 열심히 해봐요. 화이팅!";
+		}
+	}
+
+	private String toJson(Object obj) {
+		try {
+			return objectMapper.writeValueAsString(obj);
+		} catch (JsonProcessingException e) {
+			log.error("Failed to serialize object to JSON", e);
+			return "{}";
+		}
+	}
+
+	/**
+	 * 주간 리포트 계산 결과
+	 */
+	public record WeeklyReport(
+		String highlight,
+		int totalExercises,
+		int avgCompletionRate
+	) {
+	}
+}
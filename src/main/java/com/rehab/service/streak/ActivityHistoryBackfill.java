@@ -0,0 +1,102 @@
+package com.rehab.service.streak;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.rehab.domain.entity.ActivityHistory;
+import com.rehab.domain.repository.dailySummary.DailySummaryHistoryView;
+import com.rehab.domain.repository.dailySummary.DailySummaryRepository;
+import com.rehab.domain.repository.streak.ActivityHistoryBulkRepository;
+import com.rehab.domain.repository.streak.ActivityHistoryBulkRepository.HistoryRow;
+import com.rehab.service.common.OneOffTaskRunner;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활동 이력 비트맵 백필 (배포 후 한 번만)
+ * 이력이 없거나 비어 있는 UserStreak을 최근 366일 DailySummary로 채운다. (페이지마다 JDBC 배치 UPDATE 한 번)
+ * 엔티티를 저장하지 않고 이력 컬럼만 user_id로 갱신하므로, 그 사이 streak 컬럼을 바꾼 일일 요약 반영을 되돌리지 않는다.
+ * 이후 만들어지는 Streak은 생성할 때 DailySummary로 이력을 채우므로 완료 기록 뒤에는 다시 돌지 않는다.
+ */
+@Slf4j
+@Component
+public class ActivityHistoryBackfill {
+
+	private static final String TASK_NAME = "activity_history_backfill";
+
+	private final ActivityHistoryBulkRepository activityHistoryBulkRepository;
+	private final DailySummaryRepository dailySummaryRepository;
+	private final OneOffTaskRunner oneOffTaskRunner;
+	private final boolean enabled;
+	private final int pageSize;
+
+	public ActivityHistoryBackfill(
+		ActivityHistoryBulkRepository activityHistoryBulkRepository,
+		DailySummaryRepository dailySummaryRepository,
+		OneOffTaskRunner oneOffTaskRunner,
+		@Value("${streak.activity-history.backfill-on-startup:true}") boolean enabled,
+		@Value("${streak.activity-history.backfill-page-size:500}") int pageSize
+	) {
+		this.activityHistoryBulkRepository = activityHistoryBulkRepository;
+		this.dailySummaryRepository = dailySummaryRepository;
+		this.oneOffTaskRunner = oneOffTaskRunner;
+		this.enabled = enabled;
+		this.pageSize = pageSize;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		if (!enabled) {
+			return;
+		}
+
+		try {
+			oneOffTaskRunner.runOnce(TASK_NAME, this::fillHistories);
+		} catch (Exception e) {
+			log.error("Error during activity history backfill", e);
+		}
+	}
+
+	private void fillHistories() {
+		long lastUserId = 0L;
+		long users = 0;
+		long filled = 0;
+		while (true) {
+			List<Long> userIds = activityHistoryBulkRepository.findIdsWithoutHistoryAfter(lastUserId, pageSize);
+			if (userIds.isEmpty()) {
+				break;
+			}
+			filled += activityHistoryBulkRepository.updateHistories(buildHistories(userIds));
+			users += userIds.size();
+			lastUserId = userIds.get(userIds.size() - 1);
+			if (userIds.size() < pageSize) {
+				break;
+			}
+		}
+		log.info("Activity history backfill completed. users: {}, filled: {}", users, filled);
+	}
+
+	private List<HistoryRow> buildHistories(List<Long> userIds) {
+		LocalDate today = LocalDate.now();
+		LocalDate start = today.minusDays(ActivityHistory.ACTIVITY_DAYS - 1L);
+		Map<Long, List<DailySummaryHistoryView>> summariesByUser = dailySummaryRepository
+			.findHistoryByUserIdIn(userIds, start.atStartOfDay(), today.plusDays(1).atStartOfDay().minusNanos(1))
+			.stream()
+			.collect(Collectors.groupingBy(DailySummaryHistoryView::getUserId));
+
+		List<HistoryRow> rows = new ArrayList<>(userIds.size());
+		for (Long userId : userIds) {
+			List<DailySummaryHistoryView> summaries = summariesByUser.getOrDefault(userId, List.of());
+			rows.add(new HistoryRow(userId, StreakService.buildActivityHistory(summaries, today)));
+		}
+		return rows;
+	}
+}
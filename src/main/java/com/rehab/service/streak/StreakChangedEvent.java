@@ -0,0 +1,17 @@
+package com.rehab.service.streak;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streak 변경 이벤트
+ * Streak 저장 트랜잭션이 커밋된 뒤 StreakLeaderboard가 받아 Redis 리더보드에 반영한다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StreakChangedEvent {
+
+	private final Long userId;
+	private final int currentStreak;
+	private final int maxStreak;
+}
@@ -0,0 +1,319 @@
+package com.rehab.service.streak;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.rehab.domain.repository.streak.StreakScore;
+import com.rehab.domain.repository.streak.UserStreakRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streak 리더보드 (Redis Sorted Set)
+ * 현재/최대 streak을 사용자 ID 멤버의 점수로 두 개의 ZSET에 미러링한다. (streak 0은 넣지 않음)
+ * - 갱신: Streak 저장 커밋 후 StreakChangedEvent로 반영
+ * - 조회: 상위 N명, 내 순위, 내 주변 순위 모두 O(log n + k)
+ * - 재구성: MySQL user_streak을 키셋 페이징으로 읽어 실행마다 다른 임시 키에 채운 뒤 RENAME으로 교체
+ *   Redis 잠금(SET NX)을 잡은 한 인스턴스만 재구성하고, 그동안 바뀐 사용자는 잠금 값(실행 ID)별 Set에 모아
+ *   교체 직전과 직후에 DB 값으로 다시 반영한다. (재구성이 읽은 페이지보다 늦게 커밋된 갱신을 덮어쓰지 않도록)
+ * 임시 키와 변경 목록에는 잠금과 같은 TTL을 걸어 재구성이 중간에 죽어도 남지 않게 한다.
+ * 갱신 중 Redis 오류는 로그만 남기며, 빠진 갱신은 다음 재구성(StreakScheduler) 때 바로잡힌다.
+ */
+@Slf4j
+@Component
+public class StreakLeaderboard {
+
+	private static final String KEY_PREFIX = "streak:leaderboard:";
+	private static final String REBUILD_SUFFIX = ":rebuild:";
+	private static final String REBUILD_LOCK_KEY = KEY_PREFIX + "rebuild-lock";
+	private static final String REBUILD_DIRTY_PREFIX = KEY_PREFIX + "rebuild-dirty:";
+
+	/**
+	 * 잠금 값이 내 실행 ID일 때만 해제 (TTL이 지나 다른 인스턴스가 잡은 잠금은 건드리지 않음)
+	 */
+	private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final ZSetOperations<String, String> zSetOperations;
+	private final UserStreakRepository streakRepository;
+	private final int rebuildPageSize;
+	private final Duration rebuildLockTtl;
+
+	private final Counter updateFailureCounter;
+	private final Timer rebuildTimer;
+
+	public StreakLeaderboard(
+		StringRedisTemplate redisTemplate,
+		UserStreakRepository streakRepository,
+		MeterRegistry meterRegistry,
+		@Value("${streak.leaderboard.rebuild-page-size:5000}") int rebuildPageSize,
+		@Value("${streak.leaderboard.rebuild-lock-ttl-ms:600000}") long rebuildLockTtlMs
+	) {
+		this.redisTemplate = redisTemplate;
+		this.zSetOperations = redisTemplate.opsForZSet();
+		this.streakRepository = streakRepository;
+		this.rebuildPageSize = rebuildPageSize;
+		this.rebuildLockTtl = Duration.ofMillis(rebuildLockTtlMs);
+
+		this.updateFailureCounter = Counter.builder("streak.leaderboard.update.failures")
+			.register(meterRegistry);
+		this.rebuildTimer = Timer.builder("streak.leaderboard.rebuild.duration")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Streak 저장 커밋 후 리더보드 반영
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void onStreakChanged(StreakChangedEvent event) {
+		String member = event.getUserId().toString();
+		try {
+			put(Board.CURRENT.key(), member, event.getCurrentStreak());
+			put(Board.MAX.key(), member, event.getMaxStreak());
+			markDirtyIfRebuilding(member);
+		} catch (Exception e) {
+			updateFailureCounter.increment();
+			log.warn("Streak 리더보드 갱신 실패 (Redis) - userId: {}, error: {}", event.getUserId(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 상위 N명 (1위부터)
+	 */
+	public List<Entry> top(Board board, int limit) {
+		return toEntries(zSetOperations.reverseRangeWithScores(board.key(), 0, limit - 1L), 1);
+	}
+
+	/**
+	 * 사용자 순위 (리더보드에 없으면 empty)
+	 */
+	public Optional<Entry> rankOf(Board board, Long userId) {
+		String member = userId.toString();
+		Long rank = zSetOperations.reverseRank(board.key(), member);
+		Double score = zSetOperations.score(board.key(), member);
+		if (rank == null || score == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new Entry(rank + 1, userId, score.intValue()));
+	}
+
+	/**
+	 * 사용자 앞뒤 radius명씩 (리더보드에 없으면 빈 목록)
+	 */
+	public List<Entry> around(Board board, Long userId, int radius) {
+		Long rank = zSetOperations.reverseRank(board.key(), userId.toString());
+		if (rank == null) {
+			return List.of();
+		}
+		long start = Math.max(0, rank - radius);
+		return toEntries(zSetOperations.reverseRangeWithScores(board.key(), start, rank + radius), start + 1);
+	}
+
+	/**
+	 * 리더보드 인원 수 (CURRENT면 streak > 0인 사용자 수)
+	 */
+	public long size(Board board) {
+		Long size = zSetOperations.zCard(board.key());
+		return size != null ? size : 0L;
+	}
+
+	/**
+	 * 기동 시 리더보드가 없으면 재구성
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuildIfMissing() {
+		try {
+			if (!Boolean.TRUE.equals(redisTemplate.hasKey(Board.MAX.key()))) {
+				rebuild();
+			}
+		} catch (Exception e) {
+			log.error("Error during streak leaderboard initial rebuild", e);
+		}
+	}
+
+	/**
+	 * MySQL user_streak으로 두 리더보드 전체 재구성 (다른 인스턴스가 재구성 중이면 건너뜀)
+	 */
+	public void rebuild() {
+		String runId = UUID.randomUUID().toString();
+		if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, runId, rebuildLockTtl))) {
+			log.info("Streak leaderboard rebuild skipped (running on another instance)");
+			return;
+		}
+
+		try {
+			rebuildTimer.record(() -> rebuild(runId));
+		} finally {
+			redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REBUILD_LOCK_KEY), runId);
+			redisTemplate.delete(REBUILD_DIRTY_PREFIX + runId);
+			for (Board board : Board.values()) {
+				redisTemplate.delete(board.rebuildKey(runId));
+			}
+		}
+	}
+
+	private void rebuild(String runId) {
+		long lastUserId = 0L;
+		long users = 0;
+		while (true) {
+			List<StreakScore> scores = streakRepository.findScoresAfter(
+				lastUserId, PageRequest.of(0, rebuildPageSize));
+			if (scores.isEmpty()) {
+				break;
+			}
+			addAll(Board.CURRENT.rebuildKey(runId), scores, StreakScore::getCurrentStreak);
+			addAll(Board.MAX.rebuildKey(runId), scores, StreakScore::getMaxStreak);
+			expireRebuildKeys(runId);
+			users += scores.size();
+			lastUserId = scores.get(scores.size() - 1).getUserId();
+			if (scores.size() < rebuildPageSize) {
+				break;
+			}
+		}
+
+		// 재구성 중 바뀐 사용자는 임시 키에 DB 값으로 다시 넣고, 교체 직전에 들어온 변경은 교체 후 한 번 더
+		long replayed = replayDirty(runId, board -> board.rebuildKey(runId));
+		for (Board board : Board.values()) {
+			if (Boolean.TRUE.equals(redisTemplate.hasKey(board.rebuildKey(runId)))) {
+				redisTemplate.rename(board.rebuildKey(runId), board.key());
+				// RENAME은 TTL도 옮기므로 교체한 리더보드는 만료되지 않도록 해제
+				redisTemplate.persist(board.key());
+			} else {
+				redisTemplate.delete(board.key());
+			}
+		}
+		replayed += replayDirty(runId, Board::key);
+
+		log.info("Streak leaderboard rebuilt. users: {}, replayed: {}, current: {}, max: {}",
+			users, replayed, size(Board.CURRENT), size(Board.MAX));
+	}
+
+	/**
+	 * 재구성 중이면 변경된 사용자를 이번 실행의 변경 목록에 추가
+	 * 잠금을 잡은 뒤 커밋된 갱신만 여기에 모이고, 그 전에 커밋된 갱신은 재구성이 DB에서 읽는다.
+	 */
+	private void markDirtyIfRebuilding(String member) {
+		String runId = redisTemplate.opsForValue().get(REBUILD_LOCK_KEY);
+		if (runId != null) {
+			redisTemplate.opsForSet().add(REBUILD_DIRTY_PREFIX + runId, member);
+			redisTemplate.expire(REBUILD_DIRTY_PREFIX + runId, rebuildLockTtl);
+		}
+	}
+
+	/**
+	 * 재구성 임시 키 만료 설정 (재구성이 중간에 죽어도 잠금과 함께 사라지도록, 키가 생긴 뒤 페이지마다)
+	 */
+	private void expireRebuildKeys(String runId) {
+		for (Board board : Board.values()) {
+			redisTemplate.expire(board.rebuildKey(runId), rebuildLockTtl);
+		}
+	}
+
+	/**
+	 * 변경 목록의 사용자를 꺼내 DB 점수로 다시 반영
+	 *
+	 * @return 다시 반영한 사용자 수
+	 */
+	private long replayDirty(String runId, Function<Board, String> keyOf) {
+		String dirtyKey = REBUILD_DIRTY_PREFIX + runId;
+		long replayed = 0;
+		while (true) {
+			List<String> members = redisTemplate.opsForSet().pop(dirtyKey, rebuildPageSize);
+			if (members == null || members.isEmpty()) {
+				return replayed;
+			}
+			List<Long> userIds = members.stream().map(Long::valueOf).toList();
+			for (StreakScore score : streakRepository.findScoresByUserIdIn(userIds)) {
+				String member = score.getUserId().toString();
+				put(keyOf.apply(Board.CURRENT), member, Objects.requireNonNullElse(score.getCurrentStreak(), 0));
+				put(keyOf.apply(Board.MAX), member, Objects.requireNonNullElse(score.getMaxStreak(), 0));
+				replayed++;
+			}
+		}
+	}
+
+	private void put(String key, String member, int score) {
+		if (score > 0) {
+			zSetOperations.add(key, member, score);
+		} else {
+			zSetOperations.remove(key, member);
+		}
+	}
+
+	private void addAll(String key, List<StreakScore> scores, Function<StreakScore, Integer> scoreOf) {
+		Set<TypedTuple<String>> tuples = new HashSet<>();
+		for (StreakScore score : scores) {
+			Integer value = scoreOf.apply(score);
+			if (value != null && value > 0) {
+				tuples.add(TypedTuple.of(score.getUserId().toString(), value.doubleValue()));
+			}
+		}
+		if (!tuples.isEmpty()) {
+			zSetOperations.add(key, tuples);
+		}
+	}
+
+	private List<Entry> toEntries(Set<TypedTuple<String>> tuples, long firstRank) {
+		if (tuples == null) {
+			return List.of();
+		}
+		List<Entry> entries = new ArrayList<>(tuples.size());
+		long rank = firstRank;
+		for (TypedTuple<String> tuple : tuples) {
+			int score = tuple.getScore() != null ? tuple.getScore().intValue() : 0;
+			entries.add(new Entry(rank++, Long.valueOf(tuple.getValue()), score));
+		}
+		return entries;
+	}
+
+	/**
+	 * 리더보드 종류
+	 */
+	public enum Board {
+		CURRENT,
+		MAX;
+
+		String key() {
+			return KEY_PREFIX + name().toLowerCase();
+		}
+
+		String rebuildKey(String runId) {
+			return key() + REBUILD_SUFFIX + runId;
+		}
+	}
+
+	/**
+	 * 리더보드 항목 (rank는 1부터)
+	 */
+	public record Entry(
+		long rank,
+		Long userId,
+		int streak
+	) {
+	}
+}
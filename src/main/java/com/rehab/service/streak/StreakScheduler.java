@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 /**
  * Streak 관리 스케줄러
  * - 매일 자정에 끊긴 streak 정리
+ * - 매일 리더보드(Redis)를 MySQL 기준으로 재구성
  */
 @Slf4j
 @Component
@@ -35,6 +36,21 @@ public class StreakScheduler {
 		}
 	}
 
+	/**
+	 * 매일 00:05에 리더보드 재구성
+	 * - 자정 정리 직후 재구성이 실패했거나 Redis 오류로 빠진 갱신을 반영
+	 */
+	@Scheduled(cron = "${streak.leaderboard.reconcile-cron:0 5 0 * * *}")
+	public void reconcileLeaderboard() {
+		log.info("Starting streak leaderboard reconciliation");
+
+		try {
+			streakService.rebuildLeaderboard();
+		} catch (Exception e) {
+			log.error("Error during streak leaderboard reconciliation", e);
+		}
+	}
+
 	/**
 	 * 매시간 활성 streak 통계 로깅 (선택 사항)
 	 * - 모니터링용
@@ -1,25 +1,40 @@
 package com.rehab.service.streak;
 
 import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.GeneralException;
 import com.rehab.apiPayload.exception.handler.UserHandler;
+import com.rehab.domain.entity.ActivityHistory;
 import com.rehab.domain.entity.DailySummary;
 import com.rehab.domain.entity.User;
 import com.rehab.domain.entity.UserStreak;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.plan.ActivityHistoryDto;
+import com.rehab.dto.streak.StreakCalendarResponse;
+import com.rehab.dto.streak.StreakLeaderboardResponse;
 import com.rehab.dto.streak.StreakResponse;
+import com.rehab.domain.repository.dailySummary.DailySummaryHistoryView;
 import com.rehab.domain.repository.dailySummary.DailySummaryRepository;
 import com.rehab.domain.repository.streak.UserStreakRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -32,11 +47,17 @@ public class StreakService {
 	private final UserStreakRepository streakRepository;
 	private final UserRepository userRepository;
 	private final DailySummaryRepository dailySummaryRepository;
+	private final StreakLeaderboard streakLeaderboard;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MeterRegistry meterRegistry;
 
 	// 활동 기준
 	private static final int EXERCISE_THRESHOLD = 60;  // 운동 완료율 60% 이상
 	private static final int MEDICATION_THRESHOLD = 70;  // 복약 완료율 70% 이상
 
+	// 끊긴 streak 정리 시 한 번에 UPDATE할 user_id 구간 크기
+	static final int CLEANUP_CHUNK_SIZE = 5000;
+
 	/**
 	 * 사용자 Streak 조회 (활동 이력 포함)
 	 * @param userId 사용자 ID
@@ -47,9 +68,11 @@ public class StreakService {
 		UserStreak streak = streakRepository.findByUserId(userId)
 			.orElseGet(() -> createInitialStreak(userId));
 
-		// 활동 이력 조회
+		// 활동 이력 조회 (완료율 보관 기간보다 길면 DailySummary)
 		int days = rangeDays != null ? rangeDays : 30;
-		List<ActivityHistoryDto> activityHistory = getActivityHistory(userId, days);
+		List<ActivityHistoryDto> activityHistory = streak.hasActivityHistory() && days <= ActivityHistory.RATE_DAYS
+			? getActivityHistory(streak.getActivityHistory(), days)
+			: getActivityHistory(userId, days);
 
 		return StreakResponse.of(streak, activityHistory);
 	}
@@ -91,22 +114,139 @@ public class StreakService {
 			streak.resetStreak(date);
 			log.info("Streak reset for user={}, date={} (criteria not met)", userId, date);
 		}
+		streak.recordActivity(date, isActive, exerciseCompletionRate, medicationCompletionRate);
 
 		streakRepository.save(streak);
+		eventPublisher.publishEvent(
+			new StreakChangedEvent(userId, streak.getCurrentStreak(), streak.getMaxStreak()));
+	}
+
+	/**
+	 * Streak 리더보드 조회
+	 * @param type CURRENT(현재 streak) 또는 MAX(최대 streak)
+	 * @param limit 상위 N명
+	 * @param radius 0보다 크면 상위 N명 대신 내 앞뒤 radius명
+	 * Redis 오류면 STREAK_LEADERBOARD_UNAVAILABLE(503)로 응답한다.
+	 */
+	public StreakLeaderboardResponse getLeaderboard(Long userId, String type, int limit, int radius) {
+		StreakLeaderboard.Board board = parseBoard(type);
+
+		List<StreakLeaderboard.Entry> entries;
+		Optional<StreakLeaderboard.Entry> me;
+		long totalCount;
+		try {
+			entries = radius > 0
+				? streakLeaderboard.around(board, userId, radius)
+				: streakLeaderboard.top(board, limit);
+			me = streakLeaderboard.rankOf(board, userId);
+			totalCount = streakLeaderboard.size(board);
+		} catch (DataAccessException e) {
+			log.warn("Streak 리더보드 조회 실패 (Redis) - userId: {}, error: {}", userId, e.getMessage());
+			throw new GeneralException(ErrorStatus.STREAK_LEADERBOARD_UNAVAILABLE);
+		}
+
+		Set<Long> userIds = new HashSet<>();
+		entries.forEach(entry -> userIds.add(entry.userId()));
+		me.ifPresent(entry -> userIds.add(entry.userId()));
+		Map<Long, String> usernames = userRepository.findAllById(userIds).stream()
+			.collect(Collectors.toMap(User::getUserId, user -> Objects.toString(user.getUsername(), "")));
+
+		return StreakLeaderboardResponse.builder()
+			.type(board.name())
+			.totalCount(totalCount)
+			.entries(entries.stream()
+				.map(entry -> toLeaderboardEntry(entry, usernames))
+				.collect(Collectors.toList()))
+			.me(me.map(entry -> toLeaderboardEntry(entry, usernames)).orElse(null))
+			.build();
+	}
+
+	private StreakLeaderboard.Board parseBoard(String type) {
+		try {
+			return StreakLeaderboard.Board.valueOf(type.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new GeneralException(ErrorStatus._BAD_REQUEST);
+		}
+	}
+
+	private StreakLeaderboardResponse.LeaderboardEntry toLeaderboardEntry(
+		StreakLeaderboard.Entry entry,
+		Map<Long, String> usernames
+	) {
+		return StreakLeaderboardResponse.LeaderboardEntry.builder()
+			.rank(entry.rank())
+			.userId(entry.userId())
+			.username(usernames.get(entry.userId()))
+			.streak(entry.streak())
+			.build();
 	}
 
 	/**
 	 * 활동 기준 충족 여부 판단
 	 * - 운동 완료율 ≥ 60% OR 복약 완료율 ≥ 70%
 	 */
-	private boolean isActivityCriteriaMet(Integer exerciseRate, Integer medicationRate) {
+	static boolean isActivityCriteriaMet(Integer exerciseRate, Integer medicationRate) {
 		boolean exerciseMet = exerciseRate != null && exerciseRate >= EXERCISE_THRESHOLD;
 		boolean medicationMet = medicationRate != null && medicationRate >= MEDICATION_THRESHOLD;
 		return exerciseMet || medicationMet;
 	}
 
 	/**
-	 * 활동 이력 조회 (최근 N일)
+	 * 월간 활동 캘린더 조회 (활동 이력 비트맵, 최근 366일 이내)
+	 * - 아직 이력이 없는 사용자(Streak 생성 전, 백필 전)는 DailySummary로 계산
+	 */
+	public StreakCalendarResponse getActivityCalendar(Long userId, YearMonth month) {
+		UserStreak streak = streakRepository.findByUserId(userId)
+			.orElseGet(() -> createInitialStreak(userId));
+
+		List<Integer> activeDays = new ArrayList<>();
+		if (streak.hasActivityHistory()) {
+			ActivityHistory history = streak.getActivityHistory();
+			for (int day = 1; day <= month.lengthOfMonth(); day++) {
+				if (history.isActive(month.atDay(day))) {
+					activeDays.add(day);
+				}
+			}
+		} else {
+			dailySummaryRepository.findHistoryByUserIdIn(List.of(userId),
+					month.atDay(1).atStartOfDay(), month.plusMonths(1).atDay(1).atStartOfDay().minusNanos(1))
+				.stream()
+				.filter(summary -> isActivityCriteriaMet(
+					summary.getExerciseCompletionRate(), summary.getMedicationCompletionRate()))
+				.map(summary -> summary.getDate().getDayOfMonth())
+				.distinct()
+				.sorted()
+				.forEach(activeDays::add);
+		}
+
+		return StreakCalendarResponse.builder()
+			.month(month.toString())
+			.activeDays(activeDays)
+			.activeDayCount(activeDays.size())
+			.build();
+	}
+
+	/**
+	 * 활동 이력 조회 (최근 N일, 활동 이력 비트맵)
+	 */
+	private List<ActivityHistoryDto> getActivityHistory(ActivityHistory history, int days) {
+		LocalDate today = LocalDate.now();
+		List<ActivityHistoryDto> result = new ArrayList<>(days);
+
+		for (LocalDate date = today.minusDays(days - 1L); !date.isAfter(today); date = date.plusDays(1)) {
+			result.add(ActivityHistoryDto.builder()
+				.dateTime(date.atStartOfDay())
+				.isActive(history.isActive(date))
+				.exerciseCompletionRate(history.exerciseRate(date))
+				.medicationCompletionRate(history.medicationRate(date))
+				.build());
+		}
+
+		return result;
+	}
+
+	/**
+	 * 활동 이력 조회 (최근 N일, DailySummary - 비트맵 백필 전 사용자용)
 	 */
 	private List<ActivityHistoryDto> getActivityHistory(Long userId, int days) {
 		// 오늘 00:00 기준으로 계산 (필요하면 now() 그대로 써도 됨)
@@ -145,53 +285,105 @@ public class StreakService {
 	}
 
 	/**
-	 * 초기 Streak 생성 (메모리에만)
+	 * 초기 Streak 생성 (메모리에만, 활동 이력 없이 - 조회는 DailySummary로)
 	 */
 	private UserStreak createInitialStreak(Long userId) {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
-		return UserStreak.createInitial(user);
+		return UserStreak.createInitial(user, null);
 	}
 
 	/**
 	 * 초기 Streak 생성 및 저장
+	 * - 활동 이력은 빈 상태가 아니라 그동안의 DailySummary로 채워서 만든다 (일회성 백필 이후 생성분)
 	 */
 	@Transactional
 	public UserStreak createAndSaveInitialStreak(Long userId) {
 		User user = userRepository.findById(userId)
 			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
-		UserStreak streak = UserStreak.createInitial(user);
+		LocalDate today = LocalDate.now();
+		LocalDate start = today.minusDays(ActivityHistory.ACTIVITY_DAYS - 1L);
+		List<DailySummaryHistoryView> summaries = dailySummaryRepository.findHistoryByUserIdIn(
+			List.of(userId), start.atStartOfDay(), today.plusDays(1).atStartOfDay().minusNanos(1));
+
+		UserStreak streak = UserStreak.createInitial(user, buildActivityHistory(summaries, today));
 		return streakRepository.save(streak);
 	}
 
+	/**
+	 * DailySummary로 활동 이력 비트맵 만들기 (today까지, 초기 Streak 생성과 백필 공용)
+	 */
+	static ActivityHistory buildActivityHistory(List<DailySummaryHistoryView> summaries, LocalDate today) {
+		ActivityHistory history = ActivityHistory.empty(today);
+		for (DailySummaryHistoryView summary : summaries) {
+			history.record(summary.getDate().toLocalDate(),
+				isActivityCriteriaMet(summary.getExerciseCompletionRate(), summary.getMedicationCompletionRate()),
+				summary.getExerciseCompletionRate(),
+				summary.getMedicationCompletionRate());
+		}
+		return history;
+	}
+
 	/**
 	 * 배치: 오래된 streak 정리
 	 * - 마지막 활동이 어제 이전인데 currentStreak > 0인 경우 리셋
+	 * - 엔티티를 읽지 않고 user_id 구간 (fromId, fromId + CLEANUP_CHUNK_SIZE]별 UPDATE 한 번씩 실행 (구간마다 짧은 트랜잭션)
+	 * - 일괄 UPDATE는 StreakChangedEvent를 내지 않으므로 리셋이 있으면 바로 리더보드를 재구성
+	 * @return 리셋된 streak 수
 	 */
-	@Transactional
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public int cleanupStaleStreaks() {
+		Timer.Sample sample = Timer.start(meterRegistry);
 		LocalDate today = LocalDate.now();
-		List<UserStreak> staleStreaks = streakRepository.findStaleStreaks(today);
+		LocalDate yesterday = today.minusDays(1);
+		Timer chunkTimer = Timer.builder("streak.cleanup.chunk.duration")
+			.register(meterRegistry);
 
+		long maxUserId = streakRepository.findMaxUserId();
 		int resetCount = 0;
-		for (UserStreak streak : staleStreaks) {
-			if (streak.getLastActiveDate().isBefore(today.minusDays(1))) {
-				streak.resetStreak(today);
-				resetCount++;
-			}
+		for (long fromId = 0; fromId < maxUserId; fromId += CLEANUP_CHUNK_SIZE) {
+			long chunkFromId = fromId;
+			resetCount += chunkTimer.record(() -> streakRepository.resetStaleStreaks(
+				chunkFromId, chunkFromId + CLEANUP_CHUNK_SIZE, yesterday, today));
 		}
 
-		log.info("Cleaned up {} stale streaks", resetCount);
+		sample.stop(Timer.builder("streak.cleanup.duration")
+			.register(meterRegistry));
+		meterRegistry.counter("streak.cleanup.reset").increment(resetCount);
+		log.info("Cleaned up {} stale streaks (maxUserId: {})", resetCount, maxUserId);
+
+		if (resetCount > 0) {
+			try {
+				streakLeaderboard.rebuild();
+			} catch (Exception e) {
+				log.warn("Streak 정리 후 리더보드 재구성 실패 (Redis) - 00:05 재구성에서 반영합니다. error: {}",
+					e.getMessage());
+			}
+		}
 		return resetCount;
 	}
 
 	/**
 	 * 통계: 현재 활성 streak 사용자 수
+	 * - CURRENT 리더보드 크기 (O(1)), Redis 오류 시 DB 집계
 	 */
 	public long countActiveStreaks() {
-		return streakRepository.countActiveStreaks();
+		try {
+			return streakLeaderboard.size(StreakLeaderboard.Board.CURRENT);
+		} catch (Exception e) {
+			log.warn("Streak 리더보드 조회 실패 (Redis) - DB로 집계합니다. error: {}", e.getMessage());
+			return streakRepository.countActiveStreaks();
+		}
+	}
+
+	/**
+	 * 배치: 리더보드를 MySQL 기준으로 재구성 (페이지마다 짧게 읽도록 트랜잭션 밖에서 실행)
+	 */
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void rebuildLeaderboard() {
+		streakLeaderboard.rebuild();
 	}
 }
 
@@ -0,0 +1,15 @@
+package com.rehab.service.userService;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 프로필/권한 변경 이벤트
+ * 트랜잭션이 끝난 뒤 AuthenticatedUserCache가 받아 캐시된 인증 사용자를 비운다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+	private final Long userId;
+}
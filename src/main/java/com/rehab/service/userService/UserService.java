@@ -1,12 +1,11 @@
 package com.rehab.service.userService;
 
-import com.rehab.domain.entity.User;
 import com.rehab.dto.user.UserProfileDto;
 
 public interface UserService {
 
-	UserProfileDto.ProfileResponse getMyProfile(User user);
+	UserProfileDto.ProfileResponse getMyProfile(Long userId);
 
-	UserProfileDto.ProfileResponse updateMyProfile(User user, UserProfileDto.ProfileUpdateRequest request);
+	UserProfileDto.ProfileResponse updateMyProfile(Long userId, UserProfileDto.ProfileUpdateRequest request);
 }
 
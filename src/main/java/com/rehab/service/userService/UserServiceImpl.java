@@ -1,9 +1,12 @@
 package com.rehab.service.userService;
 
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.handler.UserHandler;
 import com.rehab.domain.entity.User;
 import com.rehab.domain.repository.user.UserRepository;
 import com.rehab.dto.user.UserProfileDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,23 +19,20 @@ import java.time.Period;
 public class UserServiceImpl implements UserService {
 
 	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	@Override
-	public UserProfileDto.ProfileResponse getMyProfile(User user) {
-		return UserProfileDto.ProfileResponse.builder()
-			.userId(user.getUserId())
-			.username(user.getUsername())
-			.email(user.getEmail())
-			.gender(user.getGender())
-			.age(user.getAge())
-			.height(user.getHeight())
-			.weight(user.getWeight())
-			.profileCompleted(user.getProfileCompleted())
-			.build();
+	@Transactional(readOnly = true)
+	public UserProfileDto.ProfileResponse getMyProfile(Long userId) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
+		return toProfileResponse(user);
 	}
 
 	@Override
-	public UserProfileDto.ProfileResponse updateMyProfile(User user, UserProfileDto.ProfileUpdateRequest request) {
+	public UserProfileDto.ProfileResponse updateMyProfile(Long userId, UserProfileDto.ProfileUpdateRequest request) {
+		User user = userRepository.findById(userId)
+			.orElseThrow(() -> new UserHandler(ErrorStatus.USER_NOT_FOUND));
 
 		LocalDate birthDate = request.getBirthDate() != null
 			? request.getBirthDate()
@@ -54,8 +54,22 @@ public class UserServiceImpl implements UserService {
 		);
 
 		userRepository.save(user);
+		eventPublisher.publishEvent(new UserChangedEvent(user.getUserId()));
+
+		return toProfileResponse(user);
+	}
 
-		return getMyProfile(user);
+	private UserProfileDto.ProfileResponse toProfileResponse(User user) {
+		return UserProfileDto.ProfileResponse.builder()
+			.userId(user.getUserId())
+			.username(user.getUsername())
+			.email(user.getEmail())
+			.gender(user.getGender())
+			.age(user.getAge())
+			.height(user.getHeight())
+			.weight(user.getWeight())
+			.profileCompleted(user.getProfileCompleted())
+			.build();
 	}
 
 }
@@ -0,0 +1,23 @@
+-- ai_inference_log 월별 파티션 전환 (운영 DB에서 한 번만 수동 실행)
+-- MySQL 파티션 테이블은 외래 키를 지원하지 않고, 모든 유니크 키(PK 포함)에 파티션 키(created_at)가 들어가야 한다.
+-- RANGE COLUMNS는 TIMESTAMP를 지원하지 않으므로 created_at을 DATETIME으로 바꾼다.
+-- 이후 다음 달 파티션 추가와 보존 기간이 지난 파티션 보관/삭제는 AiInferenceLogRetentionJob이 매일 처리한다.
+-- 테이블이 크면 pt-online-schema-change 같은 온라인 변경 도구로 실행한다.
+
+-- 1. 외래 키 제거 (schema.sql에서 ai_inference_log_ibfk_1로 고정, 다른 방법으로 만든 테이블은 SHOW CREATE TABLE로 확인)
+ALTER TABLE ai_inference_log DROP FOREIGN KEY ai_inference_log_ibfk_1;
+
+-- 2. PK에 created_at 추가
+ALTER TABLE ai_inference_log
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (inference_log_id, created_at);
+
+-- 3. 월별 파티션 (첫 파티션은 이전 로그 전체, 날짜는 실행 시점에 맞춰 조정)
+ALTER TABLE ai_inference_log
+PARTITION BY RANGE COLUMNS (created_at) (
+    PARTITION p_legacy VALUES LESS THAN ('2026-10-01'),
+    PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+    PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
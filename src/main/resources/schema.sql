@@ -186,12 +186,64 @@ CREATE TABLE daily_summary (
     avg_pain_score INT,
     total_duration_sec INT DEFAULT 0,
     daily_metrics JSON,
+    all_diet_completed BOOLEAN DEFAULT FALSE,
+    diet_completion_rate INT DEFAULT 0,
+    -- 증분 집계용 누적 컬럼 (NULL이면 재계산 전 레거시 행)
+    total_exercises INT,
+    completed_exercises INT,
+    total_medications INT,
+    taken_medications INT,
+    total_diets INT,
+    completed_diets INT,
+    pain_sum INT,
+    pain_count INT,
+    rpe_sum INT,
+    rpe_count INT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
     FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
     UNIQUE KEY unique_user_date (user_id, date)
 );
 
+-- 일일 요약 갱신 필요 표시 테이블 (로그 트랜잭션에서 표시, 정합성 점검이 재계산 후 제거)
+CREATE TABLE daily_summary_dirty (
+    user_id BIGINT NOT NULL,
+    date DATE NOT NULL,
+    marked_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, date),
+    INDEX idx_daily_summary_dirty_marked (marked_at)
+);
+
+-- 사용자 일별 지표 버킷 테이블 (진행 리포트용, DailySummary에서 파생)
+CREATE TABLE user_metric_bucket (
+    user_id BIGINT NOT NULL,
+    bucket_date DATE NOT NULL,
+    exercise_rate_sum INT NOT NULL,
+    exercise_rate_count INT NOT NULL,
+    duration_sec_sum INT NOT NULL,
+    medication_rate_sum INT NOT NULL,
+    medication_rate_count INT NOT NULL,
+    pain_score_sum INT NOT NULL,
+    pain_score_count INT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, bucket_date)
+);
+
+-- 연속 달성(Streak) 테이블 (사용자당 1행)
+-- activity_bits: 최근 366일 달성 비트, completion_rates: 최근 30일 운동/복약 완료율 7비트씩 (ActivityHistory)
+CREATE TABLE user_streak (
+    user_id BIGINT PRIMARY KEY,
+    current_streak INT NOT NULL,
+    max_streak INT NOT NULL,
+    last_active_date DATE NOT NULL,
+    activity_bits BINARY(46),
+    completion_rates BINARY(53),
+    history_end_date DATE,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
 -- 회복 점수 테이블
 CREATE TABLE recovery_score (
     recovery_score_id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -264,21 +316,31 @@ CREATE TABLE reminder (
 );
 
 -- 리포트 스냅샷 테이블
+-- range_start/range_end는 covered_range와 같은 기간 (배치 upsert의 유니크 키)
+-- highlight_text/total_exercises/avg_completion_rate는 weekly_highlight/metrics JSON을 풀어 둔 컬럼
 CREATE TABLE report_snapshot (
     report_snapshot_id BIGINT AUTO_INCREMENT PRIMARY KEY,
     user_id BIGINT NOT NULL,
     period VARCHAR(20) NOT NULL,
     covered_range JSON NOT NULL,
+    range_start DATE,
+    range_end DATE,
     metrics JSON,
     weekly_highlight JSON,
+    highlight_text VARCHAR(255),
+    total_exercises INT,
+    avg_completion_rate INT,
     recovery_prediction DECIMAL(5,2),
     generated_at TIMESTAMP,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE,
+    UNIQUE KEY uk_report_snapshot_user_period_range (user_id, period, range_start, range_end)
 );
 
 -- AI 추론 로그 테이블
+-- 스냅샷은 ai_snapshot_blob에 두고 해시만 가진다. (input_snapshot/output_snapshot은 이전 로그용)
+-- 월별 파티션으로 전환할 때 외래 키를 이름으로 제거하므로 이름을 고정한다. (db/ai_inference_log_partitioning.sql)
 CREATE TABLE ai_inference_log (
     inference_log_id BIGINT AUTO_INCREMENT PRIMARY KEY,
     user_id BIGINT NOT NULL,
@@ -286,11 +348,36 @@ CREATE TABLE ai_inference_log (
     model_version VARCHAR(50),
     input_snapshot JSON,
     output_snapshot JSON,
+    input_hash CHAR(64),
+    output_hash CHAR(64),
     knowledge_references JSON,
+    knowledge_reference_count INT,
+    snapshot_bytes INT,
     latency_ms INT,
+    cache_hit BOOLEAN,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
-    FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+    CONSTRAINT ai_inference_log_ibfk_1 FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
+);
+
+-- AI 추론 스냅샷 원문 테이블 (deflate 압축, 내용 해시로 중복 제거)
+CREATE TABLE ai_snapshot_blob (
+    content_hash CHAR(64) PRIMARY KEY,
+    compressed_json LONGBLOB NOT NULL,
+    raw_size INT NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+-- ID 블록 할당 테이블 (애플리케이션이 INSERT 전에 ID 구간을 미리 받아 쓰는 테이블마다 한 행)
+CREATE TABLE id_block (
+    block_name VARCHAR(100) PRIMARY KEY,
+    next_id BIGINT NOT NULL
+);
+
+-- 한 번만 실행하는 작업(데이터 백필 등) 완료 기록 테이블
+CREATE TABLE one_off_task (
+    task_name VARCHAR(100) PRIMARY KEY,
+    completed_at DATETIME(6) NOT NULL
 );
 
 -- 감사 로그 테이블
@@ -323,6 +410,7 @@ CREATE INDEX idx_exercise_log_plan_item_id ON exercise_log(plan_item_id);
 CREATE INDEX idx_exercise_log_logged_at ON exercise_log(logged_at);
 CREATE INDEX idx_daily_summary_user_id ON daily_summary(user_id);
 CREATE INDEX idx_daily_summary_date ON daily_summary(date);
+CREATE INDEX idx_last_active_date ON user_streak(last_active_date);
 CREATE INDEX idx_recovery_score_user_id ON recovery_score(user_id);
 CREATE INDEX idx_recovery_score_date ON recovery_score(date);
 CREATE INDEX idx_medication_user_id ON medication(user_id);
@@ -333,6 +421,12 @@ CREATE INDEX idx_medication_log_taken_at ON medication_log(taken_at);
 CREATE INDEX idx_reminder_user_id ON reminder(user_id);
 CREATE INDEX idx_reminder_next_fire_at ON reminder(next_fire_at);
 CREATE INDEX idx_report_snapshot_user_id ON report_snapshot(user_id);
+CREATE INDEX idx_report_snapshot_user_generated ON report_snapshot(user_id, generated_at);
+CREATE INDEX idx_report_snapshot_user_period_generated ON report_snapshot(user_id, period, generated_at);
 CREATE INDEX idx_ai_inference_log_user_id ON ai_inference_log(user_id);
+CREATE INDEX idx_ai_log_user_created ON ai_inference_log(user_id, created_at);
+CREATE INDEX idx_ai_log_user_model_created ON ai_inference_log(user_id, model_key, created_at);
+CREATE INDEX idx_ai_log_input_hash ON ai_inference_log(input_hash);
+CREATE INDEX idx_ai_log_output_hash ON ai_inference_log(output_hash);
 CREATE INDEX idx_audit_log_user_id ON audit_log(user_id);
 CREATE INDEX idx_audit_log_created_at ON audit_log(created_at);
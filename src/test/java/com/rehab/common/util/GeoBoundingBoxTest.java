@@ -0,0 +1,40 @@
+package com.rehab.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.rehab.domain.entity.ExerciseFacility;
+
+class GeoBoundingBoxTest {
+
+	private static final double RADIUS_KM = 10.0;
+
+	@Test
+	void 반경_바로_안쪽의_남북_지점은_범위에_포함된다() {
+		double latitude = 37.5;
+		double north = latitude + Math.toDegrees((RADIUS_KM - 0.001) / GeoBoundingBox.EARTH_RADIUS_KM);
+
+		GeoBoundingBox box = GeoBoundingBox.of(latitude, 127.0, RADIUS_KM);
+
+		assertThat(ExerciseFacility.calculateDistance(latitude, 127.0, north, 127.0)).isLessThan(RADIUS_KM);
+		assertThat(north).isLessThanOrEqualTo(box.getMaxLatitude());
+	}
+
+	@Test
+	void 반경_바로_안쪽의_동서_지점은_고위도에서도_범위에_포함된다() {
+		for (double latitude : new double[] {0.0, 37.5, 60.0, 75.0}) {
+			// 같은 위도에서 중심과의 Haversine 거리가 반경보다 1m 짧은 경도 차
+			double halfAngle = (RADIUS_KM - 0.001) / GeoBoundingBox.EARTH_RADIUS_KM / 2;
+			double lngDelta = Math.toDegrees(
+				2 * Math.asin(Math.sin(halfAngle) / Math.cos(Math.toRadians(latitude))));
+
+			GeoBoundingBox box = GeoBoundingBox.of(latitude, 127.0, RADIUS_KM);
+
+			assertThat(ExerciseFacility.calculateDistance(latitude, 127.0, latitude, 127.0 + lngDelta))
+				.isLessThan(RADIUS_KM);
+			assertThat(127.0 + lngDelta).isLessThanOrEqualTo(box.getMaxLongitude());
+			assertThat(127.0 - lngDelta).isGreaterThanOrEqualTo(box.getMinLongitude());
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.rehab.domain.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+class ActivityHistoryTest {
+
+	private static final LocalDate START = LocalDate.of(2026, 1, 1);
+
+	@Test
+	void 이력은_100바이트보다_작다() {
+		assertThat(ActivityHistory.ACTIVITY_BYTES + ActivityHistory.RATE_BYTES).isLessThan(100);
+	}
+
+	@Test
+	void 완료율은_날짜와_지표별로_그대로_복원한다() {
+		ActivityHistory history = ActivityHistory.empty(START);
+
+		history.record(START, true, 100, 0);
+		history.record(START.plusDays(1), false, null, 57);
+		history.record(START.plusDays(2), true, 150, -5);
+
+		assertThat(history.exerciseRate(START)).isEqualTo(100);
+		assertThat(history.medicationRate(START)).isZero();
+		assertThat(history.exerciseRate(START.plusDays(1))).isNull();
+		assertThat(history.medicationRate(START.plusDays(1))).isEqualTo(57);
+		assertThat(history.exerciseRate(START.plusDays(2))).isEqualTo(100);
+		assertThat(history.medicationRate(START.plusDays(2))).isZero();
+		assertThat(history.isActive(START)).isTrue();
+		assertThat(history.isActive(START.plusDays(1))).isFalse();
+	}
+
+	@Test
+	void 한_바퀴_돈_활동_비트는_지난_주기의_값을_지운다() {
+		ActivityHistory history = ActivityHistory.empty(START);
+		history.record(START, true, 80, 90);
+		history.record(START.plusDays(1), true, 80, 90);
+
+		// START + 366일은 START와 같은 칸, START + 367일은 START + 1일과 같은 칸
+		history.record(START.plusDays(400), false, 0, 0);
+
+		assertThat(history.getHistoryEndDate()).isEqualTo(START.plusDays(400));
+		assertThat(history.isActive(START)).isFalse();
+		assertThat(history.isActive(START.plusDays(366))).isFalse();
+		assertThat(history.isActive(START.plusDays(367))).isFalse();
+		assertThat(history.countActiveDays(START.plusDays(35), START.plusDays(400))).isZero();
+	}
+
+	@Test
+	void 한_바퀴_돈_완료율_칸은_지난_주기의_값을_지운다() {
+		ActivityHistory history = ActivityHistory.empty(START);
+		history.record(START, true, 80, 70);
+		history.record(START.plusDays(1), true, 55, 66);
+
+		history.record(START.plusDays(30), false, 10, 20);
+
+		assertThat(history.exerciseRate(START)).isZero();
+		assertThat(history.exerciseRate(START.plusDays(1))).isEqualTo(55);
+		assertThat(history.exerciseRate(START.plusDays(30))).isEqualTo(10);
+		assertThat(history.medicationRate(START.plusDays(30))).isEqualTo(20);
+
+		history.record(START.plusDays(45), false, 30, 40);
+
+		// START + 31일은 START + 1일과 같은 칸
+		assertThat(history.exerciseRate(START.plusDays(31))).isZero();
+		assertThat(history.medicationRate(START.plusDays(31))).isZero();
+		assertThat(history.exerciseRate(START.plusDays(30))).isEqualTo(10);
+		assertThat(history.isActive(START.plusDays(1))).isTrue();
+	}
+
+	@Test
+	void 보관_기간보다_오래된_날짜는_기록하지_않는다() {
+		ActivityHistory history = ActivityHistory.empty(START.plusDays(400));
+
+		history.record(START, true, 90, 90);
+
+		assertThat(history.getHistoryEndDate()).isEqualTo(START.plusDays(400));
+		assertThat(history.isActive(START.plusDays(366))).isFalse();
+		assertThat(history.countActiveDays(START.plusDays(35), START.plusDays(400))).isZero();
+	}
+}
@@ -0,0 +1,169 @@
+package com.rehab.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.repository.ai.AiInferenceLogBulkRepository;
+import com.rehab.domain.repository.ai.AiInferenceLogBulkRepository.LogRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AiInferenceLogWriterTest {
+
+	private static final String JOURNAL_FILE = "ai-inference-log.journal";
+
+	@TempDir
+	Path journalDir;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private final AiInferenceLogBulkRepository bulkRepository = mock(AiInferenceLogBulkRepository.class);
+	private AiInferenceLogWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		when(bulkRepository.allocateIdBlock(anyInt())).thenReturn(1L);
+	}
+
+	@AfterEach
+	void tearDown() {
+		if (writer != null) {
+			writer.shutdown();
+		}
+	}
+
+	@Test
+	void 기동_시_남은_저널을_다시_넣고_비운다() throws Exception {
+		String journal = objectMapper.writeValueAsString(row(100L)) + "\n"
+			+ objectMapper.writeValueAsString(row(101L)) + "\n"
+			+ "{\"inferenceLogId\":102,\"userId\"";
+		Files.writeString(journalDir.resolve(JOURNAL_FILE), journal, StandardCharsets.UTF_8);
+		writer = writer(10, 100, 5000);
+
+		writer.start();
+
+		verify(bulkRepository, timeout(2000)).insertLogs(argThat(rows -> rows.size() == 2
+			&& rows.get(0).inferenceLogId() == 100L && rows.get(1).inferenceLogId() == 101L));
+		awaitJournalSize(0);
+	}
+
+	@Test
+	void DB_반영이_실패하면_저널에_남기고_다음_반영에서_다시_넣는다() throws Exception {
+		doThrow(new DataAccessResourceFailureException("down"))
+			.doNothing()
+			.when(bulkRepository).insertLogs(anyList());
+		writer = writer(10, 1, 10);
+		writer.start();
+
+		long id = write();
+
+		verify(bulkRepository, timeout(2000).atLeast(2))
+			.insertLogs(argThat(rows -> rows.size() == 1 && rows.get(0).inferenceLogId() == id));
+		awaitJournalSize(0);
+	}
+
+	@Test
+	void DB에_반영되기_전_로그는_대기열이나_저널에서_찾는다() throws Exception {
+		doThrow(new DataAccessResourceFailureException("down")).when(bulkRepository).insertLogs(anyList());
+		writer = writer(10, 1, 60_000);
+
+		long id = write();
+		assertThat(writer.findUnpersisted(id)).isPresent();
+
+		writer.start();
+		verify(bulkRepository, timeout(2000)).insertLogs(anyList());
+		awaitJournalNotEmpty();
+
+		assertThat(writer.findUnpersisted(id))
+			.hasValueSatisfying(row -> assertThat(row.modelKey()).isEqualTo("recommend"));
+		assertThat(writer.findUnpersisted(id + 1)).isEmpty();
+	}
+
+	@Test
+	void 기동_시_남은_저널의_로그도_DB_반영_전까지_찾는다() throws Exception {
+		doThrow(new DataAccessResourceFailureException("down")).when(bulkRepository).insertLogs(anyList());
+		String journal = objectMapper.writeValueAsString(row(100L)) + "\n"
+			+ objectMapper.writeValueAsString(row(101L)) + "\n";
+		Files.writeString(journalDir.resolve(JOURNAL_FILE), journal, StandardCharsets.UTF_8);
+		writer = writer(10, 1, 60_000);
+
+		writer.start();
+		verify(bulkRepository, timeout(2000)).insertLogs(anyList());
+
+		assertThat(writer.findUnpersisted(101L))
+			.hasValueSatisfying(row -> assertThat(row.inferenceLogId()).isEqualTo(101L));
+		assertThat(writer.findUnpersisted(102L)).isEmpty();
+	}
+
+	@Test
+	void 대기열이_가득_차도_요청_스레드에서는_반영하지_않는다() {
+		Set<String> flushThreads = ConcurrentHashMap.newKeySet();
+		doAnswer(invocation -> flushThreads.add(Thread.currentThread().getName()))
+			.when(bulkRepository).insertLogs(anyList());
+		writer = writer(1, 100, 5000);
+
+		write();
+		write();
+		write();
+
+		verify(bulkRepository, timeout(2000).atLeast(1)).insertLogs(anyList());
+		assertThat(flushThreads).containsOnly("ai-inference-log-writer");
+	}
+
+	private AiInferenceLogWriter writer(int queueCapacity, int batchSize, long retryBackoffMs) {
+		try {
+			return new AiInferenceLogWriter(bulkRepository, objectMapper, mock(PlatformTransactionManager.class),
+				new SimpleMeterRegistry(), queueCapacity, batchSize, 20, 1000, journalDir.toString(),
+				1024 * 1024, retryBackoffMs, 5000);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private long write() {
+		return writer.write(1L, "recommend", "v1", "{\"q\":1}", "{\"a\":2}", "[]", 0, 15, false);
+	}
+
+	private static LogRow row(long id) {
+		return new LogRow(id, 1L, "recommend", "v1", "{\"q\":1}", "{\"a\":2}", "[]", 0, 14, 15, false,
+			LocalDateTime.of(2026, 10, 1, 9, 0));
+	}
+
+	private void awaitJournalSize(long expected) throws Exception {
+		Path journal = journalDir.resolve(JOURNAL_FILE);
+		for (int i = 0; i < 100 && Files.size(journal) != expected; i++) {
+			Thread.sleep(20);
+		}
+		assertThat(Files.size(journal)).isEqualTo(expected);
+	}
+
+	private void awaitJournalNotEmpty() throws Exception {
+		Path journal = journalDir.resolve(JOURNAL_FILE);
+		for (int i = 0; i < 100 && Files.size(journal) == 0; i++) {
+			Thread.sleep(20);
+		}
+		assertThat(Files.size(journal)).isPositive();
+	}
+}
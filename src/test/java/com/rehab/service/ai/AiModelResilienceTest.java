@@ -0,0 +1,156 @@
+package com.rehab.service.ai;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class AiModelResilienceTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private AiModelResilience resilience;
+
+	@AfterEach
+	void tearDown() {
+		resilience.shutdown();
+	}
+
+	@Test
+	void 동시_호출_한도를_넘으면_바로_거부하고_완료되면_허가를_돌려준다() throws Exception {
+		resilience = resilience(1, 60_000, 1);
+		CompletableFuture<String> inFlight = new CompletableFuture<>();
+
+		CompletableFuture<String> first = resilience.callAsync(() -> inFlight);
+		CompletableFuture<String> rejected = resilience.callAsync(() -> CompletableFuture.completedFuture("x"));
+
+		assertThatThrownBy(rejected::get)
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(AiModelUnavailableException.class);
+		assertThat(rejectedCount("bulkhead")).isEqualTo(1.0);
+
+		inFlight.complete("ok");
+		assertThat(first.get()).isEqualTo("ok");
+		assertThat(resilience.callAsync(() -> CompletableFuture.completedFuture("next")).get()).isEqualTo("next");
+	}
+
+	@Test
+	void 실패율이_임계치를_넘으면_서킷이_열려_모델을_호출하지_않는다() {
+		resilience = resilience(8, 60_000, 1);
+		AtomicInteger invoked = new AtomicInteger();
+
+		resilience.call(() -> "ok");
+		resilience.call(() -> "ok");
+		failCall();
+		failCall();
+
+		assertThat(circuitState("open")).isEqualTo(1.0);
+		assertThatThrownBy(() -> resilience.call(() -> invoked.incrementAndGet()))
+			.isInstanceOf(AiModelUnavailableException.class);
+		assertThat(invoked.get()).isZero();
+		assertThat(rejectedCount("circuit_open")).isEqualTo(1.0);
+	}
+
+	@Test
+	void 열린_시간이_지나면_반열림_호출이_성공할_때_다시_닫힌다() throws Exception {
+		resilience = resilience(8, 50, 1);
+		failCall();
+		failCall();
+		failCall();
+		failCall();
+		assertThat(circuitState("open")).isEqualTo(1.0);
+
+		Thread.sleep(80);
+
+		assertThat(resilience.call(() -> "probe")).isEqualTo("probe");
+		assertThat(circuitState("closed")).isEqualTo(1.0);
+	}
+
+	@Test
+	void 반열림_호출이_실패하면_다시_열린다() throws Exception {
+		resilience = resilience(8, 50, 1);
+		for (int i = 0; i < 4; i++) {
+			failCall();
+		}
+
+		Thread.sleep(80);
+		failCall();
+
+		assertThat(circuitState("open")).isEqualTo(1.0);
+		assertThatThrownBy(() -> resilience.call(() -> "x"))
+			.isInstanceOf(AiModelUnavailableException.class);
+	}
+
+	@Test
+	void 벌크헤드에서_거부된_호출은_실패율에_넣지_않는다() throws Exception {
+		resilience = resilience(1, 60_000, 1);
+		CompletableFuture<String> inFlight = new CompletableFuture<>();
+		resilience.callAsync(() -> inFlight);
+
+		for (int i = 0; i < 10; i++) {
+			resilience.callAsync(() -> CompletableFuture.completedFuture("x"));
+		}
+		inFlight.complete("ok");
+
+		assertThat(circuitState("closed")).isEqualTo(1.0);
+		assertThat(rejectedCount("bulkhead")).isEqualTo(10.0);
+	}
+
+	@Test
+	void 헤지_요청이_먼저_응답하면_느린_요청을_취소하고_허가를_돌려준다() throws Exception {
+		resilience = new AiModelResilience(meterRegistry, 2, 0, 4, 4, 50, 10_000, 60_000, 1, true, 0.95, 10, 1);
+		resilience.call(() -> "warmup");
+		CompletableFuture<String> slow = new CompletableFuture<>();
+		AtomicInteger attempts = new AtomicInteger();
+
+		CompletableFuture<String> result = resilience.callAsync(() -> attempts.getAndIncrement() == 0
+			? slow
+			: CompletableFuture.completedFuture("hedge"));
+
+		assertThat(result.get(2, TimeUnit.SECONDS)).isEqualTo("hedge");
+		assertThatThrownBy(() -> slow.get(2, TimeUnit.SECONDS)).isInstanceOf(CancellationException.class);
+		awaitInFlight(0);
+		assertThat(circuitState("closed")).isEqualTo(1.0);
+	}
+
+	/**
+	 * 최근 4건 중 절반 이상 실패하면 열리는 서킷
+	 */
+	private AiModelResilience resilience(int maxConcurrentCalls, long openDurationMs, int halfOpenCalls) {
+		return new AiModelResilience(meterRegistry, maxConcurrentCalls, 0, 4, 4, 50, 10_000, openDurationMs,
+			halfOpenCalls, false, 0.95, 100, 20);
+	}
+
+	private void failCall() {
+		assertThatThrownBy(() -> resilience.call(() -> {
+			throw new IllegalStateException("model error");
+		})).isInstanceOf(IllegalStateException.class);
+	}
+
+	private void awaitInFlight(double expected) throws Exception {
+		for (int i = 0; i < 100 && inFlight() != expected; i++) {
+			Thread.sleep(20);
+		}
+		assertThat(inFlight()).isEqualTo(expected);
+	}
+
+	private double inFlight() {
+		return meterRegistry.get("ai.model.bulkhead.in_flight").gauge().value();
+	}
+
+	private double circuitState(String state) {
+		return meterRegistry.get("ai.model.circuit.state").tag("state", state).gauge().value();
+	}
+
+	private double rejectedCount(String reason) {
+		return meterRegistry.get("ai.model.calls.rejected").tag("reason", reason).counter().count();
+	}
+}
@@ -0,0 +1,118 @@
+package com.rehab.service.dailySummary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rehab.domain.entity.DailySummary;
+import com.rehab.domain.entity.ExerciseLog;
+import com.rehab.domain.entity.User;
+import com.rehab.domain.entity.enums.RehabPlanStatus;
+import com.rehab.domain.repository.dailySummary.DailySummaryRepository;
+import com.rehab.domain.repository.diet.DietLogRepository;
+import com.rehab.domain.repository.diet.DietPlanItemRepository;
+import com.rehab.domain.repository.exercise.ExerciseLogRepository;
+import com.rehab.domain.repository.medication.MedicationLogRepository;
+import com.rehab.domain.repository.medication.MedicationPlanItemRepository;
+import com.rehab.domain.repository.plan.PlanItemRepository;
+import com.rehab.domain.repository.rehab.RehabPlanRepository;
+import com.rehab.domain.repository.report.UserMetricBucketRepository;
+import com.rehab.domain.repository.user.UserRepository;
+import com.rehab.service.streak.StreakService;
+
+class DailySummaryServiceTest {
+
+	private static final Long USER_ID = 1L;
+	private static final LocalDate DATE = LocalDate.of(2026, 10, 1);
+
+	private final DailySummaryRepository dailySummaryRepository = mock(DailySummaryRepository.class);
+	private final ExerciseLogRepository exerciseLogRepository = mock(ExerciseLogRepository.class);
+	private final MedicationLogRepository medicationLogRepository = mock(MedicationLogRepository.class);
+	private final DietLogRepository dietLogRepository = mock(DietLogRepository.class);
+	private final PlanItemRepository planItemRepository = mock(PlanItemRepository.class);
+	private final RehabPlanRepository rehabPlanRepository = mock(RehabPlanRepository.class);
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final StreakService streakService = mock(StreakService.class);
+	private final User user = User.builder().userId(USER_ID).build();
+	private final ExerciseLog exerciseLog = ExerciseLog.builder()
+		.user(user)
+		.loggedAt(DATE.atTime(9, 0))
+		.completionRate(100)
+		.durationSec(600)
+		.painAfter(3)
+		.build();
+
+	private DailySummaryService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new DailySummaryService(dailySummaryRepository, exerciseLogRepository, medicationLogRepository,
+			dietLogRepository, planItemRepository, mock(MedicationPlanItemRepository.class),
+			mock(DietPlanItemRepository.class), rehabPlanRepository, userRepository,
+			mock(UserMetricBucketRepository.class), streakService, new ObjectMapper());
+
+		when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+		when(rehabPlanRepository.findFirstByUser_UserIdAndStatusOrderByCreatedAtDesc(USER_ID, RehabPlanStatus.ACTIVE))
+			.thenReturn(Optional.empty());
+		when(exerciseLogRepository.findByUser_UserIdAndLoggedAtBetween(eq(USER_ID), any(), any()))
+			.thenReturn(List.of(exerciseLog));
+	}
+
+	@Test
+	void 플랜이_없어도_이미_있는_로그로_요약을_채우고_달성으로_보지_않는다() {
+		DailySummary existing = DailySummary.builder()
+			.summaryId(10L)
+			.user(user)
+			.date(DATE.atStartOfDay())
+			.totalExercises(0)
+			.completedExercises(0)
+			.totalDurationSec(0)
+			.build();
+		when(dailySummaryRepository.findByUser_UserIdAndDate(USER_ID, DATE.atStartOfDay()))
+			.thenReturn(Optional.of(existing));
+
+		service.updateDailySummary(USER_ID, DATE.atTime(9, 0));
+
+		ArgumentCaptor<DailySummary> saved = ArgumentCaptor.forClass(DailySummary.class);
+		verify(dailySummaryRepository).save(saved.capture());
+		DailySummary summary = saved.getValue();
+		assertThat(summary.getSummaryId()).isEqualTo(10L);
+		assertThat(summary.getTotalDurationSec()).isEqualTo(600);
+		assertThat(summary.getAvgPainScore()).isEqualTo(3);
+		assertThat(summary.getAllExercisesCompleted()).isFalse();
+		assertThat(summary.getAllMedicationsTaken()).isFalse();
+		assertThat(summary.getAllDietCompleted()).isFalse();
+		assertThat(summary.getCompletedExercises()).isNull();
+		verify(streakService, never()).updateStreakFromDailySummary(any(), any(), any(), any());
+	}
+
+	@Test
+	void 누적_컬럼이_없는_요약은_증분_대신_전체_재계산한다() {
+		when(dailySummaryRepository.applyDelta(eq(USER_ID), eq(DATE.atStartOfDay()), anyInt(), anyInt(), anyInt(),
+			anyInt(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(0);
+		when(dailySummaryRepository.findByUser_UserIdAndDate(USER_ID, DATE.atStartOfDay()))
+			.thenReturn(Optional.empty());
+
+		boolean recomputed = service.applyLogDelta(USER_ID, DATE.atTime(9, 0), DailySummaryDelta.of(exerciseLog));
+
+		assertThat(recomputed).isTrue();
+		ArgumentCaptor<DailySummary> saved = ArgumentCaptor.forClass(DailySummary.class);
+		verify(dailySummaryRepository).save(saved.capture());
+		assertThat(saved.getValue().getTotalDurationSec()).isEqualTo(600);
+		assertThat(saved.getValue().getCompletedExercises()).isNull();
+	}
+}
@@ -0,0 +1,181 @@
+package com.rehab.service.dailySummary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.rehab.domain.entity.MedicationLog;
+import com.rehab.domain.repository.common.NamedLockRepository;
+import com.rehab.domain.repository.dailySummary.DailySummaryDirtyRepository;
+import com.rehab.domain.repository.dailySummary.DailySummaryDirtyRepository.DirtyRow;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DailySummaryUpdatePipelineTest {
+
+	private static final Long USER_ID = 1L;
+	private static final LocalDate DATE = LocalDate.of(2026, 10, 1);
+
+	private final DailySummaryService dailySummaryService = mock(DailySummaryService.class);
+	private final DailySummaryDirtyRepository dirtyRepository = mock(DailySummaryDirtyRepository.class);
+	private final NamedLockRepository namedLockRepository = mock(NamedLockRepository.class);
+	private DailySummaryUpdatePipeline pipeline;
+
+	@AfterEach
+	void tearDown() {
+		if (pipeline != null) {
+			pipeline.shutdown();
+		}
+	}
+
+	@Test
+	void 같은_키의_이벤트는_윈도우_안에서_한_번의_증분으로_합쳐진다() {
+		pipeline = pipeline(50, 100, 1000);
+
+		pipeline.onDirty(takenEvent(USER_ID));
+		pipeline.onDirty(takenEvent(USER_ID));
+		pipeline.onDirty(takenEvent(USER_ID));
+
+		ArgumentCaptor<DailySummaryDelta> delta = ArgumentCaptor.forClass(DailySummaryDelta.class);
+		verify(dailySummaryService, timeout(2000)).applyLogDelta(eq(USER_ID), eq(DATE.atStartOfDay()), delta.capture());
+		assertThat(delta.getValue().getTakenMedications()).isEqualTo(3);
+		verify(dailySummaryService, never()).updateDailySummary(any(), any());
+	}
+
+	@Test
+	void 대기열이_가득_차도_호출_스레드에서는_반영하지_않는다() {
+		pipeline = pipeline(10_000, 1, 1000);
+		AtomicReference<String> flushThread = new AtomicReference<>();
+		when(dailySummaryService.applyLogDelta(eq(2L), any(), any())).thenAnswer(invocation -> {
+			flushThread.set(Thread.currentThread().getName());
+			return false;
+		});
+
+		pipeline.onDirty(takenEvent(USER_ID));
+		pipeline.onDirty(takenEvent(2L));
+
+		verify(dailySummaryService, timeout(2000)).applyLogDelta(eq(2L), any(), any());
+		assertThat(flushThread.get()).startsWith("daily-summary-");
+		verify(dailySummaryService, never()).applyLogDelta(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void 같은_키의_반영은_동시에_실행되지_않는다() throws Exception {
+		pipeline = pipeline(10, 100, 1000);
+		CountDownLatch firstStarted = new CountDownLatch(1);
+		CountDownLatch releaseFirst = new CountDownLatch(1);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		AtomicInteger calls = new AtomicInteger();
+		when(dailySummaryService.applyLogDelta(eq(USER_ID), any(), any())).thenAnswer(invocation -> {
+			maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+			try {
+				if (calls.incrementAndGet() == 1) {
+					firstStarted.countDown();
+					releaseFirst.await(2, TimeUnit.SECONDS);
+				}
+				return false;
+			} finally {
+				running.decrementAndGet();
+			}
+		});
+
+		pipeline.onDirty(takenEvent(USER_ID));
+		assertThat(firstStarted.await(2, TimeUnit.SECONDS)).isTrue();
+		pipeline.onDirty(takenEvent(USER_ID));
+		Thread.sleep(100);
+		releaseFirst.countDown();
+
+		verify(dailySummaryService, timeout(2000).times(2)).applyLogDelta(eq(USER_ID), any(), any());
+		assertThat(maxRunning.get()).isEqualTo(1);
+	}
+
+	@Test
+	void 증분_반영이_실패하면_재계산_후_한_번_더_재계산한다() {
+		pipeline = pipeline(10, 100, 1000);
+		doThrow(new IllegalStateException("deadlock"))
+			.when(dailySummaryService).applyLogDelta(eq(USER_ID), any(), any());
+
+		pipeline.onDirty(takenEvent(USER_ID));
+
+		LocalDateTime startOfDay = DATE.atStartOfDay();
+		verify(dailySummaryService, timeout(2000).times(2)).updateDailySummary(USER_ID, startOfDay);
+		verify(dailySummaryService, times(1)).applyLogDelta(eq(USER_ID), any(), any());
+	}
+
+	@Test
+	void 종료하면_윈도우가_남은_갱신도_반영한다() {
+		pipeline = pipeline(60_000, 100, 100);
+
+		pipeline.onDirty(takenEvent(USER_ID));
+		pipeline.shutdown();
+
+		verify(dailySummaryService).applyLogDelta(eq(USER_ID), eq(DATE.atStartOfDay()), any());
+	}
+
+	@Test
+	void 정합성_점검은_오래된_표시를_재계산하고_그_시각까지의_표시만_지운다() {
+		pipeline = pipeline(60_000, 100, 100);
+		LocalDateTime markedAt = DATE.atTime(9, 0);
+		when(namedLockRepository.runExclusively(any(), any())).thenAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return true;
+		});
+		when(dirtyRepository.findMarkedBefore(any(), eq(500)))
+			.thenReturn(List.of(new DirtyRow(USER_ID, DATE, markedAt), new DirtyRow(2L, DATE, markedAt)));
+		doThrow(new IllegalStateException("deadlock"))
+			.when(dailySummaryService).updateDailySummary(2L, DATE.atStartOfDay());
+
+		pipeline.reconcile();
+
+		verify(dailySummaryService).updateDailySummary(USER_ID, DATE.atStartOfDay());
+		verify(dirtyRepository).clear(USER_ID, DATE, markedAt);
+		verify(dirtyRepository, never()).clear(eq(2L), any(), any());
+	}
+
+	@Test
+	void 대기_중인_증분이_있는_키는_정합성_점검에서_건너뛴다() {
+		pipeline = pipeline(60_000, 100, 100);
+		when(namedLockRepository.runExclusively(any(), any())).thenAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return true;
+		});
+		when(dirtyRepository.findMarkedBefore(any(), eq(500)))
+			.thenReturn(List.of(new DirtyRow(USER_ID, DATE, DATE.atTime(9, 0))));
+
+		pipeline.onDirty(takenEvent(USER_ID));
+		pipeline.reconcile();
+
+		verify(dailySummaryService, never()).updateDailySummary(any(), any());
+		verify(dirtyRepository, never()).clear(any(), any(), any());
+	}
+
+	private DailySummaryUpdatePipeline pipeline(long windowMs, int maxPending, long shutdownTimeoutMs) {
+		return new DailySummaryUpdatePipeline(dailySummaryService, dirtyRepository, namedLockRepository,
+			new SimpleMeterRegistry(), 2, windowMs, maxPending, shutdownTimeoutMs, 60_000, 500);
+	}
+
+	private static DailySummaryDirtyEvent takenEvent(Long userId) {
+		MedicationLog log = MedicationLog.builder().taken(true).build();
+		return new DailySummaryDirtyEvent(userId, DATE, DailySummaryDelta.of(log));
+	}
+}
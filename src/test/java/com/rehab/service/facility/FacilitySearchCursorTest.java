@@ -0,0 +1,56 @@
+package com.rehab.service.facility;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.junit.jupiter.api.Test;
+
+import com.rehab.service.facility.FacilitySearchCursor.Source;
+
+class FacilitySearchCursorTest {
+
+	@Test
+	void 인코딩한_커서는_거리_비트와_검색_경로를_그대로_복원한다() {
+		double distance = 0.1 + 0.2;
+		FacilitySearchCursor cursor = FacilitySearchCursor.of(Source.DATABASE, distance, 42L);
+
+		FacilitySearchCursor decoded = FacilitySearchCursor.decode(cursor.encode());
+
+		assertThat(decoded.getSource()).isEqualTo(Source.DATABASE);
+		assertThat(Double.doubleToLongBits(decoded.getDistanceKm())).isEqualTo(Double.doubleToLongBits(distance));
+		assertThat(decoded.getFacilityId()).isEqualTo(42L);
+	}
+
+	@Test
+	void 커서가_없으면_경로_제한_없는_첫_페이지다() {
+		assertThat(FacilitySearchCursor.decode(null)).isSameAs(FacilitySearchCursor.FIRST);
+		assertThat(FacilitySearchCursor.decode(" ")).isSameAs(FacilitySearchCursor.FIRST);
+		assertThat(FacilitySearchCursor.FIRST.getSource()).isNull();
+		assertThat(FacilitySearchCursor.FIRST.isBefore(0.0, 1L)).isTrue();
+	}
+
+	@Test
+	void 거리가_먼저고_같은_거리면_시설_ID_순서다() {
+		FacilitySearchCursor cursor = FacilitySearchCursor.of(Source.INDEX, 1.5, 10L);
+
+		assertThat(cursor.isBefore(1.6, 1L)).isTrue();
+		assertThat(cursor.isBefore(1.5, 11L)).isTrue();
+		assertThat(cursor.isBefore(1.5, 10L)).isFalse();
+		assertThat(cursor.isBefore(1.5, 9L)).isFalse();
+		assertThat(cursor.isBefore(1.4, 99L)).isFalse();
+	}
+
+	@Test
+	void 형식이_맞지_않는_커서는_거부한다() {
+		String legacy = Base64.getUrlEncoder().withoutPadding()
+			.encodeToString("3ff8000000000000:10".getBytes(StandardCharsets.UTF_8));
+
+		assertThatThrownBy(() -> FacilitySearchCursor.decode("not-a-cursor"))
+			.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> FacilitySearchCursor.decode(legacy))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+}
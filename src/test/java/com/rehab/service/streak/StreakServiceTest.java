@@ -0,0 +1,97 @@
+package com.rehab.service.streak;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.rehab.apiPayload.code.status.ErrorStatus;
+import com.rehab.apiPayload.exception.GeneralException;
+import com.rehab.domain.repository.dailySummary.DailySummaryRepository;
+import com.rehab.domain.repository.streak.UserStreakRepository;
+import com.rehab.domain.repository.user.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class StreakServiceTest {
+
+	private static final int CHUNK = StreakService.CLEANUP_CHUNK_SIZE;
+
+	private final UserStreakRepository streakRepository = mock(UserStreakRepository.class);
+	private final StreakLeaderboard streakLeaderboard = mock(StreakLeaderboard.class);
+	private final StreakService streakService = new StreakService(streakRepository, mock(UserRepository.class),
+		mock(DailySummaryRepository.class), streakLeaderboard, mock(ApplicationEventPublisher.class),
+		new SimpleMeterRegistry());
+
+	@Test
+	void 끊긴_streak_정리는_최대_ID까지_겹치지_않는_구간으로_나눠_리셋한다() {
+		LocalDate today = LocalDate.now();
+		when(streakRepository.findMaxUserId()).thenReturn(2L * CHUNK + 1);
+		when(streakRepository.resetStaleStreaks(0, CHUNK, today.minusDays(1), today)).thenReturn(3);
+		when(streakRepository.resetStaleStreaks(CHUNK, 2L * CHUNK, today.minusDays(1), today)).thenReturn(0);
+		when(streakRepository.resetStaleStreaks(2L * CHUNK, 3L * CHUNK, today.minusDays(1), today)).thenReturn(1);
+
+		int resetCount = streakService.cleanupStaleStreaks();
+
+		assertThat(resetCount).isEqualTo(4);
+		verify(streakRepository).findMaxUserId();
+		verify(streakRepository).resetStaleStreaks(0, CHUNK, today.minusDays(1), today);
+		verify(streakRepository).resetStaleStreaks(CHUNK, 2L * CHUNK, today.minusDays(1), today);
+		verify(streakRepository).resetStaleStreaks(2L * CHUNK, 3L * CHUNK, today.minusDays(1), today);
+		verifyNoMoreInteractions(streakRepository);
+		verify(streakLeaderboard).rebuild();
+	}
+
+	@Test
+	void 최대_ID가_구간_경계면_마지막_구간까지만_리셋한다() {
+		LocalDate today = LocalDate.now();
+		when(streakRepository.findMaxUserId()).thenReturn((long) CHUNK);
+
+		streakService.cleanupStaleStreaks();
+
+		verify(streakRepository).resetStaleStreaks(0, CHUNK, today.minusDays(1), today);
+		verify(streakRepository, never())
+			.resetStaleStreaks(eq((long) CHUNK), anyLong(), eq(today.minusDays(1)), eq(today));
+	}
+
+	@Test
+	void 리셋이_없으면_리더보드를_재구성하지_않는다() {
+		when(streakRepository.findMaxUserId()).thenReturn(0L);
+
+		assertThat(streakService.cleanupStaleStreaks()).isZero();
+
+		verify(streakLeaderboard, never()).rebuild();
+	}
+
+	@Test
+	void 정리_후_리더보드_재구성이_실패해도_리셋_수를_반환한다() {
+		LocalDate today = LocalDate.now();
+		when(streakRepository.findMaxUserId()).thenReturn(10L);
+		when(streakRepository.resetStaleStreaks(0, CHUNK, today.minusDays(1), today)).thenReturn(2);
+		doThrow(new RedisConnectionFailureException("down")).when(streakLeaderboard).rebuild();
+
+		assertThat(streakService.cleanupStaleStreaks()).isEqualTo(2);
+	}
+
+	@Test
+	void 리더보드_조회_중_Redis_오류면_사용_불가_오류로_응답한다() {
+		when(streakLeaderboard.top(StreakLeaderboard.Board.CURRENT, 10))
+			.thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThatThrownBy(() -> streakService.getLeaderboard(1L, "current", 10, 0))
+			.isInstanceOfSatisfying(GeneralException.class,
+				e -> assertThat(e.getCode()).isEqualTo(ErrorStatus.STREAK_LEADERBOARD_UNAVAILABLE));
+	}
+}